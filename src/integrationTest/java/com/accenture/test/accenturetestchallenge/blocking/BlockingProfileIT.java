@@ -0,0 +1,87 @@
+package com.accenture.test.accenturetestchallenge.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Starts the {@code blocking} profile on Spring MVC and the synchronous driver, and runs a product
+ * through the shared services and the synchronous repositories.
+ */
+@Testcontainers
+@ActiveProfiles("blocking")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "inventory.stats.refresh-initial-delay=PT1H")
+class BlockingProfileIT {
+
+  @Container @ServiceConnection
+  static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  void productStockUpdateIsServedByTheBlockingStack() {
+    String franchiseId =
+        post("/franchise", Map.of("name", "Blocking franchise")).get("id").asText();
+    String branchId =
+        post("/franchise/" + franchiseId + "/branch", Map.of("name", "Blocking branch"))
+            .get("id")
+            .asText();
+    String productsUri = "/franchise/" + franchiseId + "/branch/" + branchId + "/product";
+    String productId =
+        post(productsUri, Map.of("name", "Blocking product", "stock", 10)).get("id").asText();
+
+    request()
+        .put()
+        .uri(productsUri + "/" + productId)
+        .bodyValue(Map.of("stock", 4))
+        .exchange()
+        .expectStatus()
+        .isOk();
+
+    List<JsonNode> topProducts =
+        request()
+            .get()
+            .uri("/franchise/{franchiseId}/branch/top-products", franchiseId)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBodyList(JsonNode.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertThat(topProducts).hasSize(1);
+    assertThat(topProducts.get(0).get("productId").asText()).isEqualTo(productId);
+    assertThat(topProducts.get(0).get("stock").asInt()).isEqualTo(4);
+  }
+
+  private JsonNode post(String uri, Object body) {
+    return request()
+        .post()
+        .uri(uri)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus()
+        .is2xxSuccessful()
+        .expectBody(JsonNode.class)
+        .returnResult()
+        .getResponseBody();
+  }
+
+  private WebTestClient request() {
+    return webTestClient.mutate().responseTimeout(Duration.ofSeconds(10)).build();
+  }
+}
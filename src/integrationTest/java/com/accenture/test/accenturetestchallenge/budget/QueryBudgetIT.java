@@ -0,0 +1,422 @@
+package com.accenture.test.accenturetestchallenge.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.accenture.test.accenturetestchallenge.application.observability.ServerTimingWebFilter;
+import com.accenture.test.accenturetestchallenge.application.security.AdminTokenWebFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Calls every operation of {@code api-documentation.yaml} once and fails when it sends more Mongo
+ * commands than the {@code x-query-budget} declared for it. Raising a budget should be a
+ * deliberate change to the API document, reviewed like any other.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "admin.token=" + QueryBudgetIT.ADMIN_TOKEN,
+      "inventory.stats.refresh-initial-delay=PT1H"
+    })
+class QueryBudgetIT {
+
+  static final String ADMIN_TOKEN = "budget-token";
+
+  private static final String API_DOCUMENT = "openapi/api-documentation.yaml";
+  private static final String BUDGET_EXTENSION = "x-query-budget";
+
+  @Container @ServiceConnection
+  static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Autowired private RequestCommandCounter commandCounter;
+
+  @TestConfiguration
+  static class CommandCounterConfig {
+
+    @Bean
+    RequestCommandCounter requestCommandCounter() {
+      return new RequestCommandCounter();
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer commandCounterCustomizer(RequestCommandCounter counter) {
+      return builder -> builder.addCommandListener(counter);
+    }
+  }
+
+  @TestFactory
+  Stream<DynamicTest> everyOperationStaysWithinItsQueryBudget() throws IOException {
+    Fixture fixture = createFixture();
+    Map<String, Consumer<Fixture>> calls = operationCalls();
+
+    return readBudgets().stream()
+        .map(
+            budget ->
+                DynamicTest.dynamicTest(
+                    budget.operationId() + " <= " + budget.maxCommands() + " commands",
+                    () -> {
+                      Consumer<Fixture> call = calls.get(budget.operationId());
+                      if (call == null) {
+                        fail("No query budget call defined for operation " + budget.operationId());
+                      }
+
+                      commandCounter.getAndReset();
+                      call.accept(fixture);
+                      int commands = commandCounter.getAndReset();
+
+                      assertThat(commands)
+                          .as("Mongo commands sent by %s", budget.operationId())
+                          .isLessThanOrEqualTo(budget.maxCommands());
+                    }));
+  }
+
+  private List<OperationBudget> readBudgets() throws IOException {
+    try (InputStream document = new ClassPathResource(API_DOCUMENT).getInputStream()) {
+      Map<String, Object> api = new Yaml().load(document);
+      Map<String, Map<String, Map<String, Object>>> paths = cast(api.get("paths"));
+
+      List<OperationBudget> budgets = new ArrayList<>();
+      paths.forEach(
+          (path, operations) ->
+              operations.forEach(
+                  (method, operation) -> {
+                    String operationId = (String) operation.get("operationId");
+                    Object budget = operation.get(BUDGET_EXTENSION);
+                    if (budget == null) {
+                      fail("Operation " + operationId + " declares no " + BUDGET_EXTENSION);
+                    }
+                    budgets.add(new OperationBudget(operationId, (Integer) budget));
+                  }));
+      return budgets;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T cast(Object value) {
+    return (T) value;
+  }
+
+  private Fixture createFixture() {
+    String franchiseId =
+        post("/franchise", Map.of("name", "Budget franchise")).get("id").asText();
+    String branchId =
+        post("/franchise/" + franchiseId + "/branch", Map.of("name", "Budget branch"))
+            .get("id")
+            .asText();
+    String disposableBranchId =
+        post("/franchise/" + franchiseId + "/branch", Map.of("name", "Disposable branch"))
+            .get("id")
+            .asText();
+    String disposableFranchiseId =
+        post("/franchise", Map.of("name", "Disposable franchise")).get("id").asText();
+    String productsUri = "/franchise/" + franchiseId + "/branch/" + branchId + "/product";
+    post(productsUri, Map.of("name", "budget product", "stock", 10));
+    post(productsUri, Map.of("name", "disposable product", "stock", 3));
+
+    // A threshold makes the stock update raise an alert, its most expensive path.
+    request()
+        .put()
+        .uri(
+            "/franchise/{franchiseId}/branch/{branchId}/low-stock-threshold",
+            franchiseId,
+            branchId)
+        .bodyValue(Map.of("threshold", 5))
+        .exchange()
+        .expectStatus()
+        .isOk();
+
+    return new Fixture(
+        franchiseId,
+        branchId,
+        findProductId(franchiseId, "budget product"),
+        findProductId(franchiseId, "disposable product"),
+        disposableBranchId,
+        disposableFranchiseId,
+        startDeletionJob(franchiseId));
+  }
+
+  private String startDeletionJob(String franchiseId) {
+    String branchId =
+        post("/franchise/" + franchiseId + "/branch", Map.of("name", "Deleted branch"))
+            .get("id")
+            .asText();
+
+    return request()
+        .delete()
+        .uri("/admin/franchise/{franchiseId}/branch/{branchId}", franchiseId, branchId)
+        .exchange()
+        .expectStatus()
+        .isAccepted()
+        .expectBody(JsonNode.class)
+        .returnResult()
+        .getResponseBody()
+        .get("id")
+        .asText();
+  }
+
+  private String findProductId(String franchiseId, String name) {
+    return request()
+        .get()
+        .uri("/franchise/{franchiseId}/product/search?q={name}", franchiseId, name)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(JsonNode.class)
+        .returnResult()
+        .getResponseBody()
+        .get(0)
+        .get("id")
+        .asText();
+  }
+
+  private JsonNode post(String uri, Object body) {
+    return request()
+        .post()
+        .uri(uri)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus()
+        .is2xxSuccessful()
+        .expectBody(JsonNode.class)
+        .returnResult()
+        .getResponseBody();
+  }
+
+  private WebTestClient request() {
+    return webTestClient
+        .mutate()
+        .defaultHeader(ServerTimingWebFilter.TOGGLE_HEADER, "true")
+        .defaultHeader(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, ADMIN_TOKEN)
+        .responseTimeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  private void expectOk(WebTestClient.RequestHeadersSpec<?> call) {
+    call.exchange().expectStatus().is2xxSuccessful().expectBody().returnResult();
+  }
+
+  private Map<String, Consumer<Fixture>> operationCalls() {
+    return Map.ofEntries(
+        Map.entry(
+            "createFranchise",
+            f -> expectOk(request().post().uri("/franchise").bodyValue(Map.of("name", "New")))),
+        Map.entry(
+            "updateFranchise",
+            f ->
+                expectOk(
+                    request()
+                        .put()
+                        .uri("/franchise/{franchiseId}", f.franchiseId())
+                        .bodyValue(Map.of("name", "Renamed franchise")))),
+        Map.entry(
+            "deleteFranchise",
+            f ->
+                expectOk(
+                    request()
+                        .delete()
+                        .uri("/admin/franchise/{franchiseId}", f.disposableFranchiseId()))),
+        Map.entry(
+            "getFranchiseStats",
+            f -> expectOk(request().get().uri("/franchise/{franchiseId}/stats", f.franchiseId()))),
+        Map.entry(
+            "addBranch",
+            f ->
+                expectOk(
+                    request()
+                        .post()
+                        .uri("/franchise/{franchiseId}/branch", f.franchiseId())
+                        .bodyValue(Map.of("name", "Another branch")))),
+        Map.entry(
+            "updateBranch",
+            f ->
+                expectOk(
+                    request()
+                        .put()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}",
+                            f.franchiseId(),
+                            f.branchId())
+                        .bodyValue(Map.of("name", "Renamed branch")))),
+        Map.entry(
+            "deleteBranch",
+            f ->
+                expectOk(
+                    request()
+                        .delete()
+                        .uri(
+                            "/admin/franchise/{franchiseId}/branch/{branchId}",
+                            f.franchiseId(),
+                            f.disposableBranchId()))),
+        Map.entry(
+            "getBranchStats",
+            f ->
+                expectOk(
+                    request()
+                        .get()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}/stats",
+                            f.franchiseId(),
+                            f.branchId()))),
+        Map.entry(
+            "updateLowStockThreshold",
+            f ->
+                expectOk(
+                    request()
+                        .put()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}/low-stock-threshold",
+                            f.franchiseId(),
+                            f.branchId())
+                        .bodyValue(Map.of("threshold", 5)))),
+        Map.entry(
+            "addProduct",
+            f ->
+                expectOk(
+                    request()
+                        .post()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}/product",
+                            f.franchiseId(),
+                            f.branchId())
+                        .bodyValue(Map.of("name", "new product", "stock", 7)))),
+        Map.entry(
+            "deleteProduct",
+            f ->
+                expectOk(
+                    request()
+                        .delete()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}/product/{productId}",
+                            f.franchiseId(),
+                            f.branchId(),
+                            f.disposableProductId()))),
+        Map.entry(
+            "updateProductStock",
+            f ->
+                expectOk(
+                    request()
+                        .put()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}/product/{productId}",
+                            f.franchiseId(),
+                            f.branchId(),
+                            f.productId())
+                        .bodyValue(Map.of("stock", 2)))),
+        Map.entry(
+            "updateProductName",
+            f ->
+                expectOk(
+                    request()
+                        .put()
+                        .uri(
+                            "/franchise/{franchiseId}/branch/{branchId}/product/{productId}"
+                                + "/set-name",
+                            f.franchiseId(),
+                            f.branchId(),
+                            f.productId())
+                        .bodyValue(Map.of("name", "budget product renamed")))),
+        Map.entry(
+            "searchProducts",
+            f ->
+                expectOk(
+                    request()
+                        .get()
+                        .uri("/franchise/{franchiseId}/product/search?q=budget", f.franchiseId()))),
+        Map.entry(
+            "getFranchiseTopProducts",
+            f ->
+                expectOk(
+                    request().get().uri("/franchise/{franchiseId}/product/top", f.franchiseId()))),
+        Map.entry(
+            "getGlobalTopProducts", f -> expectOk(request().get().uri("/admin/product/top"))),
+        Map.entry(
+            "recordFlightRecording",
+            f -> expectOk(request().post().uri("/admin/diagnostics/jfr?durationSeconds=1"))),
+        Map.entry(
+            "getClassHistogram",
+            f -> expectOk(request().get().uri("/admin/diagnostics/class-histogram"))),
+        Map.entry(
+            "getTopProductsByBranch",
+            f ->
+                expectOk(
+                    request()
+                        .get()
+                        .uri("/franchise/{franchiseId}/branch/top-products", f.franchiseId()))),
+        Map.entry(
+            "getStockAlerts",
+            f -> expectOk(request().get().uri("/franchise/{franchiseId}/alerts", f.franchiseId()))),
+        Map.entry(
+            "importProducts",
+            f ->
+                expectOk(
+                    request()
+                        .post()
+                        .uri("/admin/franchise/{franchiseId}/product/import", f.franchiseId())
+                        .contentType(MediaType.parseMediaType("text/csv"))
+                        .bodyValue("branch,name,stock\n" + f.branchId() + ",imported,4\n"))),
+        Map.entry(
+            "exportProducts",
+            f ->
+                expectOk(
+                    request()
+                        .get()
+                        .uri(
+                            "/admin/franchise/{franchiseId}/product/export?format=csv",
+                            f.franchiseId()))),
+        Map.entry(
+            "getDeletionJob",
+            f ->
+                expectOk(request().get().uri("/admin/deletion-jobs/{jobId}", f.deletionJobId()))),
+        Map.entry(
+            "streamStockAlerts",
+            f ->
+                request()
+                    .get()
+                    .uri("/franchise/{franchiseId}/alerts/stream", f.franchiseId())
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .exchange()
+                    .expectStatus()
+                    .isOk()
+                    .returnResult(String.class)
+                    .getResponseBody()
+                    .take(Duration.ofMillis(200))
+                    .blockLast()));
+  }
+
+  private record Fixture(
+      String franchiseId,
+      String branchId,
+      String productId,
+      String disposableProductId,
+      String disposableBranchId,
+      String disposableFranchiseId,
+      String deletionJobId) {}
+
+  private record OperationBudget(String operationId, int maxCommands) {}
+}
@@ -0,0 +1,28 @@
+package com.accenture.test.accenturetestchallenge.budget;
+
+import com.accenture.test.accenturetestchallenge.application.observability.RequestTimings;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the Mongo commands issued on behalf of HTTP requests, recognised by the {@link
+ * RequestTimings} the Server-Timing filter puts in their Reactor context. Background work such as
+ * the stats refresh is left out.
+ */
+class RequestCommandCounter implements CommandListener {
+
+  private final AtomicInteger commands = new AtomicInteger();
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    if (event.getRequestContext() != null
+        && event.getRequestContext().hasKey(RequestTimings.CONTEXT_KEY)) {
+      commands.incrementAndGet();
+    }
+  }
+
+  int getAndReset() {
+    return commands.getAndSet(0);
+  }
+}
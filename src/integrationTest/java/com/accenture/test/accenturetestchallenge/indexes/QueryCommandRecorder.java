@@ -0,0 +1,55 @@
+package com.accenture.test.accenturetestchallenge.indexes;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+
+/**
+ * Records the Mongo commands that read or filter documents while recording is on, so their query
+ * plans can be explained afterwards. Session and cluster fields added by the driver are dropped.
+ */
+class QueryCommandRecorder implements CommandListener {
+
+  private static final Set<String> QUERY_COMMANDS =
+      Set.of("find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+
+  private final List<BsonDocument> commands = new ArrayList<>();
+  private volatile boolean recording;
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    if (!recording || !QUERY_COMMANDS.contains(event.getCommandName())) {
+      return;
+    }
+
+    BsonDocument command = new BsonDocument();
+    event
+        .getCommand()
+        .forEach(
+            (field, value) -> {
+              if (!field.startsWith("$") && !field.equals("lsid") && !field.equals("txnNumber")) {
+                command.put(field, value);
+              }
+            });
+    synchronized (commands) {
+      commands.add(command);
+    }
+  }
+
+  void start() {
+    synchronized (commands) {
+      commands.clear();
+    }
+    recording = true;
+  }
+
+  List<BsonDocument> stop() {
+    recording = false;
+    synchronized (commands) {
+      return List.copyOf(commands);
+    }
+  }
+}
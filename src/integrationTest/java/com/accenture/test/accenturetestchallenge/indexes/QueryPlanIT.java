@@ -0,0 +1,267 @@
+package com.accenture.test.accenturetestchallenge.indexes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.StockAlertRepository;
+import com.accenture.test.accenturetestchallenge.domain.service.MongoIndexInitializer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+
+/**
+ * Runs every repository query once, explains the commands it sent and fails when a plan scans a
+ * whole collection. A new query needs an index declared on its entity before it passes.
+ *
+ * <p>Left out on purpose: {@code normalizeMissingNames}, a one-off backfill on startup, and {@code
+ * rebuildFromProducts}, which groups every product. The embedded catalog queries are not covered,
+ * they all look a catalog up by id. Deletes target ids that do not exist, so the fixture is kept.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "inventory.stats.refresh-initial-delay=PT1H")
+class QueryPlanIT {
+
+  private static final String COLLECTION_SCAN = "COLLSCAN";
+
+  @Container @ServiceConnection
+  static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+  @Autowired private ReactiveMongoTemplate reactiveMongoTemplate;
+  @Autowired private QueryCommandRecorder commandRecorder;
+  @Autowired private MongoIndexInitializer indexInitializer;
+
+  @Autowired private FranchiseRepository franchiseRepository;
+  @Autowired private BranchRepository branchRepository;
+  @Autowired private ProductRepository productRepository;
+  @Autowired private InventoryStatsRepository inventoryStatsRepository;
+  @Autowired private StockAlertRepository stockAlertRepository;
+
+  @TestConfiguration
+  static class CommandRecorderConfig {
+
+    @Bean
+    QueryCommandRecorder queryCommandRecorder() {
+      return new QueryCommandRecorder();
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer commandRecorderCustomizer(QueryCommandRecorder recorder) {
+      return builder -> builder.addCommandListener(recorder);
+    }
+  }
+
+  @Test
+  void everyDeclaredIndexExists() {
+    assertThat(indexInitializer.ensureIndexes().collectList().block(Duration.ofSeconds(30)))
+        .isEmpty();
+  }
+
+  @TestFactory
+  Stream<DynamicTest> noRepositoryQueryScansACollection() {
+    Fixture fixture = createFixture();
+
+    return repositoryQueries().entrySet().stream()
+        .map(
+            query ->
+                DynamicTest.dynamicTest(
+                    query.getKey(),
+                    () -> {
+                      commandRecorder.start();
+                      Flux.from(query.getValue().apply(fixture)).blockLast(Duration.ofSeconds(10));
+                      List<BsonDocument> commands = commandRecorder.stop();
+
+                      assertThat(commands).as("Commands sent by %s", query.getKey()).isNotEmpty();
+                      for (BsonDocument command : commands) {
+                        Document plan = explain(command);
+                        assertThat(containsStage(plan, COLLECTION_SCAN))
+                            .as("%s scans a collection:%n%s", query.getKey(), plan.toJson())
+                            .isFalse();
+                      }
+                    }));
+  }
+
+  private Document explain(BsonDocument command) {
+    return reactiveMongoTemplate
+        .executeCommand(new Document("explain", command).append("verbosity", "queryPlanner"))
+        .block(Duration.ofSeconds(10));
+  }
+
+  private static boolean containsStage(Object node, String stage) {
+    if (node instanceof Map<?, ?> map) {
+      if (stage.equals(map.get("stage"))) {
+        return true;
+      }
+      return map.values().stream().anyMatch(value -> containsStage(value, stage));
+    }
+    if (node instanceof List<?> list) {
+      return list.stream().anyMatch(value -> containsStage(value, stage));
+    }
+    return false;
+  }
+
+  private Fixture createFixture() {
+    FranchiseEntity franchise =
+        franchiseRepository.save(new FranchiseEntity(null, "Plan franchise")).block();
+    BranchEntity branch =
+        branchRepository
+            .save(new BranchEntity(null, "Plan branch", franchise.getId(), 1L, 10L, 5))
+            .block();
+    ProductEntity product =
+        productRepository
+            .save(
+                new ProductEntity(
+                    null,
+                    "Plan product",
+                    10,
+                    branch.getId(),
+                    franchise.getId(),
+                    "plan product",
+                    null))
+            .block();
+
+    return new Fixture(franchise.getId(), branch.getId(), product.getId());
+  }
+
+  private Map<String, Function<Fixture, Publisher<?>>> repositoryQueries() {
+    return Map.ofEntries(
+        Map.entry("franchises.findById", f -> franchiseRepository.findById(f.franchiseId())),
+        Map.entry("franchises.existsById", f -> franchiseRepository.existsById(f.franchiseId())),
+        Map.entry(
+            "branches.existsByFranchiseIdAndId",
+            f -> branchRepository.existsByFranchiseIdAndId(f.franchiseId(), f.branchId())),
+        Map.entry(
+            "branches.findByFranchiseIdAndId",
+            f -> branchRepository.findByFranchiseIdAndId(f.franchiseId(), f.branchId())),
+        Map.entry(
+            "branches.findByFranchiseId",
+            f -> branchRepository.findByFranchiseId(f.franchiseId())),
+        Map.entry(
+            "branches.updateName",
+            f -> branchRepository.updateName(f.franchiseId(), f.branchId(), "Renamed branch")),
+        Map.entry(
+            "branches.incrementProductCounters",
+            f -> branchRepository.incrementProductCounters(f.franchiseId(), f.branchId(), 0, 0)),
+        Map.entry(
+            "branches.recountProducts",
+            f -> branchRepository.recountProducts(f.franchiseId(), f.branchId())),
+        Map.entry(
+            "branches.updateLowStockThreshold",
+            f -> branchRepository.updateLowStockThreshold(f.franchiseId(), f.branchId(), 5)),
+        Map.entry(
+            "branches.deleteByFranchiseIdAndId",
+            f -> branchRepository.deleteByFranchiseIdAndId(f.franchiseId(), missingId())),
+        Map.entry(
+            "branches.deleteByFranchiseId",
+            f -> branchRepository.deleteByFranchiseId(missingId())),
+        Map.entry(
+            "products.findByFranchiseIdAndBranchIdAndId",
+            f ->
+                productRepository.findByFranchiseIdAndBranchIdAndId(
+                    f.franchiseId(), f.branchId(), f.productId())),
+        Map.entry(
+            "products.replaceStock",
+            f ->
+                productRepository.replaceStock(
+                    f.franchiseId(), f.branchId(), f.productId(), 10)),
+        Map.entry(
+            "products.updateName",
+            f ->
+                productRepository.updateName(
+                    f.franchiseId(), f.branchId(), f.productId(), "Plan product", "plan product")),
+        Map.entry(
+            "products.findByFranchiseId",
+            f -> productRepository.findByFranchiseId(f.franchiseId())),
+        Map.entry(
+            "products.searchByNamePrefix",
+            f -> productRepository.searchByNamePrefix(f.franchiseId(), null, "plan", 10)),
+        Map.entry(
+            "products.searchByNamePrefix in branch",
+            f -> productRepository.searchByNamePrefix(f.franchiseId(), f.branchId(), "plan", 10)),
+        Map.entry(
+            "products.searchByText",
+            f -> productRepository.searchByText(f.franchiseId(), null, "plan", 10)),
+        Map.entry(
+            "products.findTopByStock",
+            f -> productRepository.findTopByStock(f.franchiseId(), 10)),
+        Map.entry(
+            "products.findTopByStock global", f -> productRepository.findTopByStock(null, 10)),
+        Map.entry(
+            "products.findTopProductPerBranch",
+            f -> productRepository.findTopProductPerBranch(f.franchiseId())),
+        Map.entry(
+            "products.applyLedgerStock",
+            f -> productRepository.applyLedgerStock(f.productId(), 10, 1L)),
+        Map.entry(
+            "products.findIdsAndStock",
+            f -> productRepository.findIdsAndStock(f.franchiseId(), f.branchId(), 1000)),
+        Map.entry(
+            "products.findIdsAndStock of franchise",
+            f -> productRepository.findIdsAndStock(f.franchiseId(), null, 1000)),
+        Map.entry("products.deleteByIds", f -> productRepository.deleteByIds(List.of(missingId()))),
+        Map.entry(
+            "inventoryStats.findByIdAndScope",
+            f ->
+                inventoryStatsRepository.findByIdAndScope(
+                    f.franchiseId(), InventoryStatsEntity.FRANCHISE_SCOPE)),
+        Map.entry(
+            "inventoryStats.findByIdAndFranchiseIdAndScope",
+            f ->
+                inventoryStatsRepository.findByIdAndFranchiseIdAndScope(
+                    f.branchId(), f.franchiseId(), InventoryStatsEntity.BRANCH_SCOPE)),
+        Map.entry(
+            "inventoryStats.applyDelta",
+            f -> inventoryStatsRepository.applyDelta(f.franchiseId(), f.branchId(), 0, 0, 0, 10)),
+        Map.entry(
+            "inventoryStats.refreshBounds",
+            f -> inventoryStatsRepository.refreshBounds(f.franchiseId(), f.branchId(), 10)),
+        Map.entry(
+            "inventoryStats.removeBranch",
+            f -> inventoryStatsRepository.removeBranch(f.franchiseId(), missingId())),
+        Map.entry(
+            "stockAlerts.findByFranchiseIdOrderByCreatedAtDesc",
+            f ->
+                stockAlertRepository.findByFranchiseIdOrderByCreatedAtDesc(
+                    f.franchiseId(), Limit.of(10))),
+        Map.entry(
+            "stockAlerts.findByFranchiseIdAndBranchIdOrderByCreatedAtDesc",
+            f ->
+                stockAlertRepository.findByFranchiseIdAndBranchIdOrderByCreatedAtDesc(
+                    f.franchiseId(), f.branchId(), Limit.of(10))));
+  }
+
+  private static String missingId() {
+    return new ObjectId().toHexString();
+  }
+
+  private record Fixture(String franchiseId, String branchId, String productId) {}
+}
@@ -0,0 +1,91 @@
+package com.accenture.test.accenturetestchallenge.benchmark;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockLedgerPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.accenture.test.accenturetestchallenge.domain.service.ProductService;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.Proxy;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+final class BenchmarkFixtures {
+
+  static final String FRANCHISE_ID = "franchise-1";
+
+  private BenchmarkFixtures() {}
+
+  static ProductService productService(ProductRepository productRepository) {
+    return new ProductService(
+        stub(FranchisePort.class),
+        stub(BranchPort.class),
+        productRepository,
+        stub(InventoryStatsPort.class),
+        stub(StockAlertPort.class),
+        ObservationRegistry.NOOP,
+        new StaticListableBeanFactory().getBeanProvider(StockLedgerPort.class));
+  }
+
+  static ProductRepository populatedRepository(int branches, int productsPerBranch) {
+    ProductRepository productRepository = new InMemoryProductRepository();
+    for (int branch = 0; branch < branches; branch++) {
+      for (int product = 0; product < productsPerBranch; product++) {
+        ProductEntity productEntity = new ProductEntity();
+        productEntity.setFranchiseId(FRANCHISE_ID);
+        productEntity.setBranchId("branch-" + branch);
+        productEntity.setName("product " + branch + "-" + product);
+        productEntity.setStock((branch * 31 + product * 17) % 500);
+        productRepository.save(productEntity).block();
+      }
+    }
+    return productRepository;
+  }
+
+  /** Converter configured like the application's, without a database behind it. */
+  static MappingMongoConverter mongoConverter() {
+    MongoMappingContext mappingContext = new MongoMappingContext();
+    mappingContext.afterPropertiesSet();
+
+    MappingMongoConverter converter =
+        new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+    converter.afterPropertiesSet();
+    return converter;
+  }
+
+  /**
+   * Port that answers instantly, so the benchmarks only measure the code under test: existence
+   * checks succeed, other {@code Mono} operations complete empty and {@code Flux} operations emit
+   * nothing.
+   */
+  static <T> T stub(Class<T> portType) {
+    Object stub =
+        Proxy.newProxyInstance(
+            portType.getClassLoader(),
+            new Class<?>[] {portType},
+            (proxy, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  default -> portType.getSimpleName() + " stub";
+                };
+              }
+              if (method.getName().startsWith("exists")) {
+                return Mono.just(true);
+              }
+              if (method.getReturnType() == Flux.class) {
+                return Flux.empty();
+              }
+              return Mono.empty();
+            });
+    return portType.cast(stub);
+  }
+}
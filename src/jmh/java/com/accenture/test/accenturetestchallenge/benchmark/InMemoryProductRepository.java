@@ -0,0 +1,229 @@
+package com.accenture.test.accenturetestchallenge.benchmark;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ProductRepository} backed by maps, indexed by franchise and branch, so the {@code
+ * ProductService} paths run unchanged and every lookup, insert and delete takes constant time. The
+ * queries MongoDB answers with an index or an aggregation are computed over the products of the
+ * franchise or branch.
+ */
+final class InMemoryProductRepository implements ProductRepository {
+
+  private static final Comparator<ProductEntity> BY_DESCENDING_STOCK =
+      Comparator.comparing(ProductEntity::getStock, Comparator.reverseOrder())
+          .thenComparing(ProductEntity::getId);
+
+  private final Map<String, ProductEntity> products = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Map<String, ProductEntity>>> productsByBranch =
+      new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  @Override
+  public <S extends ProductEntity> Mono<S> save(S product) {
+    return Mono.fromSupplier(() -> store(product));
+  }
+
+  @Override
+  public <S extends ProductEntity> Flux<S> insert(Iterable<S> products) {
+    return Flux.fromIterable(products).map(this::store);
+  }
+
+  @Override
+  public Mono<ProductEntity> findById(String id) {
+    return Mono.fromSupplier(() -> products.get(id));
+  }
+
+  @Override
+  public Mono<Void> deleteById(String id) {
+    return Mono.fromRunnable(() -> delete(id));
+  }
+
+  @Override
+  public Mono<ProductEntity> findByFranchiseIdAndBranchIdAndId(
+      String franchiseId, String branchId, String id) {
+    return Mono.fromSupplier(() -> find(franchiseId, branchId, id));
+  }
+
+  @Override
+  public Flux<ProductEntity> findByFranchiseId(String franchiseId) {
+    return Flux.fromStream(() -> productsOf(franchiseId, null));
+  }
+
+  @Override
+  public Flux<Product> searchByNamePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit) {
+    return Flux.fromStream(
+        () ->
+            productsOf(franchiseId, branchId)
+                .filter(product -> product.getNormalizedName().startsWith(normalizedPrefix))
+                .sorted(Comparator.comparing(ProductEntity::getNormalizedName))
+                .limit(limit)
+                .map(InMemoryProductRepository::toProduct));
+  }
+
+  @Override
+  public Flux<Product> searchByText(String franchiseId, String branchId, String text, int limit) {
+    String normalizedText = ProductNames.normalize(text);
+    return Flux.fromStream(
+        () ->
+            productsOf(franchiseId, branchId)
+                .filter(product -> product.getNormalizedName().contains(normalizedText))
+                .limit(limit)
+                .map(InMemoryProductRepository::toProduct));
+  }
+
+  @Override
+  public Flux<Product> findTopByStock(String franchiseId, int limit) {
+    return Flux.fromStream(
+        () ->
+            (franchiseId == null ? products.values().stream() : productsOf(franchiseId, null))
+                .sorted(BY_DESCENDING_STOCK)
+                .limit(limit)
+                .map(InMemoryProductRepository::toProduct));
+  }
+
+  @Override
+  public Flux<Product> findTopProductPerBranch(String franchiseId) {
+    return Flux.fromStream(
+        () ->
+            productsByBranch.getOrDefault(franchiseId, Map.of()).values().stream()
+                .flatMap(branch -> branch.values().stream().min(BY_DESCENDING_STOCK).stream())
+                .map(InMemoryProductRepository::toProduct));
+  }
+
+  @Override
+  public Mono<Long> normalizeMissingNames() {
+    return Mono.fromSupplier(
+        () -> {
+          long normalized = 0;
+          for (ProductEntity product : products.values()) {
+            if (product.getNormalizedName() == null) {
+              product.setNormalizedName(ProductNames.normalize(product.getName()));
+              normalized++;
+            }
+          }
+          return normalized;
+        });
+  }
+
+  @Override
+  public Mono<ProductEntity> replaceStock(
+      String franchiseId, String branchId, String productId, int stock) {
+    return Mono.fromSupplier(() -> find(franchiseId, branchId, productId))
+        .map(product -> replaceStock(product, stock));
+  }
+
+  /** Returns a copy of the product as it was, like a findAndModify that does not return new. */
+  private ProductEntity replaceStock(ProductEntity product, int stock) {
+    ProductEntity previous =
+        new ProductEntity(
+            product.getId(),
+            product.getName(),
+            product.getStock(),
+            product.getBranchId(),
+            product.getFranchiseId(),
+            product.getNormalizedName(),
+            product.getLedgerSequence());
+    product.setStock(stock);
+    return previous;
+  }
+
+  @Override
+  public Mono<ProductEntity> updateName(
+      String franchiseId, String branchId, String productId, String name, String normalizedName) {
+    return Mono.fromSupplier(() -> find(franchiseId, branchId, productId))
+        .doOnNext(
+            product -> {
+              product.setName(name);
+              product.setNormalizedName(normalizedName);
+            });
+  }
+
+  @Override
+  public Mono<ProductEntity> applyLedgerStock(String productId, int stock, long ledgerSequence) {
+    return Mono.fromSupplier(() -> products.get(productId))
+        .filter(
+            product ->
+                product.getLedgerSequence() == null || product.getLedgerSequence() < ledgerSequence)
+        .doOnNext(
+            product -> {
+              product.setStock(stock);
+              product.setLedgerSequence(ledgerSequence);
+            });
+  }
+
+  @Override
+  public Flux<ProductEntity> findIdsAndStock(String franchiseId, String branchId, int batchSize) {
+    return Flux.fromStream(() -> productsOf(franchiseId, branchId));
+  }
+
+  @Override
+  public Mono<Long> deleteByIds(Collection<String> ids) {
+    return Mono.fromSupplier(() -> ids.stream().filter(this::delete).count());
+  }
+
+  private <S extends ProductEntity> S store(S product) {
+    if (product.getId() == null) {
+      product.setId(Long.toString(sequence.incrementAndGet()));
+    }
+    if (product.getNormalizedName() == null) {
+      product.setNormalizedName(ProductNames.normalize(product.getName()));
+    }
+    products.put(product.getId(), product);
+    productsByBranch
+        .computeIfAbsent(product.getFranchiseId(), franchiseId -> new ConcurrentHashMap<>())
+        .computeIfAbsent(product.getBranchId(), branchId -> new ConcurrentHashMap<>())
+        .put(product.getId(), product);
+    return product;
+  }
+
+  private ProductEntity find(String franchiseId, String branchId, String productId) {
+    ProductEntity product = products.get(productId);
+    if (product == null
+        || !product.getFranchiseId().equals(franchiseId)
+        || !product.getBranchId().equals(branchId)) {
+      return null;
+    }
+    return product;
+  }
+
+  private Stream<ProductEntity> productsOf(String franchiseId, String branchId) {
+    Map<String, Map<String, ProductEntity>> branches =
+        productsByBranch.getOrDefault(franchiseId, Map.of());
+    if (branchId != null) {
+      return branches.getOrDefault(branchId, Map.of()).values().stream();
+    }
+    return branches.values().stream().flatMap(branch -> branch.values().stream());
+  }
+
+  private boolean delete(String productId) {
+    ProductEntity removed = products.remove(productId);
+    if (removed == null) {
+      return false;
+    }
+    productsByBranch.get(removed.getFranchiseId()).get(removed.getBranchId()).remove(productId);
+    return true;
+  }
+
+  private static Product toProduct(ProductEntity product) {
+    return Product.builder()
+        .id(product.getId())
+        .franchiseId(product.getFranchiseId())
+        .branchId(product.getBranchId())
+        .name(product.getName())
+        .stock(product.getStock())
+        .build();
+  }
+}
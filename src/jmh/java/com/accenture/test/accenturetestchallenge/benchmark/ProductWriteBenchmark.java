@@ -0,0 +1,58 @@
+package com.accenture.test.accenturetestchallenge.benchmark;
+
+import static com.accenture.test.accenturetestchallenge.benchmark.BenchmarkFixtures.FRANCHISE_ID;
+
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.service.ProductService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Write paths of {@link ProductService}: validation, entity building, counter tracking and
+ * mapping back to the domain. Products are created and deleted in pairs so the repository keeps
+ * its size across iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductWriteBenchmark {
+
+  private static final String BRANCH_ID = "branch-0";
+
+  private ProductService productService;
+  private String productId;
+  private int stock;
+
+  @Setup
+  public void setUp() {
+    productService =
+        BenchmarkFixtures.productService(BenchmarkFixtures.populatedRepository(10, 100));
+    productId =
+        productService
+            .createProduct(FRANCHISE_ID, BRANCH_ID, new Product("benchmark product", 10))
+            .block()
+            .getId();
+  }
+
+  @Benchmark
+  public Product updateProductStock() {
+    stock = (stock + 1) % 100;
+    return productService.updateProductStock(FRANCHISE_ID, BRANCH_ID, productId, stock).block();
+  }
+
+  @Benchmark
+  public Product createAndDeleteProduct() {
+    Product created =
+        productService
+            .createProduct(FRANCHISE_ID, BRANCH_ID, new Product("new product", 5))
+            .block();
+    productService.deleteProduct(FRANCHISE_ID, BRANCH_ID, created.getId()).block();
+    return created;
+  }
+}
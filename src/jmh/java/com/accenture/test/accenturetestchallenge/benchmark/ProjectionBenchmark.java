@@ -0,0 +1,100 @@
+package com.accenture.test.accenturetestchallenge.benchmark;
+
+import static com.accenture.test.accenturetestchallenge.benchmark.BenchmarkFixtures.FRANCHISE_ID;
+
+import com.accenture.test.accenturetestchallenge.application.ProductSummaryResponse;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.projection.EntityProjection;
+
+/**
+ * Turning the documents of a product search or top products page into {@link
+ * ProductSummaryResponse}s. {@code domainPipeline} is the entity to domain to response mapping the
+ * read endpoints used to do, {@code projection} decodes only the fields of the {@link Product} read
+ * model, as the repository does now, and maps those. Compare {@code gc.alloc.rate.norm} for the
+ * allocations per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark {
+
+  @Param({"20", "100"})
+  int rows;
+
+  private MappingMongoConverter converter;
+  private EntityProjection<Product, ProductEntity> productProjection;
+  private List<Document> productDocuments;
+  private List<Document> summaryDocuments;
+
+  @Setup
+  public void setUp() {
+    converter = BenchmarkFixtures.mongoConverter();
+    productProjection = converter.introspectProjection(Product.class, ProductEntity.class);
+
+    productDocuments = new ArrayList<>(rows);
+    summaryDocuments = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      Document summary =
+          new Document("_id", new ObjectId())
+              .append(ProductEntity.NAME_FIELD, "Product " + row)
+              .append(ProductEntity.STOCK_FIELD, row * 7)
+              .append(ProductEntity.BRANCH_ID_FIELD, "branch-" + row % 10)
+              .append(ProductEntity.FRANCHISE_ID_FIELD, FRANCHISE_ID);
+      summaryDocuments.add(summary);
+      productDocuments.add(new Document(summary).append("nn", "product " + row));
+    }
+  }
+
+  @Benchmark
+  public List<ProductSummaryResponse> domainPipeline() {
+    List<ProductSummaryResponse> responses = new ArrayList<>(rows);
+    for (Document document : productDocuments) {
+      ProductEntity entity = converter.read(ProductEntity.class, document);
+      Product product =
+          Product.builder()
+              .id(entity.getId())
+              .name(entity.getName())
+              .branchId(entity.getBranchId())
+              .franchiseId(entity.getFranchiseId())
+              .stock(entity.getStock())
+              .build();
+
+      responses.add(toResponse(product));
+    }
+    return responses;
+  }
+
+  @Benchmark
+  public List<ProductSummaryResponse> projection() {
+    List<ProductSummaryResponse> responses = new ArrayList<>(rows);
+    for (Document document : summaryDocuments) {
+      responses.add(toResponse(converter.project(productProjection, document)));
+    }
+    return responses;
+  }
+
+  private static ProductSummaryResponse toResponse(Product product) {
+    ProductSummaryResponse response = new ProductSummaryResponse();
+    response.setId(product.getId());
+    response.setFranchiseId(product.getFranchiseId());
+    response.setBranchId(product.getBranchId());
+    response.setName(product.getName());
+    response.setStock(product.getStock());
+    return response;
+  }
+}
@@ -0,0 +1,115 @@
+package com.accenture.test.accenturetestchallenge.benchmark;
+
+import static com.accenture.test.accenturetestchallenge.benchmark.BenchmarkFixtures.FRANCHISE_ID;
+
+import com.accenture.test.accenturetestchallenge.application.TopProductResponse;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.accenture.test.accenturetestchallenge.domain.service.ProductService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+/**
+ * Top product per branch of a franchise. {@code domainPipeline} is what the endpoint used to do:
+ * every product of the franchise is loaded, grouped and sorted in the service, then mapped to
+ * responses. {@code projection} is what it does now: the database groups the products and only one
+ * row per branch is decoded into a {@link Product} before the response mapping. {@code service}
+ * runs the same request through {@link ProductService}, over an in-memory repository that groups
+ * the products itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopProductsBenchmark {
+
+  @Param({"10", "100"})
+  int branches;
+
+  @Param({"10", "100"})
+  int productsPerBranch;
+
+  private ProductRepository productRepository;
+  private ProductService productService;
+  private MappingMongoConverter converter;
+  private List<Document> topProductDocuments;
+
+  @Setup
+  public void setUp() {
+    productRepository = BenchmarkFixtures.populatedRepository(branches, productsPerBranch);
+    productService = BenchmarkFixtures.productService(productRepository);
+
+    converter = BenchmarkFixtures.mongoConverter();
+    topProductDocuments = new ArrayList<>(branches);
+    for (int branch = 0; branch < branches; branch++) {
+      topProductDocuments.add(
+          new Document("_id", new ObjectId())
+              .append("franchiseId", FRANCHISE_ID)
+              .append("branchId", "branch-" + branch)
+              .append("name", "product " + branch)
+              .append("stock", 499));
+    }
+  }
+
+  @Benchmark
+  public List<TopProductResponse> domainPipeline() {
+    return productRepository
+        .findByFranchiseId(FRANCHISE_ID)
+        .map(
+            entity ->
+                Product.builder()
+                    .id(entity.getId())
+                    .name(entity.getName())
+                    .branchId(entity.getBranchId())
+                    .franchiseId(entity.getFranchiseId())
+                    .stock(entity.getStock())
+                    .build())
+        .groupBy(Product::getBranchId)
+        .flatMap(
+            products ->
+                products
+                    .sort((first, second) -> Integer.compare(second.getStock(), first.getStock()))
+                    .next())
+        .map(TopProductsBenchmark::toResponse)
+        .collectList()
+        .block();
+  }
+
+  @Benchmark
+  public List<TopProductResponse> projection() {
+    List<TopProductResponse> responses = new ArrayList<>(branches);
+    for (Document document : topProductDocuments) {
+      responses.add(toResponse(converter.read(Product.class, document)));
+    }
+    return responses;
+  }
+
+  @Benchmark
+  public List<TopProductResponse> service() {
+    return productService
+        .getTopProductsByFranchise(FRANCHISE_ID)
+        .map(TopProductsBenchmark::toResponse)
+        .collectList()
+        .block();
+  }
+
+  private static TopProductResponse toResponse(Product product) {
+    TopProductResponse response = new TopProductResponse();
+    response.setStock(product.getStock());
+    response.setProductName(product.getName());
+    response.setProductId(product.getId());
+    response.setBranchId(product.getBranchId());
+    return response;
+  }
+}
@@ -0,0 +1,9 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import java.util.List;
+
+/** Franchise, branches and products created before the scenarios start. */
+record Catalog(String franchiseId, List<String> branchIds, List<ProductRef> products) {
+
+  record ProductRef(String branchId, String productId) {}
+}
@@ -0,0 +1,86 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import com.accenture.test.accenturetestchallenge.loadtest.Catalog.ProductRef;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Creates the catalog the scenarios run against, through the public API. */
+final class CatalogSeeder {
+
+  private static final int SEED_CONCURRENCY = 16;
+  private static final String SEED_PRODUCT_PREFIX = "seed product";
+  private static final int MAX_SEARCH_RESULTS = 100;
+
+  private CatalogSeeder() {}
+
+  static Catalog seed(WebClient client, LoadTestSettings settings) {
+    String franchiseId =
+        post(client, "/franchise", Map.of("name", "Load test franchise"))
+            .map(franchise -> franchise.get("id").asText())
+            .block();
+
+    List<String> branchIds =
+        Flux.range(0, settings.branches())
+            .flatMapSequential(
+                branch ->
+                    post(
+                            client,
+                            "/franchise/" + franchiseId + "/branch",
+                            Map.of("name", "Branch " + branch))
+                        .map(branchResponse -> branchResponse.get("id").asText()),
+                SEED_CONCURRENCY)
+            .collectList()
+            .block();
+
+    Flux.fromIterable(branchIds)
+        .flatMap(
+            branchId ->
+                Flux.range(0, settings.productsPerBranch())
+                    .map(
+                        product ->
+                            Map.<String, Object>of(
+                                "name", SEED_PRODUCT_PREFIX + " " + product, "stock", product))
+                    .map(body -> Map.entry(branchId, body)),
+            SEED_CONCURRENCY)
+        .flatMap(
+            seed ->
+                post(
+                    client,
+                    "/franchise/" + franchiseId + "/branch/" + seed.getKey() + "/product",
+                    seed.getValue()),
+            SEED_CONCURRENCY)
+        .blockLast();
+
+    // Product creation does not return the id, so the seeded products are looked up by name.
+    List<ProductRef> products =
+        Flux.fromIterable(branchIds)
+            .flatMap(
+                branchId ->
+                    client
+                        .get()
+                        .uri(
+                            uriBuilder ->
+                                uriBuilder
+                                    .path("/franchise/{franchiseId}/product/search")
+                                    .queryParam("q", SEED_PRODUCT_PREFIX)
+                                    .queryParam("branchId", branchId)
+                                    .queryParam("limit", MAX_SEARCH_RESULTS)
+                                    .build(franchiseId))
+                        .retrieve()
+                        .bodyToFlux(JsonNode.class)
+                        .map(product -> new ProductRef(branchId, product.get("id").asText())),
+                SEED_CONCURRENCY)
+            .collectList()
+            .block();
+
+    return new Catalog(franchiseId, branchIds, products);
+  }
+
+  private static Mono<JsonNode> post(WebClient client, String uri, Object body) {
+    return client.post().uri(uri).bodyValue(body).retrieve().bodyToMono(JsonNode.class);
+  }
+}
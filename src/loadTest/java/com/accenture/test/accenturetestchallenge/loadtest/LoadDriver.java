@@ -0,0 +1,105 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fires every scenario at its rate for the warmup plus the measured duration. Latency is taken
+ * from the time each request was due, not from when it was sent, so a stalled server shows up in
+ * the percentiles instead of silently lowering the request rate.
+ */
+final class LoadDriver {
+
+  private final LoadTestSettings settings;
+
+  LoadDriver(LoadTestSettings settings) {
+    this.settings = settings;
+  }
+
+  List<ScenarioResult> run(List<Scenario> scenarios) {
+    long startNanos = System.nanoTime();
+    long measureFromNanos = startNanos + settings.warmup().toNanos();
+    Duration total = settings.warmup().plus(settings.duration());
+
+    List<ScenarioRun> runs =
+        scenarios.stream()
+            .filter(scenario -> scenario.ratePerSecond() > 0)
+            .map(ScenarioRun::new)
+            .toList();
+
+    Flux.fromIterable(runs)
+        .flatMap(run -> run.drive(startNanos, measureFromNanos, total))
+        .blockLast();
+
+    return runs.stream().map(run -> run.result(settings.duration())).toList();
+  }
+
+  private final class ScenarioRun {
+
+    private final Scenario scenario;
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private ScenarioRun(Scenario scenario) {
+      this.scenario = scenario;
+    }
+
+    private Mono<Void> drive(long startNanos, long measureFromNanos, Duration total) {
+      long periodNanos = (long) (1_000_000_000L / scenario.ratePerSecond());
+
+      return Flux.interval(Duration.ofNanos(periodNanos))
+          .take(total)
+          .onBackpressureDrop(tick -> dropped.increment())
+          .flatMap(
+              tick -> {
+                long dueNanos = startNanos + (tick + 1) * periodNanos;
+                return scenario
+                    .request()
+                    .get()
+                    .doOnSuccess(
+                        response -> {
+                          long now = System.nanoTime();
+                          if (dueNanos >= measureFromNanos) {
+                            latencies.recordValue(now - dueNanos);
+                          }
+                        })
+                    .doOnError(
+                        error -> {
+                          if (dueNanos >= measureFromNanos) {
+                            errors.increment();
+                          }
+                        })
+                    .onErrorResume(error -> Mono.empty());
+              },
+              settings.maxConcurrency())
+          .then();
+    }
+
+    private ScenarioResult result(Duration measured) {
+      Histogram histogram = latencies.getIntervalHistogram();
+      double seconds = measured.toNanos() / 1_000_000_000.0;
+
+      return new ScenarioResult(
+          scenario.name(),
+          scenario.ratePerSecond(),
+          histogram.getTotalCount(),
+          errors.sum(),
+          dropped.sum(),
+          histogram.getTotalCount() / seconds,
+          toMillis(histogram.getValueAtPercentile(50)),
+          toMillis(histogram.getValueAtPercentile(99)),
+          toMillis(histogram.getValueAtPercentile(99.9)),
+          toMillis(histogram.getMaxValue()));
+    }
+
+    private double toMillis(long nanos) {
+      return nanos / 1_000_000.0;
+    }
+  }
+}
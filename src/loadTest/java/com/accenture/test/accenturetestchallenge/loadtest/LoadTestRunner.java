@@ -0,0 +1,114 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import com.accenture.test.accenturetestchallenge.AccentureTestChallengeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}: starts MongoDB in a container, boots the application
+ * on a random port, seeds a catalog, runs the scenarios and writes the results as JSON.
+ */
+public final class LoadTestRunner {
+
+  private LoadTestRunner() {}
+
+  public static void main(String[] args) throws IOException {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    try (MongoDBContainer mongo =
+        new MongoDBContainer(DockerImageName.parse(settings.mongoImage()))) {
+      mongo.start();
+
+      List<String> applicationArgs = new ArrayList<>();
+      applicationArgs.add("--server.port=0");
+      applicationArgs.add("--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("loadtest"));
+      List<String> profiles = new ArrayList<>();
+      if ("blocking".equals(settings.stack())) {
+        profiles.add("blocking");
+      }
+      if ("embedded".equals(settings.persistence())) {
+        profiles.add("embedded");
+      }
+      if (!profiles.isEmpty()) {
+        applicationArgs.add("--spring.profiles.active=" + String.join(",", profiles));
+      }
+
+      try (ConfigurableApplicationContext application =
+          SpringApplication.run(
+              AccentureTestChallengeApplication.class, applicationArgs.toArray(String[]::new))) {
+
+        String port = application.getEnvironment().getProperty("local.server.port");
+        WebClient client = WebClient.builder().baseUrl("http://localhost:" + port).build();
+
+        Catalog catalog = CatalogSeeder.seed(client, settings);
+        List<ScenarioResult> results =
+            new LoadDriver(settings).run(Scenarios.all(client, catalog, settings));
+
+        print(results);
+        Path resultsFile = write(settings, results);
+        System.out.println("Results written to " + resultsFile);
+      }
+    }
+  }
+
+  private static void print(List<ScenarioResult> results) {
+    System.out.printf(
+        Locale.ROOT,
+        "%-34s %10s %8s %8s %10s %10s %10s%n",
+        "scenario",
+        "req/s",
+        "errors",
+        "dropped",
+        "p50 ms",
+        "p99 ms",
+        "p999 ms");
+    results.forEach(
+        result ->
+            System.out.printf(
+                Locale.ROOT,
+                "%-34s %10.1f %8d %8d %10.2f %10.2f %10.2f%n",
+                result.scenario(),
+                result.throughput(),
+                result.errors(),
+                result.dropped(),
+                result.p50(),
+                result.p99(),
+                result.p999()));
+  }
+
+  private static Path write(LoadTestSettings settings, List<ScenarioResult> results)
+      throws IOException {
+    Instant finishedAt = Instant.now();
+    Files.createDirectories(settings.resultsDir());
+    Path resultsFile =
+        settings.resultsDir().resolve("results-" + finishedAt.toEpochMilli() + ".json");
+
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    LoadTestReport report = new LoadTestReport(settings.version(), finishedAt, settings, results);
+    objectMapper.writeValue(resultsFile.toFile(), report);
+    return resultsFile;
+  }
+
+  record LoadTestReport(
+      String version,
+      Instant finishedAt,
+      LoadTestSettings settings,
+      List<ScenarioResult> scenarios) {}
+}
@@ -0,0 +1,42 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/** Load-test knobs, read from {@code -PloadTest.*} Gradle properties. */
+record LoadTestSettings(
+    Duration warmup,
+    Duration duration,
+    int branches,
+    int productsPerBranch,
+    double stockUpdateRate,
+    double onboardingRate,
+    double dashboardRate,
+    int maxConcurrency,
+    String mongoImage,
+    String stack,
+    String persistence,
+    Path resultsDir,
+    String version) {
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Duration.parse(property("warmup", "PT10S")),
+        Duration.parse(property("duration", "PT60S")),
+        Integer.parseInt(property("branches", "10")),
+        Integer.parseInt(property("productsPerBranch", "50")),
+        Double.parseDouble(property("stockUpdateRate", "200")),
+        Double.parseDouble(property("onboardingRate", "20")),
+        Double.parseDouble(property("dashboardRate", "10")),
+        Integer.parseInt(property("maxConcurrency", "256")),
+        property("mongoImage", "mongo:7.0"),
+        property("stack", "reactive"),
+        property("persistence", "normalized"),
+        Path.of(property("resultsDir", "build/load-test")),
+        property("version", "unknown"));
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty("loadTest." + name, defaultValue);
+  }
+}
@@ -0,0 +1,7 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/** An API operation fired at a fixed rate, independently of how fast responses come back. */
+record Scenario(String name, double ratePerSecond, Supplier<Mono<?>> request) {}
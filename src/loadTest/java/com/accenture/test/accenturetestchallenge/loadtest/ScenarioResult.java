@@ -0,0 +1,14 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+/** Outcome of one scenario over the measured window. Latencies are in milliseconds. */
+record ScenarioResult(
+    String scenario,
+    double targetRate,
+    long requests,
+    long errors,
+    long dropped,
+    double throughput,
+    double p50,
+    double p99,
+    double p999,
+    double max) {}
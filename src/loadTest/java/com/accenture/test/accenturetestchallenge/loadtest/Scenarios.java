@@ -0,0 +1,83 @@
+package com.accenture.test.accenturetestchallenge.loadtest;
+
+import com.accenture.test.accenturetestchallenge.loadtest.Catalog.ProductRef;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/** The traffic mix: point-of-sale stock updates, catalog onboarding and dashboard polling. */
+final class Scenarios {
+
+  private Scenarios() {}
+
+  static List<Scenario> all(WebClient client, Catalog catalog, LoadTestSettings settings) {
+    return List.of(
+        stockUpdateStorm(client, catalog, settings.stockUpdateRate()),
+        catalogOnboarding(client, catalog, settings.onboardingRate()),
+        new Scenario(
+            "dashboard-top-products-by-branch",
+            settings.dashboardRate(),
+            () ->
+                client
+                    .get()
+                    .uri("/franchise/{franchiseId}/branch/top-products", catalog.franchiseId())
+                    .retrieve()
+                    .toBodilessEntity()),
+        new Scenario(
+            "dashboard-franchise-top-products",
+            settings.dashboardRate(),
+            () ->
+                client
+                    .get()
+                    .uri("/franchise/{franchiseId}/product/top?limit=10", catalog.franchiseId())
+                    .retrieve()
+                    .toBodilessEntity()));
+  }
+
+  private static Scenario stockUpdateStorm(WebClient client, Catalog catalog, double rate) {
+    return new Scenario(
+        "stock-update-storm",
+        rate,
+        () -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          ProductRef product = catalog.products().get(random.nextInt(catalog.products().size()));
+          return client
+              .put()
+              .uri(
+                  "/franchise/{franchiseId}/branch/{branchId}/product/{productId}",
+                  catalog.franchiseId(),
+                  product.branchId(),
+                  product.productId())
+              .bodyValue(Map.of("stock", random.nextInt(500)))
+              .retrieve()
+              .toBodilessEntity();
+        });
+  }
+
+  private static Scenario catalogOnboarding(WebClient client, Catalog catalog, double rate) {
+    AtomicLong sequence = new AtomicLong();
+    return new Scenario(
+        "catalog-onboarding",
+        rate,
+        () -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          String branchId = catalog.branchIds().get(random.nextInt(catalog.branchIds().size()));
+          return client
+              .post()
+              .uri(
+                  "/franchise/{franchiseId}/branch/{branchId}/product",
+                  catalog.franchiseId(),
+                  branchId)
+              .bodyValue(
+                  Map.of(
+                      "name",
+                      "onboarded product " + sequence.incrementAndGet(),
+                      "stock",
+                      random.nextInt(200)))
+              .retrieve()
+              .toBodilessEntity();
+        });
+  }
+}
@@ -0,0 +1,101 @@
+package com.accenture.test.accenturetestchallenge.application.diagnostics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.ObjectName;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+public class DiagnosticsService {
+
+  private static final Duration MAX_RECORDING_DURATION = Duration.ofMinutes(5);
+  private static final String DIAGNOSTIC_COMMAND_MBEAN =
+      "com.sun.management:type=DiagnosticCommand";
+
+  private final AtomicBoolean recordingInProgress = new AtomicBoolean();
+
+  public Mono<Resource> recordFlightRecording(Duration duration, String profile) {
+    if (duration == null
+        || duration.isNegative()
+        || duration.isZero()
+        || duration.compareTo(MAX_RECORDING_DURATION) > 0
+        || profile == null
+        || profile.trim().isEmpty()) {
+      log.warn(
+          "Invalid flight recording request. Duration: '{}', Profile: '{}'", duration, profile);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Recording duration must be between 1 and 300 seconds and profile must not be empty"));
+    }
+
+    return Mono.usingWhen(
+        Mono.fromCallable(() -> startRecording(profile)).subscribeOn(Schedulers.boundedElastic()),
+        recording ->
+            Mono.delay(duration)
+                .then(
+                    Mono.fromCallable(() -> dumpRecording(recording))
+                        .subscribeOn(Schedulers.boundedElastic())),
+        recording -> Mono.fromRunnable(() -> closeRecording(recording)));
+  }
+
+  private Recording startRecording(String profile) throws IOException, ParseException {
+    if (!recordingInProgress.compareAndSet(false, true)) {
+      throw new RecordingInProgressException();
+    }
+
+    try {
+      Recording recording = new Recording(Configuration.getConfiguration(profile));
+      recording.setName("admin-" + profile);
+      recording.start();
+      log.info("Flight recording started with profile {}", profile);
+      return recording;
+    } catch (IOException | ParseException | RuntimeException error) {
+      recordingInProgress.set(false);
+      throw error;
+    }
+  }
+
+  private Resource dumpRecording(Recording recording) throws IOException {
+    recording.stop();
+    Path file = Files.createTempFile("recording-", ".jfr");
+    recording.dump(file);
+    log.info("Flight recording dumped to {} ({} bytes)", file, Files.size(file));
+
+    // The file is removed as soon as the response has been streamed.
+    return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+  }
+
+  private void closeRecording(Recording recording) {
+    recording.close();
+    recordingInProgress.set(false);
+  }
+
+  public Mono<String> getClassHistogram() {
+    return Mono.fromCallable(
+            () ->
+                (String)
+                    ManagementFactory.getPlatformMBeanServer()
+                        .invoke(
+                            new ObjectName(DIAGNOSTIC_COMMAND_MBEAN),
+                            "gcClassHistogram",
+                            new Object[] {new String[0]},
+                            new String[] {String[].class.getName()}))
+        .subscribeOn(Schedulers.boundedElastic())
+        .doOnError(
+            error -> log.error("Error building class histogram: {}", error.getMessage(), error));
+  }
+}
@@ -0,0 +1,9 @@
+package com.accenture.test.accenturetestchallenge.application.diagnostics;
+
+/** A flight recording was requested while another one is still running. */
+public class RecordingInProgressException extends RuntimeException {
+
+  public RecordingInProgressException() {
+    super("A flight recording is already in progress");
+  }
+}
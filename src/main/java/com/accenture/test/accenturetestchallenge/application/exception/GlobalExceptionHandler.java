@@ -1,5 +1,6 @@
 package com.accenture.test.accenturetestchallenge.application.exception;
 
+import com.accenture.test.accenturetestchallenge.application.diagnostics.RecordingInProgressException;
 import java.time.ZonedDateTime;
 import java.util.stream.Collectors;
 import org.springframework.http.HttpHeaders;
@@ -26,6 +27,20 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
+  @ExceptionHandler(RecordingInProgressException.class)
+  protected ResponseEntity<ApiError> handleRecordingInProgressException(
+      RecordingInProgressException ex) {
+    var apiError =
+        ApiError.builder()
+            .timeStamp(ZonedDateTime.now())
+            .status(HttpStatus.CONFLICT)
+            .error(RecordingInProgressException.class.getSimpleName())
+            .message(ex.getMessage())
+            .build();
+
+    return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(WebExchangeBindException.class)
   public ResponseEntity<ApiError> handleValidationException(WebExchangeBindException ex) {
     String errors = ex.getFieldErrors().stream()
@@ -0,0 +1,85 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps every port implementation so each of its operations is timed, counted and recorded as a
+ * Flight Recorder event, and every Mongo repository so its queries are recorded as well.
+ */
+@Component
+public class InstrumentationPostProcessor implements BeanPostProcessor {
+
+  private static final List<Class<?>> OBSERVED_PORTS =
+      List.of(FranchisePort.class, BranchPort.class, ProductPort.class);
+
+  private final ObjectProvider<ObservationRegistry> observationRegistry;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  public InstrumentationPostProcessor(
+      ObjectProvider<ObservationRegistry> observationRegistry,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.observationRegistry = observationRegistry;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    for (Class<?> port : OBSERVED_PORTS) {
+      if (port.isInstance(bean)) {
+        return addAdvices(
+            bean,
+            new PortObservationInterceptor(
+                port.getSimpleName(),
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)),
+            OperationEventInterceptor.forPort(port.getSimpleName()));
+      }
+    }
+
+    if (bean instanceof Repository<?, ?>) {
+      return addAdvices(
+          bean, OperationEventInterceptor.forRepository(repositoryName(bean, beanName)));
+    }
+    return bean;
+  }
+
+  private Object addAdvices(Object bean, Advice... advices) {
+    // Repository proxies end with the interceptor that runs the query, so ours go first.
+    if (bean instanceof Advised advised && !advised.isFrozen()) {
+      for (int i = 0; i < advices.length; i++) {
+        advised.addAdvice(i, advices[i]);
+      }
+      return bean;
+    }
+
+    ProxyFactory proxyFactory = new ProxyFactory(bean);
+    Arrays.stream(advices).forEach(proxyFactory::addAdvice);
+    return proxyFactory.getProxy();
+  }
+
+  private String repositoryName(Object bean, String beanName) {
+    if (bean instanceof Advised advised) {
+      return Arrays.stream(advised.getProxiedInterfaces())
+          .filter(Repository.class::isAssignableFrom)
+          .filter(type -> !type.getName().startsWith("org.springframework"))
+          .map(Class::getSimpleName)
+          .findFirst()
+          .orElse(beanName);
+    }
+    return beanName;
+  }
+}
@@ -0,0 +1,107 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Records the latency of every Mongo command by command and collection, and logs the filter
+ * shape of the commands slower than the configured threshold. {@code getMore} commands are
+ * recorded under the collection of their cursor.
+ */
+@Slf4j
+public class MongoCommandMetricsListener implements CommandListener {
+
+  public static final String COMMAND_TIMER_NAME = "mongodb.command";
+
+  private static final String NO_COLLECTION = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final long slowCommandThresholdNanos;
+  private final Map<Integer, StartedCommand> startedCommands = new ConcurrentHashMap<>();
+
+  public MongoCommandMetricsListener(MeterRegistry meterRegistry, Duration slowCommandThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.slowCommandThresholdNanos =
+        slowCommandThreshold == null || slowCommandThreshold.isZero()
+            ? Long.MAX_VALUE
+            : slowCommandThreshold.toNanos();
+  }
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    BsonDocument command = event.getCommand();
+    BsonValue target =
+        "getMore".equals(event.getCommandName())
+            ? command.get("collection")
+            : command.get(event.getCommandName());
+    String collection = target != null && target.isString() ? target.asString().getValue() : null;
+
+    // The command document is released once the event returns, so the filter is copied now, only
+    // when slow commands are being logged, and described only for the commands found slow.
+    BsonDocument filter =
+        slowCommandThresholdNanos == Long.MAX_VALUE
+            ? null
+            : MongoFilterShapes.filterOf(event.getCommandName(), command);
+
+    startedCommands.put(
+        event.getRequestId(),
+        new StartedCommand(collection == null ? NO_COLLECTION : collection, filter));
+  }
+
+  @Override
+  public void commandSucceeded(CommandSucceededEvent event) {
+    record(
+        event.getRequestId(),
+        event.getCommandName(),
+        event.getElapsedTime(TimeUnit.NANOSECONDS),
+        "success");
+  }
+
+  @Override
+  public void commandFailed(CommandFailedEvent event) {
+    record(
+        event.getRequestId(),
+        event.getCommandName(),
+        event.getElapsedTime(TimeUnit.NANOSECONDS),
+        "failed");
+  }
+
+  private void record(int requestId, String commandName, long elapsedNanos, String status) {
+    StartedCommand startedCommand = startedCommands.remove(requestId);
+    String collection = startedCommand == null ? NO_COLLECTION : startedCommand.collection();
+
+    Timer.builder(COMMAND_TIMER_NAME)
+        .description("Latency of the commands sent to MongoDB")
+        .tag("command", commandName)
+        .tag("collection", collection)
+        .tag("status", status)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+    if (elapsedNanos >= slowCommandThresholdNanos) {
+      log.warn(
+          "Slow Mongo command {} on {} took {} ms ({}). Filter: {}",
+          commandName,
+          collection,
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+          status,
+          startedCommand == null || startedCommand.filter() == null
+              ? "-"
+              : MongoFilterShapes.describe(commandName, startedCommand.filter()));
+    }
+  }
+
+  private record StartedCommand(String collection, BsonDocument filter) {}
+}
@@ -0,0 +1,112 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import java.util.List;
+import java.util.StringJoiner;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Describes the filter of a Mongo command with every literal replaced by {@code ?}, so slow
+ * queries can be logged and grouped without leaking the values they were run with.
+ */
+final class MongoFilterShapes {
+
+  private static final String UNKNOWN = "-";
+
+  private MongoFilterShapes() {}
+
+  static String describe(String commandName, BsonDocument command) {
+    return switch (commandName) {
+      case "find" -> withSort(shapeOf(command.get("filter")), command.get("sort"));
+      case "count", "distinct", "findAndModify" -> shapeOf(command.get("query"));
+      case "update" -> shapeOf(firstStatement(command, "updates", "q"));
+      case "delete" -> shapeOf(firstStatement(command, "deletes", "q"));
+      case "aggregate" -> shapeOf(command.get("pipeline"));
+      default -> UNKNOWN;
+    };
+  }
+
+  /**
+   * Copy of the parts of {@code command} that {@link #describe} reads, which outlives the event
+   * the command came with. Copying bytes is cheaper than describing them, which is left to the
+   * commands found slow.
+   */
+  static BsonDocument filterOf(String commandName, BsonDocument command) {
+    BsonDocument filter = new BsonDocument();
+    switch (commandName) {
+      case "find" -> {
+        copy(command, "filter", filter);
+        copy(command, "sort", filter);
+      }
+      case "count", "distinct", "findAndModify" -> copy(command, "query", filter);
+      case "update" -> copyFirstStatement(command, "updates", filter);
+      case "delete" -> copyFirstStatement(command, "deletes", filter);
+      case "aggregate" -> copy(command, "pipeline", filter);
+      default -> {}
+    }
+    return filter;
+  }
+
+  private static void copy(BsonDocument command, String field, BsonDocument filter) {
+    BsonValue value = command.get(field);
+    if (value != null) {
+      filter.put(field, detached(value));
+    }
+  }
+
+  // Only the statement that is described, a bulk update may hold thousands.
+  private static void copyFirstStatement(BsonDocument command, String field, BsonDocument filter) {
+    BsonValue statements = command.get(field);
+    if (statements != null && statements.isArray() && !statements.asArray().isEmpty()) {
+      filter.put(field, new BsonArray(List.of(detached(statements.asArray().get(0)))));
+    }
+  }
+
+  private static BsonValue detached(BsonValue value) {
+    if (value.isDocument()) {
+      return value.asDocument().clone();
+    }
+    return value.isArray() ? value.asArray().clone() : value;
+  }
+
+  private static BsonValue firstStatement(BsonDocument command, String field, String key) {
+    BsonValue statements = command.get(field);
+    if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) {
+      return null;
+    }
+    BsonValue statement = statements.asArray().get(0);
+    return statement.isDocument() ? statement.asDocument().get(key) : null;
+  }
+
+  private static String withSort(String filterShape, BsonValue sort) {
+    if (sort == null || !sort.isDocument() || sort.asDocument().isEmpty()) {
+      return filterShape;
+    }
+    return filterShape + " sort " + sort.asDocument().toJson();
+  }
+
+  static String shapeOf(BsonValue value) {
+    if (value == null) {
+      return UNKNOWN;
+    }
+    if (value.isDocument()) {
+      StringJoiner joiner = new StringJoiner(", ", "{", "}");
+      value.asDocument().forEach((key, nested) -> joiner.add(key + ": " + shapeOf(nested)));
+      return joiner.toString();
+    }
+    if (value.isArray()) {
+      BsonArray array = value.asArray();
+      if (array.isEmpty()) {
+        return "[]";
+      }
+      if (!array.get(0).isDocument()) {
+        return array.size() > 1 ? "[?, ...]" : "[?]";
+      }
+      StringJoiner joiner = new StringJoiner(", ", "[", "]");
+      array.forEach(element -> joiner.add(shapeOf(element)));
+      return joiner.toString();
+    }
+    return "?";
+  }
+}
@@ -0,0 +1,39 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class MongoMetricsConfig {
+
+  @Bean
+  public MongoClientSettingsBuilderCustomizer mongoMetricsCustomizer(
+      MeterRegistry meterRegistry,
+      @Value("${mongo.metrics.slow-command-threshold:PT0.1S}") Duration slowCommandThreshold) {
+
+    MongoCommandMetricsListener commandListener =
+        new MongoCommandMetricsListener(meterRegistry, slowCommandThreshold);
+    MongoPoolMetricsListener poolListener = new MongoPoolMetricsListener(meterRegistry);
+
+    return builder ->
+        builder
+            .addCommandListener(commandListener)
+            .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolListener));
+  }
+
+  // Both clients get every customizer, and the synchronous client of the "blocking" profile rejects
+  // a Reactor context provider. Server-Timing is only served by the reactive stack anyway.
+  @Bean
+  @Profile("!blocking")
+  public MongoClientSettingsBuilderCustomizer serverTimingCustomizer() {
+    return builder ->
+        builder
+            .contextProvider(new ReactorContextProvider())
+            .addCommandListener(new ServerTimingCommandListener());
+  }
+}
@@ -0,0 +1,42 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/** Records how long operations wait to check a connection out of the Mongo pool. */
+public class MongoPoolMetricsListener implements ConnectionPoolListener {
+
+  public static final String CHECKOUT_TIMER_NAME = "mongodb.pool.checkout";
+
+  private final Timer checkedOut;
+  private final MeterRegistry meterRegistry;
+
+  public MongoPoolMetricsListener(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.checkedOut = checkoutTimer("success", "none");
+  }
+
+  @Override
+  public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+    checkedOut.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+    checkoutTimer("failed", event.getReason().name())
+        .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+  }
+
+  private Timer checkoutTimer(String outcome, String reason) {
+    return Timer.builder(CHECKOUT_TIMER_NAME)
+        .description("Time spent waiting for a connection from the MongoDB pool")
+        .tag("outcome", outcome)
+        .tag("reason", reason)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
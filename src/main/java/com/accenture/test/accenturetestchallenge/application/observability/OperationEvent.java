@@ -0,0 +1,27 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/** Flight Recorder event spanning one reactive operation, from subscription to termination. */
+@Category({"Accenture Test Challenge", "Operations"})
+@StackTrace(false)
+abstract class OperationEvent extends Event {
+
+  @Label("Component")
+  String component;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Franchise Id")
+  String franchiseId;
+
+  @Label("Documents")
+  long documents;
+
+  @Label("Outcome")
+  String outcome;
+}
@@ -0,0 +1,111 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Emits an {@link OperationEvent} for every publisher returned by the intercepted component.
+ * Nothing is allocated besides the event itself when Flight Recorder is not recording it.
+ */
+public class OperationEventInterceptor implements MethodInterceptor {
+
+  private static final int NO_FRANCHISE_ARGUMENT = -1;
+
+  private final String component;
+  private final Supplier<? extends OperationEvent> eventFactory;
+  private final Map<Method, Integer> franchiseArguments = new ConcurrentHashMap<>();
+
+  OperationEventInterceptor(String component, Supplier<? extends OperationEvent> eventFactory) {
+    this.component = component;
+    this.eventFactory = eventFactory;
+  }
+
+  public static OperationEventInterceptor forPort(String portName) {
+    return new OperationEventInterceptor(portName, PortOperationEvent::new);
+  }
+
+  public static OperationEventInterceptor forRepository(String repositoryName) {
+    return new OperationEventInterceptor(repositoryName, RepositoryQueryEvent::new);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object result = invocation.proceed();
+
+    if (result instanceof Mono<?> mono) {
+      return Mono.defer(() -> record(mono, invocation));
+    }
+    if (result instanceof Flux<?> flux) {
+      return Flux.defer(() -> record(flux, invocation));
+    }
+    return result;
+  }
+
+  private <T> Mono<T> record(Mono<T> mono, MethodInvocation invocation) {
+    OperationEvent event = eventFactory.get();
+    if (!event.isEnabled()) {
+      return mono;
+    }
+    begin(event, invocation);
+    return mono.doOnNext(value -> event.documents++)
+        .doFinally(signal -> commit(event, signal));
+  }
+
+  private <T> Flux<T> record(Flux<T> flux, MethodInvocation invocation) {
+    OperationEvent event = eventFactory.get();
+    if (!event.isEnabled()) {
+      return flux;
+    }
+    begin(event, invocation);
+    return flux.doOnNext(value -> event.documents++)
+        .doFinally(signal -> commit(event, signal));
+  }
+
+  private void begin(OperationEvent event, MethodInvocation invocation) {
+    event.component = component;
+    event.operation = invocation.getMethod().getName();
+    event.franchiseId = franchiseIdOf(invocation);
+    event.begin();
+  }
+
+  private void commit(OperationEvent event, SignalType signal) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.outcome =
+          switch (signal) {
+            case ON_COMPLETE -> "SUCCESS";
+            case ON_ERROR -> "ERROR";
+            default -> "CANCELLED";
+          };
+      event.commit();
+    }
+  }
+
+  private String franchiseIdOf(MethodInvocation invocation) {
+    int index =
+        franchiseArguments.computeIfAbsent(invocation.getMethod(), this::findFranchiseArgument);
+    if (index == NO_FRANCHISE_ARGUMENT) {
+      return null;
+    }
+    Object argument = invocation.getArguments()[index];
+    return argument instanceof String franchiseId ? franchiseId : null;
+  }
+
+  private int findFranchiseArgument(Method method) {
+    Parameter[] parameters = method.getParameters();
+    for (int i = 0; i < parameters.length; i++) {
+      if ("franchiseId".equals(parameters[i].getName())) {
+        return i;
+      }
+    }
+    return NO_FRANCHISE_ARGUMENT;
+  }
+}
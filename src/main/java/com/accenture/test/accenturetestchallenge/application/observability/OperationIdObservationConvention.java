@@ -0,0 +1,37 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.server.reactive.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+
+/** Adds the OpenAPI operationId of the handled endpoint to the HTTP server request metrics. */
+@Component
+public class OperationIdObservationConvention extends DefaultServerRequestObservationConvention {
+
+  private static final KeyValue NO_OPERATION = KeyValue.of("operationId", "none");
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+    return super.getLowCardinalityKeyValues(context).and(operationId(context));
+  }
+
+  private KeyValue operationId(ServerRequestObservationContext context) {
+    Object handler = context.getAttributes().get(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return NO_OPERATION;
+    }
+
+    Operation operation =
+        AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Operation.class);
+    if (operation != null && !operation.operationId().isEmpty()) {
+      return KeyValue.of("operationId", operation.operationId());
+    }
+    return KeyValue.of("operationId", handlerMethod.getMethod().getName());
+  }
+}
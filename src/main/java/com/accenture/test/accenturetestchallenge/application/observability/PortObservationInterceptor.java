@@ -0,0 +1,105 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Times the publisher returned by a port method from subscription until it terminates, tagging
+ * the observation with the port, the operation and its outcome.
+ */
+public class PortObservationInterceptor implements MethodInterceptor {
+
+  public static final String OBSERVATION_NAME = "port.operation";
+  public static final String ERROR_COUNTER_NAME = "port.operation.errors";
+
+  private static final String SUCCESS = "SUCCESS";
+  private static final String ERROR = "ERROR";
+  private static final String CANCELLED = "CANCELLED";
+
+  private final String portName;
+  private final ObservationRegistry observationRegistry;
+  private final MeterRegistry meterRegistry;
+
+  public PortObservationInterceptor(
+      String portName, ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+    this.portName = portName;
+    this.observationRegistry = observationRegistry;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    String operation = invocation.getMethod().getName();
+    Object result = invocation.proceed();
+
+    if (result instanceof Mono<?> mono) {
+      return observeMono(mono, operation);
+    }
+    if (result instanceof Flux<?> flux) {
+      return observeFlux(flux, operation);
+    }
+    return result;
+  }
+
+  private <T> Mono<T> observeMono(Mono<T> mono, String operation) {
+    return Mono.deferContextual(
+        contextView -> {
+          Observation observation = start(operation, contextView);
+          return mono.doOnSuccess(value -> outcome(observation, SUCCESS))
+              .doOnError(error -> failed(observation, operation, error))
+              .doOnCancel(() -> outcome(observation, CANCELLED))
+              .doFinally(signal -> observation.stop())
+              .contextWrite(
+                  context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+  }
+
+  private <T> Flux<T> observeFlux(Flux<T> flux, String operation) {
+    return Flux.deferContextual(
+        contextView -> {
+          Observation observation = start(operation, contextView);
+          return flux.doOnComplete(() -> outcome(observation, SUCCESS))
+              .doOnError(error -> failed(observation, operation, error))
+              .doOnCancel(() -> outcome(observation, CANCELLED))
+              .doFinally(signal -> observation.stop())
+              .contextWrite(
+                  context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+  }
+
+  private Observation start(String operation, ContextView contextView) {
+    Observation parent = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+
+    return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+        .contextualName(portName + "." + operation)
+        .lowCardinalityKeyValue("port", portName)
+        .lowCardinalityKeyValue("operation", operation)
+        .parentObservation(parent)
+        .start();
+  }
+
+  private void outcome(Observation observation, String outcome) {
+    observation.lowCardinalityKeyValue("outcome", outcome);
+  }
+
+  private void failed(Observation observation, String operation, Throwable error) {
+    outcome(observation, ERROR);
+    observation.error(error);
+
+    Counter.builder(ERROR_COUNTER_NAME)
+        .description("Port operations that completed with an error")
+        .tag("port", portName)
+        .tag("operation", operation)
+        .tag("exception", error.getClass().getSimpleName())
+        .register(meterRegistry)
+        .increment();
+  }
+}
@@ -0,0 +1,10 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.accenture.test.PortOperation")
+@Label("Port Operation")
+@Description("Call to a FranchisePort, BranchPort or ProductPort operation")
+class PortOperationEvent extends OperationEvent {}
@@ -0,0 +1,76 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import com.mongodb.RequestContext;
+import com.mongodb.reactivestreams.client.ReactiveContextProvider;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.reactivestreams.Subscriber;
+import reactor.core.CoreSubscriber;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Exposes the Reactor context of the subscriber running a Mongo operation to the driver event
+ * listeners through {@link RequestContext}.
+ */
+public class ReactorContextProvider implements ReactiveContextProvider {
+
+  @Override
+  public RequestContext getContext(Subscriber<?> subscriber) {
+    if (subscriber instanceof CoreSubscriber<?> coreSubscriber) {
+      return new ReactorRequestContext(coreSubscriber.currentContext());
+    }
+    return new ReactorRequestContext(Context.empty());
+  }
+
+  private static final class ReactorRequestContext implements RequestContext {
+
+    private final ContextView contextView;
+    private final Map<Object, Object> entries = new HashMap<>();
+
+    private ReactorRequestContext(ContextView contextView) {
+      this.contextView = contextView;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(Object key) {
+      Object value = entries.get(key);
+      return (T) (value != null ? value : contextView.getOrDefault(key, null));
+    }
+
+    @Override
+    public synchronized boolean hasKey(Object key) {
+      return entries.containsKey(key) || contextView.hasKey(key);
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+      return entries.isEmpty() && contextView.isEmpty();
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+      entries.put(key, value);
+    }
+
+    @Override
+    public synchronized void delete(Object key) {
+      entries.remove(key);
+    }
+
+    @Override
+    public synchronized int size() {
+      return (int) stream().count();
+    }
+
+    @Override
+    public synchronized Stream<Map.Entry<Object, Object>> stream() {
+      Map<Object, Object> merged = new HashMap<>();
+      contextView.stream().forEach(entry -> merged.put(entry.getKey(), entry.getValue()));
+      merged.putAll(entries);
+      return merged.entrySet().stream();
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.accenture.test.RepositoryQuery")
+@Label("Repository Query")
+@Description("Call to a Mongo repository method")
+class RepositoryQueryEvent extends OperationEvent {}
@@ -0,0 +1,40 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mongo round trips and database time of a single request. Only present in the Reactor context
+ * of the requests that asked for a {@code Server-Timing} header.
+ */
+public class RequestTimings {
+
+  public static final String CONTEXT_KEY = RequestTimings.class.getName();
+
+  private final long startNanos = System.nanoTime();
+  private final AtomicInteger roundTrips = new AtomicInteger();
+  private final AtomicLong databaseNanos = new AtomicLong();
+
+  public void recordRoundTrip(long elapsedNanos) {
+    roundTrips.incrementAndGet();
+    databaseNanos.addAndGet(elapsedNanos);
+  }
+
+  public int getRoundTrips() {
+    return roundTrips.get();
+  }
+
+  public String toServerTiming() {
+    return String.format(
+        Locale.ROOT,
+        "handler;dur=%.2f, db;dur=%.2f, db-round-trips;desc=\"%d\"",
+        toMillis(System.nanoTime() - startNanos),
+        toMillis(databaseNanos.get()),
+        roundTrips.get());
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -0,0 +1,29 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import com.mongodb.RequestContext;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import java.util.concurrent.TimeUnit;
+
+/** Adds every finished Mongo command to the {@link RequestTimings} of the request that ran it. */
+public class ServerTimingCommandListener implements CommandListener {
+
+  @Override
+  public void commandSucceeded(CommandSucceededEvent event) {
+    record(event.getRequestContext(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+  }
+
+  @Override
+  public void commandFailed(CommandFailedEvent event) {
+    record(event.getRequestContext(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+  }
+
+  private void record(RequestContext requestContext, long elapsedNanos) {
+    if (requestContext == null || !requestContext.hasKey(RequestTimings.CONTEXT_KEY)) {
+      return;
+    }
+    RequestTimings timings = requestContext.get(RequestTimings.CONTEXT_KEY);
+    timings.recordRoundTrip(elapsedNanos);
+  }
+}
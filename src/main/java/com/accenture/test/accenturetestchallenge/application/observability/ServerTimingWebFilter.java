@@ -0,0 +1,42 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adds a {@code Server-Timing} header with the handler time, the Mongo round trips and the
+ * database time to the requests sent with {@code X-Server-Timing: true}. Other requests go
+ * through untouched.
+ */
+@Component
+public class ServerTimingWebFilter implements WebFilter {
+
+  public static final String TOGGLE_HEADER = "X-Server-Timing";
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!"true".equalsIgnoreCase(exchange.getRequest().getHeaders().getFirst(TOGGLE_HEADER))) {
+      return chain.filter(exchange);
+    }
+
+    RequestTimings timings = new RequestTimings();
+    exchange
+        .getResponse()
+        .beforeCommit(
+            () -> {
+              exchange
+                  .getResponse()
+                  .getHeaders()
+                  .set(SERVER_TIMING_HEADER, timings.toServerTiming());
+              return Mono.empty();
+            });
+
+    return chain
+        .filter(exchange)
+        .contextWrite(context -> context.put(RequestTimings.CONTEXT_KEY, timings));
+  }
+}
@@ -0,0 +1,30 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+@Configuration
+public class TracingConfig {
+
+  /**
+   * Creates a span per Mongo command. The parent span is read from the Reactor context exposed by
+   * the {@link ReactorContextProvider} registered for the Server-Timing header.
+   */
+  @Bean
+  public MongoClientSettingsBuilderCustomizer mongoTracingCustomizer(
+      ObservationRegistry observationRegistry) {
+    return builder ->
+        builder.addCommandListener(new MongoObservationCommandListener(observationRegistry));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "tracing.logging-exporter.enabled", havingValue = "true")
+  public LoggingSpanExporter loggingSpanExporter() {
+    return LoggingSpanExporter.create();
+  }
+}
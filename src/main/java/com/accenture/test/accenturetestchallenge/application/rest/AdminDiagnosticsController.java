@@ -0,0 +1,56 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.api.AdminApi;
+import com.accenture.test.accenturetestchallenge.application.diagnostics.DiagnosticsService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("!blocking")
+@RequiredArgsConstructor
+public class AdminDiagnosticsController implements AdminApi {
+
+  private final DiagnosticsService diagnosticsService;
+
+  @Override
+  public Mono<ResponseEntity<Resource>> recordFlightRecording(
+      Integer durationSeconds, String profile, ServerWebExchange exchange) {
+
+    return diagnosticsService
+        .recordFlightRecording(Duration.ofSeconds(durationSeconds), profile)
+        .map(
+            recording ->
+                ResponseEntity.status(HttpStatus.OK)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                            .filename("recording.jfr")
+                            .build()
+                            .toString())
+                    .body(recording));
+  }
+
+  @Override
+  public Mono<ResponseEntity<String>> getClassHistogram(ServerWebExchange exchange) {
+    return diagnosticsService
+        .getClassHistogram()
+        .map(
+            histogram ->
+                ResponseEntity.status(HttpStatus.OK)
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(histogram));
+  }
+}
@@ -0,0 +1,46 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.blocking.api.AdminApi;
+import com.accenture.test.accenturetestchallenge.application.diagnostics.DiagnosticsService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingAdminDiagnosticsController implements AdminApi {
+
+  private final DiagnosticsService diagnosticsService;
+
+  @Override
+  public ResponseEntity<Resource> recordFlightRecording(Integer durationSeconds, String profile) {
+    Resource recording =
+        diagnosticsService
+            .recordFlightRecording(Duration.ofSeconds(durationSeconds), profile)
+            .block();
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("recording.jfr").build().toString())
+        .body(recording);
+  }
+
+  @Override
+  public ResponseEntity<String> getClassHistogram() {
+    return ResponseEntity.status(HttpStatus.OK)
+        .contentType(MediaType.TEXT_PLAIN)
+        .body(diagnosticsService.getClassHistogram().block());
+  }
+}
@@ -0,0 +1,73 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.BranchRequest;
+import com.accenture.test.accenturetestchallenge.application.BranchResponse;
+import com.accenture.test.accenturetestchallenge.application.DeletionJobResponse;
+import com.accenture.test.accenturetestchallenge.application.InventoryStatsResponse;
+import com.accenture.test.accenturetestchallenge.application.LowStockThresholdRequest;
+import com.accenture.test.accenturetestchallenge.application.blocking.api.BranchApi;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingBranchesController implements BranchApi {
+
+  private final BranchPort branchPort;
+  private final InventoryStatsPort inventoryStatsPort;
+
+  @Override
+  public ResponseEntity<BranchResponse> addBranch(String franchiseId, BranchRequest branchRequest) {
+    return branchPort
+        .createBranch(franchiseId, branchRequest.getName())
+        .map(BranchesController::mapDomainToResponse)
+        .map(branchResponse -> ResponseEntity.status(HttpStatus.CREATED).body(branchResponse))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<BranchResponse> updateBranch(
+      String franchiseId, String branchId, BranchRequest branchRequest) {
+    return branchPort
+        .updateBranchName(franchiseId, branchId, branchRequest.getName())
+        .map(BranchesController::mapDomainToResponse)
+        .map(branchResponse -> ResponseEntity.status(HttpStatus.OK).body(branchResponse))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<BranchResponse> updateLowStockThreshold(
+      String franchiseId, String branchId, LowStockThresholdRequest lowStockThresholdRequest) {
+    return branchPort
+        .updateLowStockThreshold(franchiseId, branchId, lowStockThresholdRequest.getThreshold())
+        .map(BranchesController::mapDomainToResponse)
+        .map(branchResponse -> ResponseEntity.status(HttpStatus.OK).body(branchResponse))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<DeletionJobResponse> deleteBranch(String franchiseId, String branchId) {
+    return branchPort
+        .deleteBranch(franchiseId, branchId)
+        .map(DeletionJobsController::accepted)
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<InventoryStatsResponse> getBranchStats(
+      String franchiseId, String branchId) {
+    return inventoryStatsPort
+        .getBranchStats(franchiseId, branchId)
+        .map(BranchesController::mapStatsToResponse)
+        .map(statsResponse -> ResponseEntity.status(HttpStatus.OK).body(statsResponse))
+        .block();
+  }
+}
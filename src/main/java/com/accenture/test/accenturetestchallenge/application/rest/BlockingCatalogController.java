@@ -0,0 +1,132 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.CatalogImportEventResponse;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.ports.CatalogExportPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.CatalogImportPort;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Catalog import and export for the "blocking" profile. Like {@link BlockingStockAlertsController}
+ * it does not implement the generated {@code CatalogApi}, whose blocking signatures hold the whole
+ * file in a list. The import reads the request body line by line as it asks for more rows and
+ * streams its events asynchronously. The export gzips the lines straight into the response stream.
+ */
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingCatalogController {
+
+  private static final int EXPORT_PREFETCH = 256;
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private final ObjectProvider<CatalogImportPort> catalogImportPort;
+  private final ObjectProvider<CatalogExportPort> catalogExportPort;
+
+  @PostMapping(
+      value = "/admin/franchise/{franchiseId}/product/import",
+      consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<Flux<CatalogImportEventResponse>> importProducts(
+      @PathVariable("franchiseId") String franchiseId, HttpServletRequest request) {
+
+    CatalogImportPort importPort = catalogImportPort.getIfAvailable();
+    if (importPort == null) {
+      log.warn("Catalog import requested but it is not available with the active profiles");
+      throw new IllegalStateException("Catalog import is not available");
+    }
+
+    Flux<String> lines =
+        Flux.using(
+                () ->
+                    new BufferedReader(
+                        new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)),
+                reader -> Flux.fromStream(reader.lines()),
+                BlockingCatalogController::close)
+            .subscribeOn(Schedulers.boundedElastic());
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            importPort
+                .importProducts(
+                    franchiseId,
+                    CatalogController.formatOf(MediaType.parseMediaType(request.getContentType())),
+                    lines)
+                .map(CatalogController::mapDomainToResponse));
+  }
+
+  @GetMapping(
+      value = "/admin/franchise/{franchiseId}/product/export",
+      produces = "application/gzip")
+  public ResponseEntity<StreamingResponseBody> exportProducts(
+      @PathVariable("franchiseId") String franchiseId,
+      @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format) {
+
+    CatalogExportPort exportPort = catalogExportPort.getIfAvailable();
+    if (exportPort == null) {
+      log.warn("Catalog export requested but it is not available with the active profiles");
+      throw new IllegalStateException("Catalog export is not available");
+    }
+
+    CatalogFileFormat fileFormat = CatalogController.parseFormat(format);
+    Stream<String> lines =
+        exportPort.exportProducts(franchiseId, fileFormat).toStream(EXPORT_PREFETCH);
+    Iterator<String> iterator = lines.iterator();
+    // Waits for the first line, so an unknown franchise fails before the response is committed.
+    iterator.hasNext();
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .contentType(CatalogController.GZIP)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            CatalogController.exportDisposition(franchiseId, fileFormat))
+        .body(
+            outputStream -> {
+              // Closing the stream cancels the cursor when the client goes away.
+              try (lines;
+                  Writer writer =
+                      new OutputStreamWriter(
+                          new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE),
+                          StandardCharsets.UTF_8)) {
+                while (iterator.hasNext()) {
+                  writer.write(iterator.next());
+                }
+              }
+            });
+  }
+
+  private static void close(BufferedReader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.DeletionJobResponse;
+import com.accenture.test.accenturetestchallenge.application.blocking.api.DeletionJobApi;
+import com.accenture.test.accenturetestchallenge.domain.ports.DeletionJobPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingDeletionJobsController implements DeletionJobApi {
+
+  private final DeletionJobPort deletionJobPort;
+
+  @Override
+  public ResponseEntity<DeletionJobResponse> getDeletionJob(String jobId) {
+    return deletionJobPort
+        .getDeletionJob(jobId)
+        .map(DeletionJobsController::mapDomainToResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+        .block();
+  }
+}
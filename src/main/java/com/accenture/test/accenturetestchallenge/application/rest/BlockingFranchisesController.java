@@ -0,0 +1,58 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.DeletionJobResponse;
+import com.accenture.test.accenturetestchallenge.application.FranchiseRequest;
+import com.accenture.test.accenturetestchallenge.application.FranchiseResponse;
+import com.accenture.test.accenturetestchallenge.application.InventoryStatsResponse;
+import com.accenture.test.accenturetestchallenge.application.blocking.api.FranchiseApi;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingFranchisesController implements FranchiseApi {
+
+  private final FranchisePort franchisePort;
+  private final InventoryStatsPort inventoryStatsPort;
+
+  @Override
+  public ResponseEntity<FranchiseResponse> createFranchise(FranchiseRequest franchiseRequest) {
+    return franchisePort
+        .createFranchise(franchiseRequest.getName())
+        .map(FranchisesController::mapDomainToResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<FranchiseResponse> updateFranchise(
+      String franchiseId, FranchiseRequest franchiseRequest) {
+    return franchisePort
+        .updateFranchiseName(franchiseId, franchiseRequest.getName())
+        .map(FranchisesController::mapDomainToResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<DeletionJobResponse> deleteFranchise(String franchiseId) {
+    return franchisePort.deleteFranchise(franchiseId).map(DeletionJobsController::accepted).block();
+  }
+
+  @Override
+  public ResponseEntity<InventoryStatsResponse> getFranchiseStats(String franchiseId) {
+    return inventoryStatsPort
+        .getFranchiseStats(franchiseId)
+        .map(FranchisesController::mapStatsToResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+        .block();
+  }
+}
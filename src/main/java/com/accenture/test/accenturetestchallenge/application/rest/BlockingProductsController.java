@@ -0,0 +1,119 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.ProductRequest;
+import com.accenture.test.accenturetestchallenge.application.ProductResponse;
+import com.accenture.test.accenturetestchallenge.application.ProductSummaryResponse;
+import com.accenture.test.accenturetestchallenge.application.TopProductResponse;
+import com.accenture.test.accenturetestchallenge.application.UpdateProductNameRequest;
+import com.accenture.test.accenturetestchallenge.application.UpdateStockRequest;
+import com.accenture.test.accenturetestchallenge.application.blocking.api.ProductApi;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingProductsController implements ProductApi {
+
+  private final ProductPort productPort;
+
+  @Override
+  public ResponseEntity<ProductResponse> addProduct(
+      String franchiseId, String branchId, ProductRequest productRequest) {
+    return productPort
+        .createProduct(franchiseId, branchId, ProductsController.buildProduct(productRequest))
+        .map(ProductsController::mapDomainToResponse)
+        .map(productResponse -> ResponseEntity.status(HttpStatus.CREATED).body(productResponse))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<Void> deleteProduct(
+      String franchiseId, String branchId, String productId) {
+    productPort.deleteProduct(franchiseId, branchId, productId).block();
+    return ResponseEntity.status(HttpStatus.OK).build();
+  }
+
+  @Override
+  public ResponseEntity<ProductResponse> updateProductStock(
+      String franchiseId,
+      String branchId,
+      String productId,
+      UpdateStockRequest updateStockRequest) {
+    return productPort
+        .updateProductStock(franchiseId, branchId, productId, updateStockRequest.getStock())
+        .map(ProductsController::mapDomainToResponse)
+        .map(productResponse -> ResponseEntity.status(HttpStatus.OK).body(productResponse))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<ProductResponse> updateProductName(
+      String franchiseId,
+      String branchId,
+      String productId,
+      UpdateProductNameRequest updateProductNameRequest) {
+    return productPort
+        .updateProductName(franchiseId, branchId, productId, updateProductNameRequest.getName())
+        .map(ProductsController::mapDomainToResponse)
+        .map(productResponse -> ResponseEntity.status(HttpStatus.OK).body(productResponse))
+        .block();
+  }
+
+  @Override
+  public ResponseEntity<List<TopProductResponse>> getTopProductsByBranch(String franchiseId) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            productPort
+                .getTopProductsByFranchise(franchiseId)
+                .map(ProductsController::mapDomainToResponseTopProduct)
+                .collectList()
+                .block());
+  }
+
+  @Override
+  public ResponseEntity<List<ProductSummaryResponse>> getFranchiseTopProducts(
+      String franchiseId, Integer limit) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            productPort
+                .getTopProductsAcrossBranches(franchiseId, limit)
+                .map(ProductsController::mapDomainToSummaryResponse)
+                .collectList()
+                .block());
+  }
+
+  @Override
+  public ResponseEntity<List<ProductSummaryResponse>> getGlobalTopProducts(Integer limit) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            productPort
+                .getTopProductsAcrossFranchises(limit)
+                .map(ProductsController::mapDomainToSummaryResponse)
+                .collectList()
+                .block());
+  }
+
+  @Override
+  public ResponseEntity<List<ProductSummaryResponse>> searchProducts(
+      String franchiseId, String q, String mode, String branchId, Integer limit) {
+    ProductSearchMode searchMode = ProductSearchMode.valueOf(mode.toUpperCase(Locale.ROOT));
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            productPort
+                .searchProducts(franchiseId, branchId, q, searchMode, limit)
+                .map(ProductsController::mapDomainToSummaryResponse)
+                .collectList()
+                .block());
+  }
+}
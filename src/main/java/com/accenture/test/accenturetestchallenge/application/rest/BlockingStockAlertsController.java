@@ -0,0 +1,61 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.StockAlertResponse;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Stock alerts for the "blocking" profile. Unlike the other blocking controllers it does not
+ * implement the generated {@code AlertApi}: its blocking signature returns a list, which cannot
+ * serve the server-sent events of {@code streamStockAlerts}. Spring MVC streams the {@link Flux}
+ * asynchronously instead, so an open stream does not hold a request thread.
+ */
+@Slf4j
+@RestController
+@Profile("blocking")
+@RequiredArgsConstructor
+public class BlockingStockAlertsController {
+
+  private final StockAlertPort stockAlertPort;
+
+  @GetMapping(
+      value = "/franchise/{franchiseId}/alerts",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<StockAlertResponse>> getStockAlerts(
+      @PathVariable("franchiseId") String franchiseId,
+      @RequestParam(value = "branchId", required = false) String branchId,
+      @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit) {
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            stockAlertPort
+                .getAlerts(franchiseId, branchId, limit)
+                .map(StockAlertsController::mapDomainToResponse)
+                .collectList()
+                .block());
+  }
+
+  @GetMapping(
+      value = "/franchise/{franchiseId}/alerts/stream",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<Flux<StockAlertResponse>> streamStockAlerts(
+      @PathVariable("franchiseId") String franchiseId) {
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(
+            stockAlertPort
+                .streamAlerts(franchiseId)
+                .map(StockAlertsController::mapDomainToResponse));
+  }
+}
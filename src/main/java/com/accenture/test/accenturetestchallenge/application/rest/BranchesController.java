@@ -2,11 +2,19 @@ package com.accenture.test.accenturetestchallenge.application.rest;
 
 import com.accenture.test.accenturetestchallenge.application.BranchRequest;
 import com.accenture.test.accenturetestchallenge.application.BranchResponse;
+import com.accenture.test.accenturetestchallenge.application.DeletionJobResponse;
+import com.accenture.test.accenturetestchallenge.application.InventoryStatsResponse;
+import com.accenture.test.accenturetestchallenge.application.LowStockThresholdRequest;
 import com.accenture.test.accenturetestchallenge.application.api.BranchApi;
 import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
 import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,10 +23,12 @@ import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
+@Profile("!blocking")
 @RequiredArgsConstructor
 public class BranchesController implements BranchApi {
 
   private final BranchPort branchPort;
+  private final InventoryStatsPort inventoryStatsPort;
 
   @Override
   public Mono<ResponseEntity<BranchResponse>> addBranch(
@@ -27,15 +37,18 @@ public class BranchesController implements BranchApi {
     return branchRequest
         .map(BranchRequest::getName)
         .flatMap(branch -> branchPort.createBranch(franchiseId, branch))
-        .map(this::mapDomainToResponse)
+        .map(BranchesController::mapDomainToResponse)
         .map(branchResponse -> ResponseEntity.status(HttpStatus.CREATED).body(branchResponse));
   }
 
-  private BranchResponse mapDomainToResponse(Branch branch) {
+  static BranchResponse mapDomainToResponse(Branch branch) {
     BranchResponse branchResponse = new BranchResponse();
     branchResponse.setName(branch.getName());
     branchResponse.setId(branch.getId());
     branchResponse.setFranchiseId(branch.getFranchiseId());
+    branchResponse.setProductCount(branch.getProductCount());
+    branchResponse.setTotalStock(branch.getTotalStock());
+    branchResponse.setLowStockThreshold(branch.getLowStockThreshold());
     return branchResponse;
   }
 
@@ -49,7 +62,55 @@ public class BranchesController implements BranchApi {
     return branchRequest
         .map(BranchRequest::getName)
         .flatMap(newBranchName -> branchPort.updateBranchName(franchiseId, branchId, newBranchName))
-        .map(this::mapDomainToResponse)
+        .map(BranchesController::mapDomainToResponse)
         .map(branchResponse -> ResponseEntity.status(HttpStatus.OK).body(branchResponse));
   }
+
+  @Override
+  public Mono<ResponseEntity<BranchResponse>> updateLowStockThreshold(
+      String franchiseId,
+      String branchId,
+      Mono<LowStockThresholdRequest> lowStockThresholdRequest,
+      ServerWebExchange exchange) {
+
+    return lowStockThresholdRequest
+        .flatMap(
+            request ->
+                branchPort.updateLowStockThreshold(franchiseId, branchId, request.getThreshold()))
+        .map(BranchesController::mapDomainToResponse)
+        .map(branchResponse -> ResponseEntity.status(HttpStatus.OK).body(branchResponse));
+  }
+
+  @Override
+  public Mono<ResponseEntity<DeletionJobResponse>> deleteBranch(
+      String franchiseId, String branchId, ServerWebExchange exchange) {
+
+    return branchPort.deleteBranch(franchiseId, branchId).map(DeletionJobsController::accepted);
+  }
+
+  @Override
+  public Mono<ResponseEntity<InventoryStatsResponse>> getBranchStats(
+      String franchiseId, String branchId, ServerWebExchange exchange) {
+
+    return inventoryStatsPort
+        .getBranchStats(franchiseId, branchId)
+        .map(BranchesController::mapStatsToResponse)
+        .map(statsResponse -> ResponseEntity.status(HttpStatus.OK).body(statsResponse));
+  }
+
+  static InventoryStatsResponse mapStatsToResponse(InventoryStats stats) {
+    InventoryStatsResponse statsResponse = new InventoryStatsResponse();
+    statsResponse.setFranchiseId(stats.getFranchiseId());
+    statsResponse.setBranchId(stats.getBranchId());
+    statsResponse.setProductCount(stats.getProductCount());
+    statsResponse.setTotalStock(stats.getTotalStock());
+    statsResponse.setMinStock(stats.getMinStock());
+    statsResponse.setMaxStock(stats.getMaxStock());
+    statsResponse.setOutOfStockCount(stats.getOutOfStockCount());
+    if (stats.getRefreshedAt() != null) {
+      statsResponse.setRefreshedAt(
+          OffsetDateTime.ofInstant(stats.getRefreshedAt(), ZoneOffset.UTC));
+    }
+    return statsResponse;
+  }
 }
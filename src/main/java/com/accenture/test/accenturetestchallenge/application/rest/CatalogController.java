@@ -0,0 +1,114 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.CatalogImportEventResponse;
+import com.accenture.test.accenturetestchallenge.application.api.CatalogApi;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogImportEvent;
+import com.accenture.test.accenturetestchallenge.domain.ports.CatalogExportPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.CatalogImportPort;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("!blocking")
+@RequiredArgsConstructor
+public class CatalogController implements CatalogApi {
+
+  static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+  static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+  private final ObjectProvider<CatalogImportPort> catalogImportPort;
+  private final ObjectProvider<CatalogExportPort> catalogExportPort;
+
+  // The request body is decoded line by line as the import requests more rows.
+  @Override
+  public Mono<ResponseEntity<Flux<CatalogImportEventResponse>>> importProducts(
+      String franchiseId, Flux<String> lines, ServerWebExchange exchange) {
+
+    return Mono.fromCallable(
+        () ->
+            ResponseEntity.status(HttpStatus.OK)
+                .body(
+                    importPort()
+                        .importProducts(
+                            franchiseId,
+                            formatOf(exchange.getRequest().getHeaders().getContentType()),
+                            lines)
+                        .map(CatalogController::mapDomainToResponse)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<byte[]>>> exportProducts(
+      String franchiseId, String format, ServerWebExchange exchange) {
+
+    return Mono.fromCallable(
+        () -> {
+          CatalogFileFormat fileFormat = parseFormat(format);
+          return ResponseEntity.status(HttpStatus.OK)
+              .contentType(GZIP)
+              .header(HttpHeaders.CONTENT_DISPOSITION, exportDisposition(franchiseId, fileFormat))
+              .body(GzipStreams.gzip(exportPort().exportProducts(franchiseId, fileFormat)));
+        });
+  }
+
+  private CatalogImportPort importPort() {
+    CatalogImportPort importPort = catalogImportPort.getIfAvailable();
+    if (importPort == null) {
+      log.warn("Catalog import requested but it is not available with the active profiles");
+      throw new IllegalStateException("Catalog import is not available");
+    }
+    return importPort;
+  }
+
+  private CatalogExportPort exportPort() {
+    CatalogExportPort exportPort = catalogExportPort.getIfAvailable();
+    if (exportPort == null) {
+      log.warn("Catalog export requested but it is not available with the active profiles");
+      throw new IllegalStateException("Catalog export is not available");
+    }
+    return exportPort;
+  }
+
+  static CatalogFileFormat parseFormat(String format) {
+    return format == null
+        ? CatalogFileFormat.NDJSON
+        : CatalogFileFormat.valueOf(format.toUpperCase(Locale.ROOT));
+  }
+
+  static String exportDisposition(String franchiseId, CatalogFileFormat format) {
+    return ContentDisposition.attachment()
+        .filename("products-" + franchiseId + "." + format.name().toLowerCase(Locale.ROOT) + ".gz")
+        .build()
+        .toString();
+  }
+
+  static CatalogFileFormat formatOf(MediaType contentType) {
+    return contentType != null && TEXT_CSV.isCompatibleWith(contentType)
+        ? CatalogFileFormat.CSV
+        : CatalogFileFormat.NDJSON;
+  }
+
+  static CatalogImportEventResponse mapDomainToResponse(CatalogImportEvent event) {
+    CatalogImportEventResponse response = new CatalogImportEventResponse();
+    response.setType(event.getType().name());
+    response.setLine(event.getLine());
+    response.setMessage(event.getMessage());
+    response.setRowsRead(event.getRowsRead());
+    response.setImported(event.getImported());
+    response.setFailed(event.getFailed());
+    return response;
+  }
+}
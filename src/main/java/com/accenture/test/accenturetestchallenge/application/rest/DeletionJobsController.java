@@ -0,0 +1,63 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.DeletionJobResponse;
+import com.accenture.test.accenturetestchallenge.application.api.DeletionJobApi;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.ports.DeletionJobPort;
+import java.net.URI;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("!blocking")
+@RequiredArgsConstructor
+public class DeletionJobsController implements DeletionJobApi {
+
+  private final DeletionJobPort deletionJobPort;
+
+  @Override
+  public Mono<ResponseEntity<DeletionJobResponse>> getDeletionJob(
+      String jobId, ServerWebExchange exchange) {
+
+    return deletionJobPort
+        .getDeletionJob(jobId)
+        .map(DeletionJobsController::mapDomainToResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  /** Response to a started deletion, pointing to the job. */
+  static ResponseEntity<DeletionJobResponse> accepted(DeletionJob job) {
+    return ResponseEntity.accepted()
+        .location(URI.create("/admin/deletion-jobs/" + job.getId()))
+        .body(mapDomainToResponse(job));
+  }
+
+  static DeletionJobResponse mapDomainToResponse(DeletionJob job) {
+    DeletionJobResponse jobResponse = new DeletionJobResponse();
+    jobResponse.setId(job.getId());
+    jobResponse.setFranchiseId(job.getFranchiseId());
+    jobResponse.setBranchId(job.getBranchId());
+    jobResponse.setStatus(job.getStatus().name());
+    jobResponse.setExpectedProducts(job.getExpectedProducts());
+    jobResponse.setDeletedProducts(job.getDeletedProducts());
+    jobResponse.setDeletedBranches(job.getDeletedBranches());
+    jobResponse.setStartedAt(toOffsetDateTime(job.getStartedAt()));
+    jobResponse.setFinishedAt(toOffsetDateTime(job.getFinishedAt()));
+    jobResponse.setError(job.getError());
+    return jobResponse;
+  }
+
+  private static OffsetDateTime toOffsetDateTime(Instant instant) {
+    return instant == null ? null : OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
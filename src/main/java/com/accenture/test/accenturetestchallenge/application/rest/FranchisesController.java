@@ -1,12 +1,19 @@
 package com.accenture.test.accenturetestchallenge.application.rest;
 
+import com.accenture.test.accenturetestchallenge.application.DeletionJobResponse;
 import com.accenture.test.accenturetestchallenge.application.FranchiseRequest;
 import com.accenture.test.accenturetestchallenge.application.FranchiseResponse;
+import com.accenture.test.accenturetestchallenge.application.InventoryStatsResponse;
 import com.accenture.test.accenturetestchallenge.application.api.FranchiseApi;
 import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
 import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,10 +22,12 @@ import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
+@Profile("!blocking")
 @RequiredArgsConstructor
 public class FranchisesController implements FranchiseApi {
 
   private final FranchisePort franchisePort;
+  private final InventoryStatsPort inventoryStatsPort;
 
   @Override
   public Mono<ResponseEntity<FranchiseResponse>> createFranchise(
@@ -27,11 +36,11 @@ public class FranchisesController implements FranchiseApi {
     return franchiseRequestMono
         .map(FranchiseRequest::getName)
         .flatMap(franchisePort::createFranchise)
-        .map(this::mapDomainToResponse)
+        .map(FranchisesController::mapDomainToResponse)
         .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
   }
 
-  private FranchiseResponse mapDomainToResponse(Franchise franchise) {
+  static FranchiseResponse mapDomainToResponse(Franchise franchise) {
     FranchiseResponse franchiseResponse = new FranchiseResponse();
     franchiseResponse.setName(franchise.getName());
     franchiseResponse.setId(franchise.getId());
@@ -46,7 +55,40 @@ public class FranchisesController implements FranchiseApi {
         .map(FranchiseRequest::getName)
         .flatMap(
             newFranchiseName -> franchisePort.updateFranchiseName(franchiseId, newFranchiseName))
-        .map(this::mapDomainToResponse)
+        .map(FranchisesController::mapDomainToResponse)
         .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
   }
+
+  @Override
+  public Mono<ResponseEntity<DeletionJobResponse>> deleteFranchise(
+      String franchiseId, ServerWebExchange exchange) {
+
+    return franchisePort.deleteFranchise(franchiseId).map(DeletionJobsController::accepted);
+  }
+
+  @Override
+  public Mono<ResponseEntity<InventoryStatsResponse>> getFranchiseStats(
+      String franchiseId, ServerWebExchange exchange) {
+
+    return inventoryStatsPort
+        .getFranchiseStats(franchiseId)
+        .map(FranchisesController::mapStatsToResponse)
+        .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+  }
+
+  static InventoryStatsResponse mapStatsToResponse(InventoryStats stats) {
+    InventoryStatsResponse statsResponse = new InventoryStatsResponse();
+    statsResponse.setFranchiseId(stats.getFranchiseId());
+    statsResponse.setBranchId(stats.getBranchId());
+    statsResponse.setProductCount(stats.getProductCount());
+    statsResponse.setTotalStock(stats.getTotalStock());
+    statsResponse.setMinStock(stats.getMinStock());
+    statsResponse.setMaxStock(stats.getMaxStock());
+    statsResponse.setOutOfStockCount(stats.getOutOfStockCount());
+    if (stats.getRefreshedAt() != null) {
+      statsResponse.setRefreshedAt(
+          OffsetDateTime.ofInstant(stats.getRefreshedAt(), ZoneOffset.UTC));
+    }
+    return statsResponse;
+  }
 }
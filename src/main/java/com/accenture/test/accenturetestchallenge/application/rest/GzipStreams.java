@@ -0,0 +1,74 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gzips text as it is emitted. Compressed bytes are passed on as soon as the deflater produces
+ * them, so only its window and the block being compressed are held in memory.
+ */
+final class GzipStreams {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private GzipStreams() {}
+
+  static Flux<byte[]> gzip(Flux<String> text) {
+    return Flux.using(
+        Compressor::new,
+        compressor ->
+            text.<byte[]>handle(
+                    (chunk, sink) -> {
+                      byte[] bytes = compressor.compress(chunk);
+                      if (bytes != null) {
+                        sink.next(bytes);
+                      }
+                    })
+                .concatWith(Mono.fromCallable(compressor::finish)),
+        Compressor::close);
+  }
+
+  private static final class Compressor {
+
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(BUFFER_SIZE);
+    private final GZIPOutputStream gzip;
+
+    Compressor() throws IOException {
+      this.gzip = new GZIPOutputStream(compressed, BUFFER_SIZE);
+    }
+
+    /** Returns the bytes compressed so far, or null while the deflater is still buffering. */
+    byte[] compress(String chunk) {
+      try {
+        gzip.write(chunk.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return compressed.size() == 0 ? null : drain();
+    }
+
+    byte[] finish() throws IOException {
+      gzip.finish();
+      return drain();
+    }
+
+    void close() {
+      try {
+        gzip.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private byte[] drain() {
+      byte[] bytes = compressed.toByteArray();
+      compressed.reset();
+      return bytes;
+    }
+  }
+}
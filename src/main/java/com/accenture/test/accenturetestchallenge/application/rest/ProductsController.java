@@ -2,14 +2,18 @@ package com.accenture.test.accenturetestchallenge.application.rest;
 
 import com.accenture.test.accenturetestchallenge.application.ProductRequest;
 import com.accenture.test.accenturetestchallenge.application.ProductResponse;
+import com.accenture.test.accenturetestchallenge.application.ProductSummaryResponse;
 import com.accenture.test.accenturetestchallenge.application.TopProductResponse;
 import com.accenture.test.accenturetestchallenge.application.UpdateProductNameRequest;
 import com.accenture.test.accenturetestchallenge.application.UpdateStockRequest;
 import com.accenture.test.accenturetestchallenge.application.api.ProductApi;
 import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
 import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,6 +23,7 @@ import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
+@Profile("!blocking")
 @RequiredArgsConstructor
 public class ProductsController implements ProductApi {
 
@@ -31,9 +36,9 @@ public class ProductsController implements ProductApi {
       Mono<ProductRequest> productRequest,
       ServerWebExchange exchange) {
     return productRequest
-        .map(this::buildProduct)
+        .map(ProductsController::buildProduct)
         .flatMap(product -> productPort.createProduct(franchiseId, branchId, product))
-        .map(this::mapDomainToResponse)
+        .map(ProductsController::mapDomainToResponse)
         .map(productResponse -> ResponseEntity.status(HttpStatus.CREATED).body(productResponse));
   }
 
@@ -55,7 +60,7 @@ public class ProductsController implements ProductApi {
     return updateStockRequest
         .map(UpdateStockRequest::getStock)
         .flatMap(stock -> productPort.updateProductStock(franchiseId, branchId, productId, stock))
-        .map(this::mapDomainToResponse)
+        .map(ProductsController::mapDomainToResponse)
         .map(productResponse -> ResponseEntity.status(HttpStatus.OK).body(productResponse));
   }
 
@@ -68,10 +73,34 @@ public class ProductsController implements ProductApi {
             .body(
                 productPort
                     .getTopProductsByFranchise(franchiseId)
-                    .map(this::mapDomainToResponseTopProduct)));
+                    .map(ProductsController::mapDomainToResponseTopProduct)));
   }
 
-  private TopProductResponse mapDomainToResponseTopProduct(Product product) {
+  @Override
+  public Mono<ResponseEntity<Flux<ProductSummaryResponse>>> getFranchiseTopProducts(
+      String franchiseId, Integer limit, ServerWebExchange exchange) {
+
+    return Mono.just(
+        ResponseEntity.status(HttpStatus.OK)
+            .body(
+                productPort
+                    .getTopProductsAcrossBranches(franchiseId, limit)
+                    .map(ProductsController::mapDomainToSummaryResponse)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<ProductSummaryResponse>>> getGlobalTopProducts(
+      Integer limit, ServerWebExchange exchange) {
+
+    return Mono.just(
+        ResponseEntity.status(HttpStatus.OK)
+            .body(
+                productPort
+                    .getTopProductsAcrossFranchises(limit)
+                    .map(ProductsController::mapDomainToSummaryResponse)));
+  }
+
+  static TopProductResponse mapDomainToResponseTopProduct(Product product) {
     TopProductResponse topProductResponse = new TopProductResponse();
     topProductResponse.setStock(product.getStock());
     topProductResponse.setProductName(product.getName());
@@ -81,7 +110,7 @@ public class ProductsController implements ProductApi {
     return topProductResponse;
   }
 
-  private ProductResponse mapDomainToResponse(Product product) {
+  static ProductResponse mapDomainToResponse(Product product) {
     ProductResponse productResponse = new ProductResponse();
     productResponse.setName(product.getName());
     productResponse.setStock(product.getStock());
@@ -89,7 +118,7 @@ public class ProductsController implements ProductApi {
     return productResponse;
   }
 
-  private Product buildProduct(ProductRequest productRequest) {
+  static Product buildProduct(ProductRequest productRequest) {
     return new Product(productRequest.getName(), productRequest.getStock());
   }
 
@@ -105,7 +134,36 @@ public class ProductsController implements ProductApi {
         .flatMap(
             newProductName ->
                 productPort.updateProductName(franchiseId, branchId, productId, newProductName))
-        .map(this::mapDomainToResponse)
+        .map(ProductsController::mapDomainToResponse)
         .map(productResponse -> ResponseEntity.status(HttpStatus.OK).body(productResponse));
   }
+
+  @Override
+  public Mono<ResponseEntity<Flux<ProductSummaryResponse>>> searchProducts(
+      String franchiseId,
+      String q,
+      String mode,
+      String branchId,
+      Integer limit,
+      ServerWebExchange exchange) {
+
+    return Mono.fromCallable(() -> ProductSearchMode.valueOf(mode.toUpperCase(Locale.ROOT)))
+        .map(
+            searchMode ->
+                ResponseEntity.status(HttpStatus.OK)
+                    .body(
+                        productPort
+                            .searchProducts(franchiseId, branchId, q, searchMode, limit)
+                            .map(ProductsController::mapDomainToSummaryResponse)));
+  }
+
+  static ProductSummaryResponse mapDomainToSummaryResponse(Product product) {
+    ProductSummaryResponse summaryResponse = new ProductSummaryResponse();
+    summaryResponse.setId(product.getId());
+    summaryResponse.setFranchiseId(product.getFranchiseId());
+    summaryResponse.setBranchId(product.getBranchId());
+    summaryResponse.setName(product.getName());
+    summaryResponse.setStock(product.getStock());
+    return summaryResponse;
+  }
 }
@@ -0,0 +1,68 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import com.accenture.test.accenturetestchallenge.application.StockAlertResponse;
+import com.accenture.test.accenturetestchallenge.application.api.AlertApi;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("!blocking")
+@RequiredArgsConstructor
+public class StockAlertsController implements AlertApi {
+
+  private final StockAlertPort stockAlertPort;
+
+  @Override
+  public Mono<ResponseEntity<Flux<StockAlertResponse>>> getStockAlerts(
+      String franchiseId, String branchId, Integer limit, ServerWebExchange exchange) {
+
+    return Mono.just(
+        ResponseEntity.status(HttpStatus.OK)
+            .body(
+                stockAlertPort
+                    .getAlerts(franchiseId, branchId, limit)
+                    .map(StockAlertsController::mapDomainToResponse)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<StockAlertResponse>>> streamStockAlerts(
+      String franchiseId, ServerWebExchange exchange) {
+
+    return Mono.just(
+        ResponseEntity.status(HttpStatus.OK)
+            .body(
+                stockAlertPort
+                    .streamAlerts(franchiseId)
+                    .map(StockAlertsController::mapDomainToResponse)));
+  }
+
+  static StockAlertResponse mapDomainToResponse(StockAlert stockAlert) {
+    StockAlertResponse stockAlertResponse = new StockAlertResponse();
+    stockAlertResponse.setId(stockAlert.getId());
+    stockAlertResponse.setFranchiseId(stockAlert.getFranchiseId());
+    stockAlertResponse.setBranchId(stockAlert.getBranchId());
+    stockAlertResponse.setProductId(stockAlert.getProductId());
+    stockAlertResponse.setProductName(stockAlert.getProductName());
+    stockAlertResponse.setType(stockAlert.getType().name());
+    stockAlertResponse.setThreshold(stockAlert.getThreshold());
+    stockAlertResponse.setPreviousStock(stockAlert.getPreviousStock());
+    stockAlertResponse.setStock(stockAlert.getStock());
+    if (stockAlert.getCreatedAt() != null) {
+      stockAlertResponse.setCreatedAt(
+          OffsetDateTime.ofInstant(stockAlert.getCreatedAt(), ZoneOffset.UTC));
+    }
+    return stockAlertResponse;
+  }
+}
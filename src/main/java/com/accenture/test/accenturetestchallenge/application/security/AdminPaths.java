@@ -0,0 +1,23 @@
+package com.accenture.test.accenturetestchallenge.application.security;
+
+import java.util.List;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.PathContainer.PathSegment;
+
+/**
+ * Recognizes admin paths the way the handler mappings match them: on decoded segments without
+ * their matrix variables, so {@code /%61dmin/...} or {@code /admin;x=1/...} is an admin path too.
+ */
+final class AdminPaths {
+
+  private static final String ADMIN_SEGMENT = "admin";
+
+  private AdminPaths() {}
+
+  static boolean isAdminPath(PathContainer pathWithinApplication) {
+    List<PathContainer.Element> elements = pathWithinApplication.elements();
+    return elements.size() > 2
+        && elements.get(1) instanceof PathSegment segment
+        && ADMIN_SEGMENT.equals(segment.valueToMatch());
+  }
+}
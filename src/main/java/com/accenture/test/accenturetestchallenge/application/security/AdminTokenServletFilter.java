@@ -0,0 +1,58 @@
+package com.accenture.test.accenturetestchallenge.application.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** {@link AdminTokenWebFilter} for the Spring MVC stack of the "blocking" profile. */
+@Slf4j
+@Component
+@Profile("blocking")
+public class AdminTokenServletFilter extends OncePerRequestFilter {
+
+  private final byte[] adminToken;
+
+  public AdminTokenServletFilter(@Value("${admin.token:}") String adminToken) {
+    this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    // The request URI is not decoded, so it is parsed the way the handler mappings read it.
+    RequestPath path = RequestPath.parse(request.getRequestURI(), request.getContextPath());
+    return !AdminPaths.isAdminPath(path.pathWithinApplication());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+
+    String path = request.getRequestURI();
+    if (adminToken.length == 0) {
+      log.warn("Admin endpoint {} requested but no admin token is configured", path);
+      response.setStatus(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+
+    String providedToken = request.getHeader(AdminTokenWebFilter.ADMIN_TOKEN_HEADER);
+    if (providedToken == null
+        || !MessageDigest.isEqual(adminToken, providedToken.getBytes(StandardCharsets.UTF_8))) {
+      log.warn("Rejected unauthenticated request to admin endpoint {}", path);
+      response.setStatus(HttpStatus.UNAUTHORIZED.value());
+      return;
+    }
+    chain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,53 @@
+package com.accenture.test.accenturetestchallenge.application.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+public class AdminTokenWebFilter implements WebFilter {
+
+  public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+  private final byte[] adminToken;
+
+  public AdminTokenWebFilter(@Value("${admin.token:}") String adminToken) {
+    this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    PathContainer pathWithinApplication = exchange.getRequest().getPath().pathWithinApplication();
+    if (!AdminPaths.isAdminPath(pathWithinApplication)) {
+      return chain.filter(exchange);
+    }
+
+    String path = pathWithinApplication.value();
+    if (adminToken.length == 0) {
+      log.warn("Admin endpoint {} requested but no admin token is configured", path);
+      return reject(exchange, HttpStatus.NOT_FOUND);
+    }
+
+    String providedToken = exchange.getRequest().getHeaders().getFirst(ADMIN_TOKEN_HEADER);
+    if (providedToken == null
+        || !MessageDigest.isEqual(adminToken, providedToken.getBytes(StandardCharsets.UTF_8))) {
+      log.warn("Rejected unauthenticated request to admin endpoint {}", path);
+      return reject(exchange, HttpStatus.UNAUTHORIZED);
+    }
+    return chain.filter(exchange);
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+    exchange.getResponse().setStatusCode(status);
+    return exchange.getResponse().setComplete();
+  }
+}
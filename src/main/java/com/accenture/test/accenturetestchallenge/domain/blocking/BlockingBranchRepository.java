@@ -0,0 +1,143 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchQueries;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductQueries;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link BranchRepository} over the synchronous driver, sending the same filters as the reactive
+ * repository through {@link BranchQueries}.
+ */
+@Repository
+@Profile("blocking & !in-memory")
+@RequiredArgsConstructor
+public class BlockingBranchRepository implements BranchRepository {
+
+  private static final String PRODUCTS_COLLECTION = "products";
+
+  private final MongoTemplate mongoTemplate;
+  private final BranchQueries branchQueries;
+  private final ProductQueries productQueries;
+
+  @Override
+  public <S extends BranchEntity> Mono<S> save(S branch) {
+    return BlockingCalls.mono(() -> mongoTemplate.save(branch));
+  }
+
+  @Override
+  public Mono<Boolean> existsByFranchiseIdAndId(String franchiseId, String branchId) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.exists(
+                branchQueries.byFranchiseAndId(franchiseId, branchId), BranchEntity.class));
+  }
+
+  @Override
+  public Mono<BranchEntity> findByFranchiseIdAndId(String franchiseId, String branchId) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findOne(
+                branchQueries.byFranchiseAndId(franchiseId, branchId), BranchEntity.class));
+  }
+
+  @Override
+  public Flux<BranchEntity> findByFranchiseId(String franchiseId) {
+    return BlockingCalls.flux(
+        () -> mongoTemplate.stream(branchQueries.byFranchise(franchiseId), BranchEntity.class));
+  }
+
+  @Override
+  public Mono<Long> deleteByFranchiseIdAndId(String franchiseId, String branchId) {
+    return remove(branchQueries.byFranchiseAndId(franchiseId, branchId));
+  }
+
+  @Override
+  public Mono<Long> deleteByFranchiseId(String franchiseId) {
+    return remove(branchQueries.byFranchise(franchiseId));
+  }
+
+  private Mono<Long> remove(Query query) {
+    return BlockingCalls.mono(
+        () -> mongoTemplate.remove(query, BranchEntity.class).getDeletedCount());
+  }
+
+  @Override
+  public Mono<BranchEntity> updateName(String franchiseId, String branchId, String newBranchName) {
+    return modify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId),
+        new Update().set("name", newBranchName));
+  }
+
+  @Override
+  public Mono<BranchEntity> incrementProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta) {
+
+    return modify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId),
+        new Update().inc("productCount", productDelta).inc("totalStock", stockDelta));
+  }
+
+  @Override
+  public Mono<BranchEntity> recountProducts(String franchiseId, String branchId) {
+    return BlockingCalls.mono(
+        () -> {
+          Document summary =
+              mongoTemplate
+                  .aggregate(
+                      productQueries.stockSummary(franchiseId, branchId),
+                      PRODUCTS_COLLECTION,
+                      Document.class)
+                  .getUniqueMappedResult();
+          return mongoTemplate.findAndModify(
+              branchQueries.byFranchiseAndId(franchiseId, branchId),
+              BranchQueries.productCounters(summary),
+              FindAndModifyOptions.options().returnNew(true),
+              BranchEntity.class);
+        });
+  }
+
+  @Override
+  public Mono<BranchEntity> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold) {
+
+    Update update =
+        threshold == null
+            ? new Update().unset("lowStockThreshold")
+            : new Update().set("lowStockThreshold", threshold);
+
+    return modify(branchQueries.byFranchiseAndId(franchiseId, branchId), update);
+  }
+
+  @Override
+  public Mono<BranchEntity> applyLedgerStockDelta(
+      String franchiseId, String branchId, long stockDelta, long ledgerSequence) {
+
+    return modify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId)
+            .addCriteria(where("ledgerSequence").not().gte(ledgerSequence)),
+        new Update().inc("totalStock", stockDelta).set("ledgerSequence", ledgerSequence));
+  }
+
+  private Mono<BranchEntity> modify(Query query, Update update) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                BranchEntity.class));
+  }
+}
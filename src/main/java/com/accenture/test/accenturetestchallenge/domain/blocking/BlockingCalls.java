@@ -0,0 +1,32 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Wraps synchronous driver calls into the publishers of the repository interfaces. Each call runs
+ * on a virtual thread of its own, so a call subscribed from a Reactor thread, such as after the
+ * pause between two chunks of a cascade deletion, never blocks that thread.
+ */
+final class BlockingCalls {
+
+  private static final Scheduler VIRTUAL_THREADS =
+      Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "mongo-sync");
+
+  private BlockingCalls() {}
+
+  /** Empty when the call returns {@code null}. */
+  static <T> Mono<T> mono(Supplier<T> call) {
+    return Mono.fromSupplier(call).subscribeOn(VIRTUAL_THREADS);
+  }
+
+  /** Reads the stream as it is requested and closes its cursor when done or cancelled. */
+  static <T> Flux<T> flux(Supplier<Stream<T>> call) {
+    return Flux.fromStream(call).subscribeOn(VIRTUAL_THREADS);
+  }
+}
@@ -0,0 +1,50 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** {@link FranchiseRepository} over the synchronous driver. */
+@Repository
+@Profile("blocking & !in-memory")
+@RequiredArgsConstructor
+public class BlockingFranchiseRepository implements FranchiseRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public <S extends FranchiseEntity> Mono<S> save(S franchise) {
+    return BlockingCalls.mono(() -> mongoTemplate.save(franchise));
+  }
+
+  @Override
+  public Mono<FranchiseEntity> findById(String id) {
+    return BlockingCalls.mono(() -> mongoTemplate.findById(id, FranchiseEntity.class));
+  }
+
+  @Override
+  public Mono<Boolean> existsById(String id) {
+    return BlockingCalls.mono(
+        () -> mongoTemplate.exists(Query.query(where("id").is(id)), FranchiseEntity.class));
+  }
+
+  @Override
+  public Flux<FranchiseEntity> findAll() {
+    return BlockingCalls.flux(() -> mongoTemplate.stream(new Query(), FranchiseEntity.class));
+  }
+
+  @Override
+  public Mono<Void> deleteById(String id) {
+    return BlockingCalls.mono(
+            () -> mongoTemplate.remove(Query.query(where("id").is(id)), FranchiseEntity.class))
+        .then();
+  }
+}
@@ -0,0 +1,248 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsUpdates;
+import com.accenture.test.accenturetestchallenge.domain.repositories.LegacyFieldCriteria;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductQueries;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Instant;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link InventoryStatsRepository} over the synchronous driver, sending the same updates as the
+ * reactive repository through {@link InventoryStatsUpdates}.
+ */
+@Repository
+@Profile("blocking & !in-memory")
+@RequiredArgsConstructor
+public class BlockingInventoryStatsRepository implements InventoryStatsRepository {
+
+  private static final String PRODUCTS_COLLECTION = "products";
+
+  private final MongoTemplate mongoTemplate;
+  private final LegacyFieldCriteria legacyFieldCriteria;
+  private final ProductQueries productQueries;
+
+  @Override
+  public Mono<InventoryStatsEntity> findByIdAndScope(String id, String scope) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findOne(
+                Query.query(where("_id").is(id).and("scope").is(scope)),
+                InventoryStatsEntity.class));
+  }
+
+  @Override
+  public Mono<InventoryStatsEntity> findByIdAndFranchiseIdAndScope(
+      String id, String franchiseId, String scope) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findOne(
+                Query.query(
+                    where("_id").is(id).and("franchiseId").is(franchiseId).and("scope").is(scope)),
+                InventoryStatsEntity.class));
+  }
+
+  @Override
+  public Mono<Void> deleteById(String id) {
+    return BlockingCalls.mono(
+            () ->
+                mongoTemplate.remove(
+                    Query.query(where("_id").is(id)), InventoryStatsEntity.class))
+        .then();
+  }
+
+  @Override
+  public Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer observedStock) {
+
+    return applyDelta(
+        franchiseId,
+        branchId,
+        productDelta,
+        stockDelta,
+        outOfStockDelta,
+        observedStock,
+        observedStock);
+  }
+
+  @Override
+  public Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer minObservedStock,
+      Integer maxObservedStock) {
+
+    Update branchUpdate =
+        InventoryStatsUpdates.branchDelta(
+            franchiseId,
+            branchId,
+            productDelta,
+            stockDelta,
+            outOfStockDelta,
+            minObservedStock,
+            maxObservedStock);
+
+    Update franchiseUpdate =
+        InventoryStatsUpdates.franchiseDelta(
+            franchiseId,
+            productDelta,
+            stockDelta,
+            outOfStockDelta,
+            minObservedStock,
+            maxObservedStock);
+
+    return Mono.when(upsert(branchId, branchUpdate), upsert(franchiseId, franchiseUpdate));
+  }
+
+  private Mono<Void> upsert(String id, Update update) {
+    return BlockingCalls.mono(
+            () ->
+                mongoTemplate.upsert(
+                    Query.query(where("_id").is(id)), update, InventoryStatsEntity.class))
+        .then();
+  }
+
+  @Override
+  public Mono<Void> applyLedgerDelta(
+      String franchiseId,
+      String branchId,
+      long stockDelta,
+      int outOfStockDelta,
+      int observedStock,
+      long ledgerSequence) {
+
+    Update branchUpdate =
+        InventoryStatsUpdates.branchDelta(
+                franchiseId, branchId, 0, stockDelta, outOfStockDelta, observedStock, observedStock)
+            .set("ledgerSequence", ledgerSequence);
+
+    Update franchiseUpdate =
+        InventoryStatsUpdates.franchiseDelta(
+                franchiseId, 0, stockDelta, outOfStockDelta, observedStock, observedStock)
+            .set("ledgerSequence", ledgerSequence);
+
+    return Mono.when(
+        upsertOnce(branchId, ledgerSequence, branchUpdate),
+        upsertOnce(franchiseId, ledgerSequence, franchiseUpdate));
+  }
+
+  // A document that already holds the event does not match, so the upsert tries to insert its id
+  // again and is rejected.
+  private Mono<Void> upsertOnce(String id, long ledgerSequence, Update update) {
+    Query notApplied =
+        Query.query(where("_id").is(id).and("ledgerSequence").not().gte(ledgerSequence));
+
+    return BlockingCalls.mono(
+            () -> mongoTemplate.upsert(notApplied, update, InventoryStatsEntity.class))
+        .onErrorResume(DuplicateKeyException.class, alreadyApplied -> Mono.empty())
+        .then();
+  }
+
+  @Override
+  public Mono<Void> refreshBounds(String franchiseId, String branchId, int departedStock) {
+    return Mono.when(
+        BlockingCalls.mono(
+            () -> refreshBounds(branchId, franchiseId, branchId, departedStock, departedStock)),
+        BlockingCalls.mono(
+            () -> refreshBounds(franchiseId, franchiseId, null, departedStock, departedStock)));
+  }
+
+  private UpdateResult refreshBounds(
+      String statsId, String franchiseId, String branchId, Integer minStock, Integer maxStock) {
+    if ((minStock == null && maxStock == null)
+        || !mongoTemplate.exists(
+            InventoryStatsUpdates.boundsHeldBy(statsId, minStock, maxStock),
+            InventoryStatsEntity.class)) {
+      return null;
+    }
+
+    Document bounds =
+        mongoTemplate
+            .aggregate(
+                productQueries.stockSummary(franchiseId, branchId),
+                PRODUCTS_COLLECTION,
+                Document.class)
+            .getUniqueMappedResult();
+    return mongoTemplate.updateFirst(
+        Query.query(where("_id").is(statsId)),
+        InventoryStatsUpdates.bounds(bounds),
+        InventoryStatsEntity.class);
+  }
+
+  @Override
+  public Mono<Void> removeBranch(String franchiseId, String branchId) {
+    Query branchStats =
+        Query.query(
+            where("_id")
+                .is(branchId)
+                .and("franchiseId")
+                .is(franchiseId)
+                .and("scope")
+                .is(InventoryStatsEntity.BRANCH_SCOPE));
+
+    return BlockingCalls.mono(
+            () -> {
+              InventoryStatsEntity removed =
+                  mongoTemplate.findAndRemove(branchStats, InventoryStatsEntity.class);
+              if (removed != null) {
+                mongoTemplate.updateFirst(
+                    Query.query(where("_id").is(franchiseId)),
+                    new Update()
+                        .inc("productCount", -valueOrZero(removed.getProductCount()))
+                        .inc("totalStock", -valueOrZero(removed.getTotalStock()))
+                        .inc("outOfStockCount", -valueOrZero(removed.getOutOfStockCount()))
+                        .set("updatedAt", Instant.now()),
+                    InventoryStatsEntity.class);
+                refreshBounds(
+                    franchiseId, franchiseId, null, removed.getMinStock(), removed.getMaxStock());
+              }
+              return removed;
+            })
+        .then();
+  }
+
+  private static long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  @Override
+  public Mono<Void> rebuildFromProducts() {
+    return BlockingCalls.mono(
+            () -> {
+              Date refreshedAt = new Date();
+              mergeStats(InventoryStatsEntity.BRANCH_SCOPE, refreshedAt);
+              mergeStats(InventoryStatsEntity.FRANCHISE_SCOPE, refreshedAt);
+              return mongoTemplate.remove(
+                  Query.query(where("refreshedAt").lt(refreshedAt)), InventoryStatsEntity.class);
+            })
+        .then();
+  }
+
+  private void mergeStats(String scope, Date refreshedAt) {
+    mongoTemplate.aggregate(
+        InventoryStatsUpdates.rebuild(legacyFieldCriteria, scope, refreshedAt),
+        PRODUCTS_COLLECTION,
+        Document.class);
+  }
+}
@@ -0,0 +1,24 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import com.accenture.test.accenturetestchallenge.domain.service.LegacyFieldNameReadCallback;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.stereotype.Component;
+
+/** {@link LegacyFieldNameReadCallback} for the entities read by the synchronous driver. */
+@Component
+@Profile("blocking & !in-memory & !embedded")
+@ConditionalOnProperty(name = "catalog.compact-fields.legacy-reads", havingValue = "true")
+@RequiredArgsConstructor
+public class BlockingLegacyFieldNameReadCallback implements AfterConvertCallback<Object> {
+
+  private final LegacyFieldNameReadCallback legacyFieldNameReadCallback;
+
+  @Override
+  public Object onAfterConvert(Object entity, Document document, String collection) {
+    return legacyFieldNameReadCallback.complete(entity, document);
+  }
+}
@@ -0,0 +1,203 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.repositories.LegacyFieldCriteria;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductQueries;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ProductRepository} over the synchronous driver, sending the same queries as the reactive
+ * repository through {@link ProductQueries}.
+ */
+@Repository
+@Profile("blocking & !in-memory")
+@RequiredArgsConstructor
+public class BlockingProductRepository implements ProductRepository {
+
+  private static final int NORMALIZATION_BATCH_SIZE = 500;
+  private static final int FRANCHISE_CURSOR_BATCH_SIZE = 1000;
+
+  private final MongoTemplate mongoTemplate;
+  private final ProductQueries productQueries;
+  private final LegacyFieldCriteria legacyFieldCriteria;
+
+  @Override
+  public <S extends ProductEntity> Mono<S> save(S product) {
+    return BlockingCalls.mono(() -> mongoTemplate.save(product));
+  }
+
+  @Override
+  public <S extends ProductEntity> Flux<S> insert(Iterable<S> products) {
+    List<S> batch = StreamSupport.stream(products.spliterator(), false).toList();
+    return BlockingCalls.flux(
+        () -> mongoTemplate.<S>insert(batch, ProductEntity.class).stream());
+  }
+
+  @Override
+  public Mono<ProductEntity> findById(String id) {
+    return BlockingCalls.mono(() -> mongoTemplate.findById(id, ProductEntity.class));
+  }
+
+  @Override
+  public Mono<Void> deleteById(String id) {
+    return BlockingCalls.mono(
+            () -> mongoTemplate.remove(Query.query(where("id").is(id)), ProductEntity.class))
+        .then();
+  }
+
+  @Override
+  public Mono<ProductEntity> findByFranchiseIdAndBranchIdAndId(
+      String franchiseId, String branchId, String id) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findOne(
+                productQueries.byFranchiseBranchAndId(franchiseId, branchId, id),
+                ProductEntity.class));
+  }
+
+  @Override
+  public Flux<ProductEntity> findByFranchiseId(String franchiseId) {
+    return BlockingCalls.flux(
+        () ->
+            mongoTemplate.stream(
+                productQueries.byFranchiseAndBranch(franchiseId, null)
+                    .cursorBatchSize(FRANCHISE_CURSOR_BATCH_SIZE),
+                ProductEntity.class));
+  }
+
+  @Override
+  public Flux<Product> searchByNamePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit) {
+    return find(productQueries.namePrefix(franchiseId, branchId, normalizedPrefix, limit));
+  }
+
+  @Override
+  public Flux<Product> searchByText(String franchiseId, String branchId, String text, int limit) {
+    return find(productQueries.text(franchiseId, branchId, text, limit));
+  }
+
+  @Override
+  public Flux<Product> findTopByStock(String franchiseId, int limit) {
+    return aggregate(productQueries.topByStock(franchiseId, limit));
+  }
+
+  @Override
+  public Flux<Product> findTopProductPerBranch(String franchiseId) {
+    return aggregate(productQueries.topProductPerBranch(franchiseId));
+  }
+
+  private Flux<Product> aggregate(Aggregation aggregation) {
+    return BlockingCalls.flux(
+        () -> mongoTemplate.aggregateStream(aggregation, ProductEntity.class, Product.class));
+  }
+
+  private Flux<Product> find(Query query) {
+    return BlockingCalls.flux(
+        () -> mongoTemplate.query(ProductEntity.class).as(Product.class).matching(query).stream());
+  }
+
+  @Override
+  public Mono<Long> normalizeMissingNames() {
+    Query missingNormalizedName = productQueries.missingNormalizedName();
+
+    return BlockingCalls.flux(
+            () -> mongoTemplate.stream(missingNormalizedName, ProductEntity.class))
+        .buffer(NORMALIZATION_BATCH_SIZE)
+        .concatMap(
+            products ->
+                BlockingCalls.mono(
+                    () -> {
+                      var bulkOperations =
+                          mongoTemplate.bulkOps(BulkMode.UNORDERED, ProductEntity.class);
+                      products.forEach(
+                          product ->
+                              bulkOperations.updateOne(
+                                  Query.query(where("id").is(product.getId())),
+                                  new Update()
+                                      .set(
+                                          "normalizedName",
+                                          ProductNames.normalize(product.getName()))));
+                      return (long) bulkOperations.execute().getModifiedCount();
+                    }))
+        .reduce(0L, Long::sum);
+  }
+
+  @Override
+  public Mono<ProductEntity> replaceStock(
+      String franchiseId, String branchId, String productId, int stock) {
+
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findAndModify(
+                productQueries.byFranchiseBranchAndId(franchiseId, branchId, productId),
+                new Update().set("stock", stock),
+                FindAndModifyOptions.options().returnNew(false),
+                ProductEntity.class));
+  }
+
+  @Override
+  public Mono<ProductEntity> updateName(
+      String franchiseId, String branchId, String productId, String name, String normalizedName) {
+
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findAndModify(
+                productQueries.byFranchiseBranchAndId(franchiseId, branchId, productId),
+                new Update().set("name", name).set("normalizedName", normalizedName),
+                FindAndModifyOptions.options().returnNew(true),
+                ProductEntity.class));
+  }
+
+  @Override
+  public Mono<ProductEntity> applyLedgerStock(String productId, int stock, long ledgerSequence) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate.findAndModify(
+                legacyFieldCriteria.query(
+                    List.of(
+                        where("id").is(productId),
+                        legacyFieldCriteria.below(
+                            ProductEntity.LEDGER_SEQUENCE_FIELD,
+                            "ledgerSequence",
+                            ledgerSequence))),
+                new Update().set("stock", stock).set("ledgerSequence", ledgerSequence),
+                FindAndModifyOptions.options().returnNew(true),
+                ProductEntity.class));
+  }
+
+  @Override
+  public Flux<ProductEntity> findIdsAndStock(String franchiseId, String branchId, int batchSize) {
+    Query query =
+        productQueries.byFranchiseAndBranch(franchiseId, branchId).cursorBatchSize(batchSize);
+    query.fields().include("branchId", "stock");
+
+    return BlockingCalls.flux(() -> mongoTemplate.stream(query, ProductEntity.class));
+  }
+
+  @Override
+  public Mono<Long> deleteByIds(Collection<String> ids) {
+    return BlockingCalls.mono(
+        () ->
+            mongoTemplate
+                .remove(Query.query(where("id").in(ids)), ProductEntity.class)
+                .getDeletedCount());
+  }
+}
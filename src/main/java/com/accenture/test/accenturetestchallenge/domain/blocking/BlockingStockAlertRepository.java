@@ -0,0 +1,47 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.StockAlertEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.StockAlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** {@link StockAlertRepository} over the synchronous driver. */
+@Repository
+@Profile("blocking & !in-memory")
+@RequiredArgsConstructor
+public class BlockingStockAlertRepository implements StockAlertRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public <S extends StockAlertEntity> Mono<S> save(S stockAlert) {
+    return BlockingCalls.mono(() -> mongoTemplate.save(stockAlert));
+  }
+
+  @Override
+  public Flux<StockAlertEntity> findByFranchiseIdOrderByCreatedAtDesc(
+      String franchiseId, Limit limit) {
+    return latest(Query.query(where("franchiseId").is(franchiseId)), limit);
+  }
+
+  @Override
+  public Flux<StockAlertEntity> findByFranchiseIdAndBranchIdOrderByCreatedAtDesc(
+      String franchiseId, String branchId, Limit limit) {
+    return latest(
+        Query.query(where("franchiseId").is(franchiseId).and("branchId").is(branchId)), limit);
+  }
+
+  private Flux<StockAlertEntity> latest(Query query, Limit limit) {
+    query.with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(limit);
+    return BlockingCalls.flux(() -> mongoTemplate.stream(query, StockAlertEntity.class));
+  }
+}
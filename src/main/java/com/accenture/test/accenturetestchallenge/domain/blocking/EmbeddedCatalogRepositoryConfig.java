@@ -0,0 +1,23 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseCatalogRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * The {@code blocking} profile turns off the scanned repositories in favour of its synchronous
+ * ones. Franchise catalogs have no synchronous repository, so the reactive one is kept for the
+ * {@code embedded} adapters.
+ */
+@Configuration
+@Profile("blocking & embedded & !in-memory")
+@EnableReactiveMongoRepositories(
+    basePackageClasses = FranchiseCatalogRepository.class,
+    includeFilters =
+        @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE,
+            classes = FranchiseCatalogRepository.class))
+public class EmbeddedCatalogRepositoryConfig {}
@@ -0,0 +1,140 @@
+package com.accenture.test.accenturetestchallenge.domain.embedded;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseCatalogRepository;
+import com.accenture.test.accenturetestchallenge.domain.service.DeletionJobRegistry;
+import java.util.ArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedBranchAdapter implements BranchPort {
+
+  private final FranchiseCatalogRepository catalogRepository;
+  private final DeletionJobRegistry deletionJobRegistry;
+
+  @Override
+  public Mono<Branch> createBranch(String franchiseId, String branchName) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise id received: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise id must not be null or empty"));
+    }
+    if (branchName == null || branchName.trim().isEmpty()) {
+      log.warn("Invalid branch name received: '{}'", branchName);
+      return Mono.error(new IllegalArgumentException("Branch name must not be null or empty"));
+    }
+
+    EmbeddedBranchEntity branch =
+        new EmbeddedBranchEntity(
+            new ObjectId().toHexString(), branchName.trim(), null, new ArrayList<>());
+
+    return catalogRepository
+        .addBranch(franchiseId, branch)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .map(added -> EmbeddedCatalogs.toBranch(franchiseId, branch))
+        .doOnSuccess(created -> log.info("Branch created. Branch ID: {}", created.getId()))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error occurred during branch creation. Branch name: {}. Error: {}",
+                    branchName,
+                    error.getMessage(),
+                    error));
+  }
+
+  @Override
+  public Mono<Boolean> existsBranch(String franchiseId, String branchId) {
+    if (areEmpty(franchiseId, branchId)) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return catalogRepository.existsBranch(franchiseId, branchId);
+  }
+
+  @Override
+  public Mono<Branch> updateBranchName(String franchiseId, String branchId, String newBranchName) {
+    if (areEmpty(franchiseId, branchId)) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return catalogRepository
+        .updateBranchName(franchiseId, branchId, newBranchName)
+        .map(branch -> EmbeddedCatalogs.toBranch(franchiseId, branch));
+  }
+
+  /** Counters are derived from the embedded products, so there is nothing to adjust. */
+  @Override
+  public Mono<Branch> adjustProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta) {
+    return catalogRepository
+        .findBranch(franchiseId, branchId)
+        .map(branch -> EmbeddedCatalogs.toBranch(franchiseId, branch));
+  }
+
+  @Override
+  public Mono<Branch> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold) {
+
+    if (areEmpty(franchiseId, branchId) || (threshold != null && threshold < 0)) {
+      log.warn(
+          "Invalid low stock threshold update. FranchiseId: '{}', BranchId: '{}', Threshold: '{}'",
+          franchiseId,
+          branchId,
+          threshold);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID and Branch ID must not be null or empty and threshold must not be negative"));
+    }
+
+    return catalogRepository
+        .updateLowStockThreshold(franchiseId, branchId, threshold)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
+        .map(branch -> EmbeddedCatalogs.toBranch(franchiseId, branch));
+  }
+
+  /**
+   * The branch and its products are pulled from the catalog with one update, so the job is
+   * returned already completed.
+   */
+  @Override
+  public Mono<DeletionJob> deleteBranch(String franchiseId, String branchId) {
+    if (areEmpty(franchiseId, branchId)) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return catalogRepository
+        .removeBranch(franchiseId, branchId)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
+        .map(
+            branch ->
+                deletionJobRegistry.completed(
+                    franchiseId,
+                    branchId,
+                    branch.getProducts() == null ? 0 : branch.getProducts().size(),
+                    1));
+  }
+
+  private boolean areEmpty(String franchiseId, String branchId) {
+    return franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty();
+  }
+}
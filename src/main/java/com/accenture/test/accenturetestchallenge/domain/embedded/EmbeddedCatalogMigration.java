@@ -0,0 +1,167 @@
+package com.accenture.test.accenturetestchallenge.domain.embedded;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseCatalogEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseCatalogRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Copies the normalized {@code franchises}, {@code branches} and {@code products} collections
+ * into franchise catalogs on startup, when {@code catalog.embedded.migrate-on-startup} is set.
+ * Each franchise is read and written as a whole and replaces its catalog, so the migration can
+ * be run again after new writes to the normalized model. The normalized collections are left
+ * untouched.
+ *
+ * <p>A franchise with more than {@code catalog.embedded.max-products} products would exceed the
+ * 16MB document limit, so it is skipped with an error and stays on the normalized model only.
+ */
+@Slf4j
+@Component
+@Profile("embedded")
+@ConditionalOnProperty(name = "catalog.embedded.migrate-on-startup", havingValue = "true")
+public class EmbeddedCatalogMigration {
+
+  private static final int CONCURRENT_FRANCHISES = 4;
+
+  private final FranchiseRepository franchiseRepository;
+  private final BranchRepository branchRepository;
+  private final ProductRepository productRepository;
+  private final FranchiseCatalogRepository catalogRepository;
+  private final long maxProducts;
+
+  public EmbeddedCatalogMigration(
+      FranchiseRepository franchiseRepository,
+      BranchRepository branchRepository,
+      ProductRepository productRepository,
+      FranchiseCatalogRepository catalogRepository,
+      @Value("${catalog.embedded.max-products:100000}") long maxProducts) {
+
+    this.franchiseRepository = franchiseRepository;
+    this.branchRepository = branchRepository;
+    this.productRepository = productRepository;
+    this.catalogRepository = catalogRepository;
+    this.maxProducts = maxProducts;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateOnStartup() {
+    migrate()
+        .subscribe(
+            migrated -> log.info("Migrated {} franchises to embedded catalogs", migrated),
+            error ->
+                log.error(
+                    "Error migrating franchises to embedded catalogs: {}",
+                    error.getMessage(),
+                    error));
+  }
+
+  public Mono<Long> migrate() {
+    return franchiseRepository
+        .findAll()
+        .flatMap(this::migrateFranchise, CONCURRENT_FRANCHISES)
+        .count();
+  }
+
+  private Mono<FranchiseCatalogEntity> migrateFranchise(FranchiseEntity franchise) {
+    return branchRepository
+        .findByFranchiseId(franchise.getId())
+        .collectList()
+        .flatMap(
+            branches -> {
+              long countedProducts =
+                  branches.stream()
+                      .mapToLong(branch -> valueOrZero(branch.getProductCount()))
+                      .sum();
+              if (countedProducts > maxProducts) {
+                return skip(franchise, countedProducts);
+              }
+
+              // Branch counters may lag behind, so reading stops one product past the limit.
+              return productRepository
+                  .findByFranchiseId(franchise.getId())
+                  .take(maxProducts + 1)
+                  .collectMultimap(ProductEntity::getBranchId)
+                  .flatMap(productsByBranch -> saveCatalog(franchise, branches, productsByBranch));
+            })
+        .doOnSuccess(
+            catalog -> {
+              if (catalog != null) {
+                log.debug(
+                    "Franchise {} migrated with {} branches",
+                    catalog.getId(),
+                    catalog.getBranches().size());
+              }
+            });
+  }
+
+  private Mono<FranchiseCatalogEntity> saveCatalog(
+      FranchiseEntity franchise,
+      List<BranchEntity> branches,
+      Map<String, Collection<ProductEntity>> productsByBranch) {
+
+    long products = productsByBranch.values().stream().mapToLong(Collection::size).sum();
+    if (products > maxProducts) {
+      return skip(franchise, products);
+    }
+
+    return catalogRepository.save(
+        new FranchiseCatalogEntity(
+            franchise.getId(),
+            franchise.getName(),
+            toEmbeddedBranches(branches, productsByBranch)));
+  }
+
+  private Mono<FranchiseCatalogEntity> skip(FranchiseEntity franchise, long products) {
+    log.error(
+        "Franchise {} has more than {} products ({}), too many for an embedded catalog; it is not"
+            + " migrated",
+        franchise.getId(),
+        maxProducts,
+        products);
+    return Mono.empty();
+  }
+
+  private static long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  private List<EmbeddedBranchEntity> toEmbeddedBranches(
+      List<BranchEntity> branches, Map<String, Collection<ProductEntity>> productsByBranch) {
+
+    List<EmbeddedBranchEntity> embeddedBranches = new ArrayList<>(branches.size());
+    for (BranchEntity branch : branches) {
+      List<EmbeddedProductEntity> products = new ArrayList<>();
+      for (ProductEntity product : productsByBranch.getOrDefault(branch.getId(), List.of())) {
+        products.add(
+            new EmbeddedProductEntity(
+                product.getId(),
+                product.getName(),
+                ProductNames.normalize(product.getName()),
+                product.getStock()));
+      }
+      embeddedBranches.add(
+          new EmbeddedBranchEntity(
+              branch.getId(), branch.getName(), branch.getLowStockThreshold(), products));
+    }
+    return embeddedBranches;
+  }
+}
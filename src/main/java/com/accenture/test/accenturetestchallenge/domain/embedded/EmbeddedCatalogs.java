@@ -0,0 +1,45 @@
+package com.accenture.test.accenturetestchallenge.domain.embedded;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+
+/** Mapping of embedded branches and products to the domain model. */
+final class EmbeddedCatalogs {
+
+  private EmbeddedCatalogs() {}
+
+  static Branch toBranch(String franchiseId, EmbeddedBranchEntity branch) {
+    long totalStock = 0;
+    for (EmbeddedProductEntity product : branch.getProducts()) {
+      totalStock += product.getStock() == null ? 0 : product.getStock();
+    }
+
+    return Branch.builder()
+        .franchiseId(franchiseId)
+        .id(branch.getId())
+        .name(branch.getName())
+        .productCount(branch.getProducts().size())
+        .totalStock(totalStock)
+        .lowStockThreshold(branch.getLowStockThreshold())
+        .build();
+  }
+
+  static Product toProduct(String franchiseId, String branchId, EmbeddedProductEntity product) {
+    return Product.builder()
+        .franchiseId(franchiseId)
+        .branchId(branchId)
+        .id(product.getId())
+        .name(product.getName())
+        .stock(product.getStock())
+        .build();
+  }
+
+  static EmbeddedProductEntity findProduct(EmbeddedBranchEntity branch, String productId) {
+    return branch.getProducts().stream()
+        .filter(product -> productId.equals(product.getId()))
+        .findFirst()
+        .orElse(null);
+  }
+}
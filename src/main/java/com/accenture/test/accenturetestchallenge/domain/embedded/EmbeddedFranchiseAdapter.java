@@ -0,0 +1,109 @@
+package com.accenture.test.accenturetestchallenge.domain.embedded;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseCatalogEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseCatalogRepository;
+import com.accenture.test.accenturetestchallenge.domain.service.DeletionJobRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedFranchiseAdapter implements FranchisePort {
+
+  private final FranchiseCatalogRepository catalogRepository;
+  private final DeletionJobRegistry deletionJobRegistry;
+
+  @Override
+  public Mono<Franchise> createFranchise(String franchiseName) {
+    if (franchiseName == null || franchiseName.trim().isEmpty()) {
+      log.warn("Invalid franchise name received: '{}'", franchiseName);
+      return Mono.error(new IllegalArgumentException("Franchise name must not be null or empty"));
+    }
+
+    FranchiseCatalogEntity catalog =
+        new FranchiseCatalogEntity(
+            new ObjectId().toHexString(), franchiseName.trim(), new ArrayList<>());
+
+    return catalogRepository
+        .insert(catalog)
+        .map(this::mapEntityToDomain)
+        .doOnSuccess(
+            franchise -> log.info("Franchise created. Franchise ID: {}", franchise.getId()))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error occurred during franchise creation. Franchise name: {}. Error: {}",
+                    franchiseName,
+                    error.getMessage(),
+                    error));
+  }
+
+  @Override
+  public Mono<Boolean> existsFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for existence check: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return catalogRepository.existsById(franchiseId);
+  }
+
+  @Override
+  public Mono<Franchise> updateFranchiseName(String franchiseId, String newFranchiseName) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for update check: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return catalogRepository
+        .updateName(franchiseId, newFranchiseName)
+        .map(this::mapEntityToDomain)
+        .doOnError(
+            error ->
+                log.error(
+                    "Error updating franchise ID {}: {}", franchiseId, error.getMessage(), error));
+  }
+
+  /**
+   * The catalog holds the branches and products, so removing it is a single command and the job
+   * is returned already completed.
+   */
+  @Override
+  public Mono<DeletionJob> deleteFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for deletion: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return catalogRepository
+        .removeCatalog(franchiseId)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .map(
+            catalog -> {
+              List<EmbeddedBranchEntity> branches =
+                  catalog.getBranches() == null ? List.of() : catalog.getBranches();
+              long products =
+                  branches.stream()
+                      .mapToLong(
+                          branch -> branch.getProducts() == null ? 0 : branch.getProducts().size())
+                      .sum();
+              return deletionJobRegistry.completed(franchiseId, null, products, branches.size());
+            });
+  }
+
+  private Franchise mapEntityToDomain(FranchiseCatalogEntity catalog) {
+    return Franchise.builder().id(catalog.getId()).name(catalog.getName()).build();
+  }
+}
@@ -0,0 +1,265 @@
+package com.accenture.test.accenturetestchallenge.domain.embedded;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseCatalogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Product operations on the embedded franchise catalogs. Stock and name updates change the one
+ * array element in place with array filters instead of rewriting the catalog.
+ */
+@Slf4j
+@Service
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedProductAdapter implements ProductPort {
+
+  private static final int MAX_SEARCH_RESULTS = 100;
+  private static final int MAX_TOP_PRODUCTS = 100;
+
+  private final FranchiseCatalogRepository catalogRepository;
+  private final StockAlertPort stockAlertPort;
+
+  @Override
+  public Mono<Product> createProduct(String franchiseId, String branchId, Product product) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise id received: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise id must not be null or empty"));
+    }
+    if (branchId == null || branchId.trim().isEmpty()) {
+      log.warn("Invalid branch id received: '{}'", branchId);
+      return Mono.error(new IllegalArgumentException("Branch id must not be null or empty"));
+    }
+
+    return catalogRepository
+        .existsById(franchiseId)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .then(catalogRepository.existsBranch(franchiseId, branchId))
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
+        .then(validateProduct(product))
+        .flatMap(
+            validatedProduct -> {
+              EmbeddedProductEntity productEntity =
+                  new EmbeddedProductEntity(
+                      new ObjectId().toHexString(),
+                      validatedProduct.getName(),
+                      ProductNames.normalize(validatedProduct.getName()),
+                      validatedProduct.getStock());
+
+              return catalogRepository
+                  .addProduct(franchiseId, branchId, productEntity)
+                  .filter(Boolean::booleanValue)
+                  .switchIfEmpty(
+                      Mono.error(new IllegalArgumentException("Branch does not exist")))
+                  .map(added -> EmbeddedCatalogs.toProduct(franchiseId, branchId, productEntity));
+            })
+        .doOnSuccess(
+            savedProduct -> log.info("Product created. Product ID: {}", savedProduct.getId()))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error occurred during product creation. Product name: {}. Error: {}",
+                    product.getName(),
+                    error.getMessage(),
+                    error));
+  }
+
+  private Mono<Product> validateProduct(Product product) {
+    if (product.getName() == null
+        || product.getName().trim().isEmpty()
+        || product.getStock() == null
+        || product.getStock() < 0) {
+      log.warn("Invalid product received: '{}'", product);
+      return Mono.error(
+          new IllegalArgumentException("Product name or stock must not be null or empty"));
+    }
+    return Mono.just(product);
+  }
+
+  @Override
+  public Mono<Void> deleteProduct(String franchiseId, String branchId, String productId) {
+    if (areEmpty(franchiseId, branchId, productId)) {
+      log.warn(
+          "Invalid input for deletion. FranchiseId: '{}', BranchId: '{}', ProductId: '{}'",
+          franchiseId,
+          branchId,
+          productId);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID, Branch ID and Product ID must not be null or empty"));
+    }
+
+    return catalogRepository
+        .removeProduct(franchiseId, branchId, productId)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .then()
+        .doOnSuccess(v -> log.info("Product deleted successfully. ID: {}", productId));
+  }
+
+  @Override
+  public Mono<Product> updateProductStock(
+      String franchiseId, String branchId, String productId, int stock) {
+
+    if (areEmpty(franchiseId, branchId, productId) || stock < 0) {
+      log.warn(
+          "Invalid input for update stock. FranchiseId: '{}', BranchId: '{}', ProductId: '{}', Stock: '{}'",
+          franchiseId,
+          branchId,
+          productId,
+          stock);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID, Branch ID and Product ID must not be null or empty"));
+    }
+
+    return catalogRepository
+        .updateProductStock(franchiseId, branchId, productId, stock)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .flatMap(
+            previousBranch -> {
+              EmbeddedProductEntity product =
+                  EmbeddedCatalogs.findProduct(previousBranch, productId);
+              int previousStock = product.getStock() == null ? 0 : product.getStock();
+              product.setStock(stock);
+              Product updated = EmbeddedCatalogs.toProduct(franchiseId, branchId, product);
+
+              return checkLowStockThreshold(previousBranch, updated, previousStock)
+                  .thenReturn(updated);
+            })
+        .doOnSuccess(v -> log.info("Product updated successfully. ID: {}", productId));
+  }
+
+  private Mono<Void> checkLowStockThreshold(
+      EmbeddedBranchEntity branch, Product product, int previousStock) {
+
+    Integer threshold = branch.getLowStockThreshold();
+    if (threshold == null) {
+      return Mono.empty();
+    }
+
+    StockAlertType alertType =
+        StockAlertType.forStockChange(threshold, previousStock, product.getStock());
+    if (alertType == null) {
+      return Mono.empty();
+    }
+
+    return stockAlertPort.raiseAlert(
+        StockAlert.builder()
+            .franchiseId(product.getFranchiseId())
+            .branchId(product.getBranchId())
+            .productId(product.getId())
+            .productName(product.getName())
+            .type(alertType)
+            .threshold(threshold)
+            .previousStock(previousStock)
+            .stock(product.getStock())
+            .build());
+  }
+
+  @Override
+  public Mono<Product> updateProductName(
+      String franchiseId, String branchId, String productId, String newProductName) {
+
+    if (areEmpty(franchiseId, branchId, productId)
+        || newProductName == null
+        || newProductName.isEmpty()) {
+      log.warn(
+          "Invalid input for update stock. FranchiseId: '{}', BranchId: '{}', ProductId: '{}', newProductName: '{}'",
+          franchiseId,
+          branchId,
+          productId,
+          newProductName);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID, Branch ID, Product ID and new Product name must not be null or empty"));
+    }
+
+    return catalogRepository
+        .updateProductName(franchiseId, branchId, productId, newProductName)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .map(
+            branch ->
+                EmbeddedCatalogs.toProduct(
+                    franchiseId, branchId, EmbeddedCatalogs.findProduct(branch, productId)));
+  }
+
+  private boolean areEmpty(String franchiseId, String branchId, String productId) {
+    return franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty()
+        || productId == null
+        || productId.trim().isEmpty();
+  }
+
+  @Override
+  public Flux<Product> getTopProductsByFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for top products: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return catalogRepository.findTopProductPerBranch(franchiseId, Product.class);
+  }
+
+  @Override
+  public Flux<Product> getTopProductsAcrossBranches(String franchiseId, int limit) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for franchise top products: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return catalogRepository.findTopByStock(
+        franchiseId, Math.max(1, Math.min(limit, MAX_TOP_PRODUCTS)), Product.class);
+  }
+
+  @Override
+  public Flux<Product> getTopProductsAcrossFranchises(int limit) {
+    return catalogRepository.findTopByStock(
+        null, Math.max(1, Math.min(limit, MAX_TOP_PRODUCTS)), Product.class);
+  }
+
+  @Override
+  public Flux<Product> searchProducts(
+      String franchiseId, String branchId, String query, ProductSearchMode mode, int limit) {
+
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || query == null
+        || query.trim().isEmpty()) {
+      log.warn("Invalid product search. FranchiseId: '{}', Query: '{}'", franchiseId, query);
+      return Flux.error(
+          new IllegalArgumentException("Franchise ID and search query must not be null or empty"));
+    }
+
+    String scopedBranchId = branchId == null || branchId.trim().isEmpty() ? null : branchId;
+    int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+    return mode == ProductSearchMode.TEXT
+        ? catalogRepository.searchByText(
+            franchiseId, scopedBranchId, query, boundedLimit, Product.class)
+        : catalogRepository.searchByNamePrefix(
+            franchiseId,
+            scopedBranchId,
+            ProductNames.normalize(query),
+            boundedLimit,
+            Product.class);
+  }
+}
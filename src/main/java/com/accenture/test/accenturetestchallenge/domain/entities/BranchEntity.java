@@ -5,16 +5,39 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "branches")
+@CompoundIndex(name = "franchise_branch_v2", def = "{'f': 1, '_id': 1}")
 public class BranchEntity {
 
+  public static final String FRANCHISE_ID_FIELD = "f";
+
   @Id private String id;
+
+  @Field("n")
   private String name;
+
+  @Field(FRANCHISE_ID_FIELD)
+  @ValueConverter(ObjectIdReferenceConverter.class)
   private String franchiseId;
+
+  @Field("pc")
+  private Long productCount;
+
+  @Field("ts")
+  private Long totalStock;
+
+  @Field("lt")
+  private Integer lowStockThreshold;
+
+  @Field("ls")
+  private Long ledgerSequence;
 }
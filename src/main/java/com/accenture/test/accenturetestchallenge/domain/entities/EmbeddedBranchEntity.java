@@ -0,0 +1,23 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddedBranchEntity {
+
+  @MongoId(FieldType.STRING)
+  private String id;
+  private String name;
+  private Integer lowStockThreshold;
+  private List<EmbeddedProductEntity> products = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddedProductEntity {
+
+  @MongoId(FieldType.STRING)
+  private String id;
+  private String name;
+  private String normalizedName;
+  private Integer stock;
+}
@@ -0,0 +1,27 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+/** A franchise with its branches and their products embedded, for the "embedded" profile. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = FranchiseCatalogEntity.COLLECTION)
+public class FranchiseCatalogEntity {
+
+  public static final String COLLECTION = "franchise_catalogs";
+
+  @MongoId(FieldType.STRING)
+  private String id;
+  private String name;
+  private List<EmbeddedBranchEntity> branches = new ArrayList<>();
+}
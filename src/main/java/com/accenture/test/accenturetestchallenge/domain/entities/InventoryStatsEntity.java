@@ -0,0 +1,38 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = InventoryStatsEntity.COLLECTION)
+public class InventoryStatsEntity {
+
+  public static final String COLLECTION = "inventory_stats";
+  public static final String BRANCH_SCOPE = "BRANCH";
+  public static final String FRANCHISE_SCOPE = "FRANCHISE";
+
+  @MongoId(FieldType.STRING)
+  private String id;
+  private String scope;
+  private String franchiseId;
+  private String branchId;
+  private Long productCount;
+  private Long totalStock;
+  private Integer minStock;
+  private Integer maxStock;
+  private Long outOfStockCount;
+  @Indexed(name = "refreshed_at")
+  private Instant refreshedAt;
+  private Instant updatedAt;
+  private Long ledgerSequence;
+}
@@ -0,0 +1,33 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+/**
+ * Stores a reference to another document as an {@link ObjectId}, 12 bytes instead of a 24
+ * character string, while the domain keeps ids as strings. Applied on writes and in queries, so
+ * filters on the property match the stored type.
+ *
+ * <p>Like Spring Data does for {@code @Id} properties, a value that is not a valid {@code
+ * ObjectId} is kept as a string, where it matches nothing instead of failing the query. Strings
+ * written before the migration are still read, and the repositories filter with {@code
+ * ReferenceCriteria} so that they are still found.
+ */
+public class ObjectIdReferenceConverter implements MongoValueConverter<String, Object> {
+
+  @Override
+  public String read(Object value, MongoConversionContext context) {
+    return value.toString();
+  }
+
+  @Override
+  public Object write(String value, MongoConversionContext context) {
+    return toStored(value);
+  }
+
+  /** The stored form of {@code id}, for filters written as raw aggregation stages. */
+  public static Object toStored(String id) {
+    return id != null && ObjectId.isValid(id) ? new ObjectId(id) : id;
+  }
+}
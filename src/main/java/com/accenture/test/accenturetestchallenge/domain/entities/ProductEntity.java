@@ -5,18 +5,57 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
+/**
+ * Products are stored with short field names, repeated in every document. Index definitions and
+ * raw aggregation stages use the stored names, everything else the property names. Indexes on the
+ * short names are suffixed {@code _v2}, so they are built next to the ones on the property names.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "products")
+@CompoundIndexes({
+  @CompoundIndex(name = "franchise_name_prefix_v2", def = "{'f': 1, 'nn': 1, 'b': 1}"),
+  @CompoundIndex(name = "franchise_branch_v2", def = "{'f': 1, 'b': 1, '_id': 1}"),
+  @CompoundIndex(name = "franchise_name_text_v2", def = "{'f': 1, 'n': 'text'}"),
+  @CompoundIndex(name = "franchise_stock_v2", def = "{'f': 1, 's': -1, '_id': 1}"),
+  @CompoundIndex(name = "stock_v2", def = "{'s': -1, '_id': 1}")
+})
 public class ProductEntity {
 
+  public static final String NAME_FIELD = "n";
+  public static final String STOCK_FIELD = "s";
+  public static final String BRANCH_ID_FIELD = "b";
+  public static final String FRANCHISE_ID_FIELD = "f";
+  public static final String NORMALIZED_NAME_FIELD = "nn";
+  public static final String LEDGER_SEQUENCE_FIELD = "ls";
+
   @Id private String id;
+
+  @Field(NAME_FIELD)
   private String name;
+
+  @Field(STOCK_FIELD)
   private Integer stock;
+
+  @Field(BRANCH_ID_FIELD)
+  @ValueConverter(ObjectIdReferenceConverter.class)
   private String branchId;
+
+  @Field(FRANCHISE_ID_FIELD)
+  @ValueConverter(ObjectIdReferenceConverter.class)
   private String franchiseId;
+
+  @Field(NORMALIZED_NAME_FIELD)
+  private String normalizedName;
+
+  @Field(LEDGER_SEQUENCE_FIELD)
+  private Long ledgerSequence;
 }
@@ -0,0 +1,36 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "stock_alerts")
+@CompoundIndexes({
+  @CompoundIndex(name = "franchise_created", def = "{'franchiseId': 1, 'createdAt': -1}"),
+  @CompoundIndex(
+      name = "franchise_branch_created",
+      def = "{'franchiseId': 1, 'branchId': 1, 'createdAt': -1}")
+})
+public class StockAlertEntity {
+
+  @Id private String id;
+  private String franchiseId;
+  private String branchId;
+  private String productId;
+  private String productName;
+  private String type;
+  private Integer threshold;
+  private Integer previousStock;
+  private Integer stock;
+  private Instant createdAt;
+}
@@ -0,0 +1,326 @@
+package com.accenture.test.accenturetestchallenge.domain.ledger;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockLedgerPort;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Append-only stock ledger kept in memory-mapped segment files under {@code
+ * stock.ledger.directory}. Appends go to the page cache, so they survive a crash of the process
+ * but not of the machine unless {@code stock.ledger.force-on-append} is set.
+ *
+ * <p>The current stock of every product with events is kept in memory. On startup it is loaded
+ * from the latest snapshot and the events after it are replayed. Segments are never deleted, they
+ * hold the full stock history.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !embedded")
+@ConditionalOnProperty(name = "stock.ledger.enabled", havingValue = "true")
+public class MappedStockLedger implements StockLedgerPort {
+
+  private static final String SEGMENT_PREFIX = "stock-ledger-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String SNAPSHOT_FILE = "stock-ledger.snapshot";
+  private static final int SNAPSHOT_VERSION = 1;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final boolean forceOnAppend;
+
+  // Appends write to the mapped segments and may force them to disk, so they run on a thread of
+  // their own instead of the event loop of the request. One thread keeps the lock uncontended.
+  private final Scheduler appendScheduler = Schedulers.newSingle("stock-ledger-append", true);
+
+  private final Map<String, Integer> currentStocks = new HashMap<>();
+  private final List<StockLedgerSegment> segments = new ArrayList<>();
+  private long lastSequence;
+  private long projectedSequence;
+
+  // Where the last readAfter call stopped, so the projector does not rescan the segment.
+  private long readSequence = -1;
+  private int readSegment;
+  private int readPosition;
+
+  public MappedStockLedger(
+      @Value("${stock.ledger.directory:data/stock-ledger}") Path directory,
+      @Value("${stock.ledger.segment-size:64MB}") DataSize segmentSize,
+      @Value("${stock.ledger.force-on-append:false}") boolean forceOnAppend)
+      throws IOException {
+
+    this.directory = directory;
+    this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+    this.forceOnAppend = forceOnAppend;
+
+    Files.createDirectories(directory);
+    long snapshotSequence = loadSnapshot();
+    openSegments(snapshotSequence);
+    log.info(
+        "Stock ledger opened with {} segments, {} products and last sequence {}",
+        segments.size(),
+        currentStocks.size(),
+        lastSequence);
+  }
+
+  @Override
+  public Mono<StockLedgerEvent> appendStockChange(String productId, int storedStock, int newStock) {
+    return Mono.fromCallable(() -> append(productId, storedStock, newStock))
+        .subscribeOn(appendScheduler);
+  }
+
+  private synchronized StockLedgerEvent append(String productId, int storedStock, int newStock)
+      throws IOException {
+
+    int previousStock = currentStocks.getOrDefault(productId, storedStock);
+    StockLedgerEvent event =
+        StockLedgerEvent.builder()
+            .sequence(lastSequence + 1)
+            .productId(productId)
+            .delta(newStock - previousStock)
+            .stock(newStock)
+            .timestamp(Instant.now())
+            .build();
+
+    StockLedgerSegment segment = segments.get(segments.size() - 1);
+    if (!segment.append(event)) {
+      segment = openSegment(event.getSequence());
+      if (!segment.append(event)) {
+        throw new IllegalStateException("Stock ledger event does not fit in an empty segment");
+      }
+    }
+    if (forceOnAppend) {
+      segment.force();
+    }
+
+    lastSequence = event.getSequence();
+    currentStocks.put(productId, newStock);
+    return event;
+  }
+
+  @Override
+  public Flux<StockLedgerEvent> getStockHistory(String productId) {
+    return Flux.defer(
+        () -> {
+          List<StockLedgerSegment> readableSegments;
+          int[] limits;
+          synchronized (this) {
+            readableSegments = List.copyOf(segments);
+            limits =
+                readableSegments.stream().mapToInt(StockLedgerSegment::writePosition).toArray();
+          }
+
+          List<StockLedgerEvent> history = new ArrayList<>();
+          for (int index = 0; index < readableSegments.size(); index++) {
+            readableSegments
+                .get(index)
+                .read(
+                    0,
+                    limits[index],
+                    event -> {
+                      if (productId.equals(event.getProductId())) {
+                        history.add(event);
+                      }
+                      return true;
+                    });
+          }
+          return Flux.fromIterable(history);
+        });
+  }
+
+  /** Up to {@code maxEvents} events with a sequence greater than {@code sequence}, in order. */
+  public synchronized List<StockLedgerEvent> readAfter(long sequence, int maxEvents) {
+    if (sequence != readSequence) {
+      readSegment = 0;
+      while (readSegment + 1 < segments.size()
+          && segments.get(readSegment + 1).firstSequence() <= sequence + 1) {
+        readSegment++;
+      }
+      readPosition = 0;
+    }
+
+    List<StockLedgerEvent> events = new ArrayList<>(maxEvents);
+    while (events.size() < maxEvents) {
+      StockLedgerSegment segment = segments.get(readSegment);
+      int position =
+          segment.read(
+              readPosition,
+              segment.writePosition(),
+              event -> {
+                if (event.getSequence() > sequence) {
+                  events.add(event);
+                }
+                return events.size() < maxEvents;
+              });
+
+      if (position == readPosition) {
+        if (readSegment + 1 == segments.size()) {
+          break;
+        }
+        readSegment++;
+        readPosition = 0;
+      } else {
+        readPosition = position;
+      }
+    }
+
+    readSequence = events.isEmpty() ? sequence : events.get(events.size() - 1).getSequence();
+    return events;
+  }
+
+  public synchronized long getProjectedSequence() {
+    return projectedSequence;
+  }
+
+  /** Marks every event up to {@code sequence} as applied to the database. */
+  public synchronized void markProjected(long sequence) {
+    projectedSequence = Math.max(projectedSequence, sequence);
+  }
+
+  @Scheduled(
+      initialDelayString = "${stock.ledger.snapshot-interval:PT5M}",
+      fixedDelayString = "${stock.ledger.snapshot-interval:PT5M}")
+  public void writeSnapshot() {
+    Map<String, Integer> stocks;
+    long sequence;
+    long projected;
+    synchronized (this) {
+      stocks = Map.copyOf(currentStocks);
+      sequence = lastSequence;
+      projected = projectedSequence;
+    }
+
+    Path snapshot = directory.resolve(SNAPSHOT_FILE);
+    Path partialSnapshot = directory.resolve(SNAPSHOT_FILE + ".tmp");
+    try (OutputStream file = Files.newOutputStream(partialSnapshot);
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+      output.writeInt(SNAPSHOT_VERSION);
+      output.writeLong(sequence);
+      output.writeLong(projected);
+      output.writeInt(stocks.size());
+      for (Map.Entry<String, Integer> stock : stocks.entrySet()) {
+        output.writeUTF(stock.getKey());
+        output.writeInt(stock.getValue());
+      }
+    } catch (IOException e) {
+      log.error("Could not write stock ledger snapshot: {}", e.getMessage(), e);
+      return;
+    }
+
+    try {
+      Files.move(
+          partialSnapshot,
+          snapshot,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      log.debug("Stock ledger snapshot written at sequence {}", sequence);
+    } catch (IOException e) {
+      log.error("Could not replace stock ledger snapshot: {}", e.getMessage(), e);
+    }
+  }
+
+  @PreDestroy
+  public synchronized void close() throws IOException {
+    appendScheduler.dispose();
+    writeSnapshot();
+    for (StockLedgerSegment segment : segments) {
+      segment.close();
+    }
+  }
+
+  private long loadSnapshot() throws IOException {
+    Path snapshot = directory.resolve(SNAPSHOT_FILE);
+    if (!Files.exists(snapshot)) {
+      return 0;
+    }
+
+    try (InputStream file = Files.newInputStream(snapshot);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(file))) {
+      if (input.readInt() != SNAPSHOT_VERSION) {
+        log.warn("Ignoring stock ledger snapshot with unknown version, replaying all segments");
+        return 0;
+      }
+      long sequence = input.readLong();
+      projectedSequence = input.readLong();
+      int products = input.readInt();
+      for (int product = 0; product < products; product++) {
+        currentStocks.put(input.readUTF(), input.readInt());
+      }
+      return sequence;
+    }
+  }
+
+  private void openSegments(long snapshotSequence) throws IOException {
+    List<Path> files;
+    try (Stream<Path> listing = Files.list(directory)) {
+      files =
+          listing
+              .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+              .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+              .sorted()
+              .toList();
+    }
+
+    for (Path file : files) {
+      String name = file.getFileName().toString();
+      long firstSequence =
+          Long.parseLong(
+              name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+      StockLedgerSegment segment = StockLedgerSegment.open(file, firstSequence, segmentSize);
+      segments.add(segment);
+
+      if (segment.lastSequence() > snapshotSequence) {
+        segment.read(
+            0,
+            segment.writePosition(),
+            event -> {
+              if (event.getSequence() > snapshotSequence) {
+                currentStocks.put(event.getProductId(), event.getStock());
+              }
+              return true;
+            });
+      }
+      lastSequence = Math.max(lastSequence, segment.lastSequence());
+    }
+
+    if (segments.isEmpty()) {
+      openSegment(lastSequence + 1);
+    }
+  }
+
+  private StockLedgerSegment openSegment(long firstSequence) throws IOException {
+    Path file =
+        directory.resolve(
+            String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    StockLedgerSegment segment = StockLedgerSegment.open(file, firstSequence, segmentSize);
+    segments.add(segment);
+    log.info("Stock ledger segment {} started", file.getFileName());
+    return segment;
+  }
+}
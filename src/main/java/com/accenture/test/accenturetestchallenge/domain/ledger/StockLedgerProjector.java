@@ -0,0 +1,65 @@
+package com.accenture.test.accenturetestchallenge.domain.ledger;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockLedgerProjectionPort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies stock ledger events to MongoDB in sequence order. Applying an event twice is a no-op,
+ * so after a restart projection resumes from the sequence saved in the last snapshot, completing
+ * the tracking of an event that was cut short.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !embedded")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.ledger.enabled", havingValue = "true")
+public class StockLedgerProjector {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final MappedStockLedger stockLedger;
+  private final StockLedgerProjectionPort stockLedgerProjectionPort;
+
+  /** Projects batches of pending events until the ledger is caught up. */
+  @Scheduled(fixedDelayString = "${stock.ledger.projection-interval:PT0.2S}")
+  public Mono<Void> projectPendingEvents() {
+    return projectBatch()
+        .expand(projected -> projected == BATCH_SIZE ? projectBatch() : Mono.empty())
+        .then()
+        .onErrorResume(
+            error -> {
+              log.warn(
+                  "Stock ledger projection stopped at sequence {}, it will be retried: {}",
+                  stockLedger.getProjectedSequence(),
+                  error.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  private Mono<Integer> projectBatch() {
+    return Mono.defer(
+        () -> {
+          List<StockLedgerEvent> events =
+              stockLedger.readAfter(stockLedger.getProjectedSequence(), BATCH_SIZE);
+
+          return Flux.fromIterable(events)
+              .concatMap(
+                  event ->
+                      stockLedgerProjectionPort
+                          .applyStockLedgerEvent(event)
+                          .then(
+                              Mono.fromRunnable(
+                                  () -> stockLedger.markProjected(event.getSequence()))))
+              .then(Mono.just(events.size()));
+        });
+  }
+}
@@ -0,0 +1,146 @@
+package com.accenture.test.accenturetestchallenge.domain.ledger;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * One memory-mapped file of the stock ledger. Events are appended one after the other as {@code
+ * [length][crc32][sequence][timestamp][delta][stock][productId length][productId]}; the unwritten
+ * tail of the file is zeros, so a zero length, or a checksum that does not match after a crash,
+ * marks the end of the segment.
+ */
+final class StockLedgerSegment implements Closeable {
+
+  private static final int HEADER_BYTES = Integer.BYTES * 2;
+  private static final int FIXED_BODY_BYTES = Long.BYTES * 2 + Integer.BYTES * 2 + Short.BYTES;
+
+  private final long firstSequence;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private int writePosition;
+  private long lastSequence;
+
+  private StockLedgerSegment(long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+    this.firstSequence = firstSequence;
+    this.channel = channel;
+    this.buffer = buffer;
+    this.lastSequence = firstSequence - 1;
+  }
+
+  /** Maps the file, creating it with {@code size} bytes if needed, and finds its end. */
+  static StockLedgerSegment open(Path path, long firstSequence, int size) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    long mappedSize = Math.max(size, channel.size());
+    StockLedgerSegment segment =
+        new StockLedgerSegment(
+            firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+
+    segment.writePosition =
+        segment.read(
+            0,
+            segment.buffer.capacity(),
+            event -> {
+              segment.lastSequence = event.getSequence();
+              return true;
+            });
+    return segment;
+  }
+
+  /** Returns {@code false} when the event does not fit in the rest of the segment. */
+  boolean append(StockLedgerEvent event) {
+    byte[] productId = event.getProductId().getBytes(StandardCharsets.UTF_8);
+    int length = FIXED_BODY_BYTES + productId.length;
+    int position = writePosition;
+    if (position + HEADER_BYTES + length > buffer.capacity()) {
+      return false;
+    }
+
+    int body = position + HEADER_BYTES;
+    buffer.putLong(body, event.getSequence());
+    buffer.putLong(body + Long.BYTES, event.getTimestamp().toEpochMilli());
+    buffer.putInt(body + Long.BYTES * 2, event.getDelta());
+    buffer.putInt(body + Long.BYTES * 2 + Integer.BYTES, event.getStock());
+    buffer.putShort(body + Long.BYTES * 2 + Integer.BYTES * 2, (short) productId.length);
+    buffer.put(body + FIXED_BODY_BYTES, productId);
+
+    buffer.putInt(position + Integer.BYTES, checksum(body, length));
+    buffer.putInt(position, length);
+    writePosition = body + length;
+    lastSequence = event.getSequence();
+    return true;
+  }
+
+  /**
+   * Reads the events between {@code position} and {@code limit}, passing each to {@code visitor}
+   * until it returns {@code false}. Returns the position after the last visited event.
+   */
+  int read(int position, int limit, Predicate<StockLedgerEvent> visitor) {
+    while (position + HEADER_BYTES <= limit) {
+      int length = buffer.getInt(position);
+      int body = position + HEADER_BYTES;
+      if (length < FIXED_BODY_BYTES
+          || body + length > limit
+          || buffer.getInt(position + Integer.BYTES) != checksum(body, length)) {
+        break;
+      }
+
+      if (!visitor.test(decode(body, length))) {
+        return body + length;
+      }
+      position = body + length;
+    }
+    return position;
+  }
+
+  private StockLedgerEvent decode(int body, int length) {
+    byte[] productId = new byte[length - FIXED_BODY_BYTES];
+    buffer.get(body + FIXED_BODY_BYTES, productId);
+
+    return StockLedgerEvent.builder()
+        .sequence(buffer.getLong(body))
+        .timestamp(Instant.ofEpochMilli(buffer.getLong(body + Long.BYTES)))
+        .delta(buffer.getInt(body + Long.BYTES * 2))
+        .stock(buffer.getInt(body + Long.BYTES * 2 + Integer.BYTES))
+        .productId(new String(productId, StandardCharsets.UTF_8))
+        .build();
+  }
+
+  private int checksum(int body, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(buffer.slice(body, length));
+    return (int) crc.getValue();
+  }
+
+  void force() {
+    buffer.force();
+  }
+
+  long firstSequence() {
+    return firstSequence;
+  }
+
+  long lastSequence() {
+    return lastSequence;
+  }
+
+  int writePosition() {
+    return writePosition;
+  }
+
+  @Override
+  public void close() throws IOException {
+    buffer.force();
+    channel.close();
+  }
+}
@@ -0,0 +1,110 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.service.DeletionJobRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryBranchAdapter implements BranchPort {
+
+  private final InMemoryCatalog catalog;
+  private final DeletionJobRegistry deletionJobRegistry;
+
+  @Override
+  public Mono<Branch> createBranch(String franchiseId, String branchName) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise id received: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise id must not be null or empty"));
+    }
+    if (branchName == null || branchName.trim().isEmpty()) {
+      log.warn("Invalid branch name received: '{}'", branchName);
+      return Mono.error(new IllegalArgumentException("Branch name must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.createBranch(franchiseId, branchName.trim()))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .doOnSuccess(branch -> log.info("Branch created. Branch ID: {}", branch.getId()));
+  }
+
+  @Override
+  public Mono<Boolean> existsBranch(String franchiseId, String branchId) {
+    if (areEmpty(franchiseId, branchId)) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.findBranch(franchiseId, branchId) != null);
+  }
+
+  @Override
+  public Mono<Branch> updateBranchName(String franchiseId, String branchId, String newBranchName) {
+    if (areEmpty(franchiseId, branchId)) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.renameBranch(franchiseId, branchId, newBranchName));
+  }
+
+  /** Counters are summed from the catalog on every read, so there is nothing to adjust. */
+  @Override
+  public Mono<Branch> adjustProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta) {
+    return Mono.fromSupplier(() -> catalog.findBranch(franchiseId, branchId));
+  }
+
+  @Override
+  public Mono<Branch> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold) {
+
+    if (areEmpty(franchiseId, branchId) || (threshold != null && threshold < 0)) {
+      log.warn(
+          "Invalid low stock threshold update. FranchiseId: '{}', BranchId: '{}', Threshold: '{}'",
+          franchiseId,
+          branchId,
+          threshold);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID and Branch ID must not be null or empty and threshold must not be negative"));
+    }
+
+    return Mono.fromSupplier(
+            () -> catalog.updateLowStockThreshold(franchiseId, branchId, threshold))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")));
+  }
+
+  /** The branch is removed at once, so the job is returned already completed. */
+  @Override
+  public Mono<DeletionJob> deleteBranch(String franchiseId, String branchId) {
+    if (areEmpty(franchiseId, branchId)) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.deleteBranch(franchiseId, branchId))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
+        .map(
+            deletion ->
+                deletionJobRegistry.completed(
+                    franchiseId, branchId, deletion.products(), deletion.branches()));
+  }
+
+  private boolean areEmpty(String franchiseId, String branchId) {
+    return franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty();
+  }
+}
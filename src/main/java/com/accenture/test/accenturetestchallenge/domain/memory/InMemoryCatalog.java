@@ -0,0 +1,607 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Catalog of the "in-memory" profile. Franchises, branches and products are numbered in creation
+ * order and their fields live in parallel arrays indexed by that number, stock included, so a
+ * product takes a few array slots instead of an entity. Every franchise keeps the numbers of its
+ * branches and every branch those of its products. Ids are the number with a type prefix, such as
+ * {@code p42}.
+ *
+ * <p>Creating a franchise, branch or product, renaming a franchise or deleting a franchise or
+ * branch takes the storage write lock, which may grow the arrays. Everything else takes the
+ * storage read lock plus the lock of the stripe of the branch involved, so changes to different
+ * branches rarely contend.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryCatalog {
+
+  private static final int INITIAL_CAPACITY = 256;
+  private static final int STRIPES = 64;
+  private static final int NO_THRESHOLD = -1;
+  private static final int DELETED = -1;
+
+  private static final String FRANCHISE_PREFIX = "f";
+  private static final String BRANCH_PREFIX = "b";
+  private static final String PRODUCT_PREFIX = "p";
+
+  private final ReentrantReadWriteLock storageLock = new ReentrantReadWriteLock();
+  private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+  private String[] franchiseNames = new String[INITIAL_CAPACITY];
+  private IntList[] franchiseBranches = new IntList[INITIAL_CAPACITY];
+  private int franchiseCount;
+
+  private String[] branchNames = new String[INITIAL_CAPACITY];
+  private int[] branchFranchises = new int[INITIAL_CAPACITY];
+  private int[] branchThresholds = new int[INITIAL_CAPACITY];
+  private IntList[] branchProducts = new IntList[INITIAL_CAPACITY];
+  private int branchCount;
+
+  private String[] productNames = new String[INITIAL_CAPACITY];
+  private String[] productNormalizedNames = new String[INITIAL_CAPACITY];
+  private int[] productBranches = new int[INITIAL_CAPACITY];
+  private int[] productStocks = new int[INITIAL_CAPACITY];
+  private int productCount;
+
+  public InMemoryCatalog() {
+    for (int stripe = 0; stripe < STRIPES; stripe++) {
+      stripes[stripe] = new ReentrantLock();
+    }
+  }
+
+  /** Result of a stock update, with what the caller needs to raise stock alerts. */
+  public record StockUpdate(Product product, int previousStock, Integer lowStockThreshold) {}
+
+  /** What a franchise or branch deletion removed. */
+  public record Deletion(int branches, int products) {}
+
+  public Franchise createFranchise(String name) {
+    return write(
+        () -> {
+          int franchise = franchiseCount;
+          if (franchise == franchiseNames.length) {
+            franchiseNames = grow(franchiseNames);
+            franchiseBranches = grow(franchiseBranches);
+          }
+          franchiseNames[franchise] = name;
+          franchiseBranches[franchise] = new IntList(4);
+          franchiseCount++;
+          return toFranchise(franchise);
+        });
+  }
+
+  public Franchise findFranchise(String franchiseId) {
+    return read(
+        () -> {
+          int franchise = franchiseKey(franchiseId);
+          return franchise < 0 ? null : toFranchise(franchise);
+        });
+  }
+
+  public Franchise renameFranchise(String franchiseId, String name) {
+    return write(
+        () -> {
+          int franchise = franchiseKey(franchiseId);
+          if (franchise < 0) {
+            return null;
+          }
+          franchiseNames[franchise] = name;
+          return toFranchise(franchise);
+        });
+  }
+
+  /** Returns {@code null} when the franchise does not exist. */
+  public Branch createBranch(String franchiseId, String name) {
+    return write(
+        () -> {
+          int franchise = franchiseKey(franchiseId);
+          if (franchise < 0) {
+            return null;
+          }
+          int branch = branchCount;
+          if (branch == branchNames.length) {
+            branchNames = grow(branchNames);
+            branchFranchises = grow(branchFranchises);
+            branchThresholds = grow(branchThresholds);
+            branchProducts = grow(branchProducts);
+          }
+          branchNames[branch] = name;
+          branchFranchises[branch] = franchise;
+          branchThresholds[branch] = NO_THRESHOLD;
+          branchProducts[branch] = new IntList(16);
+          franchiseBranches[franchise].add(branch);
+          branchCount++;
+          return toBranch(branch);
+        });
+  }
+
+  public Branch findBranch(String franchiseId, String branchId) {
+    return inBranch(franchiseId, branchId, this::toBranch);
+  }
+
+  public Branch renameBranch(String franchiseId, String branchId, String name) {
+    return inBranch(
+        franchiseId,
+        branchId,
+        branch -> {
+          branchNames[branch] = name;
+          return toBranch(branch);
+        });
+  }
+
+  public Branch updateLowStockThreshold(String franchiseId, String branchId, Integer threshold) {
+    return inBranch(
+        franchiseId,
+        branchId,
+        branch -> {
+          branchThresholds[branch] = threshold == null ? NO_THRESHOLD : threshold;
+          return toBranch(branch);
+        });
+  }
+
+  /** Returns {@code null} when the branch does not exist. */
+  public Product createProduct(String franchiseId, String branchId, String name, int stock) {
+    return write(
+        () -> {
+          int branch = branchKey(franchiseId, branchId);
+          if (branch < 0) {
+            return null;
+          }
+          int product = productCount;
+          if (product == productNames.length) {
+            productNames = grow(productNames);
+            productNormalizedNames = grow(productNormalizedNames);
+            productBranches = grow(productBranches);
+            productStocks = grow(productStocks);
+          }
+          productNames[product] = name;
+          productNormalizedNames[product] = ProductNames.normalize(name);
+          productBranches[product] = branch;
+          productStocks[product] = stock;
+          branchProducts[branch].add(product);
+          productCount++;
+          return toProduct(product);
+        });
+  }
+
+  public StockUpdate updateStock(String franchiseId, String branchId, String productId, int stock) {
+    return inProduct(
+        franchiseId,
+        branchId,
+        productId,
+        product -> {
+          int previousStock = productStocks[product];
+          productStocks[product] = stock;
+          int threshold = branchThresholds[productBranches[product]];
+          return new StockUpdate(
+              toProduct(product), previousStock, threshold == NO_THRESHOLD ? null : threshold);
+        });
+  }
+
+  public Product renameProduct(String franchiseId, String branchId, String productId, String name) {
+    return inProduct(
+        franchiseId,
+        branchId,
+        productId,
+        product -> {
+          productNames[product] = name;
+          productNormalizedNames[product] = ProductNames.normalize(name);
+          return toProduct(product);
+        });
+  }
+
+  /** Returns the deleted product, or {@code null} when it does not exist. */
+  public Product deleteProduct(String franchiseId, String branchId, String productId) {
+    return inProduct(
+        franchiseId,
+        branchId,
+        productId,
+        product -> {
+          Product deleted = toProduct(product);
+          branchProducts[productBranches[product]].remove(product);
+          productBranches[product] = DELETED;
+          productNames[product] = null;
+          productNormalizedNames[product] = null;
+          return deleted;
+        });
+  }
+
+  /** Returns {@code null} when the branch does not exist. */
+  public Deletion deleteBranch(String franchiseId, String branchId) {
+    return write(
+        () -> {
+          int branch = branchKey(franchiseId, branchId);
+          if (branch < 0) {
+            return null;
+          }
+          franchiseBranches[branchFranchises[branch]].remove(branch);
+          return new Deletion(1, removeBranch(branch));
+        });
+  }
+
+  /** Returns {@code null} when the franchise does not exist. */
+  public Deletion deleteFranchise(String franchiseId) {
+    return write(
+        () -> {
+          int franchise = franchiseKey(franchiseId);
+          if (franchise < 0) {
+            return null;
+          }
+          IntList branches = franchiseBranches[franchise];
+          int products = 0;
+          for (int index = 0; index < branches.size(); index++) {
+            products += removeBranch(branches.get(index));
+          }
+          franchiseNames[franchise] = null;
+          franchiseBranches[franchise] = null;
+          return new Deletion(branches.size(), products);
+        });
+  }
+
+  /** Must be called with the storage write lock held. Returns how many products were removed. */
+  private int removeBranch(int branch) {
+    IntList products = branchProducts[branch];
+    for (int index = 0; index < products.size(); index++) {
+      int product = products.get(index);
+      productBranches[product] = DELETED;
+      productNames[product] = null;
+      productNormalizedNames[product] = null;
+    }
+    branchNames[branch] = null;
+    branchFranchises[branch] = DELETED;
+    branchProducts[branch] = new IntList(0);
+    return products.size();
+  }
+
+  /** Product with the highest stock of every branch of the franchise that has products. */
+  public List<Product> findTopProductPerBranch(String franchiseId) {
+    return read(
+        () -> {
+          int franchise = franchiseKey(franchiseId);
+          if (franchise < 0) {
+            return List.of();
+          }
+          IntList branches = franchiseBranches[franchise];
+          List<Product> topProducts = new ArrayList<>(branches.size());
+          for (int index = 0; index < branches.size(); index++) {
+            Product topProduct =
+                lockedBranch(
+                    branches.get(index),
+                    branch -> {
+                      TopProducts top = new TopProducts(1);
+                      offerProductsOf(branch, top);
+                      return top.products().stream().findFirst().orElse(null);
+                    });
+            if (topProduct != null) {
+              topProducts.add(topProduct);
+            }
+          }
+          return topProducts;
+        });
+  }
+
+  /**
+   * Products with the highest stock, of one franchise or of all of them when {@code franchiseId}
+   * is {@code null}, ties broken by creation order.
+   */
+  public List<Product> findTopByStock(String franchiseId, int limit) {
+    return read(
+        () -> {
+          TopProducts top = new TopProducts(limit);
+          forEachBranch(
+              franchiseId,
+              branch -> {
+                offerProductsOf(branch, top);
+                return null;
+              });
+          return top.products();
+        });
+  }
+
+  /** Products of a franchise, or of one of its branches, whose normalized name matches. */
+  public List<Product> findByNormalizedName(
+      String franchiseId, String branchId, Predicate<String> normalizedNameMatcher) {
+    return read(
+        () -> {
+          List<Product> matches = new ArrayList<>();
+          IntFunction<Void> collectMatches =
+              branch -> {
+                IntList products = branchProducts[branch];
+                for (int index = 0; index < products.size(); index++) {
+                  int product = products.get(index);
+                  if (normalizedNameMatcher.test(productNormalizedNames[product])) {
+                    matches.add(toProduct(product));
+                  }
+                }
+                return null;
+              };
+
+          if (branchId == null) {
+            forEachBranch(franchiseId, collectMatches);
+          } else {
+            int branch = branchKey(franchiseId, branchId);
+            if (branch >= 0) {
+              lockedBranch(branch, collectMatches);
+            }
+          }
+          return matches;
+        });
+  }
+
+  /** Live stock statistics of a franchise, or {@code null} when it does not exist. */
+  public InventoryStats franchiseStats(String franchiseId) {
+    return read(
+        () -> {
+          if (franchiseKey(franchiseId) < 0) {
+            return null;
+          }
+          StatsAccumulator stats = new StatsAccumulator();
+          forEachBranch(
+              franchiseId,
+              branch -> {
+                stats.addProductsOf(branch);
+                return null;
+              });
+          return stats.toStats(franchiseId, null);
+        });
+  }
+
+  /** Live stock statistics of a branch, or {@code null} when it does not exist. */
+  public InventoryStats branchStats(String franchiseId, String branchId) {
+    return inBranch(
+        franchiseId,
+        branchId,
+        branch -> {
+          StatsAccumulator stats = new StatsAccumulator();
+          stats.addProductsOf(branch);
+          return stats.toStats(franchiseId, branchId);
+        });
+  }
+
+  private void offerProductsOf(int branch, TopProducts top) {
+    IntList products = branchProducts[branch];
+    for (int index = 0; index < products.size(); index++) {
+      int product = products.get(index);
+      top.offer(product, productStocks[product]);
+    }
+  }
+
+  /** Runs {@code action} on every branch of a franchise, or of all franchises for {@code null}. */
+  private void forEachBranch(String franchiseId, IntFunction<?> action) {
+    if (franchiseId == null) {
+      for (int branch = 0; branch < branchCount; branch++) {
+        lockedBranch(branch, action);
+      }
+      return;
+    }
+
+    int franchise = franchiseKey(franchiseId);
+    if (franchise < 0) {
+      return;
+    }
+    IntList branches = franchiseBranches[franchise];
+    for (int index = 0; index < branches.size(); index++) {
+      lockedBranch(branches.get(index), action);
+    }
+  }
+
+  private <T> T inProduct(
+      String franchiseId, String branchId, String productId, IntFunction<T> action) {
+    return inBranch(
+        franchiseId,
+        branchId,
+        branch -> {
+          int product = parseKey(productId, PRODUCT_PREFIX);
+          if (product < 0 || product >= productCount || productBranches[product] != branch) {
+            return null;
+          }
+          return action.apply(product);
+        });
+  }
+
+  private <T> T inBranch(String franchiseId, String branchId, IntFunction<T> action) {
+    return read(
+        () -> {
+          int branch = branchKey(franchiseId, branchId);
+          return branch < 0 ? null : lockedBranch(branch, action);
+        });
+  }
+
+  /** Must be called with the storage lock held. */
+  private <T> T lockedBranch(int branch, IntFunction<T> action) {
+    ReentrantLock stripe = stripes[branch % STRIPES];
+    stripe.lock();
+    try {
+      return action.apply(branch);
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  private <T> T read(Supplier<T> action) {
+    storageLock.readLock().lock();
+    try {
+      return action.get();
+    } finally {
+      storageLock.readLock().unlock();
+    }
+  }
+
+  private <T> T write(Supplier<T> action) {
+    storageLock.writeLock().lock();
+    try {
+      return action.get();
+    } finally {
+      storageLock.writeLock().unlock();
+    }
+  }
+
+  private int franchiseKey(String franchiseId) {
+    int franchise = parseKey(franchiseId, FRANCHISE_PREFIX);
+    if (franchise < 0 || franchise >= franchiseCount || franchiseBranches[franchise] == null) {
+      return -1;
+    }
+    return franchise;
+  }
+
+  private int branchKey(String franchiseId, String branchId) {
+    int franchise = franchiseKey(franchiseId);
+    int branch = parseKey(branchId, BRANCH_PREFIX);
+    if (franchise < 0 || branch < 0 || branch >= branchCount) {
+      return -1;
+    }
+    return branchFranchises[branch] == franchise ? branch : -1;
+  }
+
+  private static int parseKey(String id, String prefix) {
+    if (id == null || id.length() <= prefix.length() || !id.startsWith(prefix)) {
+      return -1;
+    }
+    try {
+      return Math.max(-1, Integer.parseInt(id, prefix.length(), id.length(), 10));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private Franchise toFranchise(int franchise) {
+    return Franchise.builder()
+        .id(FRANCHISE_PREFIX + franchise)
+        .name(franchiseNames[franchise])
+        .build();
+  }
+
+  private Branch toBranch(int branch) {
+    IntList products = branchProducts[branch];
+    long totalStock = 0;
+    for (int index = 0; index < products.size(); index++) {
+      totalStock += productStocks[products.get(index)];
+    }
+    int threshold = branchThresholds[branch];
+
+    return Branch.builder()
+        .franchiseId(FRANCHISE_PREFIX + branchFranchises[branch])
+        .id(BRANCH_PREFIX + branch)
+        .name(branchNames[branch])
+        .productCount(products.size())
+        .totalStock(totalStock)
+        .lowStockThreshold(threshold == NO_THRESHOLD ? null : threshold)
+        .build();
+  }
+
+  private Product toProduct(int product) {
+    int branch = productBranches[product];
+    return Product.builder()
+        .franchiseId(FRANCHISE_PREFIX + branchFranchises[branch])
+        .branchId(BRANCH_PREFIX + branch)
+        .id(PRODUCT_PREFIX + product)
+        .name(productNames[product])
+        .stock(productStocks[product])
+        .build();
+  }
+
+  private static <T> T[] grow(T[] values) {
+    return Arrays.copyOf(values, values.length * 2);
+  }
+
+  private static int[] grow(int[] values) {
+    return Arrays.copyOf(values, values.length * 2);
+  }
+
+  /** Bounded top by stock, descending, ties broken by the lowest product number. */
+  private final class TopProducts {
+
+    private final int[] products;
+    private final int[] stocks;
+    private final Product[] snapshots;
+    private int size;
+
+    TopProducts(int limit) {
+      products = new int[limit];
+      stocks = new int[limit];
+      snapshots = new Product[limit];
+    }
+
+    /** Must be called with the lock of the product's branch held. */
+    void offer(int product, int stock) {
+      int position = size;
+      while (position > 0 && ranksBefore(product, stock, position - 1)) {
+        position--;
+      }
+      if (position == products.length) {
+        return;
+      }
+
+      int moved = Math.min(size, products.length - 1) - position;
+      System.arraycopy(products, position, products, position + 1, moved);
+      System.arraycopy(stocks, position, stocks, position + 1, moved);
+      System.arraycopy(snapshots, position, snapshots, position + 1, moved);
+      products[position] = product;
+      stocks[position] = stock;
+      snapshots[position] = toProduct(product);
+      size = Math.min(size + 1, products.length);
+    }
+
+    private boolean ranksBefore(int product, int stock, int position) {
+      return stock > stocks[position]
+          || (stock == stocks[position] && product < products[position]);
+    }
+
+    List<Product> products() {
+      return List.of(Arrays.copyOf(snapshots, size));
+    }
+  }
+
+  /** Must be used with the lock of every added branch held. */
+  private final class StatsAccumulator {
+
+    private long productCount;
+    private long totalStock;
+    private int minStock = Integer.MAX_VALUE;
+    private int maxStock = Integer.MIN_VALUE;
+    private long outOfStockCount;
+
+    void addProductsOf(int branch) {
+      IntList products = branchProducts[branch];
+      for (int index = 0; index < products.size(); index++) {
+        int stock = productStocks[products.get(index)];
+        productCount++;
+        totalStock += stock;
+        minStock = Math.min(minStock, stock);
+        maxStock = Math.max(maxStock, stock);
+        if (stock <= 0) {
+          outOfStockCount++;
+        }
+      }
+    }
+
+    InventoryStats toStats(String franchiseId, String branchId) {
+      return InventoryStats.builder()
+          .franchiseId(franchiseId)
+          .branchId(branchId)
+          .productCount(productCount)
+          .totalStock(totalStock)
+          .minStock(productCount == 0 ? null : minStock)
+          .maxStock(productCount == 0 ? null : maxStock)
+          .outOfStockCount(outOfStockCount)
+          .build();
+    }
+  }
+}
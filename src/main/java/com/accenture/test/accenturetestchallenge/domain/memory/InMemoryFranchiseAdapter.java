@@ -0,0 +1,69 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.service.DeletionJobRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryFranchiseAdapter implements FranchisePort {
+
+  private final InMemoryCatalog catalog;
+  private final DeletionJobRegistry deletionJobRegistry;
+
+  @Override
+  public Mono<Franchise> createFranchise(String franchiseName) {
+    if (franchiseName == null || franchiseName.trim().isEmpty()) {
+      log.warn("Invalid franchise name received: '{}'", franchiseName);
+      return Mono.error(new IllegalArgumentException("Franchise name must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.createFranchise(franchiseName.trim()))
+        .doOnSuccess(
+            franchise -> log.info("Franchise created. Franchise ID: {}", franchise.getId()));
+  }
+
+  @Override
+  public Mono<Boolean> existsFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for existence check: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.findFranchise(franchiseId) != null);
+  }
+
+  @Override
+  public Mono<Franchise> updateFranchiseName(String franchiseId, String newFranchiseName) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for update check: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.renameFranchise(franchiseId, newFranchiseName));
+  }
+
+  /** The franchise is removed at once, so the job is returned already completed. */
+  @Override
+  public Mono<DeletionJob> deleteFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for deletion: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.deleteFranchise(franchiseId))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .map(
+            deletion ->
+                deletionJobRegistry.completed(
+                    franchiseId, null, deletion.products(), deletion.branches()));
+  }
+}
@@ -0,0 +1,76 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stats computed from the catalog on every request, which is cheap in memory, so the record and
+ * refresh operations have nothing to do.
+ */
+@Slf4j
+@Service
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryInventoryStatsAdapter implements InventoryStatsPort {
+
+  private final InMemoryCatalog catalog;
+
+  @Override
+  public Mono<InventoryStats> getFranchiseStats(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for stats: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.franchiseStats(franchiseId))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")));
+  }
+
+  @Override
+  public Mono<InventoryStats> getBranchStats(String franchiseId, String branchId) {
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.branchStats(franchiseId, branchId))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")));
+  }
+
+  @Override
+  public Mono<Void> recordProductAdded(String franchiseId, String branchId, int stock) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<Void> recordProductsAdded(
+      String franchiseId, String branchId, List<Integer> stocks) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<Void> recordProductRemoved(String franchiseId, String branchId, int stock) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<Void> recordStockChanged(
+      String franchiseId, String branchId, int previousStock, int newStock) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<Void> refreshStats() {
+    return Mono.empty();
+  }
+}
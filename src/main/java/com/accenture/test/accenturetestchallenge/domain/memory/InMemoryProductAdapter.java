@@ -0,0 +1,262 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import com.accenture.test.accenturetestchallenge.domain.memory.InMemoryCatalog.StockUpdate;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Product operations on {@link InMemoryCatalog}, with the validation and error messages of the
+ * MongoDB backed service.
+ */
+@Slf4j
+@Service
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryProductAdapter implements ProductPort {
+
+  private static final int MAX_SEARCH_RESULTS = 100;
+  private static final int MAX_TOP_PRODUCTS = 100;
+
+  private final InMemoryCatalog catalog;
+  private final StockAlertPort stockAlertPort;
+
+  @Override
+  public Mono<Product> createProduct(String franchiseId, String branchId, Product product) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise id received: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise id must not be null or empty"));
+    }
+    if (branchId == null || branchId.trim().isEmpty()) {
+      log.warn("Invalid branch id received: '{}'", branchId);
+      return Mono.error(new IllegalArgumentException("Branch id must not be null or empty"));
+    }
+
+    return Mono.defer(
+        () -> {
+          if (catalog.findFranchise(franchiseId) == null) {
+            return Mono.error(new IllegalArgumentException("Franchise does not exist"));
+          }
+          if (catalog.findBranch(franchiseId, branchId) == null) {
+            return Mono.error(new IllegalArgumentException("Branch does not exist"));
+          }
+          if (product.getName() == null
+              || product.getName().trim().isEmpty()
+              || product.getStock() == null
+              || product.getStock() < 0) {
+            log.warn("Invalid product received: '{}'", product);
+            return Mono.error(
+                new IllegalArgumentException("Product name or stock must not be null or empty"));
+          }
+
+          return Mono.justOrEmpty(
+                  catalog.createProduct(
+                      franchiseId, branchId, product.getName(), product.getStock()))
+              .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")));
+        });
+  }
+
+  @Override
+  public Mono<Void> deleteProduct(String franchiseId, String branchId, String productId) {
+    if (areEmpty(franchiseId, branchId, productId)) {
+      log.warn(
+          "Invalid input for deletion. FranchiseId: '{}', BranchId: '{}', ProductId: '{}'",
+          franchiseId,
+          branchId,
+          productId);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID, Branch ID and Product ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.deleteProduct(franchiseId, branchId, productId))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .then();
+  }
+
+  @Override
+  public Mono<Product> updateProductStock(
+      String franchiseId, String branchId, String productId, int stock) {
+
+    if (areEmpty(franchiseId, branchId, productId) || stock < 0) {
+      log.warn(
+          "Invalid input for update stock. FranchiseId: '{}', BranchId: '{}', ProductId: '{}', Stock: '{}'",
+          franchiseId,
+          branchId,
+          productId,
+          stock);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID, Branch ID and Product ID must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(() -> catalog.updateStock(franchiseId, branchId, productId, stock))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .flatMap(update -> checkLowStockThreshold(update).thenReturn(update.product()));
+  }
+
+  private Mono<Void> checkLowStockThreshold(StockUpdate update) {
+    Integer threshold = update.lowStockThreshold();
+    if (threshold == null) {
+      return Mono.empty();
+    }
+
+    Product product = update.product();
+    StockAlertType alertType =
+        StockAlertType.forStockChange(threshold, update.previousStock(), product.getStock());
+    if (alertType == null) {
+      return Mono.empty();
+    }
+
+    return stockAlertPort.raiseAlert(
+        StockAlert.builder()
+            .franchiseId(product.getFranchiseId())
+            .branchId(product.getBranchId())
+            .productId(product.getId())
+            .productName(product.getName())
+            .type(alertType)
+            .threshold(threshold)
+            .previousStock(update.previousStock())
+            .stock(product.getStock())
+            .build());
+  }
+
+  @Override
+  public Mono<Product> updateProductName(
+      String franchiseId, String branchId, String productId, String newProductName) {
+
+    if (areEmpty(franchiseId, branchId, productId)
+        || newProductName == null
+        || newProductName.isEmpty()) {
+      log.warn(
+          "Invalid input for update stock. FranchiseId: '{}', BranchId: '{}', ProductId: '{}', newProductName: '{}'",
+          franchiseId,
+          branchId,
+          productId,
+          newProductName);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID, Branch ID, Product ID and new Product name must not be null or empty"));
+    }
+
+    return Mono.fromSupplier(
+            () -> catalog.renameProduct(franchiseId, branchId, productId, newProductName))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")));
+  }
+
+  private boolean areEmpty(String franchiseId, String branchId, String productId) {
+    return franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty()
+        || productId == null
+        || productId.trim().isEmpty();
+  }
+
+  @Override
+  public Flux<Product> getTopProductsByFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for top products: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return Flux.defer(() -> Flux.fromIterable(catalog.findTopProductPerBranch(franchiseId)));
+  }
+
+  @Override
+  public Flux<Product> getTopProductsAcrossBranches(String franchiseId, int limit) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for franchise top products: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return findTopByStock(franchiseId, limit);
+  }
+
+  @Override
+  public Flux<Product> getTopProductsAcrossFranchises(int limit) {
+    return findTopByStock(null, limit);
+  }
+
+  private Flux<Product> findTopByStock(String franchiseId, int limit) {
+    int boundedLimit = Math.max(1, Math.min(limit, MAX_TOP_PRODUCTS));
+    return Flux.defer(() -> Flux.fromIterable(catalog.findTopByStock(franchiseId, boundedLimit)));
+  }
+
+  @Override
+  public Flux<Product> searchProducts(
+      String franchiseId, String branchId, String query, ProductSearchMode mode, int limit) {
+
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || query == null
+        || query.trim().isEmpty()) {
+      log.warn("Invalid product search. FranchiseId: '{}', Query: '{}'", franchiseId, query);
+      return Flux.error(
+          new IllegalArgumentException("Franchise ID and search query must not be null or empty"));
+    }
+
+    String scopedBranchId = branchId == null || branchId.trim().isEmpty() ? null : branchId;
+    int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+    return Flux.defer(
+        () ->
+            Flux.fromIterable(
+                mode == ProductSearchMode.TEXT
+                    ? searchByText(franchiseId, scopedBranchId, query, boundedLimit)
+                    : searchByNamePrefix(franchiseId, scopedBranchId, query, boundedLimit)));
+  }
+
+  private List<Product> searchByNamePrefix(
+      String franchiseId, String branchId, String query, int limit) {
+
+    String prefix = ProductNames.normalize(query);
+    return catalog
+        .findByNormalizedName(franchiseId, branchId, name -> name.startsWith(prefix))
+        .stream()
+        .sorted(Comparator.comparing(product -> ProductNames.normalize(product.getName())))
+        .limit(limit)
+        .toList();
+  }
+
+  /** Ranks products by how many of the query words their name contains, like the text index. */
+  private List<Product> searchByText(
+      String franchiseId, String branchId, String query, int limit) {
+
+    Set<String> terms = words(ProductNames.normalize(query));
+    return catalog
+        .findByNormalizedName(
+            franchiseId, branchId, name -> words(name).stream().anyMatch(terms::contains))
+        .stream()
+        .sorted(
+            Comparator.comparingLong(
+                    (Product product) ->
+                        words(ProductNames.normalize(product.getName())).stream()
+                            .filter(terms::contains)
+                            .count())
+                .reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  private static Set<String> words(String text) {
+    return Arrays.stream(text.split("\\s+"))
+        .filter(word -> !word.isEmpty())
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,103 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.service.StockAlertBroadcast;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Keeps the latest {@value #MAX_ALERTS} alerts of every franchise, newest first. */
+@Slf4j
+@Service
+@Profile("in-memory")
+public class InMemoryStockAlertAdapter implements StockAlertPort {
+
+  private static final int MAX_ALERTS = 200;
+
+  private final Map<String, Deque<StockAlert>> alertsByFranchise = new ConcurrentHashMap<>();
+  private final AtomicLong alertSequence = new AtomicLong();
+  private final StockAlertBroadcast alertBroadcast = new StockAlertBroadcast();
+
+  @Override
+  public Mono<Void> raiseAlert(StockAlert stockAlert) {
+    return Mono.fromRunnable(
+        () -> {
+          stockAlert.setId("a" + alertSequence.incrementAndGet());
+          stockAlert.setCreatedAt(Instant.now());
+
+          Deque<StockAlert> alerts =
+              alertsByFranchise.computeIfAbsent(
+                  stockAlert.getFranchiseId(), franchiseId -> new ArrayDeque<>());
+          synchronized (alerts) {
+            alerts.addFirst(stockAlert);
+            if (alerts.size() > MAX_ALERTS) {
+              alerts.removeLast();
+            }
+          }
+
+          log.info(
+              "{} alert raised for product {} of branch {} (stock {}, threshold {})",
+              stockAlert.getType(),
+              stockAlert.getProductId(),
+              stockAlert.getBranchId(),
+              stockAlert.getStock(),
+              stockAlert.getThreshold());
+          alertBroadcast.publish(stockAlert);
+        });
+  }
+
+  @Override
+  public Flux<StockAlert> getAlerts(String franchiseId, String branchId, int limit) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for stock alerts: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    int boundedLimit = Math.max(1, Math.min(limit, MAX_ALERTS));
+    boolean allBranches = branchId == null || branchId.trim().isEmpty();
+
+    return Flux.defer(
+        () -> {
+          Deque<StockAlert> alerts = alertsByFranchise.get(franchiseId);
+          if (alerts == null) {
+            return Flux.empty();
+          }
+
+          List<StockAlert> matches = new ArrayList<>(boundedLimit);
+          synchronized (alerts) {
+            for (StockAlert alert : alerts) {
+              if (allBranches || branchId.equals(alert.getBranchId())) {
+                matches.add(alert);
+                if (matches.size() == boundedLimit) {
+                  break;
+                }
+              }
+            }
+          }
+          return Flux.fromIterable(matches);
+        });
+  }
+
+  @Override
+  public Flux<StockAlert> streamAlerts(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for stock alert stream: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return alertBroadcast
+        .asFlux()
+        .filter(stockAlert -> franchiseId.equals(stockAlert.getFranchiseId()));
+  }
+}
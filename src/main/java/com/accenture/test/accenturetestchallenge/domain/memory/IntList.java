@@ -0,0 +1,40 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import java.util.Arrays;
+
+/** Growable list of {@code int}s, for the indexes of {@link InMemoryCatalog}. Not thread-safe. */
+final class IntList {
+
+  private int[] values;
+  private int size;
+
+  IntList(int initialCapacity) {
+    values = new int[Math.max(1, initialCapacity)];
+  }
+
+  void add(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+    }
+    values[size++] = value;
+  }
+
+  /** Removes one occurrence of {@code value}, moving the last value into its slot. */
+  boolean remove(int value) {
+    for (int index = 0; index < size; index++) {
+      if (values[index] == value) {
+        values[index] = values[--size];
+        return true;
+      }
+    }
+    return false;
+  }
+
+  int get(int index) {
+    return values[index];
+  }
+
+  int size() {
+    return size;
+  }
+}
@@ -14,4 +14,13 @@ public class Branch {
   private String franchiseId;
   private String id;
   private String name;
+  private long productCount;
+  private long totalStock;
+  private Integer lowStockThreshold;
+
+  public Branch(String franchiseId, String id, String name) {
+    this.franchiseId = franchiseId;
+    this.id = id;
+    this.name = name;
+  }
 }
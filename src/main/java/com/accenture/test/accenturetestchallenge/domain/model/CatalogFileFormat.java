@@ -0,0 +1,6 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+public enum CatalogFileFormat {
+  CSV,
+  NDJSON
+}
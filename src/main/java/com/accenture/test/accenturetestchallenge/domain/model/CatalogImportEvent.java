@@ -0,0 +1,24 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reported while a catalog file is imported. Row errors carry the line and the reason it was
+ * skipped, progress and completion events the running totals.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogImportEvent {
+
+  private CatalogImportEventType type;
+  private Long line;
+  private String message;
+  private long rowsRead;
+  private long imported;
+  private long failed;
+}
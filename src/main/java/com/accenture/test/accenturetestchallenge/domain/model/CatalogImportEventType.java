@@ -0,0 +1,7 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+public enum CatalogImportEventType {
+  ROW_ERROR,
+  PROGRESS,
+  COMPLETED
+}
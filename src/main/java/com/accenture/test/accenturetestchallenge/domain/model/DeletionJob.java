@@ -0,0 +1,30 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Deletion of a branch, or of a franchise when {@code branchId} is {@code null}, with everything
+ * that belongs to it. {@code expectedProducts} is read from the branch counters when the job
+ * starts, so it is an estimate of the products left to delete.
+ */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeletionJob {
+
+  private String id;
+  private String franchiseId;
+  private String branchId;
+  private DeletionJobStatus status;
+  private long expectedProducts;
+  private long deletedProducts;
+  private long deletedBranches;
+  private Instant startedAt;
+  private Instant finishedAt;
+  private String error;
+}
@@ -0,0 +1,7 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+public enum DeletionJobStatus {
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,23 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryStats {
+
+  private String franchiseId;
+  private String branchId;
+  private long productCount;
+  private long totalStock;
+  private Integer minStock;
+  private Integer maxStock;
+  private long outOfStockCount;
+  private Instant refreshedAt;
+}
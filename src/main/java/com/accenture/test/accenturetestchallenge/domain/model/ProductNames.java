@@ -0,0 +1,12 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+import java.util.Locale;
+
+public final class ProductNames {
+
+  private ProductNames() {}
+
+  public static String normalize(String name) {
+    return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+  }
+}
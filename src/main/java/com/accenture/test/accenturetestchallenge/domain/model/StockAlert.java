@@ -0,0 +1,25 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockAlert {
+
+  private String id;
+  private String franchiseId;
+  private String branchId;
+  private String productId;
+  private String productName;
+  private StockAlertType type;
+  private int threshold;
+  private int previousStock;
+  private int stock;
+  private Instant createdAt;
+}
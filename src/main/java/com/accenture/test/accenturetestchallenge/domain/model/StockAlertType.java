@@ -0,0 +1,20 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+public enum StockAlertType {
+  LOW_STOCK,
+  RESTOCKED;
+
+  /**
+   * Alert raised when the stock of a product goes from {@code previousStock} to {@code newStock},
+   * or {@code null} when it does not cross the threshold.
+   */
+  public static StockAlertType forStockChange(int threshold, int previousStock, int newStock) {
+    if (previousStock >= threshold && newStock < threshold) {
+      return LOW_STOCK;
+    }
+    if (previousStock < threshold && newStock >= threshold) {
+      return RESTOCKED;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,20 @@
+package com.accenture.test.accenturetestchallenge.domain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockLedgerEvent {
+
+  private long sequence;
+  private String productId;
+  private int delta;
+  private int stock;
+  private Instant timestamp;
+}
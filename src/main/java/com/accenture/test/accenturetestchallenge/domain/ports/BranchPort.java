@@ -1,6 +1,7 @@
 package com.accenture.test.accenturetestchallenge.domain.ports;
 
 import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
 import reactor.core.publisher.Mono;
 
 public interface BranchPort {
@@ -10,4 +11,15 @@ public interface BranchPort {
   Mono<Boolean> existsBranch(String franchiseId, String branchId);
 
   Mono<Branch> updateBranchName(String franchiseId, String branchId, String newBranchName);
+
+  Mono<Branch> adjustProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta);
+
+  Mono<Branch> updateLowStockThreshold(String franchiseId, String branchId, Integer threshold);
+
+  /**
+   * Starts deleting a branch with its products and returns the job tracking it. The deletion
+   * goes on in the background after the returned job is emitted.
+   */
+  Mono<DeletionJob> deleteBranch(String franchiseId, String branchId);
 }
@@ -0,0 +1,13 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import reactor.core.publisher.Flux;
+
+public interface CatalogExportPort {
+
+  /**
+   * Lines of a catalog file with every product of a franchise, each ending with a line break,
+   * emitted as the products are read. CSV files start with a header line.
+   */
+  Flux<String> exportProducts(String franchiseId, CatalogFileFormat format);
+}
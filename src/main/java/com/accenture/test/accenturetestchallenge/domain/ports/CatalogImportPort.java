@@ -0,0 +1,15 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogImportEvent;
+import reactor.core.publisher.Flux;
+
+public interface CatalogImportPort {
+
+  /**
+   * Imports the products of a catalog file into the branches of a franchise, reading {@code lines}
+   * as they are requested. Invalid rows are reported and skipped, the rest is imported.
+   */
+  Flux<CatalogImportEvent> importProducts(
+      String franchiseId, CatalogFileFormat format, Flux<String> lines);
+}
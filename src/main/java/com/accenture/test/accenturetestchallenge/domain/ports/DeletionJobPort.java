@@ -0,0 +1,13 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import reactor.core.publisher.Mono;
+
+public interface DeletionJobPort {
+
+  /**
+   * Fails with {@link IllegalArgumentException} when the job does not exist or finished long
+   * enough ago to be forgotten.
+   */
+  Mono<DeletionJob> getDeletionJob(String jobId);
+}
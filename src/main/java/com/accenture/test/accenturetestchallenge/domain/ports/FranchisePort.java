@@ -1,5 +1,6 @@
 package com.accenture.test.accenturetestchallenge.domain.ports;
 
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
 import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
 import reactor.core.publisher.Mono;
 
@@ -10,4 +11,10 @@ public interface FranchisePort {
   Mono<Boolean> existsFranchise(String franchiseId);
 
   Mono<Franchise> updateFranchiseName(String franchiseId, String newFranchiseName);
+
+  /**
+   * Starts deleting a franchise with its branches and products and returns the job tracking it.
+   * The deletion goes on in the background after the returned job is emitted.
+   */
+  Mono<DeletionJob> deleteFranchise(String franchiseId);
 }
@@ -0,0 +1,24 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+public interface InventoryStatsPort {
+
+  Mono<InventoryStats> getFranchiseStats(String franchiseId);
+
+  Mono<InventoryStats> getBranchStats(String franchiseId, String branchId);
+
+  Mono<Void> recordProductAdded(String franchiseId, String branchId, int stock);
+
+  /** Records a batch of products added to one branch, with a single update per stats document. */
+  Mono<Void> recordProductsAdded(String franchiseId, String branchId, List<Integer> stocks);
+
+  Mono<Void> recordProductRemoved(String franchiseId, String branchId, int stock);
+
+  Mono<Void> recordStockChanged(
+      String franchiseId, String branchId, int previousStock, int newStock);
+
+  Mono<Void> refreshStats();
+}
@@ -1,6 +1,7 @@
 package com.accenture.test.accenturetestchallenge.domain.ports;
 
 import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -15,6 +16,13 @@ public interface ProductPort {
 
   Flux<Product> getTopProductsByFranchise(String franchiseId);
 
+  Flux<Product> getTopProductsAcrossBranches(String franchiseId, int limit);
+
+  Flux<Product> getTopProductsAcrossFranchises(int limit);
+
   Mono<Product> updateProductName(
       String franchiseId, String branchId, String productId, String newProductName);
+
+  Flux<Product> searchProducts(
+      String franchiseId, String branchId, String query, ProductSearchMode mode, int limit);
 }
@@ -0,0 +1,14 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface StockAlertPort {
+
+  Mono<Void> raiseAlert(StockAlert stockAlert);
+
+  Flux<StockAlert> getAlerts(String franchiseId, String branchId, int limit);
+
+  Flux<StockAlert> streamAlerts(String franchiseId);
+}
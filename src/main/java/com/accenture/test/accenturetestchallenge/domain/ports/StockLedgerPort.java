@@ -0,0 +1,17 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface StockLedgerPort {
+
+  /**
+   * Records that the stock of a product changed to {@code newStock}. {@code storedStock} is the
+   * stock read from the database, used as the previous stock when the ledger has no events for
+   * the product yet.
+   */
+  Mono<StockLedgerEvent> appendStockChange(String productId, int storedStock, int newStock);
+
+  Flux<StockLedgerEvent> getStockHistory(String productId);
+}
@@ -0,0 +1,13 @@
+package com.accenture.test.accenturetestchallenge.domain.ports;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import reactor.core.publisher.Mono;
+
+public interface StockLedgerProjectionPort {
+
+  /**
+   * Applies a stock ledger event to the stored catalog and tracks it like a direct stock update.
+   * Applying an event again, such as after a restart, changes nothing that it already changed.
+   */
+  Mono<Void> applyStockLedgerEvent(StockLedgerEvent event);
+}
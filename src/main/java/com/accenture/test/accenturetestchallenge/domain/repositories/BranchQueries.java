@@ -0,0 +1,50 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Branch filters and updates shared by {@link BranchRepositoryCustomImpl} and the synchronous
+ * repository.
+ */
+@Component
+@RequiredArgsConstructor
+public class BranchQueries {
+
+  private final ReferenceCriteria referenceCriteria;
+  private final LegacyFieldCriteria legacyFieldCriteria;
+
+  public Query byFranchiseAndId(String franchiseId, String branchId) {
+    return legacyFieldCriteria.query(List.of(where("id").is(branchId), franchise(franchiseId)));
+  }
+
+  public Query byFranchise(String franchiseId) {
+    return Query.query(franchise(franchiseId));
+  }
+
+  /**
+   * Sets the product counters from a {@link ProductQueries#stockSummary} row, or to zero when
+   * {@code summary} is null because the branch has no products.
+   */
+  public static Update productCounters(Document summary) {
+    if (summary == null) {
+      return new Update().set("productCount", 0L).set("totalStock", 0L);
+    }
+    return new Update()
+        .set("productCount", summary.get("productCount", Number.class).longValue())
+        .set("totalStock", summary.get("totalStock", Number.class).longValue());
+  }
+
+  private Criteria franchise(String franchiseId) {
+    return referenceCriteria.reference(
+        BranchEntity.FRANCHISE_ID_FIELD, "franchiseId", franchiseId);
+  }
+}
@@ -1,14 +1,14 @@
 package com.accenture.test.accenturetestchallenge.domain.repositories;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
-import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.repository.RepositoryDefinition;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+/** CRUD methods are declared one by one, as in {@link ProductRepository}. */
 @Repository
-public interface BranchRepository extends ReactiveMongoRepository<BranchEntity, String> {
+@RepositoryDefinition(domainClass = BranchEntity.class, idClass = String.class)
+public interface BranchRepository extends BranchRepositoryCustom {
 
-  Mono<Boolean> existsByFranchiseIdAndId(String franchiseId, String branchId);
-
-  Mono<BranchEntity> findByFranchiseIdAndId(String franchiseId, String branchId);
+  <S extends BranchEntity> Mono<S> save(S branch);
 }
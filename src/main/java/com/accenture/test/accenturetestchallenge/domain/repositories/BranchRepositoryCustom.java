@@ -0,0 +1,44 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Filters on the franchise id match references in both stored forms while string reads are on,
+ * see {@link ReferenceCriteria}.
+ */
+public interface BranchRepositoryCustom {
+
+  Mono<Boolean> existsByFranchiseIdAndId(String franchiseId, String branchId);
+
+  Mono<BranchEntity> findByFranchiseIdAndId(String franchiseId, String branchId);
+
+  Flux<BranchEntity> findByFranchiseId(String franchiseId);
+
+  Mono<Long> deleteByFranchiseIdAndId(String franchiseId, String branchId);
+
+  Mono<Long> deleteByFranchiseId(String franchiseId);
+
+  Mono<BranchEntity> updateName(String franchiseId, String branchId, String newBranchName);
+
+  Mono<BranchEntity> incrementProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta);
+
+  /**
+   * Sets the product counters of a branch from the products it holds, for when the changes to
+   * apply are not known. Returns the updated branch, or empty when it does not exist.
+   */
+  Mono<BranchEntity> recountProducts(String franchiseId, String branchId);
+
+  Mono<BranchEntity> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold);
+
+  /**
+   * Adds the stock change of a stock ledger event to the branch counters, unless an event with the
+   * same or a later sequence was already added. Returns the updated branch, or empty when nothing
+   * changed.
+   */
+  Mono<BranchEntity> applyLedgerStockDelta(
+      String franchiseId, String branchId, long stockDelta, long ledgerSequence);
+}
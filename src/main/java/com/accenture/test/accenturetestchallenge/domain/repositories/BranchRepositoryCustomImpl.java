@@ -0,0 +1,120 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.mongodb.client.result.DeleteResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class BranchRepositoryCustomImpl implements BranchRepositoryCustom {
+
+  private static final String PRODUCTS_COLLECTION = "products";
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+  private final BranchQueries branchQueries;
+  private final ProductQueries productQueries;
+
+  @Override
+  public Mono<Boolean> existsByFranchiseIdAndId(String franchiseId, String branchId) {
+    return reactiveMongoTemplate.exists(
+        branchQueries.byFranchiseAndId(franchiseId, branchId), BranchEntity.class);
+  }
+
+  @Override
+  public Mono<BranchEntity> findByFranchiseIdAndId(String franchiseId, String branchId) {
+    return reactiveMongoTemplate.findOne(
+        branchQueries.byFranchiseAndId(franchiseId, branchId), BranchEntity.class);
+  }
+
+  @Override
+  public Flux<BranchEntity> findByFranchiseId(String franchiseId) {
+    return reactiveMongoTemplate.find(branchQueries.byFranchise(franchiseId), BranchEntity.class);
+  }
+
+  @Override
+  public Mono<Long> deleteByFranchiseIdAndId(String franchiseId, String branchId) {
+    return reactiveMongoTemplate
+        .remove(branchQueries.byFranchiseAndId(franchiseId, branchId), BranchEntity.class)
+        .map(DeleteResult::getDeletedCount);
+  }
+
+  @Override
+  public Mono<Long> deleteByFranchiseId(String franchiseId) {
+    return reactiveMongoTemplate
+        .remove(branchQueries.byFranchise(franchiseId), BranchEntity.class)
+        .map(DeleteResult::getDeletedCount);
+  }
+
+  @Override
+  public Mono<BranchEntity> updateName(String franchiseId, String branchId, String newBranchName) {
+    return reactiveMongoTemplate.findAndModify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId),
+        new Update().set("name", newBranchName),
+        FindAndModifyOptions.options().returnNew(true),
+        BranchEntity.class);
+  }
+
+  @Override
+  public Mono<BranchEntity> incrementProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta) {
+
+    return reactiveMongoTemplate.findAndModify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId),
+        new Update().inc("productCount", productDelta).inc("totalStock", stockDelta),
+        FindAndModifyOptions.options().returnNew(true),
+        BranchEntity.class);
+  }
+
+  @Override
+  public Mono<BranchEntity> recountProducts(String franchiseId, String branchId) {
+    return reactiveMongoTemplate
+        .aggregate(
+            productQueries.stockSummary(franchiseId, branchId), PRODUCTS_COLLECTION, Document.class)
+        .next()
+        .map(BranchQueries::productCounters)
+        .defaultIfEmpty(BranchQueries.productCounters(null))
+        .flatMap(
+            counters ->
+                reactiveMongoTemplate.findAndModify(
+                    branchQueries.byFranchiseAndId(franchiseId, branchId),
+                    counters,
+                    FindAndModifyOptions.options().returnNew(true),
+                    BranchEntity.class));
+  }
+
+  @Override
+  public Mono<BranchEntity> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold) {
+
+    Update update =
+        threshold == null
+            ? new Update().unset("lowStockThreshold")
+            : new Update().set("lowStockThreshold", threshold);
+
+    return reactiveMongoTemplate.findAndModify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId),
+        update,
+        FindAndModifyOptions.options().returnNew(true),
+        BranchEntity.class);
+  }
+
+  @Override
+  public Mono<BranchEntity> applyLedgerStockDelta(
+      String franchiseId, String branchId, long stockDelta, long ledgerSequence) {
+
+    return reactiveMongoTemplate.findAndModify(
+        branchQueries.byFranchiseAndId(franchiseId, branchId)
+            .addCriteria(where("ledgerSequence").not().gte(ledgerSequence)),
+        new Update().inc("totalStock", stockDelta).set("ledgerSequence", ledgerSequence),
+        FindAndModifyOptions.options().returnNew(true),
+        BranchEntity.class);
+  }
+}
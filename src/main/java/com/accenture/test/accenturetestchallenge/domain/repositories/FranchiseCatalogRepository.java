@@ -0,0 +1,10 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseCatalogEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FranchiseCatalogRepository
+    extends ReactiveMongoRepository<FranchiseCatalogEntity, String>,
+        FranchiseCatalogRepositoryCustom {}
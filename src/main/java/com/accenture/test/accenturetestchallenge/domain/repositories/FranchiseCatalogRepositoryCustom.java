@@ -0,0 +1,75 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseCatalogEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Operations on single branches and products inside a franchise catalog. Updates target array
+ * elements in place, and reads project only the matched branch, so the rest of the catalog is
+ * never sent over the wire.
+ */
+public interface FranchiseCatalogRepositoryCustom {
+
+  /** Returns the franchise id and name only. */
+  Mono<FranchiseCatalogEntity> updateName(String franchiseId, String newFranchiseName);
+
+  /**
+   * Returns the removed catalog with only the ids of its branches and products, or empty when it
+   * does not exist.
+   */
+  Mono<FranchiseCatalogEntity> removeCatalog(String franchiseId);
+
+  /** Returns {@code false} when the franchise does not exist. */
+  Mono<Boolean> addBranch(String franchiseId, EmbeddedBranchEntity branch);
+
+  Mono<Boolean> existsBranch(String franchiseId, String branchId);
+
+  Mono<EmbeddedBranchEntity> findBranch(String franchiseId, String branchId);
+
+  Mono<EmbeddedBranchEntity> updateBranchName(
+      String franchiseId, String branchId, String newBranchName);
+
+  Mono<EmbeddedBranchEntity> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold);
+
+  /** Returns {@code false} when the branch does not exist. */
+  Mono<Boolean> addProduct(String franchiseId, String branchId, EmbeddedProductEntity product);
+
+  /** Returns the branch as it was before the update, or empty when the product does not exist. */
+  Mono<EmbeddedBranchEntity> updateProductStock(
+      String franchiseId, String branchId, String productId, int stock);
+
+  /** Returns the updated branch, or empty when the product does not exist. */
+  Mono<EmbeddedBranchEntity> updateProductName(
+      String franchiseId, String branchId, String productId, String newProductName);
+
+  /** Returns the removed branch with its products, or empty when it does not exist. */
+  Mono<EmbeddedBranchEntity> removeBranch(String franchiseId, String branchId);
+
+  /** Returns {@code false} when the product does not exist. */
+  Mono<Boolean> removeProduct(String franchiseId, String branchId, String productId);
+
+  /**
+   * Reads below unwind the products into rows with the product fields {@code id}, {@code
+   * franchiseId}, {@code branchId}, {@code name} and {@code stock}.
+   */
+  <T> Flux<T> findTopProductPerBranch(String franchiseId, Class<T> view);
+
+  <T> Flux<T> findTopByStock(String franchiseId, int limit, Class<T> view);
+
+  <T> Flux<T> searchByNamePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit, Class<T> view);
+
+  /** Products whose name contains any of the words of {@code text}, most matched words first. */
+  <T> Flux<T> searchByText(
+      String franchiseId, String branchId, String text, int limit, Class<T> view);
+
+  /**
+   * Stock statistics of a franchise, or of one of its branches, with the fields of {@code
+   * InventoryStats}. Empty when the franchise or branch does not exist.
+   */
+  <T> Mono<T> computeStats(String franchiseId, String branchId, Class<T> view);
+}
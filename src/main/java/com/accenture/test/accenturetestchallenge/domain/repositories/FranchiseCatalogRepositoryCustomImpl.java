@@ -0,0 +1,373 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseCatalogEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class FranchiseCatalogRepositoryCustomImpl implements FranchiseCatalogRepositoryCustom {
+
+  private static final String BRANCH_PRODUCTS = "branches.$[branch].products";
+  private static final String PRODUCT = BRANCH_PRODUCTS + ".$[product]";
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  @Override
+  public Mono<FranchiseCatalogEntity> updateName(String franchiseId, String newFranchiseName) {
+    Query query = Query.query(where("id").is(franchiseId));
+    query.fields().include("name");
+
+    return reactiveMongoTemplate.findAndModify(
+        query,
+        new Update().set("name", newFranchiseName),
+        FindAndModifyOptions.options().returnNew(true),
+        FranchiseCatalogEntity.class);
+  }
+
+  @Override
+  public Mono<FranchiseCatalogEntity> removeCatalog(String franchiseId) {
+    Query query = Query.query(where("id").is(franchiseId));
+    query.fields().include("branches._id", "branches.products._id");
+
+    return reactiveMongoTemplate.findAndRemove(query, FranchiseCatalogEntity.class);
+  }
+
+  @Override
+  public Mono<Boolean> addBranch(String franchiseId, EmbeddedBranchEntity branch) {
+    return reactiveMongoTemplate
+        .updateFirst(
+            Query.query(where("id").is(franchiseId)),
+            new Update().push("branches", branch),
+            FranchiseCatalogEntity.class)
+        .map(result -> result.getMatchedCount() > 0);
+  }
+
+  @Override
+  public Mono<Boolean> existsBranch(String franchiseId, String branchId) {
+    return reactiveMongoTemplate.exists(
+        byBranch(franchiseId, branchId), FranchiseCatalogEntity.class);
+  }
+
+  @Override
+  public Mono<EmbeddedBranchEntity> findBranch(String franchiseId, String branchId) {
+    return reactiveMongoTemplate
+        .findOne(withMatchedBranch(byBranch(franchiseId, branchId)), FranchiseCatalogEntity.class)
+        .mapNotNull(this::matchedBranch);
+  }
+
+  @Override
+  public Mono<EmbeddedBranchEntity> updateBranchName(
+      String franchiseId, String branchId, String newBranchName) {
+    return updateBranch(
+        byBranch(franchiseId, branchId), new Update().set("branches.$.name", newBranchName), true);
+  }
+
+  @Override
+  public Mono<EmbeddedBranchEntity> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold) {
+
+    Update update =
+        threshold == null
+            ? new Update().unset("branches.$.lowStockThreshold")
+            : new Update().set("branches.$.lowStockThreshold", threshold);
+    return updateBranch(byBranch(franchiseId, branchId), update, true);
+  }
+
+  @Override
+  public Mono<Boolean> addProduct(
+      String franchiseId, String branchId, EmbeddedProductEntity product) {
+
+    return reactiveMongoTemplate
+        .updateFirst(
+            byBranch(franchiseId, branchId),
+            new Update().push("branches.$.products", product),
+            FranchiseCatalogEntity.class)
+        .map(result -> result.getMatchedCount() > 0);
+  }
+
+  @Override
+  public Mono<EmbeddedBranchEntity> updateProductStock(
+      String franchiseId, String branchId, String productId, int stock) {
+
+    Update update =
+        new Update()
+            .set(PRODUCT + ".stock", stock)
+            .filterArray("branch._id", branchId)
+            .filterArray("product._id", productId);
+    return updateBranch(byProduct(franchiseId, branchId, productId), update, false);
+  }
+
+  @Override
+  public Mono<EmbeddedBranchEntity> updateProductName(
+      String franchiseId, String branchId, String productId, String newProductName) {
+
+    Update update =
+        new Update()
+            .set(PRODUCT + ".name", newProductName)
+            .set(PRODUCT + ".normalizedName", ProductNames.normalize(newProductName))
+            .filterArray("branch._id", branchId)
+            .filterArray("product._id", productId);
+    return updateBranch(byProduct(franchiseId, branchId, productId), update, true);
+  }
+
+  @Override
+  public Mono<EmbeddedBranchEntity> removeBranch(String franchiseId, String branchId) {
+    return updateBranch(
+        byBranch(franchiseId, branchId),
+        new Update().pull("branches", new Document("_id", branchId)),
+        false);
+  }
+
+  @Override
+  public Mono<Boolean> removeProduct(String franchiseId, String branchId, String productId) {
+    Update update =
+        new Update()
+            .pull(BRANCH_PRODUCTS, new Document("_id", productId))
+            .filterArray("branch._id", branchId);
+
+    return reactiveMongoTemplate
+        .updateFirst(
+            byProduct(franchiseId, branchId, productId), update, FranchiseCatalogEntity.class)
+        .map(result -> result.getModifiedCount() > 0);
+  }
+
+  private Mono<EmbeddedBranchEntity> updateBranch(Query query, Update update, boolean returnNew) {
+    return reactiveMongoTemplate
+        .findAndModify(
+            withMatchedBranch(query),
+            update,
+            FindAndModifyOptions.options().returnNew(returnNew),
+            FranchiseCatalogEntity.class)
+        .mapNotNull(this::matchedBranch);
+  }
+
+  private Query byBranch(String franchiseId, String branchId) {
+    return Query.query(where("id").is(franchiseId).and("branches._id").is(branchId));
+  }
+
+  private Query byProduct(String franchiseId, String branchId, String productId) {
+    return Query.query(
+        where("id")
+            .is(franchiseId)
+            .and("branches")
+            .elemMatch(where("_id").is(branchId).and("products._id").is(productId)));
+  }
+
+  /** Projects only the branch matched by the query, with the positional operator. */
+  private Query withMatchedBranch(Query query) {
+    query.fields().position("branches", 1);
+    return query;
+  }
+
+  private EmbeddedBranchEntity matchedBranch(FranchiseCatalogEntity catalog) {
+    return catalog.getBranches() == null || catalog.getBranches().isEmpty()
+        ? null
+        : catalog.getBranches().get(0);
+  }
+
+  @Override
+  public <T> Flux<T> findTopProductPerBranch(String franchiseId, Class<T> view) {
+    Document topProduct =
+        new Document(
+            "$first",
+            new Document(
+                "$sortArray",
+                new Document("input", "$branches.products")
+                    .append("sortBy", new Document("stock", -1).append("_id", 1))));
+
+    Aggregation aggregation =
+        Aggregation.newAggregation(
+            stage(new Document("$match", new Document("_id", franchiseId))),
+            stage(new Document("$unwind", "$branches")),
+            stage(
+                new Document(
+                    "$project",
+                    new Document("_id", 0)
+                        .append("branchId", "$branches._id")
+                        .append("top", topProduct))),
+            stage(new Document("$match", new Document("top", new Document("$exists", true)))),
+            stage(
+                new Document(
+                    "$project",
+                    new Document("_id", "$top._id")
+                        .append("franchiseId", new Document("$literal", franchiseId))
+                        .append("branchId", 1)
+                        .append("name", "$top.name")
+                        .append("stock", "$top.stock"))));
+
+    return reactiveMongoTemplate.aggregate(aggregation, FranchiseCatalogEntity.COLLECTION, view);
+  }
+
+  @Override
+  public <T> Flux<T> findTopByStock(String franchiseId, int limit, Class<T> view) {
+    List<AggregationOperation> stages = productRows(franchiseId, null, null);
+    stages.add(stage(new Document("$sort", new Document("stock", -1).append("_id", 1))));
+    stages.add(stage(new Document("$limit", limit)));
+    return aggregate(stages, view);
+  }
+
+  @Override
+  public <T> Flux<T> searchByNamePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit, Class<T> view) {
+
+    Document prefix =
+        new Document(
+            "branches.products.normalizedName",
+            new Document("$regex", "^" + Pattern.quote(normalizedPrefix)));
+
+    List<AggregationOperation> stages = productRows(franchiseId, branchId, prefix);
+    stages.add(stage(new Document("$sort", new Document("normalizedName", 1).append("_id", 1))));
+    stages.add(stage(new Document("$limit", limit)));
+    return aggregate(stages, view);
+  }
+
+  @Override
+  public <T> Flux<T> searchByText(
+      String franchiseId, String branchId, String text, int limit, Class<T> view) {
+
+    List<String> words =
+        Arrays.stream(ProductNames.normalize(text).split("\\s+"))
+            .filter(word -> !word.isEmpty())
+            .toList();
+    Document anyWord =
+        new Document(
+            "branches.products.normalizedName",
+            new Document(
+                "$regex",
+                "(^|\\s)("
+                    + String.join("|", words.stream().map(Pattern::quote).toList())
+                    + ")(\\s|$)"));
+
+    Document matchedWords =
+        new Document(
+            "$size",
+            new Document(
+                "$setIntersection",
+                List.of(new Document("$split", List.of("$normalizedName", " ")), words)));
+
+    List<AggregationOperation> stages = productRows(franchiseId, branchId, anyWord);
+    stages.add(stage(new Document("$set", new Document("score", matchedWords))));
+    stages.add(stage(new Document("$sort", new Document("score", -1).append("_id", 1))));
+    stages.add(stage(new Document("$limit", limit)));
+    return aggregate(stages, view);
+  }
+
+  /**
+   * Stages turning catalogs into one row per product, optionally scoped to a franchise and branch
+   * and filtered on the unwound product fields before they are flattened.
+   */
+  private List<AggregationOperation> productRows(
+      String franchiseId, String branchId, Document productFilter) {
+
+    List<AggregationOperation> stages = new ArrayList<>();
+    if (franchiseId != null) {
+      stages.add(stage(new Document("$match", new Document("_id", franchiseId))));
+    }
+    stages.add(stage(new Document("$unwind", "$branches")));
+    if (branchId != null) {
+      stages.add(stage(new Document("$match", new Document("branches._id", branchId))));
+    }
+    stages.add(stage(new Document("$unwind", "$branches.products")));
+    if (productFilter != null) {
+      stages.add(stage(new Document("$match", productFilter)));
+    }
+    stages.add(
+        stage(
+            new Document(
+                "$replaceWith",
+                new Document("_id", "$branches.products._id")
+                    .append("franchiseId", "$_id")
+                    .append("branchId", "$branches._id")
+                    .append("name", "$branches.products.name")
+                    .append("normalizedName", "$branches.products.normalizedName")
+                    .append("stock", "$branches.products.stock"))));
+    return stages;
+  }
+
+  @Override
+  public <T> Mono<T> computeStats(String franchiseId, String branchId, Class<T> view) {
+    Document isProduct =
+        new Document("$eq", List.of(new Document("$type", "$branches.products"), "object"));
+    Document stock = new Document("$ifNull", List.of("$branches.products.stock", 0));
+
+    Document group =
+        new Document("_id", "$_id")
+            .append(
+                "productCount",
+                new Document("$sum", new Document("$cond", List.of(isProduct, 1, 0))))
+            .append("totalStock", new Document("$sum", "$branches.products.stock"))
+            .append("minStock", new Document("$min", "$branches.products.stock"))
+            .append("maxStock", new Document("$max", "$branches.products.stock"))
+            .append(
+                "outOfStockCount",
+                new Document(
+                    "$sum",
+                    new Document(
+                        "$cond",
+                        List.of(
+                            new Document(
+                                "$and",
+                                List.of(isProduct, new Document("$lte", List.of(stock, 0)))),
+                            1,
+                            0))));
+
+    Document fields =
+        new Document("_id", 0)
+            .append("franchiseId", "$_id")
+            .append("productCount", 1)
+            .append("totalStock", 1)
+            .append("minStock", 1)
+            .append("maxStock", 1)
+            .append("outOfStockCount", 1);
+    if (branchId != null) {
+      fields.append("branchId", new Document("$literal", branchId));
+    }
+
+    List<AggregationOperation> stages = new ArrayList<>();
+    stages.add(stage(new Document("$match", new Document("_id", franchiseId))));
+    stages.add(
+        stage(
+            new Document(
+                "$unwind",
+                new Document("path", "$branches").append("preserveNullAndEmptyArrays", true))));
+    if (branchId != null) {
+      stages.add(stage(new Document("$match", new Document("branches._id", branchId))));
+    }
+    stages.add(
+        stage(
+            new Document(
+                "$unwind",
+                new Document("path", "$branches.products")
+                    .append("preserveNullAndEmptyArrays", true))));
+    stages.add(stage(new Document("$group", group)));
+    stages.add(stage(new Document("$project", fields)));
+
+    return aggregate(stages, view).next();
+  }
+
+  private <T> Flux<T> aggregate(List<AggregationOperation> stages, Class<T> view) {
+    return reactiveMongoTemplate.aggregate(
+        Aggregation.newAggregation(stages), FranchiseCatalogEntity.COLLECTION, view);
+  }
+
+  private static AggregationOperation stage(Document stage) {
+    return context -> stage;
+  }
+}
@@ -1,8 +1,23 @@
 package com.accenture.test.accenturetestchallenge.domain.repositories;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseEntity;
-import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.repository.RepositoryDefinition;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/** Only the CRUD methods in use, see {@link ProductRepository}. */
 @Repository
-public interface FranchiseRepository extends ReactiveMongoRepository<FranchiseEntity, String> {}
+@RepositoryDefinition(domainClass = FranchiseEntity.class, idClass = String.class)
+public interface FranchiseRepository {
+
+  <S extends FranchiseEntity> Mono<S> save(S franchise);
+
+  Mono<FranchiseEntity> findById(String id);
+
+  Mono<Boolean> existsById(String id);
+
+  Flux<FranchiseEntity> findAll();
+
+  Mono<Void> deleteById(String id);
+}
@@ -0,0 +1,19 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import org.springframework.data.repository.RepositoryDefinition;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** Only the CRUD methods in use, see {@link ProductRepository}. */
+@Repository
+@RepositoryDefinition(domainClass = InventoryStatsEntity.class, idClass = String.class)
+public interface InventoryStatsRepository extends InventoryStatsRepositoryCustom {
+
+  Mono<InventoryStatsEntity> findByIdAndScope(String id, String scope);
+
+  Mono<InventoryStatsEntity> findByIdAndFranchiseIdAndScope(
+      String id, String franchiseId, String scope);
+
+  Mono<Void> deleteById(String id);
+}
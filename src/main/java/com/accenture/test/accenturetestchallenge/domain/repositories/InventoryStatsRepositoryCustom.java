@@ -0,0 +1,62 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import reactor.core.publisher.Mono;
+
+public interface InventoryStatsRepositoryCustom {
+
+  /**
+   * Applies an incremental change to the branch and franchise stats documents, creating them when
+   * missing. {@code observedStock} feeds the min/max bounds and may be null when a product is
+   * removed; bounds the product may have held are then corrected by {@link #refreshBounds}.
+   */
+  Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer observedStock);
+
+  /**
+   * Same as {@link #applyDelta(String, String, int, long, int, Integer)} for a change that saw a
+   * range of stocks, such as a batch of inserted products.
+   */
+  Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer minObservedStock,
+      Integer maxObservedStock);
+
+  /**
+   * Applies the stock change of a stock ledger event to the branch and franchise stats documents,
+   * skipping each document that already holds this or a later event.
+   */
+  Mono<Void> applyLedgerDelta(
+      String franchiseId,
+      String branchId,
+      long stockDelta,
+      int outOfStockDelta,
+      int observedStock,
+      long ledgerSequence);
+
+  /**
+   * Recomputes from {@code products} the bounds of the branch and franchise stats documents whose
+   * minimum or maximum is {@code departedStock}, after a product with that stock was removed or
+   * changed stock. A product added while they are recomputed may be missed until the next {@link
+   * #rebuildFromProducts()}.
+   */
+  Mono<Void> refreshBounds(String franchiseId, String branchId, int departedStock);
+
+  /**
+   * Removes the stats document of a deleted branch, whose products are already deleted, and takes
+   * its totals out of the franchise document. Bounds of the franchise are recomputed when the
+   * branch held one of them.
+   */
+  Mono<Void> removeBranch(String franchiseId, String branchId);
+
+  /** Recomputes every stats document from {@code products} with a {@code $merge} aggregation. */
+  Mono<Void> rebuildFromProducts();
+}
@@ -0,0 +1,211 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import java.time.Instant;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class InventoryStatsRepositoryCustomImpl implements InventoryStatsRepositoryCustom {
+
+  private static final String PRODUCTS_COLLECTION = "products";
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+  private final LegacyFieldCriteria legacyFieldCriteria;
+  private final ProductQueries productQueries;
+
+  @Override
+  public Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer observedStock) {
+
+    return applyDelta(
+        franchiseId,
+        branchId,
+        productDelta,
+        stockDelta,
+        outOfStockDelta,
+        observedStock,
+        observedStock);
+  }
+
+  @Override
+  public Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer minObservedStock,
+      Integer maxObservedStock) {
+
+    Update branchUpdate =
+        InventoryStatsUpdates.branchDelta(
+            franchiseId,
+            branchId,
+            productDelta,
+            stockDelta,
+            outOfStockDelta,
+            minObservedStock,
+            maxObservedStock);
+
+    Update franchiseUpdate =
+        InventoryStatsUpdates.franchiseDelta(
+            franchiseId,
+            productDelta,
+            stockDelta,
+            outOfStockDelta,
+            minObservedStock,
+            maxObservedStock);
+
+    return Mono.when(
+        reactiveMongoTemplate.upsert(
+            Query.query(where("_id").is(branchId)), branchUpdate, InventoryStatsEntity.class),
+        reactiveMongoTemplate.upsert(
+            Query.query(where("_id").is(franchiseId)),
+            franchiseUpdate,
+            InventoryStatsEntity.class));
+  }
+
+  @Override
+  public Mono<Void> applyLedgerDelta(
+      String franchiseId,
+      String branchId,
+      long stockDelta,
+      int outOfStockDelta,
+      int observedStock,
+      long ledgerSequence) {
+
+    Update branchUpdate =
+        InventoryStatsUpdates.branchDelta(
+                franchiseId, branchId, 0, stockDelta, outOfStockDelta, observedStock, observedStock)
+            .set("ledgerSequence", ledgerSequence);
+
+    Update franchiseUpdate =
+        InventoryStatsUpdates.franchiseDelta(
+                franchiseId, 0, stockDelta, outOfStockDelta, observedStock, observedStock)
+            .set("ledgerSequence", ledgerSequence);
+
+    return Mono.when(
+        upsertOnce(branchId, ledgerSequence, branchUpdate),
+        upsertOnce(franchiseId, ledgerSequence, franchiseUpdate));
+  }
+
+  // A document that already holds the event does not match, so the upsert tries to insert its id
+  // again and is rejected.
+  private Mono<Void> upsertOnce(String id, long ledgerSequence, Update update) {
+    return reactiveMongoTemplate
+        .upsert(
+            Query.query(where("_id").is(id).and("ledgerSequence").not().gte(ledgerSequence)),
+            update,
+            InventoryStatsEntity.class)
+        .onErrorResume(DuplicateKeyException.class, alreadyApplied -> Mono.empty())
+        .then();
+  }
+
+  @Override
+  public Mono<Void> refreshBounds(String franchiseId, String branchId, int departedStock) {
+    return Mono.when(
+        refreshBounds(branchId, franchiseId, branchId, departedStock, departedStock),
+        refreshBounds(franchiseId, franchiseId, null, departedStock, departedStock));
+  }
+
+  private Mono<Void> refreshBounds(
+      String statsId, String franchiseId, String branchId, Integer minStock, Integer maxStock) {
+    if (minStock == null && maxStock == null) {
+      return Mono.empty();
+    }
+
+    return reactiveMongoTemplate
+        .exists(
+            InventoryStatsUpdates.boundsHeldBy(statsId, minStock, maxStock),
+            InventoryStatsEntity.class)
+        .filter(Boolean::booleanValue)
+        .flatMap(
+            held ->
+                reactiveMongoTemplate
+                    .aggregate(
+                        productQueries.stockSummary(franchiseId, branchId),
+                        PRODUCTS_COLLECTION,
+                        Document.class)
+                    .next()
+                    .map(InventoryStatsUpdates::bounds)
+                    .defaultIfEmpty(InventoryStatsUpdates.bounds(null)))
+        .flatMap(
+            bounds ->
+                reactiveMongoTemplate.updateFirst(
+                    Query.query(where("_id").is(statsId)), bounds, InventoryStatsEntity.class))
+        .then();
+  }
+
+  @Override
+  public Mono<Void> removeBranch(String franchiseId, String branchId) {
+    Query branchStats =
+        Query.query(
+            where("_id")
+                .is(branchId)
+                .and("franchiseId")
+                .is(franchiseId)
+                .and("scope")
+                .is(InventoryStatsEntity.BRANCH_SCOPE));
+
+    return reactiveMongoTemplate
+        .findAndRemove(branchStats, InventoryStatsEntity.class)
+        .flatMap(
+            removed ->
+                reactiveMongoTemplate
+                    .updateFirst(
+                        Query.query(where("_id").is(franchiseId)),
+                        new Update()
+                            .inc("productCount", -valueOrZero(removed.getProductCount()))
+                            .inc("totalStock", -valueOrZero(removed.getTotalStock()))
+                            .inc("outOfStockCount", -valueOrZero(removed.getOutOfStockCount()))
+                            .set("updatedAt", Instant.now()),
+                        InventoryStatsEntity.class)
+                    .then(
+                        refreshBounds(
+                            franchiseId,
+                            franchiseId,
+                            null,
+                            removed.getMinStock(),
+                            removed.getMaxStock())))
+        .then();
+  }
+
+  private static long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  @Override
+  public Mono<Void> rebuildFromProducts() {
+    Date refreshedAt = new Date();
+
+    return mergeStats(InventoryStatsEntity.BRANCH_SCOPE, refreshedAt)
+        .then(mergeStats(InventoryStatsEntity.FRANCHISE_SCOPE, refreshedAt))
+        .then(
+            reactiveMongoTemplate.remove(
+                Query.query(where("refreshedAt").lt(refreshedAt)), InventoryStatsEntity.class))
+        .then();
+  }
+
+  private Mono<Void> mergeStats(String scope, Date refreshedAt) {
+    return reactiveMongoTemplate
+        .aggregate(
+            InventoryStatsUpdates.rebuild(legacyFieldCriteria, scope, refreshedAt),
+            PRODUCTS_COLLECTION,
+            Document.class)
+        .then();
+  }
+}
@@ -0,0 +1,156 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Upserts applying a product change to the stats of a branch and of its franchise, and the
+ * aggregation rebuilding them, shared by both MongoDB drivers.
+ */
+public final class InventoryStatsUpdates {
+
+  private InventoryStatsUpdates() {}
+
+  public static Update branchDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer minObservedStock,
+      Integer maxObservedStock) {
+
+    return delta(productDelta, stockDelta, outOfStockDelta, minObservedStock, maxObservedStock)
+        .setOnInsert("scope", InventoryStatsEntity.BRANCH_SCOPE)
+        .setOnInsert("franchiseId", franchiseId)
+        .setOnInsert("branchId", branchId);
+  }
+
+  public static Update franchiseDelta(
+      String franchiseId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer minObservedStock,
+      Integer maxObservedStock) {
+
+    return delta(productDelta, stockDelta, outOfStockDelta, minObservedStock, maxObservedStock)
+        .setOnInsert("scope", InventoryStatsEntity.FRANCHISE_SCOPE)
+        .setOnInsert("franchiseId", franchiseId);
+  }
+
+  private static Update delta(
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer minObservedStock,
+      Integer maxObservedStock) {
+
+    Update update =
+        new Update()
+            .inc("productCount", productDelta)
+            .inc("totalStock", stockDelta)
+            .inc("outOfStockCount", outOfStockDelta)
+            .set("updatedAt", Instant.now());
+
+    if (minObservedStock != null && maxObservedStock != null) {
+      update.min("minStock", minObservedStock).max("maxStock", maxObservedStock);
+    }
+    return update;
+  }
+
+  /**
+   * The stats document {@code id} when its minimum is {@code minStock} or its maximum is {@code
+   * maxStock}, that is when a bound may have been held by stock that left it.
+   */
+  public static Query boundsHeldBy(String id, Integer minStock, Integer maxStock) {
+    return Query.query(
+        where("_id")
+            .is(id)
+            .orOperator(where("minStock").is(minStock), where("maxStock").is(maxStock)));
+  }
+
+  /**
+   * Sets the bounds read by {@code ProductQueries.stockSummary}, or removes them when {@code
+   * bounds} is null because no product is left.
+   */
+  public static Update bounds(Document bounds) {
+    Update update = new Update().set("updatedAt", Instant.now());
+    if (bounds == null) {
+      return update.unset("minStock").unset("maxStock");
+    }
+    return update.set("minStock", bounds.get("minStock")).set("maxStock", bounds.get("maxStock"));
+  }
+
+  /**
+   * Groups {@code products} by branch or by franchise, following {@code scope}, and merges the
+   * stats of each group into the stats collection. Values are read from the legacy names too while
+   * legacy reads are on.
+   */
+  public static Aggregation rebuild(
+      LegacyFieldCriteria legacyFieldCriteria, String scope, Date refreshedAt) {
+    boolean branchScope = InventoryStatsEntity.BRANCH_SCOPE.equals(scope);
+    Object groupValue =
+        branchScope
+            ? legacyFieldCriteria.value(ProductEntity.BRANCH_ID_FIELD, "branchId")
+            : legacyFieldCriteria.value(ProductEntity.FRANCHISE_ID_FIELD, "franchiseId");
+    Object stock = legacyFieldCriteria.value(ProductEntity.STOCK_FIELD, "stock");
+    Object franchise = legacyFieldCriteria.value(ProductEntity.FRANCHISE_ID_FIELD, "franchiseId");
+
+    // References may be stored as ObjectIds, stats documents are keyed by their string form.
+    Document group =
+        new Document("_id", new Document("$toString", groupValue))
+            .append("franchiseId", new Document("$first", new Document("$toString", franchise)))
+            .append("productCount", new Document("$sum", 1))
+            .append("totalStock", new Document("$sum", stock))
+            .append("minStock", new Document("$min", stock))
+            .append("maxStock", new Document("$max", stock))
+            .append(
+                "outOfStockCount",
+                new Document(
+                    "$sum",
+                    new Document(
+                        "$cond", List.of(new Document("$lte", List.of(stock, 0)), 1, 0))));
+
+    Document fields = new Document("scope", scope).append("refreshedAt", refreshedAt);
+    if (branchScope) {
+      fields.append("branchId", "$_id");
+    }
+
+    // Keeps the sequence of the last ledger event applied, so that events already counted are not
+    // applied again after the rebuild.
+    Document keepLedgerSequence =
+        new Document(
+            "$replaceWith",
+            new Document(
+                "$mergeObjects",
+                List.of("$$new", new Document("ledgerSequence", "$ledgerSequence"))));
+
+    Document merge =
+        new Document("into", InventoryStatsEntity.COLLECTION)
+            .append("on", "_id")
+            .append("whenMatched", List.of(keepLedgerSequence))
+            .append("whenNotMatched", "insert");
+
+    return Aggregation.newAggregation(
+            stage(new Document("$group", group)),
+            stage(new Document("$set", fields)),
+            stage(new Document("$merge", merge)))
+        .withOptions(AggregationOptions.builder().skipOutput().build());
+  }
+
+  private static AggregationOperation stage(Document stage) {
+    return context -> stage;
+  }
+}
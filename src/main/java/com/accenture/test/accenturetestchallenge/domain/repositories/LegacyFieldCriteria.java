@@ -0,0 +1,127 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Filters on products and branches while {@code CompactFieldNameMigration} moves documents to the
+ * compact field names. With {@code catalog.compact-fields.legacy-reads} on, each condition matches
+ * the compact name or the legacy one with {@code $or}, so documents not yet migrated are found.
+ *
+ * <p>The legacy name of a field is its property name, which the query mapper would translate to
+ * the compact name. The legacy side is therefore an {@code $expr} on the field path, which the
+ * mapper leaves as it is. Equality in {@code $expr} is answered from the indexes on the legacy
+ * names, which are kept until legacy reads are turned off. Text search and sorts only use the
+ * compact names.
+ */
+@Component
+public class LegacyFieldCriteria {
+
+  private final boolean legacyReads;
+
+  public LegacyFieldCriteria(
+      @Value("${catalog.compact-fields.legacy-reads:false}") boolean legacyReads) {
+    this.legacyReads = legacyReads;
+  }
+
+  public boolean isLegacyReads() {
+    return legacyReads;
+  }
+
+  /** Documents whose field holds one of {@code values}. */
+  public Criteria in(String storedField, String legacyField, List<Object> values) {
+    Criteria stored =
+        values.size() == 1 ? where(storedField).is(values.get(0)) : where(storedField).in(values);
+    if (!legacyReads) {
+      return stored;
+    }
+
+    List<Criteria> either = new ArrayList<>();
+    either.add(stored);
+    values.forEach(
+        value -> either.add(expr(new Document("$eq", List.of("$" + legacyField, value)))));
+    return new Criteria().orOperator(either);
+  }
+
+  /** Documents whose field matches the regular expression {@code pattern}. */
+  public Criteria regex(String storedField, String legacyField, String pattern) {
+    Criteria stored = where(storedField).regex(pattern);
+    if (!legacyReads) {
+      return stored;
+    }
+
+    Document legacy =
+        new Document(
+            "$regexMatch",
+            new Document("input", "$" + legacyField).append("regex", pattern));
+    return new Criteria().orOperator(stored, expr(legacy));
+  }
+
+  /** Documents whose field is missing or lower than {@code value}, under either name. */
+  public Criteria below(String storedField, String legacyField, long value) {
+    Criteria stored = where(storedField).not().gte(value);
+    if (!legacyReads) {
+      return stored;
+    }
+
+    Document legacy =
+        new Document("$not", List.of(new Document("$gte", List.of("$" + legacyField, value))));
+    return new Criteria().andOperator(stored, expr(legacy));
+  }
+
+  /** Documents that hold the field under neither name. */
+  public Criteria missing(String storedField, String legacyField) {
+    Criteria stored = where(storedField).exists(false);
+    if (!legacyReads) {
+      return stored;
+    }
+
+    Document legacy =
+        new Document("$eq", List.of(new Document("$type", "$" + legacyField), "missing"));
+    return new Criteria().andOperator(stored, expr(legacy));
+  }
+
+  /** Documents that hold the field under either name. */
+  public Criteria present(String storedField, String legacyField) {
+    Criteria stored = where(storedField).exists(true);
+    if (!legacyReads) {
+      return stored;
+    }
+
+    Document legacy =
+        new Document("$ne", List.of(new Document("$type", "$" + legacyField), "missing"));
+    return new Criteria().orOperator(stored, expr(legacy));
+  }
+
+  /** Value of a field in a raw aggregation stage, read from the legacy name when it is missing. */
+  public Object value(String storedField, String legacyField) {
+    return legacyReads
+        ? new Document("$ifNull", List.of("$" + storedField, "$" + legacyField))
+        : "$" + storedField;
+  }
+
+  /**
+   * Query matching all of {@code criteria}. A query holds a single {@code $or}, so while legacy
+   * reads are on they are combined with {@code $and}.
+   */
+  public Query query(List<Criteria> criteria) {
+    if (legacyReads && criteria.size() > 1) {
+      return Query.query(new Criteria().andOperator(criteria));
+    }
+
+    Query query = new Query();
+    criteria.forEach(query::addCriteria);
+    return query;
+  }
+
+  private Criteria expr(Document expression) {
+    return where("$expr").is(expression);
+  }
+}
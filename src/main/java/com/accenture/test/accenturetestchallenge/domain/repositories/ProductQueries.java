@@ -0,0 +1,248 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product queries shared by {@link ProductRepositoryCustomImpl} and the synchronous repository of
+ * the {@code blocking} profile, so both drivers send the same filters to the same indexes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductQueries {
+
+  private static final String SORT_STOCK_FIELD = "sortStock";
+  private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private final ReferenceCriteria referenceCriteria;
+  private final LegacyFieldCriteria legacyFieldCriteria;
+
+  public Query byFranchiseBranchAndId(
+      String franchiseId, String branchId, String productId) {
+    return legacyFieldCriteria.query(
+        List.of(where("id").is(productId), franchise(franchiseId), branch(branchId)));
+  }
+
+  /** Products of a branch, or of every branch of the franchise when {@code branchId} is null. */
+  public Query byFranchiseAndBranch(String franchiseId, String branchId) {
+    return legacyFieldCriteria.query(franchiseAndBranch(franchiseId, branchId));
+  }
+
+  private List<Criteria> franchiseAndBranch(String franchiseId, String branchId) {
+    List<Criteria> criteria = new ArrayList<>();
+    criteria.add(franchise(franchiseId));
+    if (branchId != null) {
+      criteria.add(branch(branchId));
+    }
+    return criteria;
+  }
+
+  private Criteria franchise(String franchiseId) {
+    return referenceCriteria.reference(
+        ProductEntity.FRANCHISE_ID_FIELD, "franchiseId", franchiseId);
+  }
+
+  private Criteria branch(String branchId) {
+    return referenceCriteria.reference(ProductEntity.BRANCH_ID_FIELD, "branchId", branchId);
+  }
+
+  public Query namePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit) {
+
+    List<Criteria> criteria = franchiseAndBranch(franchiseId, branchId);
+    criteria.add(
+        legacyFieldCriteria.regex(
+            ProductEntity.NORMALIZED_NAME_FIELD,
+            "normalizedName",
+            "^" + escapeRegex(normalizedPrefix)));
+
+    return legacyFieldCriteria.query(criteria).with(Sort.by("normalizedName")).limit(limit);
+  }
+
+  private static String escapeRegex(String value) {
+    StringBuilder escaped = new StringBuilder(value.length() + 8);
+    for (char character : value.toCharArray()) {
+      if (REGEX_METACHARACTERS.indexOf(character) >= 0) {
+        escaped.append('\\');
+      }
+      escaped.append(character);
+    }
+    return escaped.toString();
+  }
+
+  /**
+   * Products with a name but no normalized name. While legacy reads are on, whole documents are
+   * read, so that names still under the legacy field are completed on conversion.
+   */
+  public Query missingNormalizedName() {
+    Query query =
+        legacyFieldCriteria.query(
+            List.of(
+                legacyFieldCriteria.missing(ProductEntity.NORMALIZED_NAME_FIELD, "normalizedName"),
+                legacyFieldCriteria.present(ProductEntity.NAME_FIELD, "name")));
+    if (!legacyFieldCriteria.isLegacyReads()) {
+      query.fields().include("name");
+    }
+    return query;
+  }
+
+  /**
+   * Text search only finds documents with compact field names and ObjectId references: the text
+   * index is on the compact names, and its franchise prefix needs equality, not {@code $in}.
+   */
+  public Query text(String franchiseId, String branchId, String text, int limit) {
+    Query query =
+        TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+            .sortByScore()
+            .addCriteria(referenceCriteria.exact(ProductEntity.FRANCHISE_ID_FIELD, franchiseId))
+            .limit(limit);
+
+    if (branchId != null) {
+      query.addCriteria(referenceCriteria.exact(ProductEntity.BRANCH_ID_FIELD, branchId));
+    }
+    return query;
+  }
+
+  /**
+   * Products by descending stock, of a franchise or of every franchise when it is null, as rows
+   * with the fields of the {@code Product} read model.
+   */
+  public Aggregation topByStock(String franchiseId, int limit) {
+    Document fields =
+        new Document("_id", 1)
+            .append(
+                "franchiseId",
+                new Document(
+                    "$toString",
+                    legacyFieldCriteria.value(ProductEntity.FRANCHISE_ID_FIELD, "franchiseId")))
+            .append(
+                "branchId",
+                new Document(
+                    "$toString",
+                    legacyFieldCriteria.value(ProductEntity.BRANCH_ID_FIELD, "branchId")))
+            .append("name", legacyFieldCriteria.value(ProductEntity.NAME_FIELD, "name"))
+            .append("stock", legacyFieldCriteria.value(ProductEntity.STOCK_FIELD, "stock"));
+
+    List<AggregationOperation> stages = new ArrayList<>();
+    if (franchiseId != null) {
+      stages.add(
+          stage(
+              new Document(
+                  "$match",
+                  referenceCriteria.match(
+                      ProductEntity.FRANCHISE_ID_FIELD, "franchiseId", franchiseId))));
+    }
+    stages.addAll(byDescendingStock());
+    stages.add(stage(new Document("$limit", limit)));
+    stages.add(stage(new Document("$project", fields)));
+
+    return Aggregation.newAggregation(stages)
+        .withOptions(AggregationOptions.builder().cursorBatchSize(limit).build());
+  }
+
+  /**
+   * Product with the highest stock of every branch of a franchise, as rows with the fields of the
+   * {@code Product} read model.
+   */
+  public Aggregation topProductPerBranch(String franchiseId) {
+    // Grouped on the string form, so a branch whose products are not all migrated is one group.
+    Document group =
+        new Document(
+                "_id",
+                new Document(
+                    "$toString",
+                    legacyFieldCriteria.value(ProductEntity.BRANCH_ID_FIELD, "branchId")))
+            .append("productId", new Document("$first", "$_id"))
+            .append(
+                "name",
+                new Document("$first", legacyFieldCriteria.value(ProductEntity.NAME_FIELD, "name")))
+            .append(
+                "stock",
+                new Document(
+                    "$first", legacyFieldCriteria.value(ProductEntity.STOCK_FIELD, "stock")));
+
+    Document fields =
+        new Document("_id", "$productId")
+            .append("franchiseId", new Document("$literal", franchiseId))
+            .append("branchId", "$_id")
+            .append("name", 1)
+            .append("stock", 1);
+
+    // Sorted by stock first, so $first picks the top product of each branch.
+    List<AggregationOperation> stages = new ArrayList<>();
+    stages.add(
+        stage(
+            new Document(
+                "$match",
+                referenceCriteria.match(
+                    ProductEntity.FRANCHISE_ID_FIELD, "franchiseId", franchiseId))));
+    stages.addAll(byDescendingStock());
+    stages.add(stage(new Document("$group", group)));
+    stages.add(stage(new Document("$project", fields)));
+    return Aggregation.newAggregation(stages);
+  }
+
+  /**
+   * Count, total, lowest and highest stock of the products of a branch, or of every branch of the
+   * franchise when {@code branchId} is null, as a single row with {@code productCount}, {@code
+   * totalStock}, {@code minStock} and {@code maxStock}. No row when there are no products.
+   */
+  public Aggregation stockSummary(String franchiseId, String branchId) {
+    Document match =
+        referenceCriteria.match(ProductEntity.FRANCHISE_ID_FIELD, "franchiseId", franchiseId);
+    if (branchId != null) {
+      match =
+          new Document(
+              "$and",
+              List.of(
+                  match,
+                  referenceCriteria.match(ProductEntity.BRANCH_ID_FIELD, "branchId", branchId)));
+    }
+
+    Object stock = legacyFieldCriteria.value(ProductEntity.STOCK_FIELD, "stock");
+    Document group =
+        new Document("_id", null)
+            .append("productCount", new Document("$sum", 1))
+            .append("totalStock", new Document("$sum", stock))
+            .append("minStock", new Document("$min", stock))
+            .append("maxStock", new Document("$max", stock));
+
+    return Aggregation.newAggregation(
+        stage(new Document("$match", match)), stage(new Document("$group", group)));
+  }
+
+  /**
+   * Sort by descending stock, then id. It runs on the stock indexes, except while legacy reads are
+   * on: documents not yet migrated only hold the legacy stock, so the sort is then on the stock
+   * read from either name, without an index. The stages after it drop the computed field.
+   */
+  private List<AggregationOperation> byDescendingStock() {
+    if (!legacyFieldCriteria.isLegacyReads()) {
+      Document sort = new Document(ProductEntity.STOCK_FIELD, -1).append("_id", 1);
+      return List.of(stage(new Document("$sort", sort)));
+    }
+
+    Object stock = legacyFieldCriteria.value(ProductEntity.STOCK_FIELD, "stock");
+    return List.of(
+        stage(new Document("$set", new Document(SORT_STOCK_FIELD, stock))),
+        stage(new Document("$sort", new Document(SORT_STOCK_FIELD, -1).append("_id", 1))));
+  }
+
+  private static AggregationOperation stage(Document stage) {
+    return context -> stage;
+  }
+}
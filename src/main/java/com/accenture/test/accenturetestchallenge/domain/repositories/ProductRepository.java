@@ -1,16 +1,24 @@
 package com.accenture.test.accenturetestchallenge.domain.repositories;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
-import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.repository.RepositoryDefinition;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Declares only the CRUD methods the services use, so the {@code blocking} profile can implement
+ * it with the synchronous driver.
+ */
 @Repository
-public interface ProductRepository extends ReactiveMongoRepository<ProductEntity, String> {
+@RepositoryDefinition(domainClass = ProductEntity.class, idClass = String.class)
+public interface ProductRepository extends ProductRepositoryCustom {
 
-  Mono<ProductEntity> findByFranchiseIdAndBranchIdAndId(
-      String franchiseId, String brandId, String id);
+  <S extends ProductEntity> Mono<S> save(S product);
 
-  Flux<ProductEntity> findByFranchiseId(String franchiseId);
+  <S extends ProductEntity> Flux<S> insert(Iterable<S> products);
+
+  Mono<ProductEntity> findById(String id);
+
+  Mono<Void> deleteById(String id);
 }
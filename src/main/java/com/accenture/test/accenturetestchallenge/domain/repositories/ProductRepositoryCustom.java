@@ -0,0 +1,69 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import java.util.Collection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Filters on franchise and branch ids match references in both stored forms while string reads are
+ * on, see {@link ReferenceCriteria}.
+ */
+public interface ProductRepositoryCustom {
+
+  Mono<ProductEntity> findByFranchiseIdAndBranchIdAndId(
+      String franchiseId, String branchId, String id);
+
+  /**
+   * Streams every product of a franchise, so each getMore brings a bounded batch instead of filling
+   * the 16MB reply limit of the server.
+   */
+  Flux<ProductEntity> findByFranchiseId(String franchiseId);
+
+  /**
+   * Read queries below are decoded straight into the {@link Product} read model: only its fields
+   * are fetched and no entity is built.
+   */
+  Flux<Product> searchByNamePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit);
+
+  Flux<Product> searchByText(String franchiseId, String branchId, String text, int limit);
+
+  Flux<Product> findTopByStock(String franchiseId, int limit);
+
+  /** Product with the highest stock of every branch of a franchise, grouped by the database. */
+  Flux<Product> findTopProductPerBranch(String franchiseId);
+
+  Mono<Long> normalizeMissingNames();
+
+  /**
+   * Sets the stock of a product in one atomic update and returns the product as it was before,
+   * or empty when it does not exist. Concurrent updates each see the stock left by the previous
+   * one, so deltas computed from the returned stock add up.
+   */
+  Mono<ProductEntity> replaceStock(
+      String franchiseId, String branchId, String productId, int stock);
+
+  /**
+   * Sets only the name fields of a product, so concurrent stock updates are kept. Returns the
+   * updated product, or empty when it does not exist.
+   */
+  Mono<ProductEntity> updateName(
+      String franchiseId, String branchId, String productId, String name, String normalizedName);
+
+  /**
+   * Sets the stock recorded by a stock ledger event, unless an event with the same or a later
+   * sequence was already applied. Returns the updated product, or empty when nothing changed.
+   */
+  Mono<ProductEntity> applyLedgerStock(String productId, int stock, long ledgerSequence);
+
+  /**
+   * Products of a branch, or of every branch of a franchise when {@code branchId} is {@code null},
+   * with only their id, branch and stock, fetched from the cursor {@code batchSize} at a time.
+   */
+  Flux<ProductEntity> findIdsAndStock(String franchiseId, String branchId, int batchSize);
+
+  /** Deletes the products with one command and returns how many were deleted. */
+  Mono<Long> deleteByIds(Collection<String> ids);
+}
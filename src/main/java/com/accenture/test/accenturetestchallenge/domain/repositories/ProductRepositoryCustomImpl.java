@@ -0,0 +1,147 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.mongodb.client.result.DeleteResult;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+  private static final int NORMALIZATION_BATCH_SIZE = 500;
+  private static final int FRANCHISE_CURSOR_BATCH_SIZE = 1000;
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+  private final ProductQueries productQueries;
+  private final LegacyFieldCriteria legacyFieldCriteria;
+
+  @Override
+  public Mono<ProductEntity> findByFranchiseIdAndBranchIdAndId(
+      String franchiseId, String branchId, String id) {
+    return reactiveMongoTemplate.findOne(
+        productQueries.byFranchiseBranchAndId(franchiseId, branchId, id), ProductEntity.class);
+  }
+
+  @Override
+  public Flux<ProductEntity> findByFranchiseId(String franchiseId) {
+    return reactiveMongoTemplate.find(
+        productQueries.byFranchiseAndBranch(franchiseId, null)
+            .cursorBatchSize(FRANCHISE_CURSOR_BATCH_SIZE),
+        ProductEntity.class);
+  }
+
+  @Override
+  public Flux<Product> searchByNamePrefix(
+      String franchiseId, String branchId, String normalizedPrefix, int limit) {
+    return find(productQueries.namePrefix(franchiseId, branchId, normalizedPrefix, limit));
+  }
+
+  @Override
+  public Flux<Product> searchByText(String franchiseId, String branchId, String text, int limit) {
+    return find(productQueries.text(franchiseId, branchId, text, limit));
+  }
+
+  @Override
+  public Flux<Product> findTopByStock(String franchiseId, int limit) {
+    return aggregate(productQueries.topByStock(franchiseId, limit));
+  }
+
+  @Override
+  public Flux<Product> findTopProductPerBranch(String franchiseId) {
+    return aggregate(productQueries.topProductPerBranch(franchiseId));
+  }
+
+  private Flux<Product> aggregate(Aggregation aggregation) {
+    return reactiveMongoTemplate.aggregate(aggregation, ProductEntity.class, Product.class);
+  }
+
+  private Flux<Product> find(Query query) {
+    return reactiveMongoTemplate.query(ProductEntity.class).as(Product.class).matching(query).all();
+  }
+
+  @Override
+  public Mono<Long> normalizeMissingNames() {
+    Query missingNormalizedName = productQueries.missingNormalizedName();
+
+    return reactiveMongoTemplate
+        .find(missingNormalizedName, ProductEntity.class)
+        .buffer(NORMALIZATION_BATCH_SIZE)
+        .concatMap(
+            products -> {
+              var bulkOperations =
+                  reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, ProductEntity.class);
+              products.forEach(
+                  product ->
+                      bulkOperations.updateOne(
+                          Query.query(where("id").is(product.getId())),
+                          new Update()
+                              .set("normalizedName", ProductNames.normalize(product.getName()))));
+              return bulkOperations.execute().map(result -> (long) result.getModifiedCount());
+            })
+        .reduce(0L, Long::sum);
+  }
+
+  @Override
+  public Mono<ProductEntity> replaceStock(
+      String franchiseId, String branchId, String productId, int stock) {
+
+    return reactiveMongoTemplate.findAndModify(
+        productQueries.byFranchiseBranchAndId(franchiseId, branchId, productId),
+        new Update().set("stock", stock),
+        FindAndModifyOptions.options().returnNew(false),
+        ProductEntity.class);
+  }
+
+  @Override
+  public Mono<ProductEntity> updateName(
+      String franchiseId, String branchId, String productId, String name, String normalizedName) {
+
+    return reactiveMongoTemplate.findAndModify(
+        productQueries.byFranchiseBranchAndId(franchiseId, branchId, productId),
+        new Update().set("name", name).set("normalizedName", normalizedName),
+        FindAndModifyOptions.options().returnNew(true),
+        ProductEntity.class);
+  }
+
+  @Override
+  public Mono<ProductEntity> applyLedgerStock(String productId, int stock, long ledgerSequence) {
+    return reactiveMongoTemplate.findAndModify(
+        legacyFieldCriteria.query(
+            List.of(
+                where("id").is(productId),
+                legacyFieldCriteria.below(
+                    ProductEntity.LEDGER_SEQUENCE_FIELD, "ledgerSequence", ledgerSequence))),
+        new Update().set("stock", stock).set("ledgerSequence", ledgerSequence),
+        FindAndModifyOptions.options().returnNew(true),
+        ProductEntity.class);
+  }
+
+  @Override
+  public Flux<ProductEntity> findIdsAndStock(String franchiseId, String branchId, int batchSize) {
+    Query query =
+        productQueries.byFranchiseAndBranch(franchiseId, branchId).cursorBatchSize(batchSize);
+    query.fields().include("branchId", "stock");
+
+    return reactiveMongoTemplate.find(query, ProductEntity.class);
+  }
+
+  @Override
+  public Mono<Long> deleteByIds(Collection<String> ids) {
+    return reactiveMongoTemplate
+        .remove(Query.query(where("id").in(ids)), ProductEntity.class)
+        .map(DeleteResult::getDeletedCount);
+  }
+}
@@ -0,0 +1,69 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ObjectIdReferenceConverter;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+/**
+ * Filters on franchise and branch references, which {@link ObjectIdReferenceConverter} stores as
+ * ObjectIds. Documents written before {@code ObjectIdReferenceMigration} converted them still hold
+ * the string, so while {@code catalog.object-id-migration.string-reads} is on, filters match both
+ * stored forms with {@code $in}. Documents not yet moved to the compact field names are matched
+ * through {@link LegacyFieldCriteria}.
+ *
+ * <p>Criteria are written on the stored field name: it is not a property, so the query mapper
+ * leaves the string form as it is instead of converting it back to an ObjectId.
+ */
+@Slf4j
+@Component
+public class ReferenceCriteria {
+
+  private final LegacyFieldCriteria legacyFieldCriteria;
+  private final boolean stringReads;
+
+  public ReferenceCriteria(
+      LegacyFieldCriteria legacyFieldCriteria,
+      @Value("${catalog.object-id-migration.string-reads:true}") boolean stringReads) {
+    this.legacyFieldCriteria = legacyFieldCriteria;
+    this.stringReads = stringReads;
+    log.info("Filters match string references: {}", stringReads);
+  }
+
+  /**
+   * Documents whose reference stored under {@code storedField}, or under {@code legacyField} while
+   * legacy reads are on, points to {@code id}.
+   */
+  public Criteria reference(String storedField, String legacyField, String id) {
+    return legacyFieldCriteria.in(storedField, legacyField, storedForms(id));
+  }
+
+  /**
+   * Equality on the converted form only, for the prefix of a text index, which takes neither
+   * {@code $in} nor {@code $or}.
+   */
+  public Criteria exact(String storedField, String id) {
+    return where(storedField).is(ObjectIdReferenceConverter.toStored(id));
+  }
+
+  /** The same filter as {@link #reference} for a raw {@code $match} stage. */
+  public Document match(String storedField, String legacyField, String id) {
+    List<Object> storedForms = storedForms(id);
+    Object value = storedForms.size() == 1 ? storedForms.get(0) : new Document("$in", storedForms);
+    return legacyFieldCriteria.isLegacyReads()
+        ? new Document(
+            "$or", List.of(new Document(storedField, value), new Document(legacyField, value)))
+        : new Document(storedField, value);
+  }
+
+  private List<Object> storedForms(String id) {
+    Object stored = ObjectIdReferenceConverter.toStored(id);
+    return stringReads && stored instanceof ObjectId ? List.of(stored, id) : List.of(stored);
+  }
+}
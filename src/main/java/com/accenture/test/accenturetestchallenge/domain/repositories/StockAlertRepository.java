@@ -0,0 +1,21 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.StockAlertEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.RepositoryDefinition;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Only the CRUD methods in use, see {@link ProductRepository}. */
+@Repository
+@RepositoryDefinition(domainClass = StockAlertEntity.class, idClass = String.class)
+public interface StockAlertRepository {
+
+  <S extends StockAlertEntity> Mono<S> save(S stockAlert);
+
+  Flux<StockAlertEntity> findByFranchiseIdOrderByCreatedAtDesc(String franchiseId, Limit limit);
+
+  Flux<StockAlertEntity> findByFranchiseIdAndBranchIdOrderByCreatedAtDesc(
+      String franchiseId, String branchId, Limit limit);
+}
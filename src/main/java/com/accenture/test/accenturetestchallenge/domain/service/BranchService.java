@@ -2,16 +2,19 @@ package com.accenture.test.accenturetestchallenge.domain.service;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
 import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
 import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
 import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
 import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
+@Profile("!in-memory & !embedded")
 @RequiredArgsConstructor
 public class BranchService implements BranchPort {
 
@@ -19,6 +22,8 @@ public class BranchService implements BranchPort {
 
   private final BranchRepository branchRepository;
 
+  private final CatalogDeletionService catalogDeletionService;
+
   @Override
   public Mono<Branch> createBranch(String franchiseId, String branchName) {
     log.info("Starting branch creation process. Branch name: {}", branchName);
@@ -48,13 +53,22 @@ public class BranchService implements BranchPort {
         .franchiseId(branchEntity.getFranchiseId())
         .name(branchEntity.getName())
         .id(branchEntity.getId())
+        .productCount(valueOrZero(branchEntity.getProductCount()))
+        .totalStock(valueOrZero(branchEntity.getTotalStock()))
+        .lowStockThreshold(branchEntity.getLowStockThreshold())
         .build();
   }
 
+  private long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
   private BranchEntity buildBranchEntity(String franchiseId, String branchName) {
     BranchEntity branchEntity = new BranchEntity();
     branchEntity.setName(branchName);
     branchEntity.setFranchiseId(franchiseId);
+    branchEntity.setProductCount(0L);
+    branchEntity.setTotalStock(0L);
     return branchEntity;
   }
 
@@ -112,17 +126,92 @@ public class BranchService implements BranchPort {
     }
 
     return branchRepository
-        .findByFranchiseIdAndId(franchiseId, branchId)
-        .map(
-            branchEntity -> {
-              branchEntity.setName(newBranchName);
-              return branchEntity;
-            })
-        .flatMap(branchRepository::save)
+        .updateName(franchiseId, branchId, newBranchName)
         .map(this::mapEntityToDomain)
         .doOnSuccess(branch -> log.info("Branch updating successfully. ID: {}", branch.getId()))
         .doOnError(
             error ->
                 log.error("Error updating Branch ID {}: {}", branchId, error.getMessage(), error));
   }
+
+  @Override
+  public Mono<Branch> adjustProductCounters(
+      String franchiseId, String branchId, int productDelta, long stockDelta) {
+
+    return branchRepository
+        .incrementProductCounters(franchiseId, branchId, productDelta, stockDelta)
+        .map(this::mapEntityToDomain)
+        .doOnSuccess(
+            branch ->
+                log.debug(
+                    "Product counters of branch {} adjusted by {} products and {} stock",
+                    branchId,
+                    productDelta,
+                    stockDelta))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error adjusting product counters of branch ID {}: {}",
+                    branchId,
+                    error.getMessage(),
+                    error));
+  }
+
+  @Override
+  public Mono<Branch> updateLowStockThreshold(
+      String franchiseId, String branchId, Integer threshold) {
+
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty()
+        || (threshold != null && threshold < 0)) {
+      log.warn(
+          "Invalid low stock threshold update. FranchiseId: '{}', BranchId: '{}', Threshold: '{}'",
+          franchiseId,
+          branchId,
+          threshold);
+      return Mono.error(
+          new IllegalArgumentException(
+              "Franchise ID and Branch ID must not be null or empty and threshold must not be negative"));
+    }
+
+    return branchRepository
+        .updateLowStockThreshold(franchiseId, branchId, threshold)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
+        .map(this::mapEntityToDomain)
+        .doOnSuccess(
+            branch ->
+                log.info(
+                    "Low stock threshold of branch {} set to {}", branch.getId(), threshold))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error updating low stock threshold of branch ID {}: {}",
+                    branchId,
+                    error.getMessage(),
+                    error));
+  }
+
+  @Override
+  public Mono<DeletionJob> deleteBranch(String franchiseId, String branchId) {
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return catalogDeletionService
+        .deleteBranch(franchiseId, branchId)
+        .doOnError(
+            error ->
+                log.error(
+                    "Error starting deletion of branch ID {}: {}",
+                    branchId,
+                    error.getMessage(),
+                    error));
+  }
 }
@@ -0,0 +1,198 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summarizingLong;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deletes branches and franchises with everything that belongs to them, in background jobs
+ * tracked by {@link DeletionJobRegistry}. Product ids are streamed from a cursor and each chunk is
+ * removed with one {@code deleteMany}, pausing between chunks so that emptying a large branch
+ * leaves room for requests. Branch counters are lowered with every chunk.
+ *
+ * <p>Products go before their branch and branches before their franchise, so a job cut short
+ * leaves a consistent catalog and the deletion can be started again. Products and branches added
+ * while the job runs are swept once the parent document is gone. Stock alerts already raised are
+ * kept.
+ */
+@Slf4j
+@Service
+@Profile("!in-memory & !embedded")
+public class CatalogDeletionService {
+
+  private final FranchiseRepository franchiseRepository;
+  private final BranchRepository branchRepository;
+  private final ProductRepository productRepository;
+  private final InventoryStatsRepository inventoryStatsRepository;
+  private final DeletionJobRegistry deletionJobRegistry;
+  private final int chunkSize;
+  private final Duration chunkPause;
+
+  public CatalogDeletionService(
+      FranchiseRepository franchiseRepository,
+      BranchRepository branchRepository,
+      ProductRepository productRepository,
+      InventoryStatsRepository inventoryStatsRepository,
+      DeletionJobRegistry deletionJobRegistry,
+      @Value("${catalog.deletion.chunk-size:1000}") int chunkSize,
+      @Value("${catalog.deletion.chunk-pause:PT0.1S}") Duration chunkPause) {
+
+    this.franchiseRepository = franchiseRepository;
+    this.branchRepository = branchRepository;
+    this.productRepository = productRepository;
+    this.inventoryStatsRepository = inventoryStatsRepository;
+    this.deletionJobRegistry = deletionJobRegistry;
+    this.chunkSize = chunkSize;
+    this.chunkPause = chunkPause;
+  }
+
+  public Mono<DeletionJob> deleteBranch(String franchiseId, String branchId) {
+    return branchRepository
+        .findByFranchiseIdAndId(franchiseId, branchId)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
+        .map(
+            branch -> {
+              DeletionJob job =
+                  deletionJobRegistry.start(
+                      franchiseId, branchId, valueOrZero(branch.getProductCount()));
+              run(job, deleteBranchCascade(job.getId(), franchiseId, branchId));
+              return job;
+            });
+  }
+
+  public Mono<DeletionJob> deleteFranchise(String franchiseId) {
+    return franchiseRepository
+        .existsById(franchiseId)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .map(
+            exists -> {
+              DeletionJob job = deletionJobRegistry.start(franchiseId, null, 0);
+              run(job, deleteFranchiseCascade(job.getId(), franchiseId));
+              return job;
+            });
+  }
+
+  /** Subscribed apart from the request, which completes as soon as the job is started. */
+  private void run(DeletionJob job, Mono<Void> deletion) {
+    log.info(
+        "Deletion job {} started. Franchise ID: {}, Branch ID: {}",
+        job.getId(),
+        job.getFranchiseId(),
+        job.getBranchId());
+
+    deletion.subscribe(
+        null,
+        error -> {
+          log.error("Deletion job {} failed: {}", job.getId(), error.getMessage(), error);
+          deletionJobRegistry.fail(job.getId(), error);
+        },
+        () -> {
+          log.info("Deletion job {} completed", job.getId());
+          deletionJobRegistry.complete(job.getId());
+        });
+  }
+
+  private Mono<Void> deleteFranchiseCascade(String jobId, String franchiseId) {
+    return branchRepository
+        .findByFranchiseId(franchiseId)
+        .collectList()
+        .flatMap(
+            branches -> {
+              long expectedProducts =
+                  branches.stream()
+                      .mapToLong(branch -> valueOrZero(branch.getProductCount()))
+                      .sum();
+              deletionJobRegistry.recordExpectedProducts(jobId, expectedProducts);
+              return Flux.fromIterable(branches)
+                  .concatMap(branch -> deleteBranchCascade(jobId, franchiseId, branch.getId()))
+                  .then();
+            })
+        .then(Mono.defer(() -> franchiseRepository.deleteById(franchiseId)))
+        .then(Mono.defer(() -> inventoryStatsRepository.deleteById(franchiseId)))
+        .then(Mono.defer(() -> branchRepository.deleteByFranchiseId(franchiseId)))
+        .doOnNext(deleted -> deletionJobRegistry.recordBranchesDeleted(jobId, deleted))
+        .then(Mono.defer(() -> deleteProducts(jobId, franchiseId, null)));
+  }
+
+  private Mono<Void> deleteBranchCascade(String jobId, String franchiseId, String branchId) {
+    return deleteProducts(jobId, franchiseId, branchId)
+        .then(Mono.defer(() -> inventoryStatsRepository.removeBranch(franchiseId, branchId)))
+        .then(Mono.defer(() -> branchRepository.deleteByFranchiseIdAndId(franchiseId, branchId)))
+        .doOnNext(deleted -> deletionJobRegistry.recordBranchesDeleted(jobId, deleted))
+        .then(Mono.defer(() -> deleteProducts(jobId, franchiseId, branchId)));
+  }
+
+  private Mono<Void> deleteProducts(String jobId, String franchiseId, String branchId) {
+    return productRepository
+        .findIdsAndStock(franchiseId, branchId, chunkSize)
+        .buffer(chunkSize)
+        .concatMap(products -> deleteChunk(jobId, franchiseId, products).delayElement(chunkPause))
+        .then();
+  }
+
+  private Mono<Long> deleteChunk(String jobId, String franchiseId, List<ProductEntity> products) {
+    List<String> ids = products.stream().map(ProductEntity::getId).toList();
+
+    return productRepository
+        .deleteByIds(ids)
+        .flatMap(
+            deleted ->
+                (deleted == products.size()
+                        ? lowerCounters(franchiseId, products)
+                        : recountProducts(franchiseId, products))
+                    .thenReturn(deleted))
+        .doOnNext(deleted -> deletionJobRegistry.recordProductsDeleted(jobId, deleted));
+  }
+
+  private Mono<Void> lowerCounters(String franchiseId, List<ProductEntity> products) {
+    Map<String, LongSummaryStatistics> stockByBranch =
+        products.stream()
+            .collect(
+                groupingBy(
+                    ProductEntity::getBranchId,
+                    summarizingLong(product -> valueOrZero(product.getStock()))));
+
+    return Flux.fromIterable(stockByBranch.entrySet())
+        .concatMap(
+            branchStock ->
+                branchRepository.incrementProductCounters(
+                    franchiseId,
+                    branchStock.getKey(),
+                    -(int) branchStock.getValue().getCount(),
+                    -branchStock.getValue().getSum()))
+        .then();
+  }
+
+  // Some products of the chunk were deleted by someone else, who lowered the counters already,
+  // and which ones is unknown, so the counters of their branches are counted again.
+  private Mono<Void> recountProducts(String franchiseId, List<ProductEntity> products) {
+    return Flux.fromStream(products.stream().map(ProductEntity::getBranchId).distinct())
+        .concatMap(branchId -> branchRepository.recountProducts(franchiseId, branchId))
+        .then();
+  }
+
+  private long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  private long valueOrZero(Integer value) {
+    return value == null ? 0L : value;
+  }
+}
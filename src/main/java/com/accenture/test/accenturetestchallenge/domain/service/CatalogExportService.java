@@ -0,0 +1,59 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.ports.CatalogExportPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes every product of a franchise as a catalog file. Products are formatted one by one as
+ * the cursor of {@code findByFranchiseId} delivers them, and the cursor is only advanced as fast
+ * as the lines are consumed, so the size of the franchise does not change the memory used.
+ */
+@Slf4j
+@Service
+@Profile("!in-memory & !embedded")
+@RequiredArgsConstructor
+public class CatalogExportService implements CatalogExportPort {
+
+  private final FranchisePort franchisePort;
+  private final ProductRepository productRepository;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public Flux<String> exportProducts(String franchiseId, CatalogFileFormat format) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for catalog export: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    CatalogRowWriter writer =
+        format == CatalogFileFormat.CSV
+            ? CatalogRowWriter.csv()
+            : CatalogRowWriter.ndjson(objectMapper);
+    Flux<String> rows =
+        Flux.defer(() -> productRepository.findByFranchiseId(franchiseId)).map(writer::write);
+
+    return franchisePort
+        .existsFranchise(franchiseId)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .thenMany(
+            format == CatalogFileFormat.CSV ? rows.startWith(CatalogRowWriter.csvHeader()) : rows)
+        .doOnComplete(() -> log.info("Catalog of franchise {} exported", franchiseId))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error exporting catalog of franchise {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
+}
@@ -0,0 +1,292 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogImportEvent;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogImportEventType;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.CatalogImportPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.accenture.test.accenturetestchallenge.domain.service.CatalogRowParser.CatalogRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Imports catalog files of any size into a franchise. Lines are parsed as they arrive and grouped
+ * in batches, each written with one {@code insertMany}. At most {@code catalog.import.concurrency}
+ * batches are in flight; until one completes no more lines are requested, so a slow database
+ * slows down the upload instead of filling the heap.
+ *
+ * <p>Branches are loaded once per import and rows name them by id or by name. Invalid rows are
+ * reported with their line and skipped. Progress is reported after each batch, in file order, and
+ * counts only rows that are already stored. A failed write ends the import.
+ */
+@Slf4j
+@Service
+@Profile("!in-memory & !embedded")
+public class CatalogImportService implements CatalogImportPort {
+
+  private final FranchisePort franchisePort;
+  private final BranchPort branchPort;
+  private final BranchRepository branchRepository;
+  private final ProductRepository productRepository;
+  private final InventoryStatsPort inventoryStatsPort;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+  private final int concurrency;
+
+  public CatalogImportService(
+      FranchisePort franchisePort,
+      BranchPort branchPort,
+      BranchRepository branchRepository,
+      ProductRepository productRepository,
+      InventoryStatsPort inventoryStatsPort,
+      ObjectMapper objectMapper,
+      @Value("${catalog.import.batch-size:1000}") int batchSize,
+      @Value("${catalog.import.concurrency:4}") int concurrency) {
+
+    this.franchisePort = franchisePort;
+    this.branchPort = branchPort;
+    this.branchRepository = branchRepository;
+    this.productRepository = productRepository;
+    this.inventoryStatsPort = inventoryStatsPort;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.concurrency = concurrency;
+  }
+
+  @Override
+  public Flux<CatalogImportEvent> importProducts(
+      String franchiseId, CatalogFileFormat format, Flux<String> lines) {
+
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for catalog import: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return franchisePort
+        .existsFranchise(franchiseId)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
+        .then(Mono.defer(() -> loadBranchReferences(franchiseId)))
+        .flatMapMany(
+            branchReferences ->
+                writeRows(franchiseId, readRows(franchiseId, format, lines, branchReferences)))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error importing catalog of franchise {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
+
+  /**
+   * Branch ids and names of the franchise, mapped to the branch id. A name shared by several
+   * branches maps to {@code null}.
+   */
+  private Mono<Map<String, String>> loadBranchReferences(String franchiseId) {
+    return branchRepository
+        .findByFranchiseId(franchiseId)
+        .collectList()
+        .map(
+            branches -> {
+              Map<String, String> references = new HashMap<>();
+              for (BranchEntity branch : branches) {
+                if (branch.getName() != null) {
+                  String name = branch.getName().trim();
+                  references.put(name, references.containsKey(name) ? null : branch.getId());
+                }
+              }
+              branches.forEach(branch -> references.put(branch.getId(), branch.getId()));
+              return references;
+            });
+  }
+
+  private Flux<ImportRow> readRows(
+      String franchiseId,
+      CatalogFileFormat format,
+      Flux<String> lines,
+      Map<String, String> branchReferences) {
+
+    Flux<ImportLine> numbered =
+        lines
+            .index((index, line) -> new ImportLine(index + 1, line))
+            .filter(line -> !line.text().isBlank());
+
+    if (format == CatalogFileFormat.NDJSON) {
+      CatalogRowParser parser = CatalogRowParser.ndjson(objectMapper);
+      return numbered.map(line -> toImportRow(franchiseId, line, parser, branchReferences));
+    }
+
+    return numbered.switchOnFirst(
+        (header, rows) -> {
+          if (!header.hasValue()) {
+            return rows.thenMany(Flux.<ImportRow>empty());
+          }
+          CatalogRowParser parser = CatalogRowParser.csv(header.get().text());
+          return rows.skip(1)
+              .map(line -> toImportRow(franchiseId, line, parser, branchReferences));
+        });
+  }
+
+  private ImportRow toImportRow(
+      String franchiseId,
+      ImportLine line,
+      CatalogRowParser parser,
+      Map<String, String> branchReferences) {
+
+    try {
+      CatalogRow row = parser.parse(line.text());
+      if (row.name() == null || row.name().isEmpty()) {
+        throw new IllegalArgumentException("Product name must not be null or empty");
+      }
+      if (row.stock() == null || row.stock() < 0) {
+        throw new IllegalArgumentException("Product stock must be zero or more");
+      }
+
+      ProductEntity product = new ProductEntity();
+      product.setFranchiseId(franchiseId);
+      product.setBranchId(resolveBranch(row.branch(), branchReferences));
+      product.setName(row.name());
+      product.setNormalizedName(ProductNames.normalize(row.name()));
+      product.setStock(row.stock());
+      return new ImportRow(line.number(), product, null);
+    } catch (IllegalArgumentException e) {
+      return new ImportRow(line.number(), null, e.getMessage());
+    }
+  }
+
+  private String resolveBranch(String branch, Map<String, String> branchReferences) {
+    if (branch == null || branch.isEmpty()) {
+      throw new IllegalArgumentException("Branch must not be null or empty");
+    }
+    if (!branchReferences.containsKey(branch)) {
+      throw new IllegalArgumentException("Branch '" + branch + "' does not exist");
+    }
+    String branchId = branchReferences.get(branch);
+    if (branchId == null) {
+      throw new IllegalArgumentException(
+          "Several branches are named '" + branch + "', use the branch id");
+    }
+    return branchId;
+  }
+
+  private Flux<CatalogImportEvent> writeRows(String franchiseId, Flux<ImportRow> rows) {
+    return Flux.defer(
+        () -> {
+          ImportProgress progress = new ImportProgress();
+
+          return rows.buffer(batchSize)
+              .flatMapSequential(batch -> writeBatch(franchiseId, batch), concurrency, 1)
+              .concatMapIterable(progress::record)
+              .concatWith(
+                  Mono.fromCallable(
+                      () -> {
+                        log.info(
+                            "Catalog of franchise {} imported. Rows: {}, imported: {}, failed: {}",
+                            franchiseId,
+                            progress.rowsRead,
+                            progress.imported,
+                            progress.failed);
+                        return progress.event(CatalogImportEventType.COMPLETED, null, null);
+                      }));
+        });
+  }
+
+  private Mono<List<ImportRow>> writeBatch(String franchiseId, List<ImportRow> batch) {
+    List<ProductEntity> products =
+        batch.stream().map(ImportRow::product).filter(Objects::nonNull).toList();
+    if (products.isEmpty()) {
+      return Mono.just(batch);
+    }
+
+    return productRepository
+        .insert(products)
+        .then(Mono.defer(() -> trackProductsAdded(franchiseId, products)))
+        .thenReturn(batch);
+  }
+
+  private Mono<Void> trackProductsAdded(String franchiseId, List<ProductEntity> products) {
+    Map<String, List<Integer>> stocksByBranch =
+        products.stream()
+            .collect(
+                groupingBy(
+                    ProductEntity::getBranchId, mapping(ProductEntity::getStock, toList())));
+
+    return Flux.fromIterable(stocksByBranch.entrySet())
+        .concatMap(
+            branchStocks -> {
+              String branchId = branchStocks.getKey();
+              List<Integer> stocks = branchStocks.getValue();
+              long totalStock = stocks.stream().mapToLong(Integer::longValue).sum();
+
+              return branchPort
+                  .adjustProductCounters(franchiseId, branchId, stocks.size(), totalStock)
+                  .then(
+                      Mono.defer(
+                          () ->
+                              inventoryStatsPort.recordProductsAdded(
+                                  franchiseId, branchId, stocks)));
+            })
+        .then();
+  }
+
+  private record ImportLine(long number, String text) {}
+
+  /** A parsed row, with either the product to insert or the reason it was rejected. */
+  private record ImportRow(long line, ProductEntity product, String error) {}
+
+  /** Running totals of one import, only touched from the sequential part of the pipeline. */
+  private static final class ImportProgress {
+
+    private long rowsRead;
+    private long imported;
+    private long failed;
+
+    List<CatalogImportEvent> record(List<ImportRow> batch) {
+      List<CatalogImportEvent> events = new ArrayList<>();
+      for (ImportRow row : batch) {
+        rowsRead++;
+        if (row.product() == null) {
+          failed++;
+          events.add(event(CatalogImportEventType.ROW_ERROR, row.line(), row.error()));
+        } else {
+          imported++;
+        }
+      }
+      events.add(event(CatalogImportEventType.PROGRESS, null, null));
+      return events;
+    }
+
+    CatalogImportEvent event(CatalogImportEventType type, Long line, String message) {
+      return CatalogImportEvent.builder()
+          .type(type)
+          .line(line)
+          .message(message)
+          .rowsRead(rowsRead)
+          .imported(imported)
+          .failed(failed)
+          .build();
+    }
+  }
+}
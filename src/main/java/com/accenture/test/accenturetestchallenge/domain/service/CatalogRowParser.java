@@ -0,0 +1,142 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Reads the rows of a catalog file, one line at a time. CSV files start with a header naming the
+ * {@code branch}, {@code name} and {@code stock} columns in any order, NDJSON files hold one object
+ * per line with the same fields. The branch is given by id or by name.
+ *
+ * <p>Quoted CSV fields may contain commas and doubled quotes, but not line breaks.
+ */
+final class CatalogRowParser {
+
+  static final String BRANCH = "branch";
+  static final String NAME = "name";
+  static final String STOCK = "stock";
+
+  record CatalogRow(String branch, String name, Integer stock) {}
+
+  private final Function<String, CatalogRow> reader;
+
+  private CatalogRowParser(Function<String, CatalogRow> reader) {
+    this.reader = reader;
+  }
+
+  static CatalogRowParser csv(String header) {
+    List<String> columns =
+        splitCsv(header.replace("\uFEFF", "")).stream()
+            .map(column -> column.trim().toLowerCase(Locale.ROOT))
+            .toList();
+    int branch = requiredColumn(columns, BRANCH);
+    int name = requiredColumn(columns, NAME);
+    int stock = requiredColumn(columns, STOCK);
+
+    return new CatalogRowParser(
+        line -> {
+          List<String> fields = splitCsv(line);
+          if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                "Expected " + columns.size() + " fields but found " + fields.size());
+          }
+          return new CatalogRow(
+              fields.get(branch).trim(), fields.get(name).trim(), parseStock(fields.get(stock)));
+        });
+  }
+
+  static CatalogRowParser ndjson(ObjectMapper objectMapper) {
+    return new CatalogRowParser(
+        line -> {
+          JsonNode node = readObject(objectMapper, line);
+          JsonNode stock = node.path(STOCK);
+          boolean hasStock = !stock.isMissingNode() && !stock.isNull();
+          if (hasStock && !(stock.isIntegralNumber() && stock.canConvertToInt())) {
+            throw new IllegalArgumentException("Stock must be an integer");
+          }
+          return new CatalogRow(
+              textOf(node, BRANCH), textOf(node, NAME), hasStock ? stock.intValue() : null);
+        });
+  }
+
+  /** Throws {@link IllegalArgumentException} when the line is not a well-formed row. */
+  CatalogRow parse(String line) {
+    return reader.apply(line);
+  }
+
+  private static int requiredColumn(List<String> columns, String column) {
+    int index = columns.indexOf(column);
+    if (index < 0) {
+      throw new IllegalArgumentException(
+          "CSV header must name the columns " + List.of(BRANCH, NAME, STOCK));
+    }
+    return index;
+  }
+
+  private static Integer parseStock(String value) {
+    String stock = value.trim();
+    if (stock.isEmpty()) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(stock);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Stock must be an integer: '" + stock + "'");
+    }
+  }
+
+  private static JsonNode readObject(ObjectMapper objectMapper, String line) {
+    try {
+      JsonNode node = objectMapper.readTree(line);
+      if (node == null || !node.isObject()) {
+        throw new IllegalArgumentException("Line is not a JSON object");
+      }
+      return node;
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+    }
+  }
+
+  private static String textOf(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    return value == null || value.isNull() ? null : value.asText().trim();
+  }
+
+  private static List<String> splitCsv(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+
+    if (quoted) {
+      throw new IllegalArgumentException("Unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+}
@@ -0,0 +1,71 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.function.Function;
+
+/**
+ * Writes products as lines of a catalog file that {@link CatalogRowParser} reads back: the {@code
+ * branch} column holds the branch id, and the extra {@code id} column is ignored on import.
+ */
+final class CatalogRowWriter {
+
+  static final String ID = "id";
+
+  private final Function<ProductEntity, String> writer;
+
+  private CatalogRowWriter(Function<ProductEntity, String> writer) {
+    this.writer = writer;
+  }
+
+  static String csvHeader() {
+    return String.join(
+            ",", ID, CatalogRowParser.BRANCH, CatalogRowParser.NAME, CatalogRowParser.STOCK)
+        + "\n";
+  }
+
+  static CatalogRowWriter csv() {
+    return new CatalogRowWriter(
+        product ->
+            csvField(product.getId())
+                + ","
+                + csvField(product.getBranchId())
+                + ","
+                + csvField(product.getName())
+                + ","
+                + (product.getStock() == null ? "" : product.getStock())
+                + "\n");
+  }
+
+  static CatalogRowWriter ndjson(ObjectMapper objectMapper) {
+    return new CatalogRowWriter(
+        product -> {
+          ObjectNode node =
+              objectMapper
+                  .createObjectNode()
+                  .put(ID, product.getId())
+                  .put(CatalogRowParser.BRANCH, product.getBranchId())
+                  .put(CatalogRowParser.NAME, product.getName())
+                  .put(CatalogRowParser.STOCK, product.getStock());
+          return node + "\n";
+        });
+  }
+
+  String write(ProductEntity product) {
+    return writer.apply(product);
+  }
+
+  private static String csvField(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+}
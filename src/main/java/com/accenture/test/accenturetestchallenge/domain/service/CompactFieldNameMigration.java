@@ -0,0 +1,138 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Moves {@code branches} and {@code products} documents written with the property names to the
+ * compact field names, on startup when {@code catalog.compact-fields.migrate-on-startup} is set.
+ *
+ * <p>Ids of documents with a legacy field are streamed from a cursor and each batch is rewritten
+ * by one update pipeline, pausing between batches to leave room for requests. A value the
+ * application already wrote under the compact name is newer and kept, except for branch counters,
+ * where it is a delta and is added. The migration can be run again until nothing is left.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !embedded")
+@ConditionalOnProperty(name = "catalog.compact-fields.migrate-on-startup", havingValue = "true")
+public class CompactFieldNameMigration {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+  private final Duration batchPause;
+
+  public CompactFieldNameMigration(
+      ReactiveMongoTemplate reactiveMongoTemplate,
+      @Value("${catalog.compact-fields.batch-pause:PT0.05S}") Duration batchPause) {
+
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+    this.batchPause = batchPause;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateOnStartup() {
+    migrate()
+        .subscribe(
+            migrated -> log.info("Moved {} documents to compact field names", migrated),
+            error ->
+                log.error(
+                    "Error moving documents to compact field names: {}",
+                    error.getMessage(),
+                    error));
+  }
+
+  public Mono<Long> migrate() {
+    return migrateCollection(BranchEntity.class)
+        .concatWith(migrateCollection(ProductEntity.class))
+        .reduce(0L, Long::sum);
+  }
+
+  private Mono<Long> migrateCollection(Class<?> entityClass) {
+    MongoPersistentEntity<?> entity =
+        reactiveMongoTemplate
+            .getConverter()
+            .getMappingContext()
+            .getRequiredPersistentEntity(entityClass);
+    Map<String, MongoPersistentProperty> renamed = CompactFieldNames.renamedProperties(entity);
+    AggregationUpdate update = toCompactNames(entity, renamed);
+
+    Query withLegacyFields =
+        Query.query(
+                new Criteria()
+                    .orOperator(
+                        renamed.keySet().stream().map(field -> where(field).exists(true)).toList()))
+            .cursorBatchSize(BATCH_SIZE);
+    withLegacyFields.fields().include("_id");
+
+    return reactiveMongoTemplate
+        .find(withLegacyFields, Document.class, entity.getCollection())
+        .map(document -> document.get("_id"))
+        .buffer(BATCH_SIZE)
+        .concatMap(
+            ids ->
+                reactiveMongoTemplate
+                    .updateMulti(Query.query(where("_id").in(ids)), update, entity.getCollection())
+                    .map(UpdateResult::getModifiedCount)
+                    .delayElement(batchPause))
+        .reduce(0L, Long::sum)
+        .doOnSuccess(
+            migrated ->
+                log.info(
+                    "Moved {} documents of {} to compact field names",
+                    migrated,
+                    entity.getCollection()));
+  }
+
+  private AggregationUpdate toCompactNames(
+      MongoPersistentEntity<?> entity, Map<String, MongoPersistentProperty> renamed) {
+
+    Document compactValues = new Document();
+    renamed.forEach(
+        (legacyName, property) -> {
+          String compact = "$" + property.getFieldName();
+          String legacy = "$" + legacyName;
+          compactValues.append(
+              property.getFieldName(),
+              CompactFieldNames.isCounter(entity, property)
+                  ? new Document(
+                      "$add",
+                      List.of(
+                          new Document("$ifNull", List.of(compact, 0)),
+                          new Document("$ifNull", List.of(legacy, 0))))
+                  : new Document("$ifNull", List.of(compact, legacy)));
+        });
+
+    return AggregationUpdate.from(
+        List.of(
+            stage(new Document("$set", compactValues)),
+            stage(new Document("$unset", List.copyOf(renamed.keySet())))));
+  }
+
+  private static AggregationOperation stage(Document stage) {
+    return context -> stage;
+  }
+}
@@ -0,0 +1,36 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * Properties stored under a compact {@code @Field} name. Documents written before they were
+ * introduced hold the property name instead.
+ */
+final class CompactFieldNames {
+
+  // Only changed with $inc, so a value under the compact name of an old document is a delta.
+  private static final Map<Class<?>, Set<String>> COUNTERS =
+      Map.of(BranchEntity.class, Set.of("productCount", "totalStock"));
+
+  private CompactFieldNames() {}
+
+  /** Renamed properties of {@code entity}, keyed by their legacy field name. */
+  static Map<String, MongoPersistentProperty> renamedProperties(MongoPersistentEntity<?> entity) {
+    Map<String, MongoPersistentProperty> renamed = new LinkedHashMap<>();
+    for (MongoPersistentProperty property : entity) {
+      if (!property.isIdProperty() && !property.getName().equals(property.getFieldName())) {
+        renamed.put(property.getName(), property);
+      }
+    }
+    return renamed;
+  }
+
+  static boolean isCounter(MongoPersistentEntity<?> entity, MongoPersistentProperty property) {
+    return COUNTERS.getOrDefault(entity.getType(), Set.of()).contains(property.getName());
+  }
+}
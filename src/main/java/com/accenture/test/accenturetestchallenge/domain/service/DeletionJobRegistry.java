@@ -0,0 +1,113 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJobStatus;
+import com.accenture.test.accenturetestchallenge.domain.ports.DeletionJobPort;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deletion jobs of this instance, kept in memory. Each change replaces the job with an updated
+ * copy, so readers always see a consistent snapshot. Running jobs are kept until they finish, and
+ * only the last {@value #FINISHED_JOBS_KEPT} finished jobs are remembered.
+ *
+ * <p>Jobs are lost on restart. Deletions can be started again and only remove what is left.
+ */
+@Slf4j
+@Component
+public class DeletionJobRegistry implements DeletionJobPort {
+
+  private static final int FINISHED_JOBS_KEPT = 200;
+
+  private final Map<String, DeletionJob> jobs = new ConcurrentHashMap<>();
+  private final Queue<String> finishedJobs = new ConcurrentLinkedQueue<>();
+
+  public DeletionJob start(String franchiseId, String branchId, long expectedProducts) {
+    DeletionJob job =
+        DeletionJob.builder()
+            .id(UUID.randomUUID().toString())
+            .franchiseId(franchiseId)
+            .branchId(branchId)
+            .status(DeletionJobStatus.RUNNING)
+            .expectedProducts(expectedProducts)
+            .startedAt(Instant.now())
+            .build();
+    jobs.put(job.getId(), job);
+    return job;
+  }
+
+  public void recordExpectedProducts(String jobId, long expectedProducts) {
+    update(jobId, job -> job.toBuilder().expectedProducts(expectedProducts).build());
+  }
+
+  public void recordProductsDeleted(String jobId, long deletedProducts) {
+    update(
+        jobId,
+        job -> job.toBuilder().deletedProducts(job.getDeletedProducts() + deletedProducts).build());
+  }
+
+  public void recordBranchesDeleted(String jobId, long deletedBranches) {
+    update(
+        jobId,
+        job -> job.toBuilder().deletedBranches(job.getDeletedBranches() + deletedBranches).build());
+  }
+
+  public void complete(String jobId) {
+    finish(jobId, DeletionJobStatus.COMPLETED, null);
+  }
+
+  public void fail(String jobId, Throwable error) {
+    finish(jobId, DeletionJobStatus.FAILED, error.getMessage());
+  }
+
+  /** Starts a job that was already carried out, as the in-memory and embedded catalogs do. */
+  public DeletionJob completed(
+      String franchiseId, String branchId, long deletedProducts, long deletedBranches) {
+    DeletionJob job = start(franchiseId, branchId, deletedProducts);
+    update(
+        job.getId(),
+        running ->
+            running.toBuilder()
+                .deletedProducts(deletedProducts)
+                .deletedBranches(deletedBranches)
+                .build());
+    complete(job.getId());
+    return jobs.getOrDefault(job.getId(), job);
+  }
+
+  @Override
+  public Mono<DeletionJob> getDeletionJob(String jobId) {
+    if (jobId == null || jobId.trim().isEmpty()) {
+      log.warn("Invalid deletion job ID received: '{}'", jobId);
+      return Mono.error(new IllegalArgumentException("Job ID must not be null or empty"));
+    }
+
+    return Mono.justOrEmpty(jobs.get(jobId))
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Deletion job does not exist")));
+  }
+
+  private void finish(String jobId, DeletionJobStatus status, String error) {
+    update(
+        jobId,
+        job -> job.toBuilder().status(status).error(error).finishedAt(Instant.now()).build());
+    finishedJobs.add(jobId);
+    while (finishedJobs.size() > FINISHED_JOBS_KEPT) {
+      String forgotten = finishedJobs.poll();
+      if (forgotten != null) {
+        jobs.remove(forgotten);
+      }
+    }
+  }
+
+  private void update(String jobId, UnaryOperator<DeletionJob> change) {
+    jobs.computeIfPresent(jobId, (id, job) -> change.apply(job));
+  }
+}
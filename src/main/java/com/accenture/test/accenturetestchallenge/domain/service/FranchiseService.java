@@ -1,21 +1,26 @@
 package com.accenture.test.accenturetestchallenge.domain.service;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.FranchiseEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
 import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
 import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
 import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
+@Profile("!in-memory & !embedded")
 @RequiredArgsConstructor
 public class FranchiseService implements FranchisePort {
 
   private final FranchiseRepository franchiseRepository;
 
+  private final CatalogDeletionService catalogDeletionService;
+
   @Override
   public Mono<Franchise> createFranchise(String franchiseName) {
     log.info("Starting franchise creation process. Franchise name: {}", franchiseName);
@@ -105,4 +110,22 @@ public class FranchiseService implements FranchisePort {
                 log.error(
                     "Error updating franchise ID {}: {}", franchiseId, error.getMessage(), error));
   }
+
+  @Override
+  public Mono<DeletionJob> deleteFranchise(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID provided for deletion: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return catalogDeletionService
+        .deleteFranchise(franchiseId)
+        .doOnError(
+            error ->
+                log.error(
+                    "Error starting deletion of franchise ID {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
 }
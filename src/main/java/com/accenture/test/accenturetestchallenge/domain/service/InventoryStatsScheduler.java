@@ -0,0 +1,31 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rebuilds the inventory stats on a fixed delay. Each instance with {@code
+ * inventory.stats.refresh-enabled} on runs its own rebuild, so it is meant to be on for a single
+ * instance of a deployment.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "inventory.stats.refresh-enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+public class InventoryStatsScheduler {
+
+  private final InventoryStatsPort inventoryStatsPort;
+
+  @Scheduled(
+      initialDelayString = "${inventory.stats.refresh-initial-delay:PT1M}",
+      fixedDelayString = "${inventory.stats.refresh-interval:PT15M}")
+  public Mono<Void> refreshInventoryStats() {
+    return inventoryStatsPort.refreshStats().onErrorResume(error -> Mono.empty());
+  }
+}
@@ -0,0 +1,203 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("!in-memory & !embedded")
+@RequiredArgsConstructor
+public class InventoryStatsService implements InventoryStatsPort {
+
+  private final FranchisePort franchisePort;
+  private final BranchPort branchPort;
+  private final InventoryStatsRepository inventoryStatsRepository;
+
+  @Override
+  public Mono<InventoryStats> getFranchiseStats(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for stats: '{}'", franchiseId);
+      return Mono.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return inventoryStatsRepository
+        .findByIdAndScope(franchiseId, InventoryStatsEntity.FRANCHISE_SCOPE)
+        .map(this::mapEntityToDomain)
+        .switchIfEmpty(
+            Mono.defer(
+                () ->
+                    franchisePort
+                        .existsFranchise(franchiseId)
+                        .filter(Boolean::booleanValue)
+                        .switchIfEmpty(
+                            Mono.error(new IllegalArgumentException("Franchise does not exist")))
+                        .map(exists -> buildEmptyStats(franchiseId, null))))
+        .doOnSuccess(stats -> log.debug("Stats fetched for franchise {}", franchiseId))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error fetching stats for franchise {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
+
+  @Override
+  public Mono<InventoryStats> getBranchStats(String franchiseId, String branchId) {
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || branchId == null
+        || branchId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID '{}' or Invalid branch ID '{}' ", franchiseId, branchId);
+      return Mono.error(
+          new IllegalArgumentException("Franchise ID or Branch ID must not be null or empty"));
+    }
+
+    return inventoryStatsRepository
+        .findByIdAndFranchiseIdAndScope(branchId, franchiseId, InventoryStatsEntity.BRANCH_SCOPE)
+        .map(this::mapEntityToDomain)
+        .switchIfEmpty(
+            Mono.defer(
+                () ->
+                    branchPort
+                        .existsBranch(franchiseId, branchId)
+                        .filter(Boolean::booleanValue)
+                        .switchIfEmpty(
+                            Mono.error(new IllegalArgumentException("Branch does not exist")))
+                        .map(exists -> buildEmptyStats(franchiseId, branchId))))
+        .doOnSuccess(stats -> log.debug("Stats fetched for branch {}", branchId))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error fetching stats for branch {}: {}", branchId, error.getMessage(), error));
+  }
+
+  private InventoryStats mapEntityToDomain(InventoryStatsEntity entity) {
+    return InventoryStats.builder()
+        .franchiseId(entity.getFranchiseId())
+        .branchId(entity.getBranchId())
+        .productCount(valueOrZero(entity.getProductCount()))
+        .totalStock(valueOrZero(entity.getTotalStock()))
+        .minStock(entity.getMinStock())
+        .maxStock(entity.getMaxStock())
+        .outOfStockCount(valueOrZero(entity.getOutOfStockCount()))
+        .refreshedAt(entity.getRefreshedAt())
+        .build();
+  }
+
+  private long valueOrZero(Long value) {
+    return value == null ? 0L : value;
+  }
+
+  private InventoryStats buildEmptyStats(String franchiseId, String branchId) {
+    return InventoryStats.builder().franchiseId(franchiseId).branchId(branchId).build();
+  }
+
+  @Override
+  public Mono<Void> recordProductAdded(String franchiseId, String branchId, int stock) {
+    return applyDelta(franchiseId, branchId, 1, stock, isOutOfStock(stock), stock);
+  }
+
+  @Override
+  public Mono<Void> recordProductsAdded(
+      String franchiseId, String branchId, List<Integer> stocks) {
+    if (stocks.isEmpty()) {
+      return Mono.empty();
+    }
+
+    IntSummaryStatistics summary =
+        stocks.stream().mapToInt(Integer::intValue).summaryStatistics();
+    int outOfStock = stocks.stream().mapToInt(this::isOutOfStock).sum();
+
+    return ignoreFailure(
+        branchId,
+        inventoryStatsRepository.applyDelta(
+            franchiseId,
+            branchId,
+            stocks.size(),
+            summary.getSum(),
+            outOfStock,
+            summary.getMin(),
+            summary.getMax()));
+  }
+
+  @Override
+  public Mono<Void> recordProductRemoved(String franchiseId, String branchId, int stock) {
+    return applyDelta(franchiseId, branchId, -1, -stock, -isOutOfStock(stock), null)
+        .then(Mono.defer(() -> refreshBounds(franchiseId, branchId, stock)));
+  }
+
+  @Override
+  public Mono<Void> recordStockChanged(
+      String franchiseId, String branchId, int previousStock, int newStock) {
+    Mono<Void> delta =
+        applyDelta(
+            franchiseId,
+            branchId,
+            0,
+            (long) newStock - previousStock,
+            isOutOfStock(newStock) - isOutOfStock(previousStock),
+            newStock);
+
+    return previousStock == newStock
+        ? delta
+        : delta.then(Mono.defer(() -> refreshBounds(franchiseId, branchId, previousStock)));
+  }
+
+  // The departed stock may have been the minimum or maximum, which $min and $max cannot undo.
+  private Mono<Void> refreshBounds(String franchiseId, String branchId, int departedStock) {
+    return ignoreFailure(
+        branchId, inventoryStatsRepository.refreshBounds(franchiseId, branchId, departedStock));
+  }
+
+  private int isOutOfStock(int stock) {
+    return stock <= 0 ? 1 : 0;
+  }
+
+  private Mono<Void> applyDelta(
+      String franchiseId,
+      String branchId,
+      int productDelta,
+      long stockDelta,
+      int outOfStockDelta,
+      Integer observedStock) {
+
+    return ignoreFailure(
+        branchId,
+        inventoryStatsRepository.applyDelta(
+            franchiseId, branchId, productDelta, stockDelta, outOfStockDelta, observedStock));
+  }
+
+  private Mono<Void> ignoreFailure(String branchId, Mono<Void> update) {
+    return update.onErrorResume(
+        error -> {
+          log.warn(
+              "Could not update inventory stats for branch {}, they will be fixed on next refresh: {}",
+              branchId,
+              error.getMessage());
+          return Mono.empty();
+        });
+  }
+
+  @Override
+  public Mono<Void> refreshStats() {
+    log.info("Starting inventory stats refresh");
+
+    return inventoryStatsRepository
+        .rebuildFromProducts()
+        .doOnSuccess(v -> log.info("Inventory stats refreshed successfully"))
+        .doOnError(
+            error -> log.error("Error refreshing inventory stats: {}", error.getMessage(), error));
+  }
+}
@@ -0,0 +1,75 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.repositories.LegacyFieldCriteria;
+import java.util.Map;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compatibility reads while {@link CompactFieldNameMigration} runs: entities read from a document
+ * that still holds a property under its legacy name get it from there. Enabled with {@code
+ * catalog.compact-fields.legacy-reads}.
+ *
+ * <p>Filters match legacy fields too, through {@link LegacyFieldCriteria}, which reads the same
+ * property. Sorts, projections and text search use the compact names, so they do not see legacy
+ * fields until the document is migrated. Reads of the synchronous driver are completed the same
+ * way through {@link #complete}.
+ */
+@Component
+@Profile("!in-memory & !embedded")
+@ConditionalOnProperty(name = "catalog.compact-fields.legacy-reads", havingValue = "true")
+public class LegacyFieldNameReadCallback implements ReactiveAfterConvertCallback<Object> {
+
+  private final MongoConverter mongoConverter;
+
+  public LegacyFieldNameReadCallback(MongoConverter mongoConverter) {
+    this.mongoConverter = mongoConverter;
+  }
+
+  @Override
+  public Publisher<Object> onAfterConvert(Object entity, Document document, String collection) {
+    return Mono.just(complete(entity, document));
+  }
+
+  /** Sets the properties of {@code entity} that {@code document} still holds under legacy names. */
+  public Object complete(Object entity, Document document) {
+    MongoPersistentEntity<?> persistentEntity =
+        mongoConverter.getMappingContext().getPersistentEntity(entity.getClass());
+    if (persistentEntity == null) {
+      return entity;
+    }
+
+    Map<String, MongoPersistentProperty> renamed =
+        CompactFieldNames.renamedProperties(persistentEntity);
+    PersistentPropertyAccessor<Object> accessor = persistentEntity.getPropertyAccessor(entity);
+    ConversionService conversionService = mongoConverter.getConversionService();
+
+    renamed.forEach(
+        (legacyName, property) -> {
+          Object legacyValue = document.get(legacyName);
+          if (legacyValue == null) {
+            return;
+          }
+          Object value = conversionService.convert(legacyValue, property.getType());
+          Object current = accessor.getProperty(property);
+
+          if (current == null) {
+            accessor.setProperty(property, value);
+          } else if (CompactFieldNames.isCounter(persistentEntity, property)) {
+            accessor.setProperty(
+                property, ((Number) current).longValue() + ((Number) value).longValue());
+          }
+        });
+    return accessor.getBean();
+  }
+}
@@ -0,0 +1,170 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates the indexes declared on the {@code @Document} entities and checks that all of them exist
+ * before the server accepts requests. Startup fails when one is missing, so a query never runs
+ * against a collection without the index it was written for.
+ *
+ * <p>An index whose keys change is declared under a new name, so it is built next to the one it
+ * replaces before the new code queries it, and the old one is listed as retired. Retired indexes
+ * are dropped once the declared ones exist and {@code catalog.compact-fields.legacy-reads} is off,
+ * since filters on legacy field names use them until then. A retired text index is dropped first,
+ * because a collection holds a single text index. With {@code mongo.indexes.create=false} indexes
+ * are only verified, for deployments where they are built ahead of time.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory")
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+
+  // Indexes on the property names, replaced by the _v2 indexes on the compact field names.
+  private static final Map<String, Set<String>> RETIRED_INDEXES =
+      Map.of(
+          "products",
+          Set.of(
+              "franchise_name_prefix",
+              "franchise_branch",
+              "franchise_name_text",
+              "franchise_stock",
+              "stock"),
+          "branches",
+          Set.of("franchise_branch"));
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+  private final MongoMappingContext mappingContext;
+  private final boolean createIndexes;
+  private final boolean legacyReads;
+  private final Duration timeout;
+
+  public MongoIndexInitializer(
+      ReactiveMongoTemplate reactiveMongoTemplate,
+      MongoMappingContext mappingContext,
+      @Value("${mongo.indexes.create:true}") boolean createIndexes,
+      @Value("${catalog.compact-fields.legacy-reads:false}") boolean legacyReads,
+      @Value("${mongo.indexes.timeout:PT2M}") Duration timeout) {
+
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+    this.mappingContext = mappingContext;
+    this.createIndexes = createIndexes;
+    this.legacyReads = legacyReads;
+    this.timeout = timeout;
+  }
+
+  // Runs before the web server starts, unlike an ApplicationReadyEvent listener.
+  @Override
+  public void afterSingletonsInstantiated() {
+    List<String> missing = ensureIndexes().collectList().block(timeout);
+    if (missing != null && !missing.isEmpty()) {
+      throw new IllegalStateException("Missing MongoDB indexes: " + missing);
+    }
+  }
+
+  /** Returns the declared indexes that do not exist, as {@code collection.indexName}. */
+  public Flux<String> ensureIndexes() {
+    IndexResolver indexResolver = IndexResolver.create(mappingContext);
+
+    return Flux.fromIterable(mappingContext.getPersistentEntities())
+        .filter(entity -> entity.isAnnotationPresent(Document.class))
+        .concatMap(entity -> ensureIndexes(entity, indexResolver));
+  }
+
+  private Flux<String> ensureIndexes(
+      MongoPersistentEntity<?> entity, IndexResolver indexResolver) {
+
+    String collection = entity.getCollection();
+    List<IndexDefinition> declared =
+        StreamSupport.stream(indexResolver.resolveIndexFor(entity.getType()).spliterator(), false)
+            .map(IndexDefinition.class::cast)
+            .toList();
+    ReactiveIndexOperations indexOperations = reactiveMongoTemplate.indexOps(collection);
+
+    Mono<Void> created =
+        createIndexes ? createIndexes(indexOperations, collection, declared) : Mono.empty();
+
+    return created
+        .then(indexOperations.getIndexInfo().map(IndexInfo::getName).collect(Collectors.toSet()))
+        .flatMapIterable(
+            existing -> {
+              List<String> missing = missingIndexes(collection, declared, existing);
+              if (missing.isEmpty()) {
+                log.info("Verified {} indexes on collection {}", declared.size(), collection);
+              } else {
+                log.error("Collection {} is missing indexes {}", collection, missing);
+              }
+              return missing;
+            });
+  }
+
+  private Mono<Void> createIndexes(
+      ReactiveIndexOperations indexOperations, String collection, List<IndexDefinition> declared) {
+
+    Set<String> retired = RETIRED_INDEXES.getOrDefault(collection, Set.of());
+
+    return indexOperations
+        .getIndexInfo()
+        .filter(index -> retired.contains(index.getName()))
+        .collectList()
+        .flatMap(
+            existing ->
+                dropIndexes(indexOperations, collection, existing, true)
+                    .thenMany(Flux.fromIterable(declared).concatMap(indexOperations::ensureIndex))
+                    .then(
+                        legacyReads
+                            ? Mono.empty()
+                            : dropIndexes(indexOperations, collection, existing, false)));
+  }
+
+  private Mono<Void> dropIndexes(
+      ReactiveIndexOperations indexOperations,
+      String collection,
+      List<IndexInfo> retired,
+      boolean textIndexes) {
+
+    return Flux.fromIterable(retired)
+        .filter(index -> isTextIndex(index) == textIndexes)
+        .map(IndexInfo::getName)
+        .concatMap(
+            name -> {
+              log.info("Dropping retired index {} on collection {}", name, collection);
+              return indexOperations.dropIndex(name);
+            })
+        .then();
+  }
+
+  private static boolean isTextIndex(IndexInfo index) {
+    return index.getIndexFields().stream().anyMatch(IndexField::isText);
+  }
+
+  private List<String> missingIndexes(
+      String collection, List<IndexDefinition> declared, Set<String> existing) {
+
+    return declared.stream()
+        .map(index -> index.getIndexOptions().getString("name"))
+        .filter(name -> !existing.contains(name))
+        .map(name -> collection + "." + name)
+        .toList();
+  }
+}
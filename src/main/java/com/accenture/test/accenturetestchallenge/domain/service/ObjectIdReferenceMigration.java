@@ -0,0 +1,204 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ReferenceCriteria;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject.Type;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rewrites franchise and branch references stored as strings in {@code products} and {@code
+ * branches} as ObjectIds, on startup when {@code catalog.object-id-migration.enabled} is set.
+ *
+ * <p>Documents are streamed from a cursor and updated in batches while the application serves
+ * requests. Each update only applies if the reference still holds the string that was read, and
+ * the migration can be run again until nothing is left. Until then, filters by franchise or branch
+ * match both stored forms, see {@link ReferenceCriteria}. Once no string reference is left, the
+ * migration logs that {@code catalog.object-id-migration.string-reads} can be turned off so they
+ * only match ObjectIds after the next restart. Index sizes are logged before and after each
+ * collection.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !embedded")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.object-id-migration.enabled", havingValue = "true")
+public class ObjectIdReferenceMigration {
+
+  private static final int BATCH_SIZE = 500;
+  private static final String OBJECT_ID_PATTERN = "^[0-9a-fA-F]{24}$";
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateOnStartup() {
+    migrate()
+        .doOnNext(
+            converted -> log.info("Converted references of {} documents to ObjectIds", converted))
+        .then(hasStringReferences())
+        .subscribe(
+            left -> {
+              if (left) {
+                log.info("String references are left, run the migration again to convert them");
+                return;
+              }
+              log.info(
+                  "No string reference is left, set {}=false",
+                  "catalog.object-id-migration.string-reads");
+            },
+            error ->
+                log.error(
+                    "Error converting references to ObjectIds: {}", error.getMessage(), error));
+  }
+
+  public Mono<Long> migrate() {
+    return migrateCollection(
+            reactiveMongoTemplate.getCollectionName(ProductEntity.class),
+            storedNames(ProductEntity.class, "franchiseId", "branchId"))
+        .concatWith(
+            migrateCollection(
+                reactiveMongoTemplate.getCollectionName(BranchEntity.class),
+                storedNames(BranchEntity.class, "franchiseId")))
+        .reduce(0L, Long::sum);
+  }
+
+  /** Whether a reference that could be an ObjectId is still stored as a string. */
+  public Mono<Boolean> hasStringReferences() {
+    return hasStringReferences(ProductEntity.class, "franchiseId", "branchId")
+        .zipWith(hasStringReferences(BranchEntity.class, "franchiseId"), Boolean::logicalOr);
+  }
+
+  // Strings that are not valid ObjectIds are never converted, and filters match them as they are.
+  private Mono<Boolean> hasStringReferences(Class<?> entityClass, String... properties) {
+    Query convertible =
+        Query.query(
+            new Criteria()
+                .orOperator(
+                    storedNames(entityClass, properties).stream()
+                        .map(field -> where(field).regex(OBJECT_ID_PATTERN))
+                        .toList()));
+
+    return reactiveMongoTemplate.exists(
+        convertible, reactiveMongoTemplate.getCollectionName(entityClass));
+  }
+
+  // Documents not yet moved to compact field names still hold the property name.
+  private List<String> storedNames(Class<?> entityClass, String... properties) {
+    MongoPersistentEntity<?> entity =
+        reactiveMongoTemplate
+            .getConverter()
+            .getMappingContext()
+            .getRequiredPersistentEntity(entityClass);
+
+    return Arrays.stream(properties)
+        .flatMap(
+            property ->
+                Stream.of(entity.getRequiredPersistentProperty(property).getFieldName(), property))
+        .distinct()
+        .toList();
+  }
+
+  private Mono<Long> migrateCollection(String collection, List<String> fields) {
+    return indexSizes(collection)
+        .flatMap(
+            before ->
+                convertReferences(collection, fields)
+                    .flatMap(
+                        converted ->
+                            indexSizes(collection)
+                                .doOnNext(
+                                    after ->
+                                        log.info(
+                                            "Converted {} documents of {}. Index bytes before: {},"
+                                                + " after: {}",
+                                            converted,
+                                            collection,
+                                            before,
+                                            after))
+                                .thenReturn(converted)));
+  }
+
+  private Mono<Long> convertReferences(String collection, List<String> fields) {
+    Query withStringReferences =
+        Query.query(
+                new Criteria()
+                    .orOperator(
+                        fields.stream().map(field -> where(field).type(Type.STRING)).toList()))
+            .cursorBatchSize(BATCH_SIZE);
+    fields.forEach(field -> withStringReferences.fields().include(field));
+
+    return reactiveMongoTemplate
+        .find(withStringReferences, Document.class, collection)
+        .buffer(BATCH_SIZE)
+        .concatMap(documents -> convertBatch(collection, fields, documents))
+        .reduce(0L, Long::sum);
+  }
+
+  private Mono<Long> convertBatch(
+      String collection, List<String> fields, List<Document> documents) {
+    var bulkOperations = reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, collection);
+    int updates = 0;
+
+    for (Document document : documents) {
+      Criteria unchanged = where("_id").is(document.get("_id"));
+      Update update = new Update();
+      for (String field : fields) {
+        if (document.get(field) instanceof String reference && ObjectId.isValid(reference)) {
+          unchanged.and(field).is(reference);
+          update.set(field, new ObjectId(reference));
+        }
+      }
+      if (!update.getUpdateObject().isEmpty()) {
+        bulkOperations.updateOne(Query.query(unchanged), update);
+        updates++;
+      }
+    }
+
+    return updates == 0
+        ? Mono.just(0L)
+        : bulkOperations.execute().map(result -> (long) result.getModifiedCount());
+  }
+
+  /** Total and per index sizes in bytes, from the {@code $collStats} storage stats. */
+  private Mono<Document> indexSizes(String collection) {
+    Aggregation collStats =
+        Aggregation.newAggregation(
+            stage(new Document("$collStats", new Document("storageStats", new Document()))));
+
+    return reactiveMongoTemplate
+        .aggregate(collStats, collection, Document.class)
+        .next()
+        .map(stats -> stats.get("storageStats", Document.class))
+        .map(
+            storage ->
+                new Document("total", storage.get("totalIndexSize"))
+                    .append("indexes", storage.get("indexSizes")))
+        .defaultIfEmpty(new Document());
+  }
+
+  private static AggregationOperation stage(Document stage) {
+    return context -> stage;
+  }
+}
@@ -0,0 +1,35 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills the normalized name of products stored before it existed, on startup when {@code
+ * catalog.name-normalization.migrate-on-startup} is set. Finding them scans the whole collection,
+ * so it runs once, like the other migrations, instead of on every start.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !embedded")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.name-normalization.migrate-on-startup", havingValue = "true")
+public class ProductNameNormalizer {
+
+  private final ProductRepository productRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void normalizeMissingNames() {
+    productRepository
+        .normalizeMissingNames()
+        .subscribe(
+            updated -> log.info("Normalized search names of {} products", updated),
+            error ->
+                log.error("Error normalizing product search names: {}", error.getMessage(), error));
+  }
+}
@@ -1,25 +1,45 @@
 package com.accenture.test.accenturetestchallenge.domain.service;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
 import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductNames;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
 import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
 import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
 import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockLedgerPort;
 import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
+@Profile("!in-memory & !embedded")
 @RequiredArgsConstructor
 public class ProductService implements ProductPort {
 
+  private static final int MAX_SEARCH_RESULTS = 100;
+  private static final int MAX_TOP_PRODUCTS = 100;
+
   private final FranchisePort franchisePort;
   private final BranchPort branchPort;
   private final ProductRepository productRepository;
+  private final InventoryStatsPort inventoryStatsPort;
+  private final StockAlertPort stockAlertPort;
+  private final ObservationRegistry observationRegistry;
+  private final ObjectProvider<StockLedgerPort> stockLedgerPort;
 
   @Override
   public Mono<Product> createProduct(String franchiseId, String branchId, Product product) {
@@ -29,6 +49,10 @@ public class ProductService implements ProductPort {
         .then(validateProduct(product))
         .map(validatedProduct -> buildProductEntity(franchiseId, branchId, validatedProduct))
         .flatMap(productRepository::save)
+        .flatMap(
+            savedProduct ->
+                trackProductAdded(franchiseId, branchId, stockOf(savedProduct))
+                    .thenReturn(savedProduct))
         .map(this::mapEntityToDomain)
         .doOnSuccess(
             savedProduct ->
@@ -55,6 +79,65 @@ public class ProductService implements ProductPort {
         .build();
   }
 
+  private int stockOf(ProductEntity productEntity) {
+    return productEntity.getStock() == null ? 0 : productEntity.getStock();
+  }
+
+  private Mono<Void> trackProductAdded(String franchiseId, String branchId, int stock) {
+    return branchPort
+        .adjustProductCounters(franchiseId, branchId, 1, stock)
+        .then(
+            Mono.defer(() -> inventoryStatsPort.recordProductAdded(franchiseId, branchId, stock)));
+  }
+
+  private Mono<Void> trackProductRemoved(String franchiseId, String branchId, int stock) {
+    return branchPort
+        .adjustProductCounters(franchiseId, branchId, -1, -stock)
+        .then(
+            Mono.defer(
+                () -> inventoryStatsPort.recordProductRemoved(franchiseId, branchId, stock)));
+  }
+
+  private Mono<Void> trackStockChanged(ProductEntity product, int previousStock, int newStock) {
+    String franchiseId = product.getFranchiseId();
+    String branchId = product.getBranchId();
+
+    return branchPort
+        .adjustProductCounters(franchiseId, branchId, 0, (long) newStock - previousStock)
+        .flatMap(branch -> checkLowStockThreshold(branch, product, previousStock, newStock))
+        .then(
+            Mono.defer(
+                () ->
+                    inventoryStatsPort.recordStockChanged(
+                        franchiseId, branchId, previousStock, newStock)));
+  }
+
+  private Mono<Void> checkLowStockThreshold(
+      Branch branch, ProductEntity product, int previousStock, int newStock) {
+
+    Integer threshold = branch.getLowStockThreshold();
+    if (threshold == null) {
+      return Mono.empty();
+    }
+
+    StockAlertType alertType = StockAlertType.forStockChange(threshold, previousStock, newStock);
+    if (alertType == null) {
+      return Mono.empty();
+    }
+
+    return stockAlertPort.raiseAlert(
+        StockAlert.builder()
+            .franchiseId(product.getFranchiseId())
+            .branchId(product.getBranchId())
+            .productId(product.getId())
+            .productName(product.getName())
+            .type(alertType)
+            .threshold(threshold)
+            .previousStock(previousStock)
+            .stock(newStock)
+            .build());
+  }
+
   private ProductEntity buildProductEntity(
       String franchiseId, String branchId, Product validatedProduct) {
 
@@ -62,6 +145,7 @@ public class ProductService implements ProductPort {
     productEntity.setFranchiseId(franchiseId);
     productEntity.setBranchId(branchId);
     productEntity.setName(validatedProduct.getName());
+    productEntity.setNormalizedName(ProductNames.normalize(validatedProduct.getName()));
     productEntity.setStock(validatedProduct.getStock());
 
     return productEntity;
@@ -77,7 +161,9 @@ public class ProductService implements ProductPort {
         .existsFranchise(franchiseId)
         .filter(Boolean::booleanValue)
         .switchIfEmpty(Mono.error(new IllegalArgumentException("Franchise does not exist")))
-        .then();
+        .then()
+        .name("product.validate-franchise")
+        .tap(Micrometer.observation(observationRegistry));
   }
 
   private Mono<Void> validateBranch(String franchiseId, String branchId) {
@@ -90,7 +176,9 @@ public class ProductService implements ProductPort {
         .existsBranch(franchiseId, branchId)
         .filter(Boolean::booleanValue)
         .switchIfEmpty(Mono.error(new IllegalArgumentException("Branch does not exist")))
-        .then();
+        .then()
+        .name("product.validate-branch")
+        .tap(Micrometer.observation(observationRegistry));
   }
 
   private Mono<Product> validateProduct(Product product) {
@@ -121,7 +209,13 @@ public class ProductService implements ProductPort {
     return productRepository
         .findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId)
         .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
-        .flatMap(product -> productRepository.deleteById(productId))
+        .flatMap(
+            product ->
+                productRepository
+                    .deleteById(productId)
+                    .then(
+                        Mono.defer(
+                            () -> trackProductRemoved(franchiseId, branchId, stockOf(product)))))
         .doOnSuccess(v -> log.info("Product deleted successfully. ID: {}", productId))
         .doOnError(
             error ->
@@ -154,15 +248,13 @@ public class ProductService implements ProductPort {
               "Franchise ID, Branch ID and Product ID must not be null or empty"));
     }
 
-    return productRepository
-        .findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId)
-        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
-        .map(
-            product -> {
-              product.setStock(stock);
-              return product;
-            })
-        .flatMap(productRepository::save)
+    StockLedgerPort stockLedger = stockLedgerPort.getIfAvailable();
+    Mono<ProductEntity> updatedProduct =
+        stockLedger == null
+            ? replaceStock(franchiseId, branchId, productId, stock)
+            : appendStockChange(stockLedger, franchiseId, branchId, productId, stock);
+
+    return updatedProduct
         .map(this::mapEntityToDomain)
         .doOnSuccess(v -> log.info("Product updated successfully. ID: {}", productId))
         .doOnError(
@@ -171,6 +263,41 @@ public class ProductService implements ProductPort {
                     "Error updating product ID {}: {}", productId, error.getMessage(), error));
   }
 
+  private Mono<ProductEntity> replaceStock(
+      String franchiseId, String branchId, String productId, int stock) {
+
+    return productRepository
+        .replaceStock(franchiseId, branchId, productId, stock)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .flatMap(
+            product -> {
+              int previousStock = stockOf(product);
+              product.setStock(stock);
+              return trackStockChanged(product, previousStock, stock).thenReturn(product);
+            });
+  }
+
+  private Mono<ProductEntity> appendStockChange(
+      StockLedgerPort stockLedger,
+      String franchiseId,
+      String branchId,
+      String productId,
+      int stock) {
+
+    return productRepository
+        .findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId)
+        .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
+        .flatMap(
+            product ->
+                stockLedger
+                    .appendStockChange(productId, stockOf(product), stock)
+                    .map(
+                        event -> {
+                          product.setStock(event.getStock());
+                          return product;
+                        }));
+  }
+
   @Override
   public Flux<Product> getTopProductsByFranchise(String franchiseId) {
     if (franchiseId == null || franchiseId.trim().isEmpty()) {
@@ -179,17 +306,7 @@ public class ProductService implements ProductPort {
     }
 
     return productRepository
-        .findByFranchiseId(franchiseId)
-        .map(this::mapEntityToDomain)
-        .groupBy(Product::getBranchId)
-        .flatMap(
-            groupedFlux ->
-                groupedFlux
-                    .sort(
-                        (firstProductStock, secondProductStock) ->
-                            Integer.compare(
-                                secondProductStock.getStock(), firstProductStock.getStock()))
-                    .next())
+        .findTopProductPerBranch(franchiseId)
         .doOnNext(
             product ->
                 log.debug(
@@ -211,6 +328,38 @@ public class ProductService implements ProductPort {
                     error));
   }
 
+  @Override
+  public Flux<Product> getTopProductsAcrossBranches(String franchiseId, int limit) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for franchise top products: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return findTopByStock(franchiseId, limit)
+        .doOnComplete(
+            () ->
+                log.info(
+                    "Top {} products fetched successfully for franchise {}", limit, franchiseId));
+  }
+
+  @Override
+  public Flux<Product> getTopProductsAcrossFranchises(int limit) {
+    return findTopByStock(null, limit)
+        .doOnComplete(() -> log.info("Top {} products across franchises fetched", limit));
+  }
+
+  private Flux<Product> findTopByStock(String franchiseId, int limit) {
+    return productRepository
+        .findTopByStock(franchiseId, Math.max(1, Math.min(limit, MAX_TOP_PRODUCTS)))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error fetching top products by stock for franchise {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
+
   @Override
   public Mono<Product> updateProductName(
       String franchiseId, String branchId, String productId, String newProductName) {
@@ -230,14 +379,13 @@ public class ProductService implements ProductPort {
     }
 
     return productRepository
-        .findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId)
+        .updateName(
+            franchiseId,
+            branchId,
+            productId,
+            newProductName,
+            ProductNames.normalize(newProductName))
         .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found")))
-        .map(
-            product -> {
-              product.setName(newProductName);
-              return product;
-            })
-        .flatMap(productRepository::save)
         .map(this::mapEntityToDomain)
         .doOnSuccess(v -> log.info("Product name updated successfully. ID: {}", productId))
         .doOnError(
@@ -245,4 +393,38 @@ public class ProductService implements ProductPort {
                 log.error(
                     "Error updating product ID {}: {}", productId, error.getMessage(), error));
   }
+
+  @Override
+  public Flux<Product> searchProducts(
+      String franchiseId, String branchId, String query, ProductSearchMode mode, int limit) {
+
+    if (franchiseId == null
+        || franchiseId.trim().isEmpty()
+        || query == null
+        || query.trim().isEmpty()) {
+      log.warn("Invalid product search. FranchiseId: '{}', Query: '{}'", franchiseId, query);
+      return Flux.error(
+          new IllegalArgumentException("Franchise ID and search query must not be null or empty"));
+    }
+
+    String scopedBranchId = branchId == null || branchId.trim().isEmpty() ? null : branchId;
+    int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+    Flux<Product> results =
+        mode == ProductSearchMode.TEXT
+            ? productRepository.searchByText(franchiseId, scopedBranchId, query, boundedLimit)
+            : productRepository.searchByNamePrefix(
+                franchiseId, scopedBranchId, ProductNames.normalize(query), boundedLimit);
+
+    return results
+        .doOnComplete(
+            () -> log.debug("Product search '{}' completed for franchise {}", query, franchiseId))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error searching products for franchise {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
 }
@@ -0,0 +1,46 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Streams raised alerts to the subscribers connected to this instance. Alerts published on
+ * several threads at once are queued and emitted by whichever thread is already emitting, so the
+ * sink only ever has one producer and no thread waits or spins for it.
+ */
+@Slf4j
+public class StockAlertBroadcast {
+
+  private final Sinks.Many<StockAlert> alertSink = Sinks.many().multicast().directBestEffort();
+  private final Queue<StockAlert> pendingAlerts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger emitting = new AtomicInteger();
+
+  public void publish(StockAlert stockAlert) {
+    pendingAlerts.offer(stockAlert);
+    if (emitting.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missed = 1;
+    do {
+      StockAlert pendingAlert;
+      while ((pendingAlert = pendingAlerts.poll()) != null) {
+        Sinks.EmitResult result = alertSink.tryEmitNext(pendingAlert);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+          log.warn(
+              "Stock alert for product {} not streamed: {}", pendingAlert.getProductId(), result);
+        }
+      }
+      missed = emitting.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  public Flux<StockAlert> asFlux() {
+    return alertSink.asFlux();
+  }
+}
@@ -0,0 +1,132 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.StockAlertEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.StockAlertRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class StockAlertService implements StockAlertPort {
+
+  private static final int MAX_ALERTS = 200;
+
+  private final StockAlertRepository stockAlertRepository;
+
+  // Only reaches subscribers connected to this instance, the alerts collection is the source of
+  // truth for clients that were not listening when the alert was raised.
+  private final StockAlertBroadcast alertBroadcast = new StockAlertBroadcast();
+
+  @Override
+  public Mono<Void> raiseAlert(StockAlert stockAlert) {
+    stockAlert.setCreatedAt(Instant.now());
+
+    return stockAlertRepository
+        .save(mapDomainToEntity(stockAlert))
+        .map(this::mapEntityToDomain)
+        .doOnNext(
+            savedAlert -> {
+              log.info(
+                  "{} alert raised for product {} of branch {} (stock {}, threshold {})",
+                  savedAlert.getType(),
+                  savedAlert.getProductId(),
+                  savedAlert.getBranchId(),
+                  savedAlert.getStock(),
+                  savedAlert.getThreshold());
+              alertBroadcast.publish(savedAlert);
+            })
+        .then()
+        .onErrorResume(
+            error -> {
+              log.warn(
+                  "Could not raise stock alert for product {}: {}",
+                  stockAlert.getProductId(),
+                  error.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  @Override
+  public Flux<StockAlert> getAlerts(String franchiseId, String branchId, int limit) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for stock alerts: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    Limit boundedLimit = Limit.of(Math.max(1, Math.min(limit, MAX_ALERTS)));
+    Flux<StockAlertEntity> alerts =
+        branchId == null || branchId.trim().isEmpty()
+            ? stockAlertRepository.findByFranchiseIdOrderByCreatedAtDesc(franchiseId, boundedLimit)
+            : stockAlertRepository.findByFranchiseIdAndBranchIdOrderByCreatedAtDesc(
+                franchiseId, branchId, boundedLimit);
+
+    return alerts
+        .map(this::mapEntityToDomain)
+        .doOnError(
+            error ->
+                log.error(
+                    "Error fetching stock alerts for franchise {}: {}",
+                    franchiseId,
+                    error.getMessage(),
+                    error));
+  }
+
+  @Override
+  public Flux<StockAlert> streamAlerts(String franchiseId) {
+    if (franchiseId == null || franchiseId.trim().isEmpty()) {
+      log.warn("Invalid franchise ID received for stock alert stream: '{}'", franchiseId);
+      return Flux.error(new IllegalArgumentException("Franchise ID must not be null or empty"));
+    }
+
+    return alertBroadcast
+        .asFlux()
+        .filter(stockAlert -> franchiseId.equals(stockAlert.getFranchiseId()))
+        .doOnSubscribe(subscription -> log.debug("Stock alert stream opened for {}", franchiseId))
+        .doFinally(signal -> log.debug("Stock alert stream closed for {}", franchiseId));
+  }
+
+  private StockAlertEntity mapDomainToEntity(StockAlert stockAlert) {
+    StockAlertEntity stockAlertEntity = new StockAlertEntity();
+    stockAlertEntity.setId(stockAlert.getId());
+    stockAlertEntity.setFranchiseId(stockAlert.getFranchiseId());
+    stockAlertEntity.setBranchId(stockAlert.getBranchId());
+    stockAlertEntity.setProductId(stockAlert.getProductId());
+    stockAlertEntity.setProductName(stockAlert.getProductName());
+    stockAlertEntity.setType(stockAlert.getType().name());
+    stockAlertEntity.setThreshold(stockAlert.getThreshold());
+    stockAlertEntity.setPreviousStock(stockAlert.getPreviousStock());
+    stockAlertEntity.setStock(stockAlert.getStock());
+    stockAlertEntity.setCreatedAt(stockAlert.getCreatedAt());
+    return stockAlertEntity;
+  }
+
+  private StockAlert mapEntityToDomain(StockAlertEntity stockAlertEntity) {
+    return StockAlert.builder()
+        .id(stockAlertEntity.getId())
+        .franchiseId(stockAlertEntity.getFranchiseId())
+        .branchId(stockAlertEntity.getBranchId())
+        .productId(stockAlertEntity.getProductId())
+        .productName(stockAlertEntity.getProductName())
+        .type(StockAlertType.valueOf(stockAlertEntity.getType()))
+        .threshold(valueOrZero(stockAlertEntity.getThreshold()))
+        .previousStock(valueOrZero(stockAlertEntity.getPreviousStock()))
+        .stock(valueOrZero(stockAlertEntity.getStock()))
+        .createdAt(stockAlertEntity.getCreatedAt())
+        .build();
+  }
+
+  private int valueOrZero(Integer value) {
+    return value == null ? 0 : value;
+  }
+}
@@ -0,0 +1,115 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockLedgerProjectionPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Projects stock ledger events into MongoDB. The product, its branch counters and the stats
+ * documents each keep the sequence of the last event applied to them, so an event projected again
+ * after a crash only completes the steps that did not run. Alerts are keyed by the sequence and
+ * raised again over the previous one.
+ */
+@Slf4j
+@Service
+@Profile("!in-memory & !embedded")
+@ConditionalOnProperty(name = "stock.ledger.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class StockLedgerProjectionService implements StockLedgerProjectionPort {
+
+  private static final String ALERT_ID_PREFIX = "stock-ledger-";
+
+  private final ProductRepository productRepository;
+  private final BranchRepository branchRepository;
+  private final InventoryStatsRepository inventoryStatsRepository;
+  private final StockAlertPort stockAlertPort;
+
+  @Override
+  public Mono<Void> applyStockLedgerEvent(StockLedgerEvent event) {
+    return productRepository
+        .applyLedgerStock(event.getProductId(), event.getStock(), event.getSequence())
+        .switchIfEmpty(Mono.defer(() -> productRepository.findById(event.getProductId())))
+        .flatMap(product -> trackStockChanged(product, event))
+        .doOnError(
+            error ->
+                log.error(
+                    "Error projecting stock ledger event {}: {}",
+                    event.getSequence(),
+                    error.getMessage(),
+                    error));
+  }
+
+  private Mono<Void> trackStockChanged(ProductEntity product, StockLedgerEvent event) {
+    String franchiseId = product.getFranchiseId();
+    String branchId = product.getBranchId();
+    int previousStock = event.getStock() - event.getDelta();
+
+    return branchRepository
+        .applyLedgerStockDelta(franchiseId, branchId, event.getDelta(), event.getSequence())
+        .switchIfEmpty(
+            Mono.defer(() -> branchRepository.findByFranchiseIdAndId(franchiseId, branchId)))
+        .flatMap(branch -> checkLowStockThreshold(branch, product, previousStock, event))
+        .then(
+            Mono.defer(
+                () ->
+                    inventoryStatsRepository.applyLedgerDelta(
+                        franchiseId,
+                        branchId,
+                        event.getDelta(),
+                        isOutOfStock(event.getStock()) - isOutOfStock(previousStock),
+                        event.getStock(),
+                        event.getSequence())))
+        .then(
+            Mono.defer(
+                () ->
+                    event.getDelta() == 0
+                        ? Mono.empty()
+                        : inventoryStatsRepository.refreshBounds(
+                            franchiseId, branchId, previousStock)));
+  }
+
+  private int isOutOfStock(int stock) {
+    return stock <= 0 ? 1 : 0;
+  }
+
+  private Mono<Void> checkLowStockThreshold(
+      BranchEntity branch, ProductEntity product, int previousStock, StockLedgerEvent event) {
+
+    Integer threshold = branch.getLowStockThreshold();
+    if (threshold == null) {
+      return Mono.empty();
+    }
+
+    StockAlertType alertType =
+        StockAlertType.forStockChange(threshold, previousStock, event.getStock());
+    if (alertType == null) {
+      return Mono.empty();
+    }
+
+    return stockAlertPort.raiseAlert(
+        StockAlert.builder()
+            .id(ALERT_ID_PREFIX + event.getSequence())
+            .franchiseId(product.getFranchiseId())
+            .branchId(product.getBranchId())
+            .productId(product.getId())
+            .productName(product.getName())
+            .type(alertType)
+            .threshold(threshold)
+            .previousStock(previousStock)
+            .stock(event.getStock())
+            .build());
+  }
+}
@@ -0,0 +1,67 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class MongoFilterShapesTest {
+
+  @Test
+  void shouldHideValuesOfFindFilterAndKeepSort() {
+    BsonDocument command =
+        BsonDocument.parse(
+            "{find: 'products', filter: {franchiseId: {$in: ['f1', 'f2']}, stock: {$gt: 5}},"
+                + " sort: {stock: -1}}");
+
+    assertEquals(
+        "{franchiseId: {$in: [?, ...]}, stock: {$gt: ?}} sort {\"stock\": -1}",
+        MongoFilterShapes.describe("find", command));
+  }
+
+  @Test
+  void shouldDescribeFirstUpdateStatement() {
+    BsonDocument command =
+        BsonDocument.parse(
+            "{update: 'branches', updates: [{q: {_id: 'b1', franchiseId: 'f1'},"
+                + " u: {$inc: {productCount: 1}}}]}");
+
+    assertEquals("{_id: ?, franchiseId: ?}", MongoFilterShapes.describe("update", command));
+  }
+
+  @Test
+  void shouldDescribeAggregationPipeline() {
+    BsonDocument command =
+        BsonDocument.parse(
+            "{aggregate: 'products', pipeline: [{$match: {franchiseId: 'f1'}},"
+                + " {$group: {_id: '$branchId'}}]}");
+
+    assertEquals(
+        "[{$match: {franchiseId: ?}}, {$group: {_id: ?}}]",
+        MongoFilterShapes.describe("aggregate", command));
+  }
+
+  @Test
+  void shouldCopyOnlyFirstUpdateStatementForLaterDescription() {
+    BsonDocument command =
+        BsonDocument.parse(
+            "{update: 'branches', updates: [{q: {_id: 'b1'}, u: {$inc: {productCount: 1}}},"
+                + " {q: {_id: 'b2'}, u: {$inc: {productCount: 1}}}]}");
+
+    BsonDocument filter = MongoFilterShapes.filterOf("update", command);
+
+    assertEquals(1, filter.getArray("updates").size());
+    assertEquals("{_id: ?}", MongoFilterShapes.describe("update", filter));
+  }
+
+  @Test
+  void shouldCopyFindFilterAndSortForLaterDescription() {
+    BsonDocument command =
+        BsonDocument.parse(
+            "{find: 'products', filter: {stock: {$gt: 5}}, sort: {stock: -1}, limit: 10}");
+
+    assertEquals(
+        MongoFilterShapes.describe("find", command),
+        MongoFilterShapes.describe("find", MongoFilterShapes.filterOf("find", command)));
+  }
+}
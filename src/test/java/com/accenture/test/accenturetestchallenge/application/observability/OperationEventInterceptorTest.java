@@ -0,0 +1,61 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class OperationEventInterceptorTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldRecordPortOperationEvent() throws Exception {
+    ProductPort productPort = mock(ProductPort.class);
+    when(productPort.getTopProductsAcrossBranches("f1", 5))
+        .thenReturn(
+            Flux.just(Product.builder().id("p1").build(), Product.builder().id("p2").build()));
+
+    ProxyFactory proxyFactory = new ProxyFactory(productPort);
+    proxyFactory.addInterface(ProductPort.class);
+    proxyFactory.addAdvice(OperationEventInterceptor.forPort("ProductPort"));
+    ProductPort observedPort = (ProductPort) proxyFactory.getProxy();
+
+    Path output = tempDir.resolve("operations.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("com.accenture.test.PortOperation");
+      recording.start();
+
+      StepVerifier.create(observedPort.getTopProductsAcrossBranches("f1", 5))
+          .expectNextCount(2)
+          .verifyComplete();
+
+      recording.stop();
+      recording.dump(output);
+    }
+
+    List<RecordedEvent> events =
+        RecordingFile.readAllEvents(output).stream()
+            .filter(
+                event -> event.getEventType().getName().equals("com.accenture.test.PortOperation"))
+            .toList();
+
+    assertEquals(1, events.size());
+    assertEquals("getTopProductsAcrossBranches", events.get(0).getString("operation"));
+    assertEquals("f1", events.get(0).getString("franchiseId"));
+    assertEquals(2L, events.get(0).getLong("documents"));
+    assertEquals("SUCCESS", events.get(0).getString("outcome"));
+  }
+}
@@ -0,0 +1,88 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class PortObservationInterceptorTest {
+
+  private MeterRegistry meterRegistry;
+  private ProductPort productPort;
+  private ProductPort observedPort;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    ObservationRegistry observationRegistry = ObservationRegistry.create();
+    observationRegistry
+        .observationConfig()
+        .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+    productPort = mock(ProductPort.class);
+    ProxyFactory proxyFactory = new ProxyFactory(productPort);
+    proxyFactory.addInterface(ProductPort.class);
+    proxyFactory.addAdvice(
+        new PortObservationInterceptor("ProductPort", observationRegistry, meterRegistry));
+    observedPort = (ProductPort) proxyFactory.getProxy();
+  }
+
+  @Test
+  void shouldTimeSuccessfulOperation() {
+    when(productPort.getTopProductsByFranchise("f1"))
+        .thenReturn(Flux.just(Product.builder().id("p1").build()));
+
+    StepVerifier.create(observedPort.getTopProductsByFranchise("f1"))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    assertEquals(
+        1,
+        meterRegistry
+            .get(PortObservationInterceptor.OBSERVATION_NAME)
+            .tag("port", "ProductPort")
+            .tag("operation", "getTopProductsByFranchise")
+            .tag("outcome", "SUCCESS")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void shouldCountFailedOperation() {
+    when(productPort.deleteProduct("f1", "b1", "p1"))
+        .thenReturn(Mono.error(new IllegalArgumentException("Product not found")));
+
+    StepVerifier.create(observedPort.deleteProduct("f1", "b1", "p1"))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+
+    assertEquals(
+        1,
+        meterRegistry
+            .get(PortObservationInterceptor.OBSERVATION_NAME)
+            .tag("operation", "deleteProduct")
+            .tag("outcome", "ERROR")
+            .timer()
+            .count());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(PortObservationInterceptor.ERROR_COUNTER_NAME)
+            .tag("operation", "deleteProduct")
+            .tag("exception", "IllegalArgumentException")
+            .counter()
+            .count());
+  }
+}
@@ -0,0 +1,57 @@
+package com.accenture.test.accenturetestchallenge.application.observability;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ServerTimingWebFilterTest {
+
+  private final ServerTimingWebFilter filter = new ServerTimingWebFilter();
+
+  private final WebFilterChain chain =
+      exchange ->
+          Mono.deferContextual(
+              context -> {
+                context
+                    .<RequestTimings>getOrEmpty(RequestTimings.CONTEXT_KEY)
+                    .ifPresent(
+                        timings -> {
+                          timings.recordRoundTrip(2_000_000);
+                          timings.recordRoundTrip(3_000_000);
+                        });
+                return exchange.getResponse().setComplete();
+              });
+
+  @Test
+  void shouldAddServerTimingHeaderWhenRequested() {
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get("/franchise/f1/stats")
+                .header(ServerTimingWebFilter.TOGGLE_HEADER, "true"));
+
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+    String serverTiming =
+        exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER);
+    assertTrue(serverTiming.startsWith("handler;dur="));
+    assertTrue(serverTiming.contains("db;dur=5.00"));
+    assertTrue(serverTiming.contains("db-round-trips;desc=\"2\""));
+  }
+
+  @Test
+  void shouldNotTrackRequestsWithoutToggleHeader() {
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/franchise/f1/stats"));
+
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+    assertNull(
+        exchange.getResponse().getHeaders().getFirst(ServerTimingWebFilter.SERVER_TIMING_HEADER));
+  }
+}
@@ -0,0 +1,88 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.accenture.test.accenturetestchallenge.application.diagnostics.DiagnosticsService;
+import com.accenture.test.accenturetestchallenge.application.diagnostics.RecordingInProgressException;
+import com.accenture.test.accenturetestchallenge.application.security.AdminTokenWebFilter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(controllers = AdminDiagnosticsController.class, properties = "admin.token=test-token")
+class AdminDiagnosticsControllerTest {
+  @Autowired private WebTestClient webTestClient;
+
+  @MockitoBean private DiagnosticsService diagnosticsService;
+
+  @Test
+  void recordFlightRecording_whenAdminTokenIsValid() {
+    byte[] recording = "jfr".getBytes(StandardCharsets.UTF_8);
+
+    Mockito.when(diagnosticsService.recordFlightRecording(Duration.ofSeconds(10), "profile"))
+        .thenReturn(Mono.just(new ByteArrayResource(recording)));
+
+    webTestClient
+        .post()
+        .uri("/admin/diagnostics/jfr?durationSeconds=10&profile=profile")
+        .header(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, "test-token")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .expectBody(byte[].class)
+        .value(body -> assertThat(body).isEqualTo(recording));
+  }
+
+  @Test
+  void recordFlightRecording_whenRecordingIsInProgress_returnsConflict() {
+    Mockito.when(diagnosticsService.recordFlightRecording(Duration.ofSeconds(10), "profile"))
+        .thenReturn(Mono.error(new RecordingInProgressException()));
+
+    webTestClient
+        .post()
+        .uri("/admin/diagnostics/jfr?durationSeconds=10&profile=profile")
+        .header(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, "test-token")
+        .exchange()
+        .expectStatus()
+        .isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void recordFlightRecording_whenAdminTokenIsMissing_returnsUnauthorized() {
+    webTestClient
+        .post()
+        .uri("/admin/diagnostics/jfr")
+        .exchange()
+        .expectStatus()
+        .isUnauthorized();
+
+    Mockito.verifyNoInteractions(diagnosticsService);
+  }
+
+  @Test
+  void getClassHistogram_whenAdminTokenIsValid() {
+    Mockito.when(diagnosticsService.getClassHistogram())
+        .thenReturn(Mono.just(" num     #instances         #bytes  class name"));
+
+    webTestClient
+        .get()
+        .uri("/admin/diagnostics/class-histogram")
+        .header(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, "test-token")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(String.class)
+        .value(body -> assertThat(body).contains("#instances"));
+  }
+}
@@ -0,0 +1,123 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.accenture.test.accenturetestchallenge.application.security.AdminTokenWebFilter;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ActiveProfiles("blocking")
+@WebMvcTest(controllers = BlockingProductsController.class, properties = "admin.token=test-token")
+class BlockingProductsControllerTest {
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private ProductPort productPort;
+  private static final String FRANCHISE_ID = "1";
+  private static final String BRANCH_ID = "b1";
+
+  @Test
+  void updateProduct_whenAllSuccess() throws Exception {
+    Product product = new Product(FRANCHISE_ID, BRANCH_ID, "123", "pizza test", 3);
+
+    Mockito.when(productPort.updateProductStock(FRANCHISE_ID, BRANCH_ID, "123", 3))
+        .thenReturn(Mono.just(product));
+
+    mockMvc
+        .perform(
+            put(
+                    "/franchise/{franchiseId}/branch/{branchId}/product/{productId}",
+                    FRANCHISE_ID,
+                    BRANCH_ID,
+                    "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"stock\": 3}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name").value("pizza test"))
+        .andExpect(jsonPath("$.stock").value(3));
+  }
+
+  @Test
+  void updateProduct_whenPortFails_returnsError() throws Exception {
+    Mockito.when(productPort.updateProductStock(any(), any(), any(), anyInt()))
+        .thenReturn(Mono.error(new IllegalArgumentException("Product not found")));
+
+    mockMvc
+        .perform(
+            put(
+                    "/franchise/{franchiseId}/branch/{branchId}/product/{productId}",
+                    FRANCHISE_ID,
+                    BRANCH_ID,
+                    "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"stock\": 3}"))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.message").value("Product not found"));
+  }
+
+  @Test
+  void getTopProducts_whenAllSuccess() throws Exception {
+    Product product = new Product(FRANCHISE_ID, BRANCH_ID, "123", "pizza test", 3);
+
+    Mockito.when(productPort.getTopProductsByFranchise(any())).thenReturn(Flux.just(product));
+
+    mockMvc
+        .perform(get("/franchise/{franchiseId}/branch/top-products", FRANCHISE_ID))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].branchId").value(BRANCH_ID))
+        .andExpect(jsonPath("$[0].productName").value("pizza test"));
+  }
+
+  @Test
+  void searchProducts_whenModeIsText() throws Exception {
+    Mockito.when(
+            productPort.searchProducts(FRANCHISE_ID, BRANCH_ID, "pizza", ProductSearchMode.TEXT, 5))
+        .thenReturn(Flux.empty());
+
+    mockMvc
+        .perform(
+            get(
+                "/franchise/{franchiseId}/product/search?q=pizza&mode=text&branchId={branchId}&limit=5",
+                FRANCHISE_ID,
+                BRANCH_ID))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$").isEmpty());
+
+    verify(productPort, times(1))
+        .searchProducts(FRANCHISE_ID, BRANCH_ID, "pizza", ProductSearchMode.TEXT, 5);
+  }
+
+  @Test
+  void getGlobalTopProducts_whenAdminTokenIsMissing_returnsUnauthorized() throws Exception {
+    mockMvc.perform(get("/admin/product/top")).andExpect(status().isUnauthorized());
+
+    verify(productPort, times(0)).getTopProductsAcrossFranchises(anyInt());
+  }
+
+  @Test
+  void getGlobalTopProducts_whenAdminTokenIsValid() throws Exception {
+    Mockito.when(productPort.getTopProductsAcrossFranchises(10)).thenReturn(Flux.empty());
+
+    mockMvc
+        .perform(
+            get("/admin/product/top").header(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, "test-token"))
+        .andExpect(status().isOk());
+  }
+}
@@ -5,8 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 
 import com.accenture.test.accenturetestchallenge.application.BranchRequest;
 import com.accenture.test.accenturetestchallenge.application.BranchResponse;
+import com.accenture.test.accenturetestchallenge.application.InventoryStatsResponse;
+import com.accenture.test.accenturetestchallenge.application.LowStockThresholdRequest;
 import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
 import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +26,8 @@ class BranchesControllerTest {
 
   @MockitoBean private BranchPort branchPort;
 
+  @MockitoBean private InventoryStatsPort inventoryStatsPort;
+
   private static final String FRANCHISE_ID = "1";
 
   @Test
@@ -118,4 +124,70 @@ class BranchesControllerTest {
               assertThat(response.getName()).isEqualTo(updatedName);
             });
   }
+
+  @Test
+  void getBranchStats_whenAllSuccess() {
+    String branchId = "1";
+
+    InventoryStats stats =
+        InventoryStats.builder()
+            .franchiseId(FRANCHISE_ID)
+            .branchId(branchId)
+            .productCount(2)
+            .totalStock(12)
+            .minStock(4)
+            .maxStock(8)
+            .build();
+
+    Mockito.when(inventoryStatsPort.getBranchStats(FRANCHISE_ID, branchId))
+        .thenReturn(Mono.just(stats));
+
+    webTestClient
+        .get()
+        .uri("/franchise/{franchiseId}/branch/{branchId}/stats", FRANCHISE_ID, branchId)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(InventoryStatsResponse.class)
+        .value(
+            response -> {
+              assertThat(response.getBranchId()).isEqualTo(branchId);
+              assertThat(response.getFranchiseId()).isEqualTo(FRANCHISE_ID);
+              assertThat(response.getProductCount()).isEqualTo(2L);
+              assertThat(response.getTotalStock()).isEqualTo(12L);
+              assertThat(response.getOutOfStockCount()).isEqualTo(0L);
+            });
+  }
+
+  @Test
+  void updateLowStockThreshold_whenAllSuccess() {
+    String branchId = "1";
+
+    LowStockThresholdRequest request = new LowStockThresholdRequest();
+    request.setThreshold(5);
+
+    Branch branch = new Branch(FRANCHISE_ID, branchId, "North Pizzeria");
+    branch.setLowStockThreshold(5);
+
+    Mockito.when(branchPort.updateLowStockThreshold(FRANCHISE_ID, branchId, 5))
+        .thenReturn(Mono.just(branch));
+
+    webTestClient
+        .put()
+        .uri(
+            "/franchise/{franchiseId}/branch/{branchId}/low-stock-threshold",
+            FRANCHISE_ID,
+            branchId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(BranchResponse.class)
+        .value(
+            response -> {
+              assertThat(response.getId()).isEqualTo(branchId);
+              assertThat(response.getLowStockThreshold()).isEqualTo(5);
+            });
+  }
 }
@@ -4,8 +4,11 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import com.accenture.test.accenturetestchallenge.application.FranchiseRequest;
 import com.accenture.test.accenturetestchallenge.application.FranchiseResponse;
+import com.accenture.test.accenturetestchallenge.application.InventoryStatsResponse;
 import com.accenture.test.accenturetestchallenge.domain.model.Franchise;
+import com.accenture.test.accenturetestchallenge.domain.model.InventoryStats;
 import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +25,8 @@ class FranchisesControllerTest {
 
   @MockitoBean private FranchisePort franchisePort;
 
+  @MockitoBean private InventoryStatsPort inventoryStatsPort;
+
   @Test
   void createFranchise_whenAllSuccess() {
     FranchiseRequest request = new FranchiseRequest();
@@ -112,4 +117,38 @@ class FranchisesControllerTest {
               assertThat(response.getName()).isEqualTo(updatedName);
             });
   }
+
+  @Test
+  void getFranchiseStats_whenAllSuccess() {
+    String franchiseId = "123";
+
+    InventoryStats stats =
+        InventoryStats.builder()
+            .franchiseId(franchiseId)
+            .productCount(3)
+            .totalStock(25)
+            .minStock(0)
+            .maxStock(15)
+            .outOfStockCount(1)
+            .build();
+
+    Mockito.when(inventoryStatsPort.getFranchiseStats(franchiseId)).thenReturn(Mono.just(stats));
+
+    webTestClient
+        .get()
+        .uri("/franchise/{id}/stats", franchiseId)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(InventoryStatsResponse.class)
+        .value(
+            response -> {
+              assertThat(response.getFranchiseId()).isEqualTo(franchiseId);
+              assertThat(response.getProductCount()).isEqualTo(3L);
+              assertThat(response.getTotalStock()).isEqualTo(25L);
+              assertThat(response.getMinStock()).isEqualTo(0);
+              assertThat(response.getMaxStock()).isEqualTo(15);
+              assertThat(response.getOutOfStockCount()).isEqualTo(1L);
+            });
+  }
 }
@@ -8,10 +8,13 @@ import static org.mockito.Mockito.verify;
 
 import com.accenture.test.accenturetestchallenge.application.ProductRequest;
 import com.accenture.test.accenturetestchallenge.application.ProductResponse;
+import com.accenture.test.accenturetestchallenge.application.ProductSummaryResponse;
 import com.accenture.test.accenturetestchallenge.application.TopProductResponse;
 import com.accenture.test.accenturetestchallenge.application.UpdateProductNameRequest;
 import com.accenture.test.accenturetestchallenge.application.UpdateStockRequest;
+import com.accenture.test.accenturetestchallenge.application.security.AdminTokenWebFilter;
 import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
 import com.accenture.test.accenturetestchallenge.domain.ports.ProductPort;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -23,7 +26,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-@WebFluxTest(controllers = ProductsController.class)
+@WebFluxTest(controllers = ProductsController.class, properties = "admin.token=test-token")
 class ProductsControllerTest {
   @Autowired private WebTestClient webTestClient;
 
@@ -203,4 +206,103 @@ class ProductsControllerTest {
               assertThat(response.getName()).isEqualTo(updatedName);
             });
   }
+
+  @Test
+  void searchProducts_whenAllSuccess() {
+    Product product = new Product(FRANCHISE_ID, BRANCH_ID, "123", "Pizza Margherita", 4);
+
+    Mockito.when(
+            productPort.searchProducts(FRANCHISE_ID, null, "piz", ProductSearchMode.PREFIX, 20))
+        .thenReturn(Flux.just(product));
+
+    webTestClient
+        .get()
+        .uri("/franchise/{franchiseId}/product/search?q=piz", FRANCHISE_ID)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(ProductSummaryResponse.class)
+        .value(
+            products -> {
+              assertThat(products.size()).isEqualTo(1);
+
+              ProductSummaryResponse summary = products.get(0);
+              assertThat(summary.getId()).isEqualTo("123");
+              assertThat(summary.getBranchId()).isEqualTo(BRANCH_ID);
+              assertThat(summary.getName()).isEqualTo("Pizza Margherita");
+              assertThat(summary.getStock()).isEqualTo(4);
+            });
+  }
+
+  @Test
+  void searchProducts_whenModeIsText() {
+    Mockito.when(
+            productPort.searchProducts(FRANCHISE_ID, BRANCH_ID, "pizza", ProductSearchMode.TEXT, 5))
+        .thenReturn(Flux.empty());
+
+    webTestClient
+        .get()
+        .uri(
+            "/franchise/{franchiseId}/product/search?q=pizza&mode=text&branchId={branchId}&limit=5",
+            FRANCHISE_ID,
+            BRANCH_ID)
+        .exchange()
+        .expectStatus()
+        .isOk();
+
+    verify(productPort, times(1))
+        .searchProducts(FRANCHISE_ID, BRANCH_ID, "pizza", ProductSearchMode.TEXT, 5);
+  }
+
+  @Test
+  void getFranchiseTopProducts_whenAllSuccess() {
+    Product first = new Product(FRANCHISE_ID, "b2", "p2", "pizza large", 30);
+    Product second = new Product(FRANCHISE_ID, BRANCH_ID, "p1", "pizza small", 12);
+
+    Mockito.when(productPort.getTopProductsAcrossBranches(FRANCHISE_ID, 2))
+        .thenReturn(Flux.just(first, second));
+
+    webTestClient
+        .get()
+        .uri("/franchise/{franchiseId}/product/top?limit=2", FRANCHISE_ID)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(ProductSummaryResponse.class)
+        .value(
+            products -> {
+              assertThat(products.size()).isEqualTo(2);
+              assertThat(products.get(0).getId()).isEqualTo("p2");
+              assertThat(products.get(0).getStock()).isEqualTo(30);
+              assertThat(products.get(1).getId()).isEqualTo("p1");
+            });
+  }
+
+  @Test
+  void getGlobalTopProducts_whenAdminTokenIsValid() {
+    Product product = new Product("f9", "b9", "p9", "pizza xl", 99);
+
+    Mockito.when(productPort.getTopProductsAcrossFranchises(10)).thenReturn(Flux.just(product));
+
+    webTestClient
+        .get()
+        .uri("/admin/product/top")
+        .header(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, "test-token")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(ProductSummaryResponse.class)
+        .value(
+            products -> {
+              assertThat(products.get(0).getFranchiseId()).isEqualTo("f9");
+              assertThat(products.get(0).getStock()).isEqualTo(99);
+            });
+  }
+
+  @Test
+  void getGlobalTopProducts_whenAdminTokenIsMissing_returnsUnauthorized() {
+    webTestClient.get().uri("/admin/product/top").exchange().expectStatus().isUnauthorized();
+
+    verify(productPort, times(0)).getTopProductsAcrossFranchises(anyInt());
+  }
 }
@@ -0,0 +1,83 @@
+package com.accenture.test.accenturetestchallenge.application.rest;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.accenture.test.accenturetestchallenge.application.StockAlertResponse;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@WebFluxTest(controllers = StockAlertsController.class)
+class StockAlertsControllerTest {
+  @Autowired private WebTestClient webTestClient;
+
+  @MockitoBean private StockAlertPort stockAlertPort;
+
+  private static final String FRANCHISE_ID = "1";
+
+  private StockAlert buildAlert() {
+    return StockAlert.builder()
+        .id("a1")
+        .franchiseId(FRANCHISE_ID)
+        .branchId("b1")
+        .productId("p1")
+        .productName("pizza small")
+        .type(StockAlertType.LOW_STOCK)
+        .threshold(5)
+        .previousStock(10)
+        .stock(3)
+        .createdAt(Instant.parse("2024-05-01T10:00:00Z"))
+        .build();
+  }
+
+  @Test
+  void getStockAlerts_whenAllSuccess() {
+    Mockito.when(stockAlertPort.getAlerts(FRANCHISE_ID, "b1", 50))
+        .thenReturn(Flux.just(buildAlert()));
+
+    webTestClient
+        .get()
+        .uri("/franchise/{franchiseId}/alerts?branchId=b1", FRANCHISE_ID)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(StockAlertResponse.class)
+        .value(
+            alerts -> {
+              assertThat(alerts.size()).isEqualTo(1);
+              assertThat(alerts.get(0).getType()).isEqualTo("LOW_STOCK");
+              assertThat(alerts.get(0).getProductId()).isEqualTo("p1");
+              assertThat(alerts.get(0).getStock()).isEqualTo(3);
+            });
+  }
+
+  @Test
+  void streamStockAlerts_whenAllSuccess() {
+    Mockito.when(stockAlertPort.streamAlerts(FRANCHISE_ID)).thenReturn(Flux.just(buildAlert()));
+
+    Flux<StockAlertResponse> alerts =
+        webTestClient
+            .get()
+            .uri("/franchise/{franchiseId}/alerts/stream", FRANCHISE_ID)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(StockAlertResponse.class)
+            .getResponseBody();
+
+    StepVerifier.create(alerts)
+        .assertNext(alert -> assertThat(alert.getThreshold()).isEqualTo(5))
+        .verifyComplete();
+  }
+}
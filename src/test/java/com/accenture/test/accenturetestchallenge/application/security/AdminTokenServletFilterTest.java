@@ -0,0 +1,55 @@
+package com.accenture.test.accenturetestchallenge.application.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdminTokenServletFilterTest {
+
+  private final AdminTokenServletFilter filter = new AdminTokenServletFilter("secret");
+
+  @Test
+  void shouldRejectPercentEncodedAdminPath() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("/%61dmin/diagnostics/class-histogram", null), response, chain);
+
+    assertEquals(401, response.getStatus());
+    assertNull(chain.getRequest());
+  }
+
+  @Test
+  void shouldPassAdminRequestWithToken() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(
+        request("/%61dmin/diagnostics/class-histogram", "secret"),
+        new MockHttpServletResponse(),
+        chain);
+
+    assertNotNull(chain.getRequest());
+  }
+
+  @Test
+  void shouldPassOtherPathsWithoutToken() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("/franchise/f1", null), new MockHttpServletResponse(), chain);
+
+    assertNotNull(chain.getRequest());
+  }
+
+  private MockHttpServletRequest request(String requestUri, String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+    if (token != null) {
+      request.addHeader(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, token);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,73 @@
+package com.accenture.test.accenturetestchallenge.application.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AdminTokenWebFilterTest {
+
+  private final AdminTokenWebFilter filter = new AdminTokenWebFilter("secret");
+
+  private final WebFilterChain chain =
+      exchange -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+      };
+
+  @Test
+  void shouldRejectAdminRequestWithoutToken() {
+    assertEquals(HttpStatus.UNAUTHORIZED, filter("/admin/diagnostics/class-histogram", null));
+  }
+
+  @Test
+  void shouldRejectPercentEncodedAdminPath() {
+    assertEquals(HttpStatus.UNAUTHORIZED, filter("/%61dmin/diagnostics/class-histogram", null));
+  }
+
+  @Test
+  void shouldRejectAdminPathWithMatrixVariables() {
+    assertEquals(HttpStatus.UNAUTHORIZED, filter("/admin;x=1/diagnostics/class-histogram", null));
+  }
+
+  @Test
+  void shouldPassAdminRequestWithToken() {
+    assertEquals(HttpStatus.OK, filter("/%61dmin/diagnostics/class-histogram", "secret"));
+  }
+
+  @Test
+  void shouldPassOtherPathsWithoutToken() {
+    assertEquals(HttpStatus.OK, filter("/franchise/administration", null));
+  }
+
+  @Test
+  void shouldHideAdminPathsWhenNoTokenIsConfigured() {
+    MockServerWebExchange exchange = exchange("/admin/product/top", null);
+
+    StepVerifier.create(new AdminTokenWebFilter("").filter(exchange, chain)).verifyComplete();
+
+    assertEquals(HttpStatus.NOT_FOUND, exchange.getResponse().getStatusCode());
+  }
+
+  private HttpStatus filter(String path, String token) {
+    MockServerWebExchange exchange = exchange(path, token);
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+    return HttpStatus.resolve(exchange.getResponse().getStatusCode().value());
+  }
+
+  private MockServerWebExchange exchange(String path, String token) {
+    MockServerHttpRequest.BaseBuilder<?> request =
+        MockServerHttpRequest.method(HttpMethod.GET, URI.create(path));
+    if (token != null) {
+      request.header(AdminTokenWebFilter.ADMIN_TOKEN_HEADER, token);
+    }
+    return MockServerWebExchange.from(request);
+  }
+}
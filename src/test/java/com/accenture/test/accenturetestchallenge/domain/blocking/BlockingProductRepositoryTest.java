@@ -0,0 +1,95 @@
+package com.accenture.test.accenturetestchallenge.domain.blocking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.repositories.LegacyFieldCriteria;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductQueries;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ReferenceCriteria;
+import com.mongodb.client.result.DeleteResult;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class BlockingProductRepositoryTest {
+
+  @Mock private MongoTemplate mongoTemplate;
+
+  private BlockingProductRepository productRepository;
+
+  @BeforeEach
+  void setUp() {
+    LegacyFieldCriteria legacyFieldCriteria = new LegacyFieldCriteria(false);
+    productRepository =
+        new BlockingProductRepository(
+            mongoTemplate,
+            new ProductQueries(
+                new ReferenceCriteria(legacyFieldCriteria, true), legacyFieldCriteria),
+            legacyFieldCriteria);
+  }
+
+  @Test
+  void replaceStock_shouldReturnProductAsItWasBefore() {
+    ProductEntity previous = new ProductEntity("p1", "Sprite", 8, "b1", "f1", "sprite", null);
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(ProductEntity.class)))
+        .thenReturn(previous);
+
+    StepVerifier.create(productRepository.replaceStock("f1", "b1", "p1", 2))
+        .assertNext(product -> assertEquals(8, product.getStock()))
+        .verifyComplete();
+
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    ArgumentCaptor<FindAndModifyOptions> optionsCaptor =
+        ArgumentCaptor.forClass(FindAndModifyOptions.class);
+    verify(mongoTemplate)
+        .findAndModify(
+            any(Query.class),
+            updateCaptor.capture(),
+            optionsCaptor.capture(),
+            eq(ProductEntity.class));
+    assertEquals(
+        2, updateCaptor.getValue().getUpdateObject().get("$set", Document.class).get("stock"));
+    assertEquals(false, optionsCaptor.getValue().isReturnNew());
+  }
+
+  @Test
+  void replaceStock_shouldCompleteEmptyWhenProductDoesNotExist() {
+    when(mongoTemplate.findAndModify(
+            any(Query.class),
+            any(Update.class),
+            any(FindAndModifyOptions.class),
+            eq(ProductEntity.class)))
+        .thenReturn(null);
+
+    StepVerifier.create(productRepository.replaceStock("f1", "b1", "p1", 2)).verifyComplete();
+  }
+
+  @Test
+  void deleteByIds_shouldReturnDeletedCount() {
+    when(mongoTemplate.remove(any(Query.class), eq(ProductEntity.class)))
+        .thenReturn(DeleteResult.acknowledged(2));
+
+    StepVerifier.create(productRepository.deleteByIds(List.of("p1", "p2")))
+        .expectNext(2L)
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,119 @@
+package com.accenture.test.accenturetestchallenge.domain.embedded;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedBranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.EmbeddedProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseCatalogRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddedProductAdapterTest {
+
+  @Mock private FranchiseCatalogRepository catalogRepository;
+  @Mock private StockAlertPort stockAlertPort;
+
+  @InjectMocks private EmbeddedProductAdapter productAdapter;
+
+  @Test
+  void createProduct_shouldPushProductIntoBranch() {
+    when(catalogRepository.existsById("f1")).thenReturn(Mono.just(true));
+    when(catalogRepository.existsBranch("f1", "b1")).thenReturn(Mono.just(true));
+    when(catalogRepository.addProduct(eq("f1"), eq("b1"), any())).thenReturn(Mono.just(true));
+
+    StepVerifier.create(
+            productAdapter.createProduct(
+                "f1", "b1", Product.builder().name(" Coca Cola").stock(5).build()))
+        .assertNext(
+            product -> {
+              assertEquals("f1", product.getFranchiseId());
+              assertEquals("b1", product.getBranchId());
+              assertEquals(5, product.getStock());
+            })
+        .verifyComplete();
+
+    ArgumentCaptor<EmbeddedProductEntity> productCaptor =
+        ArgumentCaptor.forClass(EmbeddedProductEntity.class);
+    verify(catalogRepository).addProduct(eq("f1"), eq("b1"), productCaptor.capture());
+    assertEquals("coca cola", productCaptor.getValue().getNormalizedName());
+  }
+
+  @Test
+  void createProduct_shouldReturnErrorWhenBranchDoesNotExist() {
+    when(catalogRepository.existsById("f1")).thenReturn(Mono.just(true));
+    when(catalogRepository.existsBranch("f1", "b1")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(
+            productAdapter.createProduct(
+                "f1", "b1", Product.builder().name("Sprite").stock(5).build()))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Branch does not exist"))
+        .verify();
+
+    verify(catalogRepository, never()).addProduct(any(), any(), any());
+  }
+
+  @Test
+  void updateProductStock_shouldRaiseAlertFromPreviousBranchState() {
+    EmbeddedBranchEntity previousBranch =
+        new EmbeddedBranchEntity(
+            "b1",
+            "branch",
+            5,
+            new ArrayList<>(List.of(new EmbeddedProductEntity("p1", "Sprite", "sprite", 10))));
+
+    when(catalogRepository.updateProductStock("f1", "b1", "p1", 3))
+        .thenReturn(Mono.just(previousBranch));
+    when(stockAlertPort.raiseAlert(any())).thenReturn(Mono.empty());
+
+    StepVerifier.create(productAdapter.updateProductStock("f1", "b1", "p1", 3))
+        .assertNext(product -> assertEquals(3, product.getStock()))
+        .verifyComplete();
+
+    ArgumentCaptor<StockAlert> alertCaptor = ArgumentCaptor.forClass(StockAlert.class);
+    verify(stockAlertPort).raiseAlert(alertCaptor.capture());
+    assertEquals(StockAlertType.LOW_STOCK, alertCaptor.getValue().getType());
+    assertEquals(10, alertCaptor.getValue().getPreviousStock());
+  }
+
+  @Test
+  void updateProductStock_shouldReturnErrorWhenProductDoesNotExist() {
+    when(catalogRepository.updateProductStock("f1", "b1", "p1", 3)).thenReturn(Mono.empty());
+
+    StepVerifier.create(productAdapter.updateProductStock("f1", "b1", "p1", 3))
+        .expectErrorMatches(error -> error.getMessage().equals("Product not found"))
+        .verify();
+
+    verifyNoInteractions(stockAlertPort);
+  }
+
+  @Test
+  void deleteProduct_shouldReturnErrorWhenNothingWasRemoved() {
+    when(catalogRepository.removeProduct("f1", "b1", "p1")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(productAdapter.deleteProduct("f1", "b1", "p1"))
+        .expectErrorMatches(error -> error.getMessage().equals("Product not found"))
+        .verify();
+  }
+}
@@ -0,0 +1,31 @@
+package com.accenture.test.accenturetestchallenge.domain.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class ObjectIdReferenceConverterTest {
+
+  private final ObjectIdReferenceConverter converter = new ObjectIdReferenceConverter();
+
+  @Test
+  void write_shouldStoreValidIdsAsObjectIds() {
+    ObjectId id = new ObjectId();
+
+    assertEquals(id, converter.write(id.toHexString(), null));
+  }
+
+  @Test
+  void write_shouldKeepInvalidIdsAsStrings() {
+    assertEquals("f1", converter.write("f1", null));
+  }
+
+  @Test
+  void read_shouldReturnObjectIdsAndLegacyStringsAsStrings() {
+    ObjectId id = new ObjectId();
+
+    assertEquals(id.toHexString(), converter.read(id, null));
+    assertEquals(id.toHexString(), converter.read(id.toHexString(), null));
+  }
+}
@@ -0,0 +1,125 @@
+package com.accenture.test.accenturetestchallenge.domain.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.test.StepVerifier;
+
+class MappedStockLedgerTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void appendStockChange_shouldUseStoredStockOnlyForTheFirstEvent() throws IOException {
+    MappedStockLedger ledger = open(DataSize.ofKilobytes(64));
+
+    StepVerifier.create(ledger.appendStockChange("p1", 10, 4))
+        .assertNext(
+            event -> {
+              assertEquals(1, event.getSequence());
+              assertEquals(-6, event.getDelta());
+            })
+        .verifyComplete();
+    StepVerifier.create(ledger.appendStockChange("p1", 10, 9))
+        .assertNext(event -> assertEquals(5, event.getDelta()))
+        .verifyComplete();
+
+    ledger.close();
+  }
+
+  @Test
+  void open_shouldReplayEventsWrittenBeforeRestart() throws IOException {
+    MappedStockLedger ledger = open(DataSize.ofKilobytes(64));
+    ledger.appendStockChange("p1", 10, 4).block();
+    ledger.appendStockChange("p2", 3, 8).block();
+    ledger.close();
+    Files.delete(directory.resolve("stock-ledger.snapshot"));
+
+    MappedStockLedger reopened = open(DataSize.ofKilobytes(64));
+
+    StepVerifier.create(reopened.appendStockChange("p1", 100, 5))
+        .assertNext(
+            event -> {
+              assertEquals(3, event.getSequence());
+              assertEquals(1, event.getDelta());
+            })
+        .verifyComplete();
+    reopened.close();
+  }
+
+  @Test
+  void open_shouldRestoreSnapshotAndProjectedSequence() throws IOException {
+    MappedStockLedger ledger = open(DataSize.ofKilobytes(64));
+    ledger.appendStockChange("p1", 10, 4).block();
+    ledger.appendStockChange("p1", 10, 6).block();
+    ledger.markProjected(1);
+    ledger.close();
+
+    MappedStockLedger reopened = open(DataSize.ofKilobytes(64));
+
+    assertEquals(1, reopened.getProjectedSequence());
+    List<StockLedgerEvent> pending = reopened.readAfter(reopened.getProjectedSequence(), 10);
+    assertEquals(1, pending.size());
+    assertEquals(6, pending.get(0).getStock());
+    StepVerifier.create(reopened.appendStockChange("p1", 10, 7))
+        .assertNext(event -> assertEquals(1, event.getDelta()))
+        .verifyComplete();
+    reopened.close();
+  }
+
+  @Test
+  void readAfter_shouldReadAcrossSegmentsInBatches() throws IOException {
+    MappedStockLedger ledger = open(DataSize.ofBytes(256));
+    for (int stock = 1; stock <= 20; stock++) {
+      ledger.appendStockChange("p" + (stock % 3), 0, stock).block();
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      assertTrue(files.count() > 1);
+    }
+
+    long sequence = 0;
+    int read = 0;
+    List<StockLedgerEvent> batch;
+    while (!(batch = ledger.readAfter(sequence, 7)).isEmpty()) {
+      assertEquals(sequence + 1, batch.get(0).getSequence());
+      sequence = batch.get(batch.size() - 1).getSequence();
+      read += batch.size();
+    }
+    assertEquals(20, read);
+    ledger.close();
+  }
+
+  @Test
+  void getStockHistory_shouldReturnEveryChangeOfTheProduct() throws IOException {
+    MappedStockLedger ledger = open(DataSize.ofBytes(256));
+    ledger.appendStockChange("p1", 10, 4).block();
+    for (int stock = 0; stock < 10; stock++) {
+      ledger.appendStockChange("p2", 0, stock).block();
+    }
+    ledger.appendStockChange("p1", 10, 12).block();
+
+    StepVerifier.create(ledger.getStockHistory("p1"))
+        .assertNext(event -> assertEquals(4, event.getStock()))
+        .assertNext(
+            event -> {
+              assertEquals(12, event.getStock());
+              assertEquals(8, event.getDelta());
+            })
+        .verifyComplete();
+    ledger.close();
+  }
+
+  private MappedStockLedger open(DataSize segmentSize) throws IOException {
+    return new MappedStockLedger(directory, segmentSize, false);
+  }
+}
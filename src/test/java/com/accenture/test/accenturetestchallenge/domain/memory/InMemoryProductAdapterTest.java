@@ -0,0 +1,164 @@
+package com.accenture.test.accenturetestchallenge.domain.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryProductAdapterTest {
+
+  @Mock private StockAlertPort stockAlertPort;
+
+  private InMemoryCatalog catalog;
+  private InMemoryProductAdapter productAdapter;
+  private String franchiseId;
+  private Branch branch;
+
+  @BeforeEach
+  void setUp() {
+    catalog = new InMemoryCatalog();
+    productAdapter = new InMemoryProductAdapter(catalog, stockAlertPort);
+    franchiseId = catalog.createFranchise("franchise").getId();
+    branch = catalog.createBranch(franchiseId, "branch");
+  }
+
+  @Test
+  void createProduct_shouldReturnErrorWhenBranchDoesNotExist() {
+    Product input = Product.builder().name("product").stock(1).build();
+
+    StepVerifier.create(productAdapter.createProduct(franchiseId, "b999", input))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Branch does not exist"))
+        .verify();
+  }
+
+  @Test
+  void createProduct_shouldNotFindBranchOfAnotherFranchise() {
+    String otherFranchiseId = catalog.createFranchise("other").getId();
+    Product input = Product.builder().name("product").stock(1).build();
+
+    StepVerifier.create(productAdapter.createProduct(otherFranchiseId, branch.getId(), input))
+        .expectErrorMatches(error -> error.getMessage().equals("Branch does not exist"))
+        .verify();
+  }
+
+  @Test
+  void updateProductStock_shouldRaiseAlertWhenThresholdIsCrossed() {
+    catalog.updateLowStockThreshold(franchiseId, branch.getId(), 5);
+    Product product = catalog.createProduct(franchiseId, branch.getId(), "product", 10);
+    when(stockAlertPort.raiseAlert(any())).thenReturn(Mono.empty());
+
+    StepVerifier.create(
+            productAdapter.updateProductStock(franchiseId, branch.getId(), product.getId(), 2))
+        .assertNext(updated -> assertEquals(2, updated.getStock()))
+        .verifyComplete();
+
+    ArgumentCaptor<StockAlert> alert = ArgumentCaptor.forClass(StockAlert.class);
+    verify(stockAlertPort).raiseAlert(alert.capture());
+    assertEquals(StockAlertType.LOW_STOCK, alert.getValue().getType());
+    assertEquals(10, alert.getValue().getPreviousStock());
+    assertEquals(2, catalog.findBranch(franchiseId, branch.getId()).getTotalStock());
+  }
+
+  @Test
+  void updateProductStock_shouldNotRaiseAlertWithoutThreshold() {
+    Product product = catalog.createProduct(franchiseId, branch.getId(), "product", 10);
+
+    StepVerifier.create(
+            productAdapter.updateProductStock(franchiseId, branch.getId(), product.getId(), 0))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    verify(stockAlertPort, never()).raiseAlert(any());
+  }
+
+  @Test
+  void deleteProduct_shouldReturnErrorWhenProductIsAlreadyDeleted() {
+    Product product = catalog.createProduct(franchiseId, branch.getId(), "product", 10);
+
+    StepVerifier.create(productAdapter.deleteProduct(franchiseId, branch.getId(), product.getId()))
+        .verifyComplete();
+    StepVerifier.create(productAdapter.deleteProduct(franchiseId, branch.getId(), product.getId()))
+        .expectErrorMatches(error -> error.getMessage().equals("Product not found"))
+        .verify();
+    assertEquals(0, catalog.findBranch(franchiseId, branch.getId()).getProductCount());
+  }
+
+  @Test
+  void getTopProductsAcrossBranches_shouldOrderByStockThenCreation() {
+    Branch otherBranch = catalog.createBranch(franchiseId, "other branch");
+    catalog.createProduct(franchiseId, branch.getId(), "first", 5);
+    catalog.createProduct(franchiseId, otherBranch.getId(), "second", 9);
+    catalog.createProduct(franchiseId, branch.getId(), "third", 5);
+    catalog.createProduct(franchiseId, otherBranch.getId(), "fourth", 1);
+
+    StepVerifier.create(productAdapter.getTopProductsAcrossBranches(franchiseId, 3))
+        .assertNext(product -> assertEquals("second", product.getName()))
+        .assertNext(product -> assertEquals("first", product.getName()))
+        .assertNext(product -> assertEquals("third", product.getName()))
+        .verifyComplete();
+  }
+
+  @Test
+  void getTopProductsByFranchise_shouldReturnTopProductOfEachBranch() {
+    catalog.createProduct(franchiseId, branch.getId(), "small", 1);
+    Product top = catalog.createProduct(franchiseId, branch.getId(), "big", 8);
+
+    StepVerifier.create(productAdapter.getTopProductsByFranchise(franchiseId))
+        .assertNext(
+            product -> {
+              assertEquals(branch.getId(), product.getBranchId());
+              assertEquals(top.getId(), product.getId());
+              assertEquals("big", product.getName());
+              assertEquals(8, product.getStock());
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void searchProducts_shouldMatchNormalizedPrefixInNameOrder() {
+    catalog.createProduct(franchiseId, branch.getId(), "Cola Zero", 1);
+    catalog.createProduct(franchiseId, branch.getId(), "chips", 1);
+    catalog.createProduct(franchiseId, branch.getId(), "Coffee", 1);
+
+    StepVerifier.create(
+            productAdapter.searchProducts(
+                franchiseId, null, " CO", ProductSearchMode.PREFIX, 10))
+        .assertNext(product -> assertEquals("Coffee", product.getName()))
+        .assertNext(product -> assertEquals("Cola Zero", product.getName()))
+        .verifyComplete();
+  }
+
+  @Test
+  void searchProducts_shouldRankTextMatchesByMatchedWords() {
+    catalog.createProduct(franchiseId, branch.getId(), "orange juice", 1);
+    catalog.createProduct(franchiseId, branch.getId(), "apple juice box", 1);
+    catalog.createProduct(franchiseId, branch.getId(), "water", 1);
+
+    StepVerifier.create(
+            productAdapter.searchProducts(
+                franchiseId, null, "apple juice", ProductSearchMode.TEXT, 10))
+        .assertNext(product -> assertEquals("apple juice box", product.getName()))
+        .assertNext(product -> assertEquals("orange juice", product.getName()))
+        .verifyComplete();
+  }
+}
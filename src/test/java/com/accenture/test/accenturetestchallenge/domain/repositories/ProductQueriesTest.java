@@ -0,0 +1,69 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+class ProductQueriesTest {
+
+  private static ProductQueries productQueries(boolean legacyReads) {
+    LegacyFieldCriteria legacyFieldCriteria = new LegacyFieldCriteria(legacyReads);
+    return new ProductQueries(
+        new ReferenceCriteria(legacyFieldCriteria, false), legacyFieldCriteria);
+  }
+
+  @Test
+  void topByStock_shouldSortOnStoredStock() {
+    List<Document> pipeline =
+        productQueries(false).topByStock(null, 10).toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+    assertEquals(new Document("$sort", new Document("s", -1).append("_id", 1)), pipeline.get(0));
+  }
+
+  @Test
+  void topByStock_shouldSortOnStockUnderEitherNameWhileLegacyReadsAreOn() {
+    List<Document> pipeline =
+        productQueries(true).topByStock(null, 10).toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+    assertEquals(
+        new Document(
+            "$set",
+            new Document("sortStock", new Document("$ifNull", List.of("$s", "$stock")))),
+        pipeline.get(0));
+    assertEquals(
+        new Document("$sort", new Document("sortStock", -1).append("_id", 1)), pipeline.get(1));
+  }
+
+  @Test
+  void topProductPerBranch_shouldSortOnStockUnderEitherNameWhileLegacyReadsAreOn() {
+    List<Document> pipeline =
+        productQueries(true).topProductPerBranch("f1").toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+    assertEquals(
+        new Document("$sort", new Document("sortStock", -1).append("_id", 1)), pipeline.get(2));
+  }
+
+  @Test
+  void stockSummary_shouldGroupStockOfBranchProducts() {
+    List<Document> pipeline =
+        productQueries(false).stockSummary("f1", "b1").toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+    assertEquals(
+        new Document(
+            "$match",
+            new Document("$and", List.of(new Document("f", "f1"), new Document("b", "b1")))),
+        pipeline.get(0));
+    assertEquals(
+        new Document(
+            "$group",
+            new Document("_id", null)
+                .append("productCount", new Document("$sum", 1))
+                .append("totalStock", new Document("$sum", "$s"))
+                .append("minStock", new Document("$min", "$s"))
+                .append("maxStock", new Document("$max", "$s"))),
+        pipeline.get(1));
+  }
+}
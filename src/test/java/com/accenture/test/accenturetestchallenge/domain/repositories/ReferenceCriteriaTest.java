@@ -0,0 +1,59 @@
+package com.accenture.test.accenturetestchallenge.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class ReferenceCriteriaTest {
+
+  private static ReferenceCriteria referenceCriteria(boolean stringReads, boolean legacyReads) {
+    return new ReferenceCriteria(new LegacyFieldCriteria(legacyReads), stringReads);
+  }
+
+  @Test
+  void reference_shouldMatchBothStoredFormsWhileStringReadsAreOn() {
+    ObjectId id = new ObjectId();
+
+    assertEquals(
+        new Document("f", new Document("$in", List.of(id, id.toHexString()))),
+        referenceCriteria(true, false).reference("f", "franchiseId", id.toHexString()).getCriteriaObject());
+  }
+
+  @Test
+  void reference_shouldOnlyMatchObjectIdsOnceStringReadsAreOff() {
+    ObjectId id = new ObjectId();
+    ReferenceCriteria referenceCriteria = referenceCriteria(false, false);
+
+    assertEquals(
+        new Document("f", id),
+        referenceCriteria.reference("f", "franchiseId", id.toHexString()).getCriteriaObject());
+    assertEquals(
+        new Document("f", id), referenceCriteria.match("f", "franchiseId", id.toHexString()));
+  }
+
+  @Test
+  void reference_shouldKeepInvalidIdsAsStrings() {
+    assertEquals(
+        new Document("f", "f1"),
+        referenceCriteria(true, false).reference("f", "franchiseId", "f1").getCriteriaObject());
+  }
+
+  @Test
+  void reference_shouldAlsoMatchLegacyFieldWhileLegacyReadsAreOn() {
+    ReferenceCriteria referenceCriteria = referenceCriteria(true, true);
+
+    assertEquals(
+        new Document(
+            "$or",
+            List.of(
+                new Document("f", "f1"),
+                new Document("$expr", new Document("$eq", List.of("$franchiseId", "f1"))))),
+        referenceCriteria.reference("f", "franchiseId", "f1").getCriteriaObject());
+    assertEquals(
+        new Document("$or", List.of(new Document("f", "f1"), new Document("franchiseId", "f1"))),
+        referenceCriteria.match("f", "franchiseId", "f1"));
+  }
+}
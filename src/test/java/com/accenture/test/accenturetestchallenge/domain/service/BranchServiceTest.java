@@ -2,6 +2,7 @@ package com.accenture.test.accenturetestchallenge.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -143,29 +144,80 @@ class BranchServiceTest {
     String branchId = "1";
     String newName = "Updated Branch";
 
-    BranchEntity existing = new BranchEntity();
-    existing.setId(branchId);
-    existing.setFranchiseId(franchiseId);
-    existing.setName("Old Name");
-
     BranchEntity updated = new BranchEntity();
     updated.setId(branchId);
     updated.setFranchiseId(franchiseId);
     updated.setName(newName);
+    updated.setProductCount(3L);
+    updated.setTotalStock(40L);
 
-    when(branchRepository.findByFranchiseIdAndId(franchiseId, branchId))
-            .thenReturn(Mono.just(existing));
-    when(branchRepository.save(any())).thenReturn(Mono.just(updated));
+    when(branchRepository.updateName(franchiseId, branchId, newName))
+            .thenReturn(Mono.just(updated));
 
     StepVerifier.create(branchService.updateBranchName(franchiseId, branchId, newName))
             .assertNext(branch -> {
               assertEquals(branchId, branch.getId());
               assertEquals(franchiseId, branch.getFranchiseId());
               assertEquals(newName, branch.getName());
+              assertEquals(3L, branch.getProductCount());
+              assertEquals(40L, branch.getTotalStock());
             })
             .verifyComplete();
 
-    verify(branchRepository).findByFranchiseIdAndId(franchiseId, branchId);
-    verify(branchRepository).save(any());
+    verify(branchRepository).updateName(franchiseId, branchId, newName);
+    verify(branchRepository, never()).save(any());
+  }
+
+  @Test
+  void shouldAdjustProductCountersSuccessfully() {
+    BranchEntity updated = new BranchEntity();
+    updated.setId("1");
+    updated.setFranchiseId(VALID_FRANCHISE_ID);
+    updated.setName(VALID_BRANCH_NAME);
+    updated.setProductCount(5L);
+    updated.setTotalStock(62L);
+
+    when(branchRepository.incrementProductCounters(VALID_FRANCHISE_ID, "1", 1, 12L))
+        .thenReturn(Mono.just(updated));
+
+    StepVerifier.create(branchService.adjustProductCounters(VALID_FRANCHISE_ID, "1", 1, 12L))
+        .assertNext(
+            branch -> {
+              assertEquals(5L, branch.getProductCount());
+              assertEquals(62L, branch.getTotalStock());
+            })
+        .verifyComplete();
+
+    verify(branchRepository).incrementProductCounters(VALID_FRANCHISE_ID, "1", 1, 12L);
+  }
+
+  @Test
+  void shouldUpdateLowStockThresholdSuccessfully() {
+    BranchEntity updatedEntity = new BranchEntity();
+    updatedEntity.setId("branch-456");
+    updatedEntity.setFranchiseId(VALID_FRANCHISE_ID);
+    updatedEntity.setName(VALID_BRANCH_NAME);
+    updatedEntity.setLowStockThreshold(5);
+
+    when(branchRepository.updateLowStockThreshold(VALID_FRANCHISE_ID, "branch-456", 5))
+        .thenReturn(Mono.just(updatedEntity));
+
+    StepVerifier.create(
+            branchService.updateLowStockThreshold(VALID_FRANCHISE_ID, "branch-456", 5))
+        .assertNext(branch -> assertEquals(5, branch.getLowStockThreshold()))
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldReturnErrorWhenLowStockThresholdIsNegative() {
+    StepVerifier.create(
+            branchService.updateLowStockThreshold(VALID_FRANCHISE_ID, "branch-456", -1))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().contains("threshold must not be negative"))
+        .verify();
+
+    verifyNoInteractions(branchRepository);
   }
 }
@@ -0,0 +1,176 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJob;
+import com.accenture.test.accenturetestchallenge.domain.model.DeletionJobStatus;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.FranchiseRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogDeletionServiceTest {
+
+  @Mock private FranchiseRepository franchiseRepository;
+  @Mock private BranchRepository branchRepository;
+  @Mock private ProductRepository productRepository;
+  @Mock private InventoryStatsRepository inventoryStatsRepository;
+
+  private DeletionJobRegistry deletionJobRegistry;
+  private CatalogDeletionService catalogDeletionService;
+
+  @BeforeEach
+  void setUp() {
+    deletionJobRegistry = new DeletionJobRegistry();
+    catalogDeletionService =
+        new CatalogDeletionService(
+            franchiseRepository,
+            branchRepository,
+            productRepository,
+            inventoryStatsRepository,
+            deletionJobRegistry,
+            2,
+            Duration.ZERO);
+  }
+
+  @Test
+  void shouldDeleteBranchProductsInChunksBeforeTheBranch() {
+    when(branchRepository.findByFranchiseIdAndId("f1", "b1"))
+        .thenReturn(Mono.just(branch("b1", 3L)));
+    when(productRepository.findIdsAndStock("f1", "b1", 2))
+        .thenReturn(
+            Flux.just(product("p1", 4), product("p2", 1), product("p3", 0)), Flux.empty());
+    when(productRepository.deleteByIds(List.of("p1", "p2"))).thenReturn(Mono.just(2L));
+    when(productRepository.deleteByIds(List.of("p3"))).thenReturn(Mono.just(1L));
+    when(branchRepository.incrementProductCounters("f1", "b1", -2, -5L))
+        .thenReturn(Mono.just(branch("b1", 1L)));
+    when(branchRepository.incrementProductCounters("f1", "b1", -1, 0L))
+        .thenReturn(Mono.just(branch("b1", 0L)));
+    when(inventoryStatsRepository.removeBranch("f1", "b1")).thenReturn(Mono.empty());
+    when(branchRepository.deleteByFranchiseIdAndId("f1", "b1")).thenReturn(Mono.just(1L));
+
+    DeletionJob started = catalogDeletionService.deleteBranch("f1", "b1").block();
+    assertEquals(DeletionJobStatus.RUNNING, started.getStatus());
+    assertEquals(3L, started.getExpectedProducts());
+
+    DeletionJob job = awaitFinished(started.getId());
+    assertEquals(DeletionJobStatus.COMPLETED, job.getStatus());
+    assertEquals(3L, job.getDeletedProducts());
+    assertEquals(1L, job.getDeletedBranches());
+  }
+
+  @Test
+  void shouldRecountBranchWhenSomeProductsOfAChunkWereAlreadyDeleted() {
+    when(branchRepository.findByFranchiseIdAndId("f1", "b1"))
+        .thenReturn(Mono.just(branch("b1", 2L)));
+    when(productRepository.findIdsAndStock("f1", "b1", 2))
+        .thenReturn(Flux.just(product("p1", 4), product("p2", 1)), Flux.empty());
+    when(productRepository.deleteByIds(List.of("p1", "p2"))).thenReturn(Mono.just(1L));
+    when(branchRepository.recountProducts("f1", "b1")).thenReturn(Mono.just(branch("b1", 0L)));
+    when(inventoryStatsRepository.removeBranch("f1", "b1")).thenReturn(Mono.empty());
+    when(branchRepository.deleteByFranchiseIdAndId("f1", "b1")).thenReturn(Mono.just(1L));
+
+    DeletionJob started = catalogDeletionService.deleteBranch("f1", "b1").block();
+
+    DeletionJob job = awaitFinished(started.getId());
+    assertEquals(DeletionJobStatus.COMPLETED, job.getStatus());
+    assertEquals(1L, job.getDeletedProducts());
+    verify(branchRepository).recountProducts("f1", "b1");
+    verify(branchRepository, never()).incrementProductCounters(any(), any(), anyInt(), anyLong());
+  }
+
+  @Test
+  void shouldDeleteFranchiseAfterItsBranches() {
+    when(franchiseRepository.existsById("f1")).thenReturn(Mono.just(true));
+    when(branchRepository.findByFranchiseId("f1")).thenReturn(Flux.just(branch("b1", 0L)));
+    when(productRepository.findIdsAndStock("f1", "b1", 2)).thenReturn(Flux.empty());
+    when(inventoryStatsRepository.removeBranch("f1", "b1")).thenReturn(Mono.empty());
+    when(branchRepository.deleteByFranchiseIdAndId("f1", "b1")).thenReturn(Mono.just(1L));
+    when(franchiseRepository.deleteById("f1")).thenReturn(Mono.empty());
+    when(inventoryStatsRepository.deleteById("f1")).thenReturn(Mono.empty());
+    when(branchRepository.deleteByFranchiseId("f1")).thenReturn(Mono.just(0L));
+    when(productRepository.findIdsAndStock("f1", null, 2)).thenReturn(Flux.empty());
+
+    DeletionJob started = catalogDeletionService.deleteFranchise("f1").block();
+
+    DeletionJob job = awaitFinished(started.getId());
+    assertEquals(DeletionJobStatus.COMPLETED, job.getStatus());
+    assertEquals(1L, job.getDeletedBranches());
+    verify(productRepository, never()).deleteByIds(anyList());
+  }
+
+  @Test
+  void shouldMarkJobAsFailedWhenAChunkCannotBeDeleted() {
+    when(branchRepository.findByFranchiseIdAndId("f1", "b1"))
+        .thenReturn(Mono.just(branch("b1", 1L)));
+    when(productRepository.findIdsAndStock("f1", "b1", 2))
+        .thenReturn(Flux.just(product("p1", 4)));
+    when(productRepository.deleteByIds(List.of("p1")))
+        .thenReturn(Mono.error(new IllegalStateException("Connection lost")));
+
+    DeletionJob started = catalogDeletionService.deleteBranch("f1", "b1").block();
+
+    DeletionJob job = awaitFinished(started.getId());
+    assertEquals(DeletionJobStatus.FAILED, job.getStatus());
+    assertEquals("Connection lost", job.getError());
+    verify(branchRepository, never()).deleteByFranchiseIdAndId("f1", "b1");
+  }
+
+  @Test
+  void shouldReturnErrorWhenBranchDoesNotExist() {
+    when(branchRepository.findByFranchiseIdAndId("f1", "missing")).thenReturn(Mono.empty());
+
+    StepVerifier.create(catalogDeletionService.deleteBranch("f1", "missing"))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Branch does not exist"))
+        .verify();
+
+    verifyNoInteractions(productRepository);
+  }
+
+  private DeletionJob awaitFinished(String jobId) {
+    return Mono.defer(() -> deletionJobRegistry.getDeletionJob(jobId))
+        .filter(job -> job.getStatus() != DeletionJobStatus.RUNNING)
+        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(10)))
+        .block(Duration.ofSeconds(5));
+  }
+
+  private static BranchEntity branch(String id, Long productCount) {
+    BranchEntity branch = new BranchEntity();
+    branch.setId(id);
+    branch.setFranchiseId("f1");
+    branch.setProductCount(productCount);
+    return branch;
+  }
+
+  private static ProductEntity product(String id, int stock) {
+    ProductEntity product = new ProductEntity();
+    product.setId(id);
+    product.setBranchId("b1");
+    product.setStock(stock);
+    return product;
+  }
+}
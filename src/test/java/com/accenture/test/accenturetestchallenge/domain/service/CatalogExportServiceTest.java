@@ -0,0 +1,81 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogExportServiceTest {
+
+  @Mock private FranchisePort franchisePort;
+  @Mock private ProductRepository productRepository;
+
+  private CatalogExportService catalogExportService;
+
+  @BeforeEach
+  void setUp() {
+    catalogExportService =
+        new CatalogExportService(franchisePort, productRepository, new ObjectMapper());
+  }
+
+  @Test
+  void shouldExportProductsAsCsvWithHeader() {
+    when(franchisePort.existsFranchise("f1")).thenReturn(Mono.just(true));
+    when(productRepository.findByFranchiseId("f1"))
+        .thenReturn(Flux.just(product("p1", "apple", 3), product("p2", "pear, \"green\"", 0)));
+
+    StepVerifier.create(catalogExportService.exportProducts("f1", CatalogFileFormat.CSV))
+        .expectNext("id,branch,name,stock\n")
+        .expectNext("p1,b1,apple,3\n")
+        .expectNext("p2,b1,\"pear, \"\"green\"\"\",0\n")
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldExportProductsAsNdjson() {
+    when(franchisePort.existsFranchise("f1")).thenReturn(Mono.just(true));
+    when(productRepository.findByFranchiseId("f1"))
+        .thenReturn(Flux.just(product("p1", "apple", 3)));
+
+    StepVerifier.create(catalogExportService.exportProducts("f1", CatalogFileFormat.NDJSON))
+        .expectNext("{\"id\":\"p1\",\"branch\":\"b1\",\"name\":\"apple\",\"stock\":3}\n")
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldReturnErrorWhenFranchiseDoesNotExist() {
+    when(franchisePort.existsFranchise("missing")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(catalogExportService.exportProducts("missing", CatalogFileFormat.CSV))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Franchise does not exist"))
+        .verify();
+
+    verifyNoInteractions(productRepository);
+  }
+
+  private static ProductEntity product(String id, String name, int stock) {
+    ProductEntity product = new ProductEntity();
+    product.setId(id);
+    product.setFranchiseId("f1");
+    product.setBranchId("b1");
+    product.setName(name);
+    product.setStock(stock);
+    return product;
+  }
+}
@@ -0,0 +1,153 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogFileFormat;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogImportEvent;
+import com.accenture.test.accenturetestchallenge.domain.model.CatalogImportEventType;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogImportServiceTest {
+
+  @Mock private FranchisePort franchisePort;
+  @Mock private BranchPort branchPort;
+  @Mock private BranchRepository branchRepository;
+  @Mock private ProductRepository productRepository;
+  @Mock private InventoryStatsPort inventoryStatsPort;
+
+  private CatalogImportService catalogImportService;
+
+  @BeforeEach
+  void setUp() {
+    catalogImportService =
+        new CatalogImportService(
+            franchisePort,
+            branchPort,
+            branchRepository,
+            productRepository,
+            inventoryStatsPort,
+            new ObjectMapper(),
+            2,
+            2);
+  }
+
+  @Test
+  void shouldImportValidCsvRowsAndReportInvalidOnes() {
+    when(franchisePort.existsFranchise("f1")).thenReturn(Mono.just(true));
+    when(branchRepository.findByFranchiseId("f1"))
+        .thenReturn(Flux.just(branch("b1", "Center"), branch("b2", "North")));
+    when(productRepository.insert(anyList()))
+        .thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+    when(branchPort.adjustProductCounters("f1", "b1", 2, 3L))
+        .thenReturn(Mono.just(new Branch("f1", "b1", "Center")));
+    when(inventoryStatsPort.recordProductsAdded("f1", "b1", List.of(3, 0)))
+        .thenReturn(Mono.empty());
+
+    Flux<String> lines =
+        Flux.just(
+            "name,branch,stock",
+            "apple,Center,3",
+            "\"pear, green\",b1,0",
+            "plum,Center,abc",
+            "fig,South,2");
+
+    StepVerifier.create(catalogImportService.importProducts("f1", CatalogFileFormat.CSV, lines))
+        .assertNext(event -> assertProgress(event, CatalogImportEventType.PROGRESS, 2, 2, 0))
+        .assertNext(event -> assertRowError(event, 4L))
+        .assertNext(event -> assertRowError(event, 5L))
+        .assertNext(event -> assertProgress(event, CatalogImportEventType.PROGRESS, 4, 2, 2))
+        .assertNext(event -> assertProgress(event, CatalogImportEventType.COMPLETED, 4, 2, 2))
+        .verifyComplete();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ProductEntity>> inserted = ArgumentCaptor.forClass(List.class);
+    verify(productRepository).insert(inserted.capture());
+    assertEquals(2, inserted.getValue().size());
+    assertEquals("pear, green", inserted.getValue().get(1).getName());
+    assertEquals("b1", inserted.getValue().get(1).getBranchId());
+    verify(branchPort).adjustProductCounters("f1", "b1", 2, 3L);
+  }
+
+  @Test
+  void shouldRejectNdjsonRowsNamingAnAmbiguousBranch() {
+    when(franchisePort.existsFranchise("f1")).thenReturn(Mono.just(true));
+    when(branchRepository.findByFranchiseId("f1"))
+        .thenReturn(Flux.just(branch("b1", "Center"), branch("b2", "Center")));
+
+    Flux<String> lines = Flux.just("{\"branch\": \"Center\", \"name\": \"apple\", \"stock\": 1}");
+
+    StepVerifier.create(
+            catalogImportService.importProducts("f1", CatalogFileFormat.NDJSON, lines))
+        .assertNext(event -> assertRowError(event, 1L))
+        .assertNext(event -> assertProgress(event, CatalogImportEventType.PROGRESS, 1, 0, 1))
+        .assertNext(event -> assertProgress(event, CatalogImportEventType.COMPLETED, 1, 0, 1))
+        .verifyComplete();
+
+    verifyNoInteractions(productRepository);
+  }
+
+  @Test
+  void shouldReturnErrorWhenFranchiseDoesNotExist() {
+    when(franchisePort.existsFranchise("missing")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(
+            catalogImportService.importProducts(
+                "missing", CatalogFileFormat.CSV, Flux.just("branch,name,stock")))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Franchise does not exist"))
+        .verify();
+
+    verifyNoInteractions(productRepository);
+  }
+
+  private static BranchEntity branch(String id, String name) {
+    BranchEntity branch = new BranchEntity();
+    branch.setId(id);
+    branch.setName(name);
+    branch.setFranchiseId("f1");
+    return branch;
+  }
+
+  private static void assertRowError(CatalogImportEvent event, Long line) {
+    assertEquals(CatalogImportEventType.ROW_ERROR, event.getType());
+    assertEquals(line, event.getLine());
+  }
+
+  private static void assertProgress(
+      CatalogImportEvent event,
+      CatalogImportEventType type,
+      long rowsRead,
+      long imported,
+      long failed) {
+
+    assertEquals(type, event.getType());
+    assertEquals(rowsRead, event.getRowsRead());
+    assertEquals(imported, event.getImported());
+    assertEquals(failed, event.getFailed());
+  }
+}
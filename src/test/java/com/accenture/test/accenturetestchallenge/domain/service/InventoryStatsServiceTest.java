@@ -0,0 +1,150 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.InventoryStatsEntity;
+import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryStatsServiceTest {
+
+  @Mock private FranchisePort franchisePort;
+  @Mock private BranchPort branchPort;
+  @Mock private InventoryStatsRepository inventoryStatsRepository;
+
+  @InjectMocks private InventoryStatsService inventoryStatsService;
+
+  @Test
+  void getFranchiseStats_shouldReturnMaterializedStats() {
+    InventoryStatsEntity entity = new InventoryStatsEntity();
+    entity.setId("f1");
+    entity.setScope(InventoryStatsEntity.FRANCHISE_SCOPE);
+    entity.setFranchiseId("f1");
+    entity.setProductCount(4L);
+    entity.setTotalStock(30L);
+    entity.setMinStock(0);
+    entity.setMaxStock(20);
+    entity.setOutOfStockCount(1L);
+
+    when(inventoryStatsRepository.findByIdAndScope("f1", InventoryStatsEntity.FRANCHISE_SCOPE))
+        .thenReturn(Mono.just(entity));
+
+    StepVerifier.create(inventoryStatsService.getFranchiseStats("f1"))
+        .assertNext(
+            stats -> {
+              assertEquals("f1", stats.getFranchiseId());
+              assertEquals(4L, stats.getProductCount());
+              assertEquals(30L, stats.getTotalStock());
+              assertEquals(0, stats.getMinStock());
+              assertEquals(20, stats.getMaxStock());
+              assertEquals(1L, stats.getOutOfStockCount());
+            })
+        .verifyComplete();
+
+    verifyNoInteractions(franchisePort);
+  }
+
+  @Test
+  void getFranchiseStats_shouldReturnEmptyStatsWhenFranchiseHasNoProducts() {
+    when(inventoryStatsRepository.findByIdAndScope("f1", InventoryStatsEntity.FRANCHISE_SCOPE))
+        .thenReturn(Mono.empty());
+    when(franchisePort.existsFranchise("f1")).thenReturn(Mono.just(true));
+
+    StepVerifier.create(inventoryStatsService.getFranchiseStats("f1"))
+        .assertNext(
+            stats -> {
+              assertEquals("f1", stats.getFranchiseId());
+              assertEquals(0L, stats.getProductCount());
+              assertNull(stats.getMinStock());
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void getBranchStats_shouldReturnErrorWhenBranchDoesNotExist() {
+    when(inventoryStatsRepository.findByIdAndFranchiseIdAndScope(
+            "b1", "f1", InventoryStatsEntity.BRANCH_SCOPE))
+        .thenReturn(Mono.empty());
+    when(branchPort.existsBranch("f1", "b1")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(inventoryStatsService.getBranchStats("f1", "b1"))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Branch does not exist"))
+        .verify();
+  }
+
+  @Test
+  void getBranchStats_shouldReturnErrorWhenBranchIdIsEmpty() {
+    StepVerifier.create(inventoryStatsService.getBranchStats("f1", " "))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().contains("must not be null or empty"))
+        .verify();
+
+    verifyNoInteractions(inventoryStatsRepository);
+  }
+
+  @Test
+  void recordStockChanged_shouldApplyDeltaToStatsAndRefreshBoundsOfPreviousStock() {
+    when(inventoryStatsRepository.applyDelta("f1", "b1", 0, -10L, 1, 0)).thenReturn(Mono.empty());
+    when(inventoryStatsRepository.refreshBounds("f1", "b1", 10)).thenReturn(Mono.empty());
+
+    StepVerifier.create(inventoryStatsService.recordStockChanged("f1", "b1", 10, 0))
+        .verifyComplete();
+
+    verify(inventoryStatsRepository).applyDelta("f1", "b1", 0, -10L, 1, 0);
+    verify(inventoryStatsRepository).refreshBounds("f1", "b1", 10);
+  }
+
+  @Test
+  void recordStockChanged_shouldNotRefreshBoundsWhenStockIsUnchanged() {
+    when(inventoryStatsRepository.applyDelta("f1", "b1", 0, 0L, 0, 10)).thenReturn(Mono.empty());
+
+    StepVerifier.create(inventoryStatsService.recordStockChanged("f1", "b1", 10, 10))
+        .verifyComplete();
+
+    verify(inventoryStatsRepository, never()).refreshBounds(any(), any(), anyInt());
+  }
+
+  @Test
+  void recordProductRemoved_shouldRefreshBoundsOfRemovedStock() {
+    when(inventoryStatsRepository.applyDelta("f1", "b1", -1, -5L, 0, null))
+        .thenReturn(Mono.empty());
+    when(inventoryStatsRepository.refreshBounds("f1", "b1", 5)).thenReturn(Mono.empty());
+
+    StepVerifier.create(inventoryStatsService.recordProductRemoved("f1", "b1", 5))
+        .verifyComplete();
+
+    verify(inventoryStatsRepository).refreshBounds("f1", "b1", 5);
+  }
+
+  @Test
+  void recordProductRemoved_shouldIgnoreStatsErrors() {
+    when(inventoryStatsRepository.applyDelta("f1", "b1", -1, -5L, 0, null))
+        .thenReturn(Mono.error(new RuntimeException("DB error")));
+    when(inventoryStatsRepository.refreshBounds("f1", "b1", 5))
+        .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+    StepVerifier.create(inventoryStatsService.recordProductRemoved("f1", "b1", 5))
+        .verifyComplete();
+  }
+}
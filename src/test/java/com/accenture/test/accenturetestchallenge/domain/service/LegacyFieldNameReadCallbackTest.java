@@ -0,0 +1,66 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class LegacyFieldNameReadCallbackTest {
+
+  private LegacyFieldNameReadCallback callback;
+
+  @BeforeEach
+  void setUp() {
+    MappingMongoConverter converter =
+        new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+    converter.afterPropertiesSet();
+    callback = new LegacyFieldNameReadCallback(converter);
+  }
+
+  @Test
+  void onAfterConvert_shouldReadMissingPropertiesFromLegacyFields() {
+    ObjectId franchiseId = new ObjectId();
+    ProductEntity product = new ProductEntity();
+    product.setId("p1");
+    product.setStock(3);
+
+    Document document =
+        new Document("_id", "p1")
+            .append("s", 3)
+            .append("name", "Legacy product")
+            .append("stock", 10)
+            .append("franchiseId", franchiseId);
+
+    StepVerifier.create(Mono.from(callback.onAfterConvert(product, document, "products")))
+        .assertNext(
+            entity -> {
+              ProductEntity read = (ProductEntity) entity;
+              assertEquals("Legacy product", read.getName());
+              assertEquals(3, read.getStock());
+              assertEquals(franchiseId.toHexString(), read.getFranchiseId());
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void onAfterConvert_shouldAddCounterDeltasToLegacyValues() {
+    BranchEntity branch = new BranchEntity();
+    branch.setId("b1");
+    branch.setProductCount(1L);
+
+    Document document = new Document("_id", "b1").append("pc", 1L).append("productCount", 4L);
+
+    StepVerifier.create(Mono.from(callback.onAfterConvert(branch, document, "branches")))
+        .assertNext(entity -> assertEquals(5L, ((BranchEntity) entity).getProductCount()))
+        .verifyComplete();
+  }
+}
@@ -3,22 +3,35 @@ package com.accenture.test.accenturetestchallenge.domain.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.Branch;
 import com.accenture.test.accenturetestchallenge.domain.model.Product;
+import com.accenture.test.accenturetestchallenge.domain.model.ProductSearchMode;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
 import com.accenture.test.accenturetestchallenge.domain.ports.BranchPort;
 import com.accenture.test.accenturetestchallenge.domain.ports.FranchisePort;
+import com.accenture.test.accenturetestchallenge.domain.ports.InventoryStatsPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockLedgerPort;
 import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -28,6 +41,10 @@ class ProductServiceTest {
   @Mock private FranchisePort franchisePort;
   @Mock private BranchPort branchPort;
   @Mock private ProductRepository productRepository;
+  @Mock private InventoryStatsPort inventoryStatsPort;
+  @Mock private StockAlertPort stockAlertPort;
+  @Spy private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+  @Mock private ObjectProvider<StockLedgerPort> stockLedgerPort;
 
   @InjectMocks private ProductService productService;
 
@@ -47,6 +64,10 @@ class ProductServiceTest {
     when(franchisePort.existsFranchise(franchiseId)).thenReturn(Mono.just(true));
     when(branchPort.existsBranch(franchiseId, branchId)).thenReturn(Mono.just(true));
     when(productRepository.save(any())).thenReturn(Mono.just(savedEntity));
+    when(branchPort.adjustProductCounters(franchiseId, branchId, 1, 10L))
+        .thenReturn(Mono.just(new Branch(franchiseId, branchId, "branch")));
+    when(inventoryStatsPort.recordProductAdded(franchiseId, branchId, 10))
+        .thenReturn(Mono.empty());
 
     StepVerifier.create(productService.createProduct(franchiseId, branchId, input))
         .assertNext(
@@ -60,6 +81,8 @@ class ProductServiceTest {
         .verifyComplete();
 
     verify(productRepository).save(any());
+    verify(branchPort).adjustProductCounters(franchiseId, branchId, 1, 10L);
+    verify(inventoryStatsPort).recordProductAdded(franchiseId, branchId, 10);
   }
 
   @Test
@@ -150,12 +173,18 @@ class ProductServiceTest {
     when(productRepository.findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId))
         .thenReturn(Mono.just(productEntity));
     when(productRepository.deleteById(productId)).thenReturn(Mono.empty());
+    when(branchPort.adjustProductCounters(franchiseId, branchId, -1, 0L))
+        .thenReturn(Mono.just(new Branch(franchiseId, branchId, "branch")));
+    when(inventoryStatsPort.recordProductRemoved(franchiseId, branchId, 0))
+        .thenReturn(Mono.empty());
 
     StepVerifier.create(productService.deleteProduct(franchiseId, branchId, productId))
         .verifyComplete();
 
     verify(productRepository).findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId);
     verify(productRepository).deleteById(productId);
+    verify(branchPort).adjustProductCounters(franchiseId, branchId, -1, 0L);
+    verify(inventoryStatsPort).recordProductRemoved(franchiseId, branchId, 0);
   }
 
   @Test
@@ -233,6 +262,7 @@ class ProductServiceTest {
 
     verify(productRepository).findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId);
     verify(productRepository).deleteById(productId);
+    verifyNoInteractions(inventoryStatsPort);
   }
 
   @Test
@@ -249,16 +279,12 @@ class ProductServiceTest {
     existing.setName("product 1");
     existing.setStock(10);
 
-    ProductEntity updated = new ProductEntity();
-    updated.setId(productId);
-    updated.setFranchiseId(franchiseId);
-    updated.setBranchId(branchId);
-    updated.setName("product 1");
-    updated.setStock(newStock);
-
-    when(productRepository.findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId))
+    when(productRepository.replaceStock(franchiseId, branchId, productId, newStock))
         .thenReturn(Mono.just(existing));
-    when(productRepository.save(any())).thenReturn(Mono.just(updated));
+    when(branchPort.adjustProductCounters(franchiseId, branchId, 0, 10L))
+        .thenReturn(Mono.just(new Branch(franchiseId, branchId, "branch")));
+    when(inventoryStatsPort.recordStockChanged(franchiseId, branchId, 10, newStock))
+        .thenReturn(Mono.empty());
 
     StepVerifier.create(
             productService.updateProductStock(franchiseId, branchId, productId, newStock))
@@ -272,7 +298,63 @@ class ProductServiceTest {
             })
         .verifyComplete();
 
-    verify(productRepository).save(any());
+    verify(productRepository).replaceStock(franchiseId, branchId, productId, newStock);
+    verify(branchPort).adjustProductCounters(franchiseId, branchId, 0, 10L);
+    verify(inventoryStatsPort).recordStockChanged(franchiseId, branchId, 10, newStock);
+    verifyNoInteractions(stockAlertPort);
+  }
+
+  @Test
+  void updateProduct_shouldRaiseLowStockAlertWhenStockDropsBelowThreshold() {
+    ProductEntity existing = new ProductEntity();
+    existing.setId("p1");
+    existing.setFranchiseId("f1");
+    existing.setBranchId("b1");
+    existing.setName("Sprite");
+    existing.setStock(10);
+
+    Branch branch = new Branch("f1", "b1", "branch");
+    branch.setLowStockThreshold(5);
+
+    when(productRepository.replaceStock("f1", "b1", "p1", 3)).thenReturn(Mono.just(existing));
+    when(branchPort.adjustProductCounters("f1", "b1", 0, -7L)).thenReturn(Mono.just(branch));
+    when(stockAlertPort.raiseAlert(any())).thenReturn(Mono.empty());
+    when(inventoryStatsPort.recordStockChanged("f1", "b1", 10, 3)).thenReturn(Mono.empty());
+
+    StepVerifier.create(productService.updateProductStock("f1", "b1", "p1", 3))
+        .assertNext(product -> assertEquals(3, product.getStock()))
+        .verifyComplete();
+
+    ArgumentCaptor<StockAlert> alertCaptor = ArgumentCaptor.forClass(StockAlert.class);
+    verify(stockAlertPort).raiseAlert(alertCaptor.capture());
+    assertEquals(StockAlertType.LOW_STOCK, alertCaptor.getValue().getType());
+    assertEquals("p1", alertCaptor.getValue().getProductId());
+    assertEquals(5, alertCaptor.getValue().getThreshold());
+    assertEquals(10, alertCaptor.getValue().getPreviousStock());
+    assertEquals(3, alertCaptor.getValue().getStock());
+  }
+
+  @Test
+  void updateProduct_shouldNotRaiseAlertWhenStockStaysBelowThreshold() {
+    ProductEntity existing = new ProductEntity();
+    existing.setId("p1");
+    existing.setFranchiseId("f1");
+    existing.setBranchId("b1");
+    existing.setName("Sprite");
+    existing.setStock(4);
+
+    Branch branch = new Branch("f1", "b1", "branch");
+    branch.setLowStockThreshold(5);
+
+    when(productRepository.replaceStock("f1", "b1", "p1", 2)).thenReturn(Mono.just(existing));
+    when(branchPort.adjustProductCounters("f1", "b1", 0, -2L)).thenReturn(Mono.just(branch));
+    when(inventoryStatsPort.recordStockChanged("f1", "b1", 4, 2)).thenReturn(Mono.empty());
+
+    StepVerifier.create(productService.updateProductStock("f1", "b1", "p1", 2))
+        .assertNext(product -> assertEquals(2, product.getStock()))
+        .verifyComplete();
+
+    verifyNoInteractions(stockAlertPort);
   }
 
   @Test
@@ -313,8 +395,7 @@ class ProductServiceTest {
 
   @Test
   void updateProduct_shouldReturnErrorWhenProductNotFound() {
-    when(productRepository.findByFranchiseIdAndBranchIdAndId("f1", "b1", "p1"))
-        .thenReturn(Mono.empty());
+    when(productRepository.replaceStock("f1", "b1", "p1", 5)).thenReturn(Mono.empty());
 
     StepVerifier.create(productService.updateProductStock("f1", "b1", "p1", 5))
         .expectErrorMatches(
@@ -323,29 +404,21 @@ class ProductServiceTest {
                     && error.getMessage().equals("Product not found"))
         .verify();
 
-    verify(productRepository).findByFranchiseIdAndBranchIdAndId("f1", "b1", "p1");
-    verify(productRepository, never()).save(any());
+    verify(productRepository).replaceStock("f1", "b1", "p1", 5);
+    verifyNoInteractions(branchPort, inventoryStatsPort);
   }
 
   @Test
-  void updateProduct_shouldReturnErrorWhenSaveFails() {
-    ProductEntity productEntity = new ProductEntity();
-    productEntity.setId("p1");
-    productEntity.setFranchiseId("f1");
-    productEntity.setBranchId("b1");
-    productEntity.setName("Sprite");
-    productEntity.setStock(10);
-
-    when(productRepository.findByFranchiseIdAndBranchIdAndId("f1", "b1", "p1"))
-        .thenReturn(Mono.just(productEntity));
-    when(productRepository.save(any())).thenReturn(Mono.error(new RuntimeException("DB error")));
+  void updateProduct_shouldReturnErrorWhenUpdateFails() {
+    when(productRepository.replaceStock("f1", "b1", "p1", 5))
+        .thenReturn(Mono.error(new RuntimeException("DB error")));
 
     StepVerifier.create(productService.updateProductStock("f1", "b1", "p1", 5))
         .expectErrorMatches(
             error -> error instanceof RuntimeException && error.getMessage().equals("DB error"))
         .verify();
 
-    verify(productRepository).save(any());
+    verifyNoInteractions(branchPort, inventoryStatsPort);
   }
 
   @Test
@@ -364,43 +437,26 @@ class ProductServiceTest {
   void getTopProducts_shouldReturnTopProductPerBranchSuccessfully() {
     String franchiseId = "f1";
 
-    ProductEntity p1 = new ProductEntity();
-    p1.setId("p1");
-    p1.setFranchiseId(franchiseId);
-    p1.setBranchId("A");
-    p1.setName("Product A1");
-    p1.setStock(5);
-
-    ProductEntity p2 = new ProductEntity();
-    p2.setId("p2");
-    p2.setFranchiseId(franchiseId);
-    p2.setBranchId("A");
-    p2.setName("Product A2");
-    p2.setStock(10);
-
-    ProductEntity p3 = new ProductEntity();
-    p3.setId("p3");
-    p3.setFranchiseId(franchiseId);
-    p3.setBranchId("B");
-    p3.setName("Product B1");
-    p3.setStock(20);
-
-    when(productRepository.findByFranchiseId(franchiseId))
-        .thenReturn(Flux.fromIterable(List.of(p1, p2, p3)));
+    Product topOfA = new Product(franchiseId, "A", "p2", "Product A2", 10);
+    Product topOfB = new Product(franchiseId, "B", "p3", "Product B1", 20);
+
+    when(productRepository.findTopProductPerBranch(franchiseId))
+        .thenReturn(Flux.just(topOfA, topOfB));
 
     StepVerifier.create(productService.getTopProductsByFranchise(franchiseId))
         .expectNextMatches(product -> product.getBranchId().equals("A") && product.getStock() == 10)
         .expectNextMatches(product -> product.getBranchId().equals("B") && product.getStock() == 20)
         .verifyComplete();
 
-    verify(productRepository).findByFranchiseId(franchiseId);
+    verify(productRepository).findTopProductPerBranch(franchiseId);
+    verify(productRepository, never()).findByFranchiseId(anyString());
   }
 
   @Test
   void getTopProducts_shouldReturnErrorWhenRepositoryFails() {
     String franchiseId = "f1";
 
-    when(productRepository.findByFranchiseId(franchiseId))
+    when(productRepository.findTopProductPerBranch(franchiseId))
         .thenReturn(Flux.error(new RuntimeException("DB error")));
 
     StepVerifier.create(productService.getTopProductsByFranchise(franchiseId))
@@ -408,7 +464,7 @@ class ProductServiceTest {
             error -> error instanceof RuntimeException && error.getMessage().equals("DB error"))
         .verify();
 
-    verify(productRepository).findByFranchiseId(franchiseId);
+    verify(productRepository).findTopProductPerBranch(franchiseId);
   }
 
   @Test
@@ -418,13 +474,6 @@ class ProductServiceTest {
     String productId = "p1";
     String newName = "Updated Product";
 
-    ProductEntity existing = new ProductEntity();
-    existing.setId(productId);
-    existing.setFranchiseId(franchiseId);
-    existing.setBranchId(branchId);
-    existing.setName("Old Product");
-    existing.setStock(10);
-
     ProductEntity updated = new ProductEntity();
     updated.setId(productId);
     updated.setFranchiseId(franchiseId);
@@ -432,9 +481,8 @@ class ProductServiceTest {
     updated.setName(newName);
     updated.setStock(10);
 
-    when(productRepository.findByFranchiseIdAndBranchIdAndId(franchiseId, branchId, productId))
-        .thenReturn(Mono.just(existing));
-    when(productRepository.save(any())).thenReturn(Mono.just(updated));
+    when(productRepository.updateName(franchiseId, branchId, productId, newName, "updated product"))
+        .thenReturn(Mono.just(updated));
 
     StepVerifier.create(productService.updateProductName(franchiseId, branchId, productId, newName))
         .assertNext(
@@ -447,6 +495,110 @@ class ProductServiceTest {
             })
         .verifyComplete();
 
-    verify(productRepository).save(any());
+    verify(productRepository, never()).save(any());
+  }
+
+  @Test
+  void updateProductName_shouldReturnErrorWhenProductDoesNotExist() {
+    when(productRepository.updateName("f1", "b1", "p1", "Sprite", "sprite"))
+        .thenReturn(Mono.empty());
+
+    StepVerifier.create(productService.updateProductName("f1", "b1", "p1", "Sprite"))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Product not found"))
+        .verify();
+  }
+
+  @Test
+  void searchProducts_shouldUseNormalizedPrefix() {
+    Product match = new Product("f1", "b1", "p1", "Pizza Margherita", 4);
+
+    when(productRepository.searchByNamePrefix("f1", null, "piz", 20))
+        .thenReturn(Flux.just(match));
+
+    StepVerifier.create(
+            productService.searchProducts("f1", " ", "  PiZ ", ProductSearchMode.PREFIX, 20))
+        .assertNext(
+            product -> {
+              assertEquals("p1", product.getId());
+              assertEquals("Pizza Margherita", product.getName());
+            })
+        .verifyComplete();
+
+    verify(productRepository).searchByNamePrefix("f1", null, "piz", 20);
+  }
+
+  @Test
+  void searchProducts_shouldBoundTextSearchLimit() {
+    when(productRepository.searchByText("f1", "b1", "pizza", 100)).thenReturn(Flux.empty());
+
+    StepVerifier.create(
+            productService.searchProducts("f1", "b1", "pizza", ProductSearchMode.TEXT, 5000))
+        .verifyComplete();
+
+    verify(productRepository).searchByText("f1", "b1", "pizza", 100);
+  }
+
+  @Test
+  void searchProducts_shouldReturnErrorWhenQueryIsEmpty() {
+    StepVerifier.create(
+            productService.searchProducts("f1", null, " ", ProductSearchMode.PREFIX, 20))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().contains("must not be null or empty"))
+        .verify();
+
+    verifyNoInteractions(productRepository);
+  }
+
+  @Test
+  void getTopProductsAcrossBranches_shouldReturnProductsOrderedByRepository() {
+    Product top = new Product("f1", "B", "p2", "Product B1", 20);
+    Product second = new Product("f1", "A", "p1", "Product A1", 10);
+
+    when(productRepository.findTopByStock("f1", 2)).thenReturn(Flux.just(top, second));
+
+    StepVerifier.create(productService.getTopProductsAcrossBranches("f1", 2))
+        .expectNextMatches(product -> product.getId().equals("p2") && product.getStock() == 20)
+        .expectNextMatches(product -> product.getId().equals("p1") && product.getStock() == 10)
+        .verifyComplete();
+  }
+
+  @Test
+  void getTopProductsAcrossFranchises_shouldBoundLimit() {
+    when(productRepository.findTopByStock(null, 100)).thenReturn(Flux.empty());
+
+    StepVerifier.create(productService.getTopProductsAcrossFranchises(1000)).verifyComplete();
+
+    verify(productRepository).findTopByStock(null, 100);
+  }
+
+  @Test
+  void updateProductStock_shouldAppendToStockLedgerWhenEnabled() {
+    ProductEntity existing = new ProductEntity();
+    existing.setId("p1");
+    existing.setFranchiseId("f1");
+    existing.setBranchId("b1");
+    existing.setName("Sprite");
+    existing.setStock(10);
+
+    StockLedgerPort stockLedger = mock(StockLedgerPort.class);
+    when(stockLedgerPort.getIfAvailable()).thenReturn(stockLedger);
+    when(productRepository.findByFranchiseIdAndBranchIdAndId("f1", "b1", "p1"))
+        .thenReturn(Mono.just(existing));
+    when(stockLedger.appendStockChange("p1", 10, 4))
+        .thenReturn(
+            Mono.just(
+                StockLedgerEvent.builder().sequence(1).productId("p1").delta(-6).stock(4).build()));
+
+    StepVerifier.create(productService.updateProductStock("f1", "b1", "p1", 4))
+        .assertNext(product -> assertEquals(4, product.getStock()))
+        .verifyComplete();
+
+    verify(productRepository, never()).save(any());
+    verifyNoInteractions(branchPort, inventoryStatsPort, stockAlertPort);
   }
 }
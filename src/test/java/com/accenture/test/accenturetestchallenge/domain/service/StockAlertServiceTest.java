@@ -0,0 +1,121 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.StockAlertEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.repositories.StockAlertRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class StockAlertServiceTest {
+
+  @Mock private StockAlertRepository stockAlertRepository;
+
+  @InjectMocks private StockAlertService stockAlertService;
+
+  private StockAlert buildAlert(String franchiseId) {
+    return StockAlert.builder()
+        .franchiseId(franchiseId)
+        .branchId("b1")
+        .productId("p1")
+        .productName("Sprite")
+        .type(StockAlertType.LOW_STOCK)
+        .threshold(5)
+        .previousStock(10)
+        .stock(3)
+        .build();
+  }
+
+  private StockAlertEntity buildEntity(String franchiseId) {
+    StockAlertEntity entity = new StockAlertEntity();
+    entity.setId("a1");
+    entity.setFranchiseId(franchiseId);
+    entity.setBranchId("b1");
+    entity.setProductId("p1");
+    entity.setProductName("Sprite");
+    entity.setType(StockAlertType.LOW_STOCK.name());
+    entity.setThreshold(5);
+    entity.setPreviousStock(10);
+    entity.setStock(3);
+    return entity;
+  }
+
+  @Test
+  void raiseAlert_shouldPublishSavedAlertToFranchiseStream() {
+    when(stockAlertRepository.save(any())).thenReturn(Mono.just(buildEntity("f1")));
+
+    StepVerifier.create(stockAlertService.streamAlerts("f1"))
+        .then(() -> stockAlertService.raiseAlert(buildAlert("f1")).subscribe())
+        .assertNext(
+            alert -> {
+              assertEquals("a1", alert.getId());
+              assertEquals(StockAlertType.LOW_STOCK, alert.getType());
+              assertEquals(3, alert.getStock());
+            })
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  void raiseAlert_shouldStreamEveryAlertRaisedConcurrently() {
+    when(stockAlertRepository.save(any())).thenReturn(Mono.just(buildEntity("f1")));
+
+    StepVerifier.create(stockAlertService.streamAlerts("f1").take(200))
+        .then(
+            () ->
+                Flux.range(0, 200)
+                    .parallel()
+                    .runOn(Schedulers.parallel())
+                    .flatMap(index -> stockAlertService.raiseAlert(buildAlert("f1")))
+                    .subscribe())
+        .expectNextCount(200)
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void raiseAlert_shouldIgnoreRepositoryErrors() {
+    when(stockAlertRepository.save(any()))
+        .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+    StepVerifier.create(stockAlertService.raiseAlert(buildAlert("f1"))).verifyComplete();
+  }
+
+  @Test
+  void getAlerts_shouldQueryBranchAlertsWithBoundedLimit() {
+    when(stockAlertRepository.findByFranchiseIdAndBranchIdOrderByCreatedAtDesc(
+            "f1", "b1", Limit.of(200)))
+        .thenReturn(Flux.just(buildEntity("f1")));
+
+    StepVerifier.create(stockAlertService.getAlerts("f1", "b1", 1000))
+        .assertNext(alert -> assertEquals("p1", alert.getProductId()))
+        .verifyComplete();
+  }
+
+  @Test
+  void getAlerts_shouldReturnErrorWhenFranchiseIdIsEmpty() {
+    StepVerifier.create(stockAlertService.getAlerts(" ", null, 10))
+        .expectErrorMatches(
+            error ->
+                error instanceof IllegalArgumentException
+                    && error.getMessage().equals("Franchise ID must not be null or empty"))
+        .verify();
+
+    verifyNoInteractions(stockAlertRepository);
+  }
+}
@@ -0,0 +1,103 @@
+package com.accenture.test.accenturetestchallenge.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.accenture.test.accenturetestchallenge.domain.entities.BranchEntity;
+import com.accenture.test.accenturetestchallenge.domain.entities.ProductEntity;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlert;
+import com.accenture.test.accenturetestchallenge.domain.model.StockAlertType;
+import com.accenture.test.accenturetestchallenge.domain.model.StockLedgerEvent;
+import com.accenture.test.accenturetestchallenge.domain.ports.StockAlertPort;
+import com.accenture.test.accenturetestchallenge.domain.repositories.BranchRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.InventoryStatsRepository;
+import com.accenture.test.accenturetestchallenge.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerProjectionServiceTest {
+
+  private static final StockLedgerEvent EVENT =
+      StockLedgerEvent.builder().sequence(7).productId("p1").delta(-6).stock(4).build();
+
+  @Mock private ProductRepository productRepository;
+  @Mock private BranchRepository branchRepository;
+  @Mock private InventoryStatsRepository inventoryStatsRepository;
+  @Mock private StockAlertPort stockAlertPort;
+
+  @InjectMocks private StockLedgerProjectionService projectionService;
+
+  @Test
+  void applyStockLedgerEvent_shouldTrackProjectedStockChange() {
+    when(productRepository.applyLedgerStock("p1", 4, 7L)).thenReturn(Mono.just(product()));
+    when(branchRepository.applyLedgerStockDelta("f1", "b1", -6L, 7L))
+        .thenReturn(Mono.just(branch(null)));
+    when(inventoryStatsRepository.applyLedgerDelta("f1", "b1", -6L, 0, 4, 7L))
+        .thenReturn(Mono.empty());
+    when(inventoryStatsRepository.refreshBounds("f1", "b1", 10)).thenReturn(Mono.empty());
+
+    StepVerifier.create(projectionService.applyStockLedgerEvent(EVENT)).verifyComplete();
+
+    verify(inventoryStatsRepository).applyLedgerDelta("f1", "b1", -6L, 0, 4, 7L);
+    verify(inventoryStatsRepository).refreshBounds("f1", "b1", 10);
+    verifyNoInteractions(stockAlertPort);
+  }
+
+  @Test
+  void applyStockLedgerEvent_shouldCompleteTrackingOfEventAlreadyAppliedToProduct() {
+    when(productRepository.applyLedgerStock("p1", 4, 7L)).thenReturn(Mono.empty());
+    when(productRepository.findById("p1")).thenReturn(Mono.just(product()));
+    when(branchRepository.applyLedgerStockDelta("f1", "b1", -6L, 7L)).thenReturn(Mono.empty());
+    when(branchRepository.findByFranchiseIdAndId("f1", "b1")).thenReturn(Mono.just(branch(5)));
+    when(stockAlertPort.raiseAlert(any())).thenReturn(Mono.empty());
+    when(inventoryStatsRepository.applyLedgerDelta("f1", "b1", -6L, 0, 4, 7L))
+        .thenReturn(Mono.empty());
+    when(inventoryStatsRepository.refreshBounds("f1", "b1", 10)).thenReturn(Mono.empty());
+
+    StepVerifier.create(projectionService.applyStockLedgerEvent(EVENT)).verifyComplete();
+
+    ArgumentCaptor<StockAlert> alertCaptor = ArgumentCaptor.forClass(StockAlert.class);
+    verify(stockAlertPort).raiseAlert(alertCaptor.capture());
+    assertEquals("stock-ledger-7", alertCaptor.getValue().getId());
+    assertEquals(StockAlertType.LOW_STOCK, alertCaptor.getValue().getType());
+    verify(inventoryStatsRepository).applyLedgerDelta("f1", "b1", -6L, 0, 4, 7L);
+  }
+
+  @Test
+  void applyStockLedgerEvent_shouldSkipEventsOfDeletedProducts() {
+    when(productRepository.applyLedgerStock("p1", 4, 7L)).thenReturn(Mono.empty());
+    when(productRepository.findById("p1")).thenReturn(Mono.empty());
+
+    StepVerifier.create(projectionService.applyStockLedgerEvent(EVENT)).verifyComplete();
+
+    verifyNoInteractions(branchRepository, inventoryStatsRepository, stockAlertPort);
+  }
+
+  private ProductEntity product() {
+    ProductEntity product = new ProductEntity();
+    product.setId("p1");
+    product.setFranchiseId("f1");
+    product.setBranchId("b1");
+    product.setName("Sprite");
+    product.setStock(4);
+    return product;
+  }
+
+  private BranchEntity branch(Integer lowStockThreshold) {
+    BranchEntity branch = new BranchEntity();
+    branch.setId("b1");
+    branch.setFranchiseId("f1");
+    branch.setLowStockThreshold(lowStockThreshold);
+    return branch;
+  }
+}